@@ -0,0 +1,109 @@
+#!/usr/bin/env bash
+#
+# 화면(Thymeleaf)과 JSON API(/api/v1)의 응답 크기와 지연 시간 비교
+#
+# 실행 중인 서버에 같은 데이터를 보여주는 화면/API 쌍을 번갈아 ITERATIONS 번씩 요청하여
+# 평균 응답 크기, 평균/p95 지연 시간을 출력합니다.
+# 화면은 폼 로그인 세션 쿠키로, API는 세션을 쓰지 않으므로 HTTP Basic으로 요청합니다.
+# HTTP Basic은 요청마다 BCrypt로 비밀번호를 검증하므로 JSON 지연 시간에는 그 비용(수십 ms)이 포함됩니다.
+# 응답 크기는 그대로 비교할 수 있고, 지연 시간은 NOAUTH 경로(GET /api/v1/boards 인증 실패 401)의
+# 시간을 함께 출력하므로 인증 비용을 가늠할 수 있습니다.
+#
+# 사용법:
+#   scripts/api-benchmark.sh
+#   BASE_URL=http://localhost:8080 USERNAME=user PASSWORD=user123 ITERATIONS=50 scripts/api-benchmark.sh
+#
+# 필요 도구: curl, awk, sort
+#
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+USERNAME="${USERNAME:-user}"
+PASSWORD="${PASSWORD:-user123}"
+ITERATIONS="${ITERATIONS:-30}"
+WARMUP="${WARMUP:-5}"
+
+COOKIE_JAR="$(mktemp)"
+trap 'rm -f "$COOKIE_JAR"' EXIT
+
+login() {
+    curl -s -o /dev/null -c "$COOKIE_JAR" \
+        --data-urlencode "username=$USERNAME" --data-urlencode "password=$PASSWORD" \
+        "$BASE_URL/perform-login"
+    # 로그인에 실패했으면 대시보드 요청이 로그인 페이지로 리다이렉트됨
+    if [[ "$(curl -s -o /dev/null -w '%{http_code}' -b "$COOKIE_JAR" "$BASE_URL/dashboard")" != "200" ]]; then
+        echo "로그인 실패: $USERNAME ($BASE_URL)" >&2
+        exit 1
+    fi
+}
+
+# 한 번 요청하여 "응답 바이트 수 초" 출력 (2xx가 아니면 중단, /api 경로는 HTTP Basic)
+measure() {
+    local url="$1" result code auth
+    if [[ "$url" == /api/* ]]; then
+        auth=(-u "$USERNAME:$PASSWORD")
+    else
+        auth=(-b "$COOKIE_JAR")
+    fi
+    result=$(curl -s -o /dev/null "${auth[@]}" -w '%{http_code} %{size_download} %{time_total}' "$BASE_URL$url")
+    code="${result%% *}"
+    if [[ "$code" != 2* ]]; then
+        echo "요청 실패 ($code): $url" >&2
+        exit 1
+    fi
+    echo "${result#* }"
+}
+
+# 여러 번 요청하여 "평균 바이트, 평균 ms, p95 ms" 출력
+run() {
+    local url="$1" i
+    for ((i = 0; i < WARMUP; i++)); do
+        measure "$url" > /dev/null
+    done
+    for ((i = 0; i < ITERATIONS; i++)); do
+        measure "$url"
+    done | sort -k2 -n | awk '
+        { bytes += $1; ms[NR] = $2 * 1000; total += $2 * 1000 }
+        END {
+            p95 = ms[int((NR - 1) * 0.95) + 1]
+            printf "%10.0f %9.1f %9.1f", bytes / NR, total / NR, p95
+        }'
+}
+
+compare() {
+    local name="$1" page="$2" api="$3" page_stats api_stats
+    page_stats=$(run "$page")
+    api_stats=$(run "$api")
+    printf '%-14s %-6s %-44s %s\n' "$name" "HTML" "$page" "$page_stats"
+    printf '%-14s %-6s %-44s %s\n' "" "JSON" "$api" "$api_stats"
+    awk -v page="$page_stats" -v api="$api_stats" 'BEGIN {
+        split(page, p, " "); split(api, a, " ")
+        printf "%-14s %-6s %-44s %9.1fx %8.1fx\n\n", "", "", "(HTML / JSON 배율)",
+            a[1] > 0 ? p[1] / a[1] : 0, a[2] > 0 ? p[2] / a[2] : 0
+    }'
+}
+
+login
+
+BOARD_ID=$(curl -s -u "$USERNAME:$PASSWORD" "$BASE_URL/api/v1/boards?limit=1&fields=id" \
+    | grep -o '"id":[0-9]*' | head -1 | cut -d: -f2 || true)
+
+echo "대상: $BASE_URL, 사용자: $USERNAME, 반복: $ITERATIONS (워밍업 $WARMUP)"
+echo
+printf '%-14s %-6s %-44s %10s %9s %9s\n' "항목" "형식" "경로" "평균bytes" "평균ms" "p95ms"
+compare "포트폴리오" "/portfolio" "/api/v1/portfolios?limit=100"
+compare "계산 기록" "/history" "/api/v1/calculations?limit=100"
+compare "게시판 목록" "/board" "/api/v1/boards"
+compare "게시판 (필드)" "/board" "/api/v1/boards?fields=id,title,createdAt"
+if [[ -n "$BOARD_ID" ]]; then
+    compare "게시글 상세" "/board/view/$BOARD_ID" "/api/v1/boards/$BOARD_ID"
+else
+    echo "게시글이 없어 상세 비교는 건너뜀"
+fi
+
+# 인증 없이 API를 요청한 401 응답 시간 (JSON 지연 시간에서 Basic 인증 외 비용을 가늠하는 기준)
+NOAUTH_MS=$(for ((i = 0; i < ITERATIONS; i++)); do
+    curl -s -o /dev/null -w '%{time_total}\n' "$BASE_URL/api/v1/boards"
+done | awk '{ total += $1 * 1000 } END { printf "%.1f", total / NR }')
+echo
+echo "참고: 인증 없는 API 요청(401) 평균 ${NOAUTH_MS}ms — JSON 지연 시간에는 요청마다 BCrypt 검증이 더해짐"
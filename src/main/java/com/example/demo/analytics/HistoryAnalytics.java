@@ -0,0 +1,238 @@
+package com.example.demo.analytics;
+
+import com.example.demo.archive.HistoryArchiveCodec;
+import com.example.demo.dto.ArchivedCalculation;
+import com.example.demo.dto.HistoryAnalyticsReport;
+import com.example.demo.dto.HistoryAnalyticsReport.DailyActivity;
+import com.example.demo.dto.HistoryAnalyticsReport.StockActivity;
+import com.example.demo.dto.HistoryRow;
+import com.example.demo.entity.HistoryArchiveSegment;
+import com.example.demo.repository.CalculationHistoryRepository;
+import com.example.demo.repository.HistoryArchiveSegmentRepository;
+import com.example.demo.sharding.ShardContext;
+import com.example.demo.sharding.ShardRouter;
+import com.example.demo.startup.StartupTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 계산 기록 통계 (메모리 열 지향 스냅샷)
+ *
+ * 통계 조회가 운영 DB에 GROUP BY를 실행하지 않도록, refresh-interval-ms 마다 calculation_history 와
+ * 보관 묶음(calculation_history_archive)을 키셋 페이지로 읽어 {@link HistoryColumns} 스냅샷을 새로 만들고 참조를 교체합니다.
+ * 조회(종목별 계산 수/평균 단가 개선율, 일자별 계산 수)는 DB에 접근하지 않고 스냅샷만 읽습니다.
+ * - 적재: 필요한 컬럼만 조회 (샤딩 사용 시 샤드별로, 복제본 사용 시 읽기 전용 트랜잭션이므로 복제본에서)
+ *   보관 기간이 지나 묶음으로 옮겨진 기록도 풀어서 함께 적재하므로 보관 작업이 통계 기간을 줄이지 않음
+ * - 집계: 기간을 이진 탐색으로 잘라낸 행 범위를 chunk-rows 단위로 나눠 병렬 누적 후 병합
+ *
+ * 스냅샷 이후의 계산은 다음 갱신 때 반영됩니다. max-rows 를 넘는 행은 적재하지 않습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class HistoryAnalytics implements StartupTask {
+
+    private static final int PAGE_SIZE = 5_000;
+    private static final int SEGMENT_PAGE_SIZE = 20;
+    private static final int CHUNK_ROWS = 1 << 16;
+    private static final int DEFAULT_DAYS = 90;
+    private static final int MAX_DAYS = 366 * 5;
+    private static final int MAX_STOCKS = 200;
+
+    private final CalculationHistoryRepository historyRepository;
+    private final HistoryArchiveSegmentRepository segmentRepository;
+    private final ShardRouter shardRouter;
+    private final int maxRows;
+    private final int retentionDays;
+
+    private volatile Snapshot snapshot = new Snapshot(HistoryColumns.EMPTY, null);
+
+    public HistoryAnalytics(CalculationHistoryRepository historyRepository,
+                            HistoryArchiveSegmentRepository segmentRepository,
+                            ShardRouter shardRouter,
+                            @Value("${app.analytics.max-rows:5000000}") int maxRows,
+                            @Value("${app.history.archive.retention-days:365}") int retentionDays) {
+        this.historyRepository = historyRepository;
+        this.segmentRepository = segmentRepository;
+        this.shardRouter = shardRouter;
+        this.maxRows = maxRows;
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    public String getName() {
+        return "historyAnalytics";
+    }
+
+    @Override
+    public boolean isCritical() {
+        return false;
+    }
+
+    @Override
+    public void run() {
+        refresh();
+    }
+
+    /**
+     * 계산 기록 전체를 다시 읽어 스냅샷을 교체합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-interval-ms:600000}",
+               initialDelayString = "${app.analytics.refresh-interval-ms:600000}")
+    public synchronized void refresh() {
+        long startNanos = System.nanoTime();
+        LocalDateTime at = LocalDateTime.now();
+        HistoryColumns.Builder builder = new HistoryColumns.Builder();
+        // 적재 중에 보관 작업이 옮긴 행이 두 번 세어지지 않도록, 보관 대상이 될 수 있는 원본 행 ID를 기억
+        // (보관 작업 시작 시각 차이를 감안해 하루 여유)
+        LocalDateTime archivableBefore = retentionDays > 0 ? at.minusDays(retentionDays - 1L) : LocalDateTime.MIN;
+        Set<Long> archivableIds = new HashSet<>();
+
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            if (!loadLive(shard, builder, archivableBefore, archivableIds)
+                    || !loadArchived(shard, builder, archivableIds)) {
+                log.warn("계산 기록 통계 스냅샷이 최대 행 수({})에 도달하여 나머지는 제외", maxRows);
+                break;
+            }
+        }
+
+        HistoryColumns columns = builder.build();
+        snapshot = new Snapshot(columns, at);
+        log.info("계산 기록 통계 스냅샷 갱신: {}행, 종목 {}개, {}ms", columns.size(), columns.stockCount(),
+                (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * 샤드의 calculation_history 행을 적재합니다 (최대 행 수에 도달하면 false).
+     */
+    private boolean loadLive(int shard, HistoryColumns.Builder builder,
+                             LocalDateTime archivableBefore, Set<Long> archivableIds) {
+        long afterId = 0;
+        while (true) {
+            long after = afterId;
+            List<HistoryRow> rows = ShardContext.onShard(shard,
+                    () -> historyRepository.findRowsAfter(after, PageRequest.of(0, PAGE_SIZE)));
+            for (HistoryRow row : rows) {
+                if (builder.size() >= maxRows) {
+                    return false;
+                }
+                builder.add(row);
+                if (row.createdAt().isBefore(archivableBefore)) {
+                    archivableIds.add(row.id());
+                }
+            }
+            if (rows.size() < PAGE_SIZE) {
+                return true;
+            }
+            afterId = rows.get(rows.size() - 1).id();
+        }
+    }
+
+    /**
+     * 샤드의 보관 묶음을 풀어 적재합니다 (최대 행 수에 도달하면 false).
+     */
+    private boolean loadArchived(int shard, HistoryColumns.Builder builder, Set<Long> loadedIds) {
+        long afterId = 0;
+        while (true) {
+            long after = afterId;
+            List<HistoryArchiveSegment> segments = ShardContext.onShard(shard,
+                    () -> segmentRepository.findAfter(after, PageRequest.of(0, SEGMENT_PAGE_SIZE)));
+            for (HistoryArchiveSegment segment : segments) {
+                if (builder.size() + segment.getRowCount() > maxRows) {
+                    return false;
+                }
+                Long userId = segment.getUser().getId();
+                for (ArchivedCalculation calculation : HistoryArchiveCodec.decode(segment.getPayload())) {
+                    if (loadedIds.contains(calculation.id())) {
+                        continue;
+                    }
+                    builder.add(new HistoryRow(calculation.id(), userId, calculation.stockCode(),
+                            calculation.stockName(), calculation.existingAvgPrice(), calculation.additionalQuantity(),
+                            calculation.additionalPrice(), calculation.newAveragePrice(), calculation.createdAt()));
+                }
+            }
+            if (segments.size() < SEGMENT_PAGE_SIZE) {
+                return true;
+            }
+            afterId = segments.get(segments.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 스냅샷 기준 계산 기록 통계
+     *
+     * @param userId    사용자 ID (null이면 전체)
+     * @param from      시작일 (기본: 종료일 89일 전, 최대 5년 범위)
+     * @param to        종료일 (기본: 스냅샷의 마지막 계산일)
+     * @param maxStocks 종목별 통계 최대 개수
+     */
+    public HistoryAnalyticsReport summarize(Long userId, LocalDate from, LocalDate to, int maxStocks) {
+        long startNanos = System.nanoTime();
+        Snapshot current = snapshot;
+        HistoryColumns columns = current.columns();
+
+        int toDay = to != null ? (int) to.toEpochDay()
+                : columns.size() > 0 ? columns.lastDay() : (int) LocalDate.now().toEpochDay();
+        int fromDay = from != null ? (int) from.toEpochDay() : toDay - (DEFAULT_DAYS - 1);
+        fromDay = Math.max(fromDay, toDay - (MAX_DAYS - 1));
+        int days = Math.max(0, toDay - fromDay + 1);
+
+        int begin = columns.lowerBound(fromDay);
+        int end = days > 0 ? columns.lowerBound(toDay + 1) : begin;
+        long user = userId != null ? userId : 0;
+        int firstDay = fromDay;
+
+        int chunks = (end - begin + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        HistoryColumns.Aggregate total = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> columns.aggregate(begin + chunk * CHUNK_ROWS,
+                        Math.min(end, begin + (chunk + 1) * CHUNK_ROWS), user, firstDay, days))
+                .reduce(HistoryColumns.Aggregate::merge)
+                .orElseGet(() -> columns.aggregate(begin, begin, user, firstDay, days));
+
+        long calculations = 0;
+        double improvementSum = 0;
+        List<StockActivity> stocks = new ArrayList<>();
+        for (int s = 0; s < columns.stockCount(); s++) {
+            int count = total.count(s);
+            if (count == 0) {
+                continue;
+            }
+            calculations += count;
+            improvementSum += total.improvementSum(s);
+            stocks.add(new StockActivity(columns.stockCode(s), columns.stockName(s), count,
+                    total.improvementSum(s) / count, total.quantity(s), total.amount(s)));
+        }
+        List<StockActivity> topStocks = stocks.stream()
+                .sorted(Comparator.comparingLong(StockActivity::calculations).reversed()
+                        .thenComparing(StockActivity::stockCode))
+                .limit(Math.max(1, Math.min(maxStocks, MAX_STOCKS)))
+                .toList();
+
+        List<DailyActivity> daily = new ArrayList<>(days);
+        for (int d = 0; d < days; d++) {
+            daily.add(new DailyActivity(LocalDate.ofEpochDay(firstDay + d), total.dayCount(d)));
+        }
+
+        return new HistoryAnalyticsReport(current.createdAt(), columns.size(), calculations,
+                calculations > 0 ? improvementSum / calculations : 0, topStocks, daily,
+                (System.nanoTime() - startNanos) / 1_000);
+    }
+
+    private record Snapshot(HistoryColumns columns, LocalDateTime createdAt) {
+    }
+}
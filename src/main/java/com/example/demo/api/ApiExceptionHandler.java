@@ -0,0 +1,86 @@
+package com.example.demo.api;
+
+import com.example.demo.constant.ErrorMessages;
+import com.example.demo.dto.ApiError;
+import com.example.demo.exception.AccessDeniedException;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+/**
+ * JSON API 예외 처리 핸들러
+ *
+ * 이 패키지의 API 컨트롤러에서 발생한 예외를 리다이렉트 대신 상태 코드와 {@link ApiError} 본문으로
+ * 응답합니다. 화면 컨트롤러용 GlobalExceptionHandler보다 먼저 적용됩니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice(basePackageClasses = ApiExceptionHandler.class)
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ApiError> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        log.debug("API 리소스를 찾을 수 없음: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiError> handleAccessDeniedException(AccessDeniedException ex) {
+        log.warn("API 접근 권한 거부: {}", ex.getMessage());
+        return error(HttpStatus.FORBIDDEN, ex.getMessage());
+    }
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ApiError> handleBusinessException(BusinessException ex) {
+        log.debug("API 비즈니스 로직 오류: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    /**
+     * 입력 검증 실패 (요청 본문의 @Valid 검증 포함) - 첫 번째 검증 오류 메시지로 응답
+     */
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<ApiError> handleBindException(BindException ex) {
+        String message = ex.getBindingResult()
+                .getAllErrors()
+                .stream()
+                .findFirst()
+                .map(error -> error.getDefaultMessage())
+                .orElse(ErrorMessages.INVALID_INPUT);
+        return error(HttpStatus.BAD_REQUEST, message);
+    }
+
+    /**
+     * 요청 본문(JSON)이나 파라미터 형식이 잘못되었을 때
+     */
+    @ExceptionHandler({HttpMessageNotReadableException.class,
+            MethodArgumentTypeMismatchException.class,
+            MissingServletRequestParameterException.class})
+    public ResponseEntity<ApiError> handleMalformedRequest(Exception ex) {
+        log.debug("API 요청 형식 오류: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ErrorMessages.INVALID_INPUT);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiError> handleException(Exception ex) {
+        log.error("API 처리 중 예상하지 못한 오류 발생: {}", ex.getMessage(), ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "시스템 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private static ResponseEntity<ApiError> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(new ApiError(status.value(), status.name(), message));
+    }
+}
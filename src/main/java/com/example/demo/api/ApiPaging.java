@@ -0,0 +1,116 @@
+package com.example.demo.api;
+
+import com.example.demo.constant.ErrorMessages;
+import com.example.demo.dto.ApiPage;
+import com.example.demo.exception.BusinessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * JSON API 키셋(커서) 페이지 처리
+ *
+ * 커서는 이전 페이지 마지막 항목의 정렬 키(ID 또는 작성 시각)를 Base64URL로 감싼 값이며,
+ * 클라이언트는 내용을 해석하지 않고 그대로 돌려보냅니다. 조회는 limit + 1건을 읽어
+ * 다음 페이지가 있는지 판단하므로 OFFSET이나 COUNT 쿼리가 없습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+final class ApiPaging {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private ApiPaging() {
+    }
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_LIMIT 범위로 맞춥니다.
+     */
+    static int limit(int requested) {
+        return Math.max(1, Math.min(requested, MAX_LIMIT));
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인용으로 한 건 더 읽는 Pageable
+     */
+    static Pageable probe(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /**
+     * ID 내림차순 커서 → 이 ID보다 작은 항목부터 (커서가 없으면 처음부터)
+     */
+    static long beforeId(String cursor) {
+        return id(cursor, Long.MAX_VALUE);
+    }
+
+    /**
+     * ID 오름차순 커서 → 이 ID보다 큰 항목부터 (커서가 없으면 처음부터)
+     */
+    static long afterId(String cursor) {
+        return id(cursor, 0L);
+    }
+
+    /**
+     * 작성 시각 내림차순 커서 → 이 시각 이전 항목부터 (커서가 없으면 null)
+     */
+    static LocalDateTime beforeTime(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(decode(cursor));
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorMessages.API_INVALID_CURSOR, e);
+        }
+    }
+
+    static String cursor(Object key) {
+        return ENCODER.encodeToString(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * limit + 1건까지 읽은 행으로 페이지를 만듭니다.
+     *
+     * @param rows   조회 결과 (정렬 순서대로)
+     * @param limit  페이지 크기
+     * @param keyOf  다음 커서로 쓸 정렬 키
+     * @param fields 응답에 담을 필드 (null이면 전체)
+     */
+    static <T extends Record> ApiPage<?> page(List<T> rows, int limit, Function<T, ?> keyOf, SparseFields<T> fields) {
+        boolean hasNext = rows.size() > limit;
+        List<T> items = hasNext ? rows.subList(0, limit) : rows;
+        String next = hasNext ? cursor(keyOf.apply(items.get(items.size() - 1))) : null;
+        return new ApiPage<>(fields.select(items), next);
+    }
+
+    private static long id(String cursor, long ifAbsent) {
+        if (cursor == null || cursor.isBlank()) {
+            return ifAbsent;
+        }
+        try {
+            return Long.parseLong(decode(cursor));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorMessages.API_INVALID_CURSOR, e);
+        }
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorMessages.API_INVALID_CURSOR, e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.api;
+
+import com.example.demo.constant.ErrorMessages;
+import com.example.demo.entity.User;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON API 요청 사용자 조회
+ *
+ * 조회 API는 사용자 ID만 필요하므로 엔티티와 역할을 로딩하지 않고 ID만 읽습니다.
+ * 엔티티가 필요한 쓰기 API만 {@link #currentUser(Authentication)}를 사용합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+class ApiUsers {
+
+    private final UserRepository userRepository;
+
+    /**
+     * @throws ResourceNotFoundException 사용자를 찾을 수 없을 때 (삭제 처리 중인 회원 포함)
+     */
+    Long currentUserId(Authentication authentication) {
+        return userRepository.findIdByUsername(authentication.getName())
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.USER_NOT_FOUND));
+    }
+
+    /**
+     * @throws ResourceNotFoundException 사용자를 찾을 수 없을 때 (삭제 처리 중인 회원 포함)
+     */
+    User currentUser(Authentication authentication) {
+        return userRepository.findByUsername(authentication.getName())
+                .filter(user -> user.getDeletedAt() == null)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.USER_NOT_FOUND));
+    }
+}
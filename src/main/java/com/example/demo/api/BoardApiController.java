@@ -0,0 +1,74 @@
+package com.example.demo.api;
+
+import com.example.demo.dto.ApiPage;
+import com.example.demo.dto.BoardDetail;
+import com.example.demo.dto.BoardItem;
+import com.example.demo.dto.CommentPage;
+import com.example.demo.entity.Board;
+import com.example.demo.repository.BoardRepository;
+import com.example.demo.service.BoardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 게시판 JSON API
+ *
+ * 목록은 본문 없이 프로젝션으로 조회하고, 상세 조회는 화면과 같이 조회수를 올립니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/boards")
+public class BoardApiController {
+
+    private final BoardRepository boardRepository;
+    private final BoardService boardService;
+
+    /**
+     * 게시글 목록 (최근 순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param limit  페이지 크기 (최대 100)
+     * @param fields 응답에 담을 필드 (쉼표 구분, 생략하면 전체)
+     */
+    @GetMapping
+    public ApiPage<?> list(@RequestParam(required = false) String cursor,
+                           @RequestParam(defaultValue = "20") int limit,
+                           @RequestParam(required = false) String fields) {
+        SparseFields<BoardItem> selection = SparseFields.of(BoardItem.class, fields);
+        int size = ApiPaging.limit(limit);
+        return ApiPaging.page(boardRepository.findItems(ApiPaging.beforeId(cursor), ApiPaging.probe(size)),
+                size, BoardItem::id, selection);
+    }
+
+    /**
+     * 게시글 상세 (조회수 1 증가)
+     *
+     * @param fields 응답에 담을 필드 (예: 본문 HTML만 필요하면 contentHtml을 빼고 content만)
+     */
+    @GetMapping("/{id}")
+    public Object get(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        SparseFields<BoardDetail> selection = SparseFields.of(BoardDetail.class, fields);
+        Board board = boardService.viewBoard(id);
+        return selection.select(new BoardDetail(board.getId(), board.getTitle(), board.getUser().getName(),
+                board.getContent(), board.getContentHtml(), board.getViewCount(), board.getCommentCount(),
+                board.getCreatedAt(), board.getUpdatedAt()));
+    }
+
+    /**
+     * 게시글 댓글 (작성 순, 페이지 크기 고정)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     */
+    @GetMapping("/{id}/comments")
+    public ApiPage<?> comments(@PathVariable Long id, @RequestParam(required = false) String cursor) {
+        CommentPage page = boardService.getComments(id, ApiPaging.afterId(cursor));
+        return new ApiPage<>(page.comments(), page.nextId() != null ? ApiPaging.cursor(page.nextId()) : null);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.api;
+
+import com.example.demo.audit.AuditAction;
+import com.example.demo.audit.AuditLogger;
+import com.example.demo.constant.ErrorMessages;
+import com.example.demo.dto.ApiPage;
+import com.example.demo.dto.CalculationItem;
+import com.example.demo.dto.CalculationRequest;
+import com.example.demo.entity.CalculationHistory;
+import com.example.demo.entity.User;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.ratelimit.RateLimited;
+import com.example.demo.repository.CalculationHistoryRepository;
+import com.example.demo.security.SecurityUtils;
+import com.example.demo.service.CalculationHistoryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 물타기 계산 JSON API
+ *
+ * 평단가를 계산해 기록하고, 본인 계산 기록을 키셋 페이지로 조회/삭제합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/calculations")
+public class CalculationApiController {
+
+    private final ApiUsers apiUsers;
+    private final CalculationHistoryRepository historyRepository;
+    private final CalculationHistoryService calculationHistoryService;
+    private final AuditLogger auditLogger;
+
+    /**
+     * 본인 계산 기록 목록 (최근 순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param limit  페이지 크기 (최대 100)
+     * @param fields 응답에 담을 필드 (쉼표 구분, 생략하면 전체)
+     */
+    @GetMapping
+    public ApiPage<?> list(Authentication authentication,
+                           @RequestParam(required = false) String cursor,
+                           @RequestParam(defaultValue = "20") int limit,
+                           @RequestParam(required = false) String fields) {
+        SparseFields<CalculationItem> selection = SparseFields.of(CalculationItem.class, fields);
+        Long userId = apiUsers.currentUserId(authentication);
+        int size = ApiPaging.limit(limit);
+        return ApiPaging.page(historyRepository.findItems(userId, ApiPaging.beforeId(cursor), ApiPaging.probe(size)),
+                size, CalculationItem::id, selection);
+    }
+
+    /**
+     * 본인 계산 기록 단건
+     *
+     * @throws ResourceNotFoundException 기록이 없거나 본인 기록이 아닐 때
+     */
+    @GetMapping("/{id}")
+    public Object get(@PathVariable Long id,
+                      Authentication authentication,
+                      @RequestParam(required = false) String fields) {
+        SparseFields<CalculationItem> selection = SparseFields.of(CalculationItem.class, fields);
+        CalculationItem item = historyRepository.findItem(apiUsers.currentUserId(authentication), id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.HISTORY_NOT_FOUND));
+        return selection.select(item);
+    }
+
+    /**
+     * 평단가 계산 후 기록
+     */
+    @RateLimited("history-write")
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public CalculationItem calculate(@Valid @RequestBody CalculationRequest request, Authentication authentication) {
+        User user = apiUsers.currentUser(authentication);
+        CalculationHistory saved = calculationHistoryService.calculateAndSave(request, user);
+        return new CalculationItem(saved.getId(), saved.getStockCode(), saved.getStockName(),
+                saved.getExistingQuantity(), saved.getExistingAvgPrice(), saved.getAdditionalQuantity(),
+                saved.getAdditionalPrice(), saved.getNewAveragePrice(), saved.getNewTotalQuantity(),
+                saved.getCreatedAt());
+    }
+
+    /**
+     * 계산 기록 삭제 (본인 또는 관리자)
+     */
+    @RateLimited("history-write")
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable Long id, Authentication authentication) {
+        User user = apiUsers.currentUser(authentication);
+        calculationHistoryService.deleteHistory(id, user, SecurityUtils.isAdmin(authentication));
+        auditLogger.record(AuditAction.HISTORY_DELETE, "HISTORY:" + id, null);
+    }
+}
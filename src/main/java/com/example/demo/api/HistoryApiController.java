@@ -0,0 +1,66 @@
+package com.example.demo.api;
+
+import com.example.demo.analytics.HistoryAnalytics;
+import com.example.demo.dto.ApiPage;
+import com.example.demo.dto.ArchivedCalculation;
+import com.example.demo.dto.HistoryAnalyticsReport;
+import com.example.demo.service.HistoryArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * 계산 기록 보관/통계 JSON API
+ *
+ * 보관 기간이 지나 압축 보관된 기록과 메모리 스냅샷 기반 통계를 제공합니다.
+ * 보관 전 기록은 /api/v1/calculations 에서 조회합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/history")
+public class HistoryApiController {
+
+    private final ApiUsers apiUsers;
+    private final HistoryArchiveService historyArchiveService;
+    private final HistoryAnalytics historyAnalytics;
+
+    /**
+     * 보관된 본인 계산 기록 (작성 시각 내림차순)
+     * 같은 시각에 작성된 기록이 페이지 경계에 걸리면 다음 페이지에서 빠질 수 있습니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param limit  페이지 크기 (최대 100)
+     * @param fields 응답에 담을 필드 (쉼표 구분, 생략하면 전체)
+     */
+    @GetMapping("/archive")
+    public ApiPage<?> archive(Authentication authentication,
+                              @RequestParam(required = false) String cursor,
+                              @RequestParam(defaultValue = "20") int limit,
+                              @RequestParam(required = false) String fields) {
+        SparseFields<ArchivedCalculation> selection = SparseFields.of(ArchivedCalculation.class, fields);
+        Long userId = apiUsers.currentUserId(authentication);
+        int size = ApiPaging.limit(limit);
+        return ApiPaging.page(historyArchiveService.getArchived(userId, ApiPaging.beforeTime(cursor), size + 1),
+                size, ArchivedCalculation::createdAt, selection);
+    }
+
+    /**
+     * 본인 계산 기록 통계 (메모리 스냅샷 기준, 최근 갱신 이후의 계산은 포함되지 않음)
+     */
+    @GetMapping("/analytics")
+    public HistoryAnalyticsReport analytics(Authentication authentication,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                            @RequestParam(defaultValue = "20") int stocks) {
+        return historyAnalytics.summarize(apiUsers.currentUserId(authentication), from, to, stocks);
+    }
+}
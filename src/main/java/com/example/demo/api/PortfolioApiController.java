@@ -0,0 +1,56 @@
+package com.example.demo.api;
+
+import com.example.demo.dto.ApiPage;
+import com.example.demo.dto.PortfolioItem;
+import com.example.demo.dto.PortfolioSummary;
+import com.example.demo.repository.PortfolioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 포트폴리오 JSON API
+ *
+ * 본인 포지션을 프로젝션으로 조회합니다 (화면의 메뉴/평가금액 차트 조회 없음).
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/portfolios")
+public class PortfolioApiController {
+
+    private final ApiUsers apiUsers;
+    private final PortfolioRepository portfolioRepository;
+
+    /**
+     * 본인 포지션 목록 (최근 생성 순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param limit  페이지 크기 (최대 100)
+     * @param fields 응답에 담을 필드 (쉼표 구분, 생략하면 전체)
+     */
+    @GetMapping
+    public ApiPage<?> list(Authentication authentication,
+                           @RequestParam(required = false) String cursor,
+                           @RequestParam(defaultValue = "20") int limit,
+                           @RequestParam(required = false) String fields) {
+        SparseFields<PortfolioItem> selection = SparseFields.of(PortfolioItem.class, fields);
+        Long userId = apiUsers.currentUserId(authentication);
+        int size = ApiPaging.limit(limit);
+        return ApiPaging.page(portfolioRepository.findItems(userId, ApiPaging.beforeId(cursor), ApiPaging.probe(size)),
+                size, PortfolioItem::id, selection);
+    }
+
+    /**
+     * 본인 포트폴리오 합계 (보유 종목 수, 총 투자금액, 평가금액)
+     */
+    @GetMapping("/summary")
+    public PortfolioSummary summary(Authentication authentication) {
+        return portfolioRepository.summarizeByUserId(apiUsers.currentUserId(authentication));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demo.api;
+
+import com.example.demo.constant.ErrorMessages;
+import com.example.demo.exception.BusinessException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON API 필드 선택 (fields=id,stockCode,...)
+ *
+ * 응답 DTO(record)의 구성 요소 중 요청한 것만 담은 맵으로 바꿔 응답 크기를 줄입니다.
+ * fields 파라미터가 없으면 DTO를 그대로 돌려줍니다. 필드 이름과 순서는 DTO 선언을 따르며,
+ * 없는 이름을 지정하면 400 응답이 됩니다. record 접근자는 타입별로 한 번만 찾아 캐시합니다.
+ *
+ * @param <T> 응답 DTO 타입
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+final class SparseFields<T extends Record> {
+
+    private static final Map<Class<?>, Map<String, Method>> ACCESSORS = new ConcurrentHashMap<>();
+
+    /**
+     * 선택한 필드의 접근자 (null이면 전체 필드)
+     */
+    private final Map<String, Method> selected;
+
+    private SparseFields(Map<String, Method> selected) {
+        this.selected = selected;
+    }
+
+    /**
+     * @param type   응답 DTO 타입
+     * @param fields 쉼표로 구분한 필드 이름 (null 또는 빈 문자열이면 전체)
+     * @throws BusinessException DTO에 없는 필드 이름이 있을 때
+     */
+    static <T extends Record> SparseFields<T> of(Class<T> type, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return new SparseFields<>(null);
+        }
+        Map<String, Method> accessors = ACCESSORS.computeIfAbsent(type, SparseFields::accessors);
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!accessors.containsKey(trimmed)) {
+                throw new BusinessException(ErrorMessages.API_UNKNOWN_FIELD + trimmed);
+            }
+            names.add(trimmed);
+        }
+
+        // DTO 선언 순서를 유지
+        Map<String, Method> selected = new LinkedHashMap<>();
+        accessors.forEach((name, accessor) -> {
+            if (names.contains(name)) {
+                selected.put(name, accessor);
+            }
+        });
+        return new SparseFields<>(selected.isEmpty() ? null : selected);
+    }
+
+    Object select(T item) {
+        if (selected == null) {
+            return item;
+        }
+        Map<String, Object> values = new LinkedHashMap<>(selected.size() * 2);
+        selected.forEach((name, accessor) -> values.put(name, invoke(accessor, item)));
+        return values;
+    }
+
+    List<?> select(List<T> items) {
+        if (selected == null) {
+            return items;
+        }
+        List<Object> result = new ArrayList<>(items.size());
+        for (T item : items) {
+            result.add(select(item));
+        }
+        return result;
+    }
+
+    private static Map<String, Method> accessors(Class<?> type) {
+        Map<String, Method> accessors = new LinkedHashMap<>();
+        for (RecordComponent component : type.getRecordComponents()) {
+            accessors.put(component.getName(), component.getAccessor());
+        }
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    private static Object invoke(Method accessor, Object item) {
+        try {
+            return accessor.invoke(item);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("필드 값을 읽을 수 없습니다: " + accessor.getName(), e);
+        }
+    }
+}
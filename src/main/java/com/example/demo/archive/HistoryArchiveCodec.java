@@ -0,0 +1,83 @@
+package com.example.demo.archive;
+
+import com.example.demo.dto.ArchivedCalculation;
+import com.example.demo.entity.CalculationHistory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 계산 기록 payload 인코더/디코더
+ *
+ * 형식 버전(1바이트)과 행 수 뒤에 행마다 컬럼을 고정 순서로 기록한 DataOutput 스트림을 gzip으로 압축합니다.
+ * 같은 사용자의 기록은 종목명/종목코드가 반복되므로 압축률이 높습니다.
+ * - 작성 시각: UTC 기준 epoch seconds(long) + 나노초(int)
+ * - 종목 마스터 ID: 없으면 -1
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public final class HistoryArchiveCodec {
+
+    private static final int VERSION = 1;
+
+    private HistoryArchiveCodec() {
+    }
+
+    public static byte[] encode(List<CalculationHistory> histories) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(histories.size() * 32 + 16);
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeByte(VERSION);
+            out.writeInt(histories.size());
+            for (CalculationHistory history : histories) {
+                out.writeLong(history.getId());
+                out.writeLong(history.getStock() != null ? history.getStock().getId() : -1);
+                out.writeUTF(history.getStockCode());
+                out.writeUTF(history.getStockName());
+                out.writeInt(history.getExistingQuantity());
+                out.writeDouble(history.getExistingAvgPrice());
+                out.writeInt(history.getAdditionalQuantity());
+                out.writeDouble(history.getAdditionalPrice());
+                out.writeDouble(history.getNewAveragePrice());
+                out.writeInt(history.getNewTotalQuantity());
+                out.writeLong(history.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(history.getCreatedAt().getNano());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static List<ArchivedCalculation> decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(payload)))) {
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("지원하지 않는 보관 형식 버전: " + version);
+            }
+            int count = in.readInt();
+            List<ArchivedCalculation> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                long stockId = in.readLong();
+                result.add(new ArchivedCalculation(id, stockId >= 0 ? stockId : null,
+                        in.readUTF(), in.readUTF(), in.readInt(), in.readDouble(), in.readInt(), in.readDouble(),
+                        in.readDouble(), in.readInt(),
+                        LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC)));
+            }
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.demo.attachment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일시스템 기반 내용 주소(content-addressed) 저장소
+ *
+ * 파일은 SHA-256 해시를 이름으로 {root}/ab/cd/abcd... 위치에 한 번만 저장됩니다.
+ * 업로드 스트림은 고정 크기 버퍼로 임시 파일에 쓰면서 동시에 해시를 계산하므로
+ * 파일 전체를 힙에 올리지 않으며, 완료 후 해시 경로로 원자적으로 이동합니다.
+ * 같은 내용이 이미 있으면 임시 파일을 버리고 기존 파일을 공유합니다(중복 제거).
+ *
+ * 저장 파일은 참조 수를 세지 않습니다. 대신 {@link #sweep}이 유예 시간보다 오래된 파일 중
+ * 어떤 첨부도 참조하지 않는 파일을 삭제합니다. 업로드가 기존 파일을 재사용할 때 수정 시각을
+ * 갱신하므로, 아직 커밋되지 않은 업로드가 참조할 파일은 정리 대상에서 빠집니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ContentAddressedStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SWEEP_BATCH_SIZE = 500;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path root;
+    private final Path staging;
+
+    public ContentAddressedStore(
+            @Value("${app.attachment.storage-dir:${java.io.tmpdir}/java-web-proto/attachments}") String storageDir) {
+        this.root = Paths.get(storageDir).toAbsolutePath().normalize();
+        this.staging = root.resolve("tmp");
+        try {
+            Files.createDirectories(staging);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부파일 저장소를 만들 수 없음: " + root, e);
+        }
+        log.info("첨부파일 저장소: {}", root);
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 저장하고 내용 해시를 반환합니다. 스트림은 닫습니다.
+     *
+     * @param in       저장할 내용
+     * @param maxBytes 허용 최대 크기 (넘으면 {@link ContentTooLargeException})
+     */
+    public StoredContent store(InputStream in, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(staging, "upload-", ".part");
+        try {
+            long size = 0;
+            try (InputStream source = in; OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = source.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new ContentTooLargeException(maxBytes);
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            String hash = HEX.formatHex(digest.digest());
+            Path target = resolve(hash);
+            if (Files.exists(target)) {
+                // 정리 작업의 유예 시간이 다시 시작되도록 수정 시각 갱신
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                return new StoredContent(hash, size, false);
+            }
+            Files.createDirectories(target.getParent());
+            // 같은 내용을 동시에 올린 경우 어느 쪽이 이동해도 결과가 같음
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredContent(hash, size, true);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 해시에 해당하는 저장 파일 경로
+     *
+     * @throws IllegalArgumentException 해시 형식이 아닐 때
+     */
+    public Path resolve(String hash) {
+        if (hash == null || hash.length() != 64
+                || !hash.chars().allMatch(c -> (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+            throw new IllegalArgumentException("잘못된 해시: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    /**
+     * 유예 시간보다 오래되고 참조되지 않는 저장 파일과 남은 임시 파일을 삭제합니다.
+     *
+     * @param olderThan  이 시각 이전에 수정된 파일만 대상
+     * @param referenced 해시 목록 중 아직 참조되는 해시를 반환하는 함수
+     * @return 삭제한 파일 수
+     */
+    public int sweep(Instant olderThan, Function<List<String>, Set<String>> referenced) throws IOException {
+        int deleted = 0;
+        List<Path> batch = new ArrayList<>(SWEEP_BATCH_SIZE);
+
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (!Files.isRegularFile(file) || !isOlderThan(file, olderThan)) {
+                    continue;
+                }
+                if (file.startsWith(staging)) {
+                    // 비정상 종료 등으로 남은 업로드 임시 파일
+                    deleted += Files.deleteIfExists(file) ? 1 : 0;
+                    continue;
+                }
+                batch.add(file);
+                if (batch.size() == SWEEP_BATCH_SIZE) {
+                    deleted += deleteUnreferenced(batch, olderThan, referenced);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleted += deleteUnreferenced(batch, olderThan, referenced);
+        }
+        return deleted;
+    }
+
+    private int deleteUnreferenced(List<Path> batch, Instant olderThan,
+                                   Function<List<String>, Set<String>> referenced) throws IOException {
+        List<String> hashes = batch.stream().map(file -> file.getFileName().toString()).toList();
+        Set<String> alive = new HashSet<>(referenced.apply(hashes));
+
+        int deleted = 0;
+        for (Path file : batch) {
+            // 조회 이후 같은 내용이 다시 업로드되었으면 수정 시각이 갱신되어 있음
+            if (!alive.contains(file.getFileName().toString()) && isOlderThan(file, olderThan)) {
+                deleted += Files.deleteIfExists(file) ? 1 : 0;
+            }
+        }
+        return deleted;
+    }
+
+    private static boolean isOlderThan(Path file, Instant instant) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(instant);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 저장 결과
+     *
+     * @param sha256  내용 해시
+     * @param size    크기 (바이트)
+     * @param created 새로 저장되었으면 true, 기존 파일을 재사용했으면 false
+     */
+    public record StoredContent(String sha256, long size, boolean created) {
+    }
+
+    /**
+     * 저장 중 허용 크기를 넘었을 때 발생 (임시 파일은 삭제됨)
+     */
+    public static class ContentTooLargeException extends IOException {
+        public ContentTooLargeException(long maxBytes) {
+            super("최대 크기 초과: " + maxBytes + " bytes");
+        }
+    }
+}
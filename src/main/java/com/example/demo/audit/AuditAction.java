@@ -0,0 +1,39 @@
+package com.example.demo.audit;
+
+/**
+ * 감사 로그 작업 유형
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public enum AuditAction {
+    USER_TOGGLE_ENABLED("회원 활성화 토글"),
+    USER_DELETE("회원 삭제"),
+    USER_BULK_ENABLED("회원 활성화 일괄 변경"),
+    USER_BULK_ROLE("회원 역할 일괄 부여"),
+    ROLE_ADD("권한 추가"),
+    ROLE_DELETE("권한 삭제"),
+    MENU_ADD("메뉴 추가"),
+    MENU_TOGGLE_VISIBLE("메뉴 표시 토글"),
+    MENU_ROLES("메뉴 접근 역할 변경"),
+    MENU_DELETE("메뉴 삭제"),
+    PROFILE_UPDATE("내정보 수정"),
+    PASSWORD_CHANGE("비밀번호 변경"),
+    ACCOUNT_WITHDRAW("회원탈퇴"),
+    BOARD_DELETE("게시글 삭제"),
+    BOARD_BULK_DELETE("게시글 일괄 삭제"),
+    COMMENT_DELETE("댓글 삭제"),
+    PORTFOLIO_SELL("포트폴리오 매도"),
+    PORTFOLIO_DELETE("포트폴리오 삭제"),
+    HISTORY_DELETE("계산 기록 삭제");
+
+    private final String description;
+
+    AuditAction(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
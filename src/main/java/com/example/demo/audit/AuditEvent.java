@@ -0,0 +1,21 @@
+package com.example.demo.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 대기 중인 감사 이벤트 (불변)
+ *
+ * @param occurredAt   발생 시각
+ * @param enqueuedNanos 큐에 들어간 시점의 System.nanoTime() (기록 지연 측정용)
+ * @param actor        작업을 수행한 사용자 아이디 (인증 정보가 없으면 "system")
+ * @param action       작업 유형
+ * @param target       대상 (예: "USER:12")
+ * @param detail       부가 정보
+ */
+public record AuditEvent(LocalDateTime occurredAt,
+                         long enqueuedNanos,
+                         String actor,
+                         AuditAction action,
+                         String target,
+                         String detail) {
+}
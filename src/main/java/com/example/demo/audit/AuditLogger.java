@@ -0,0 +1,221 @@
+package com.example.demo.audit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 감사 로그 기록기
+ *
+ * 요청 스레드는 {@link #record}로 이벤트를 링 버퍼에 넣고 바로 반환합니다 (DB 접근 없음).
+ * 백그라운드 기록 스레드가 버퍼를 비우며 audit_log 테이블에 JDBC 배치 INSERT로 저장합니다.
+ *
+ * - 버퍼가 가득 차면 이벤트를 버리고 drop 카운트를 올림 (요청을 막지 않음)
+ * - 배치가 가득 차지 않으면 flush 간격만큼 기다렸다가 모아서 기록
+ * - 종료 시 남은 이벤트를 모두 기록한 뒤 스레드 종료
+ * - audit.queue.size / audit.events.dropped / audit.events.written / audit.events.failed /
+ *   audit.writer.lag 지표 제공
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class AuditLogger implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_log "
+            + "(occurred_at, actor, action, target, detail) VALUES (?, ?, ?, ?, ?)";
+
+    private static final int MAX_TARGET_LENGTH = 100;
+    private static final int MAX_DETAIL_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditRingBuffer<AuditEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    public AuditLogger(JdbcTemplate jdbcTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.audit.buffer-capacity:8192}") int bufferCapacity,
+                       @Value("${app.audit.batch-size:200}") int batchSize,
+                       @Value("${app.audit.flush-interval-ms:500}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new AuditRingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+
+        Gauge.builder("audit.queue.size", buffer, AuditRingBuffer::size)
+                .description("기록 대기 중인 감사 이벤트 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.events.dropped", dropped, AtomicLong::get)
+                .description("버퍼가 가득 차서 버려진 감사 이벤트 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.events.written", written, AtomicLong::get)
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.events.failed", failed, AtomicLong::get)
+                .description("DB 기록에 실패한 감사 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("audit.writer.lag", this, AuditLogger::getLagMs)
+                .description("기록 대기 중인 가장 오래된 감사 이벤트가 큐에 머문 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 인증된 사용자를 수행자로 감사 이벤트를 기록합니다.
+     */
+    public void record(AuditAction action, String target, String detail) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        record(authentication != null ? authentication.getName() : "system", action, target, detail);
+    }
+
+    /**
+     * 감사 이벤트를 기록합니다. 호출 스레드를 막지 않으며, 버퍼가 가득 차면 이벤트를 버립니다.
+     */
+    public void record(String actor, AuditAction action, String target, String detail) {
+        AuditEvent event = new AuditEvent(LocalDateTime.now(), System.nanoTime(), actor, action,
+                truncate(target, MAX_TARGET_LENGTH), truncate(detail, MAX_DETAIL_LENGTH));
+        if (!buffer.offer(event)) {
+            long total = dropped.incrementAndGet();
+            if (total == 1 || total % 1000 == 0) {
+                log.warn("감사 로그 버퍼가 가득 차 이벤트를 버림 (누적 {}건): {} {}", total, action, target);
+            }
+            return;
+        }
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * 관리 화면 표시용 현재 상태
+     */
+    public AuditStats getStats() {
+        return new AuditStats(buffer.size(), buffer.capacity(), dropped.get(), written.get(),
+                failed.get(), getLagMs());
+    }
+
+    /**
+     * 기록 대기 중인 가장 오래된 이벤트의 대기 시간 (ms, 대기 중인 이벤트가 없으면 0)
+     */
+    public long getLagMs() {
+        AuditEvent oldest = buffer.peek();
+        return oldest != null ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedNanos()) : 0;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (buffer.size() > 0) {
+            log.warn("종료 시 기록하지 못한 감사 이벤트: {}건", buffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void writeLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+        while (running || buffer.size() > 0) {
+            buffer.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                write(batch, utc);
+            }
+            if (running && batch.size() < batchSize) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditEvent> batch, Calendar utc) {
+        try {
+            // Hibernate(hibernate.jdbc.time_zone=UTC)와 같은 방식으로 시각을 저장
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setTimestamp(1, Timestamp.valueOf(event.occurredAt()), utc);
+                ps.setString(2, event.actor());
+                ps.setString(3, event.action().name());
+                setNullableString(ps, 4, event.target());
+                setNullableString(ps, 5, event.detail());
+            });
+            written.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            log.error("감사 로그 {}건 기록 실패", batch.size(), e);
+        }
+    }
+
+    private static void setNullableString(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    /**
+     * 감사 로그 기록기 상태
+     *
+     * @param queued   기록 대기 중인 이벤트 수
+     * @param capacity 버퍼 크기
+     * @param dropped  버퍼가 가득 차서 버려진 이벤트 수
+     * @param written  기록된 이벤트 수
+     * @param failed   기록에 실패한 이벤트 수
+     * @param lagMs    가장 오래된 대기 이벤트의 대기 시간 (ms)
+     */
+    public record AuditStats(int queued, int capacity, long dropped, long written, long failed, long lagMs) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 락 프리 링 버퍼 (다중 생산자 / 단일 소비자)
+ *
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 tail에 대한 CAS 한 번으로 슬롯을 예약하고,
+ * 소비자는 시퀀스를 확인한 뒤 슬롯을 비우고 다음 바퀴 번호로 넘겨줍니다.
+ * 버퍼가 가득 차면 {@link #offer(Object)}는 대기하지 않고 false를 반환합니다.
+ *
+ * @param <E> 원소 타입
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+final class AuditRingBuffer<E> {
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 소비자만 갱신 (크기 계산을 위해 volatile)
+     */
+    private volatile long head;
+
+    AuditRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * 원소를 추가합니다. 여러 스레드에서 동시에 호출할 수 있습니다.
+     *
+     * @return 버퍼가 가득 차서 추가하지 못하면 false
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 maxElements개를 꺼내 target에 추가합니다. 소비자 스레드에서만 호출합니다.
+     *
+     * @return 꺼낸 원소 수
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(List<E> target, int maxElements) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            target.add((E) elements[index]);
+            elements[index] = null;
+            sequences.set(index, position + elements.length);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * 다음에 꺼낼 원소를 제거하지 않고 반환합니다. 어느 스레드에서나 호출할 수 있으며,
+     * 소비자가 동시에 꺼내는 중이면 null을 반환할 수 있습니다 (모니터링 용도).
+     */
+    @SuppressWarnings("unchecked")
+    E peek() {
+        long position = head;
+        int index = (int) (position & mask);
+        return sequences.get(index) == position + 1 ? (E) elements[index] : null;
+    }
+
+    /**
+     * 대기 중인 원소 수 (근사값)
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo.cache;
+
+/**
+ * 노드 간 캐시 무효화 버스
+ *
+ * 캐시 원본 데이터를 변경한 쪽이 이벤트를 발행하면, 이 노드를 포함한 모든 노드의
+ * {@link CacheInvalidationListener}에 전달됩니다. 트랜잭션 안에서 발행하면 커밋된 뒤에만 전달되고,
+ * 롤백되면 어느 노드에도 전달되지 않습니다.
+ *
+ * 전송 방식은 app.cache.invalidation.transport 로 선택합니다.
+ * - db (기본): 이벤트 테이블에 기록하고 각 노드가 주기적으로 조회 ({@link DatabaseCacheInvalidationBus})
+ * - local: 현재 노드에만 전달 (단일 인스턴스 개발용, {@link LocalCacheInvalidationBus})
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public interface CacheInvalidationBus {
+
+    void publish(InvalidationEvent event);
+}
@@ -0,0 +1,22 @@
+package com.example.demo.cache;
+
+import java.util.Set;
+
+/**
+ * 캐시 무효화 이벤트 수신자
+ *
+ * 빈으로 등록하면 {@link InvalidationDispatcher}가 자동으로 구독시킵니다.
+ * 같은 이벤트가 두 번 전달될 수 있으므로 처리는 멱등이어야 합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public interface CacheInvalidationListener {
+
+    /**
+     * 수신할 이벤트 종류
+     */
+    Set<InvalidationType> getInvalidationTypes();
+
+    void onInvalidation(InvalidationEvent event);
+}
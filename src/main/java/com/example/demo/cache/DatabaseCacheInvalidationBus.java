@@ -0,0 +1,181 @@
+package com.example.demo.cache;
+
+import com.example.demo.entity.CacheInvalidationLog;
+import com.example.demo.repository.CacheInvalidationLogRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 테이블 폴링 방식의 캐시 무효화 버스 (기본 전송 방식)
+ *
+ * 별도 메시지 브로커 없이 H2/PostgreSQL 모두에서 동작합니다.
+ * - 발행: 현재 트랜잭션에 이벤트 행을 함께 기록하고, 이 노드에는 커밋 직후 바로 전달
+ * - 수신: poll-interval-ms 마다 마지막으로 확인한 ID 이후의 행을 읽어 다른 노드가 발행한 이벤트를 전달
+ *   (다른 노드의 변경은 최대 폴링 주기 + 조회 시간 안에 반영됨)
+ *
+ * IDENTITY ID는 커밋 순서와 다를 수 있으므로(작은 ID의 트랜잭션이 나중에 커밋) 기준 ID는
+ * 기록된 지 settle-seconds 가 지난 행까지만 올리고, 그 이후 구간은 다시 읽으면서
+ * 이미 전달한 ID를 건너뜁니다. 같은 이벤트가 중복 전달되더라도 수신자는 멱등입니다.
+ * 조회는 쓰기 트랜잭션에서 실행하여 복제본 라우팅을 사용할 때도 복제 지연 없이 주 DB를 읽습니다.
+ *
+ * 폴링은 공용 스케줄러가 아닌 전용 스레드에서 실행합니다. 공용 스케줄러에서 오래 걸리는 작업
+ * (기록 보관, 평가금액 스냅샷 등)이 도는 동안 폴링이 밀리면 다른 노드의 변경 반영 시간이 보장되지 않기 때문입니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "db", matchIfMissing = true)
+public class DatabaseCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final int POLL_BATCH_SIZE = 500;
+
+    /**
+     * 이 노드(프로세스)의 식별자
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final CacheInvalidationLogRepository repository;
+    private final InvalidationDispatcher dispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration settleWindow;
+    private final Duration retention;
+    private final long pollIntervalMs;
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-invalidation-poll");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 이 ID 이하의 이벤트는 모두 확인함 (-1이면 아직 초기화 전)
+     */
+    private long watermark = -1;
+
+    /**
+     * 기준 ID 이후 구간에서 이미 전달한 이벤트 ID
+     */
+    private final Set<Long> delivered = new HashSet<>();
+
+    public DatabaseCacheInvalidationBus(CacheInvalidationLogRepository repository,
+                                        InvalidationDispatcher dispatcher,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${app.cache.invalidation.settle-seconds:10}") long settleSeconds,
+                                        @Value("${app.cache.invalidation.retention-minutes:60}") long retentionMinutes,
+                                        @Value("${app.cache.invalidation.poll-interval-ms:1000}") long pollIntervalMs) {
+        this.repository = repository;
+        this.dispatcher = dispatcher;
+        this.transactionTemplate = transactionTemplate;
+        this.settleWindow = Duration.ofSeconds(settleSeconds);
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.pollIntervalMs = Math.max(10, pollIntervalMs);
+    }
+
+    /**
+     * 기동이 끝난 뒤 폴링을 시작합니다 (수신자 빈이 모두 만들어진 다음에 전달되도록).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPolling() {
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                log.error("캐시 무효화 이벤트 조회 실패", e);
+            }
+        }, 0, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+    }
+
+    @Override
+    public void publish(InvalidationEvent event) {
+        CacheInvalidationLog row = new CacheInvalidationLog();
+        row.setType(event.type());
+        row.setCacheKey(event.key());
+        row.setOrigin(nodeId);
+        // 진행 중인 트랜잭션이 있으면 참여하므로 변경과 함께 커밋/롤백됨
+        repository.save(row);
+        dispatcher.dispatchAfterCommit(event);
+    }
+
+    /**
+     * 다른 노드가 발행한 새 이벤트를 읽어 전달합니다.
+     */
+    public synchronized void poll() {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settleWindow);
+        if (watermark < 0) {
+            // 기동 전의 이벤트는 새로 만들어질 캐시와 관계없으므로 건너뜀
+            Long settled = transactionTemplate.execute(status -> repository.findMaxIdCreatedBefore(settledBefore));
+            watermark = settled != null ? settled : 0L;
+        }
+
+        long cursor = watermark;
+        long newWatermark = watermark;
+        boolean settledPrefix = true;
+        int received = 0;
+
+        while (true) {
+            long after = cursor;
+            List<CacheInvalidationLog> rows = transactionTemplate.execute(status ->
+                    repository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, POLL_BATCH_SIZE)));
+            for (CacheInvalidationLog row : rows) {
+                if (delivered.add(row.getId()) && !nodeId.equals(row.getOrigin())) {
+                    dispatcher.dispatch(new InvalidationEvent(row.getType(), row.getCacheKey()));
+                    received++;
+                }
+                if (settledPrefix && row.getCreatedAt().isBefore(settledBefore)) {
+                    newWatermark = row.getId();
+                } else {
+                    settledPrefix = false;
+                }
+                cursor = row.getId();
+            }
+            if (rows.size() < POLL_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        long threshold = newWatermark;
+        delivered.removeIf(id -> id <= threshold);
+        watermark = newWatermark;
+
+        if (received > 0) {
+            log.debug("캐시 무효화 이벤트 수신: {}건 (기준 ID {})", received, watermark);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 이벤트 행을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.purge-interval-ms:600000}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> repository.deleteCreatedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("캐시 무효화 이벤트 정리: {}건", deleted);
+        }
+    }
+}
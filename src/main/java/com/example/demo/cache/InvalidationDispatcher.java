@@ -0,0 +1,74 @@
+package com.example.demo.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 노드의 {@link CacheInvalidationListener}에 이벤트를 전달합니다.
+ *
+ * 수신자는 처음 전달할 때 조회하여 종류별로 묶어 둡니다. 수신자가 버스를 발행하는 서비스에
+ * 의존하더라도 빈 생성 순환이 생기지 않도록 생성 시점에는 주입받지 않습니다.
+ * 수신자 하나가 실패해도 나머지에는 전달됩니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class InvalidationDispatcher {
+
+    private final ObjectProvider<CacheInvalidationListener> listenerProvider;
+    private volatile Map<InvalidationType, List<CacheInvalidationListener>> listeners;
+
+    public InvalidationDispatcher(ObjectProvider<CacheInvalidationListener> listenerProvider) {
+        this.listenerProvider = listenerProvider;
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋된 뒤에, 없으면 즉시 전달합니다.
+     */
+    public void dispatchAfterCommit(InvalidationEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event);
+                }
+            });
+        } else {
+            dispatch(event);
+        }
+    }
+
+    public void dispatch(InvalidationEvent event) {
+        for (CacheInvalidationListener listener : listeners().getOrDefault(event.type(), List.of())) {
+            try {
+                listener.onInvalidation(event);
+            } catch (RuntimeException e) {
+                log.error("캐시 무효화 처리 실패: {} -> {}", event, listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private Map<InvalidationType, List<CacheInvalidationListener>> listeners() {
+        Map<InvalidationType, List<CacheInvalidationListener>> current = listeners;
+        if (current == null) {
+            current = new EnumMap<>(InvalidationType.class);
+            for (CacheInvalidationListener listener : listenerProvider.orderedStream().toList()) {
+                for (InvalidationType type : listener.getInvalidationTypes()) {
+                    current.computeIfAbsent(type, t -> new ArrayList<>()).add(listener);
+                }
+            }
+            listeners = current;
+        }
+        return current;
+    }
+}
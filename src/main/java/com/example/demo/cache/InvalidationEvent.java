@@ -0,0 +1,35 @@
+package com.example.demo.cache;
+
+/**
+ * 캐시 무효화 이벤트
+ *
+ * @param type 종류
+ * @param key  무효화할 항목의 키 (예: 회원 ID). null이면 해당 종류 전체
+ */
+public record InvalidationEvent(InvalidationType type, String key) {
+
+    /**
+     * 해당 종류의 캐시 전체를 무효화하는 이벤트
+     */
+    public static InvalidationEvent all(InvalidationType type) {
+        return new InvalidationEvent(type, null);
+    }
+
+    /**
+     * 항목 하나를 무효화하는 이벤트
+     */
+    public static InvalidationEvent of(InvalidationType type, Object key) {
+        return new InvalidationEvent(type, String.valueOf(key));
+    }
+
+    public boolean isAll() {
+        return key == null;
+    }
+
+    /**
+     * 키를 숫자 ID로 반환합니다 (전체 무효화면 null).
+     */
+    public Long keyAsLong() {
+        return key != null ? Long.valueOf(key) : null;
+    }
+}
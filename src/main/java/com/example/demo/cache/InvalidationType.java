@@ -0,0 +1,18 @@
+package com.example.demo.cache;
+
+/**
+ * 캐시 무효화 이벤트 종류
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public enum InvalidationType {
+    /** 메뉴 추가/삭제/표시 여부/접근 역할 변경 */
+    MENU,
+    /** 역할 추가/삭제 */
+    ROLE,
+    /** 회원 정보/활성화/역할 변경 (키: 회원 ID) */
+    USER,
+    /** 게시글 삭제 (키: 게시글 ID) */
+    BOARD
+}
@@ -0,0 +1,26 @@
+package com.example.demo.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 노드에만 전달하는 캐시 무효화 버스 (단일 인스턴스 개발용)
+ *
+ * app.cache.invalidation.transport=local 일 때 사용합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "local")
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final InvalidationDispatcher dispatcher;
+
+    @Override
+    public void publish(InvalidationEvent event) {
+        dispatcher.dispatchAfterCommit(event);
+    }
+}
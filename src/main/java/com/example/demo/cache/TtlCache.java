@@ -0,0 +1,78 @@
+package com.example.demo.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 항목별 만료 시간이 있는 간단한 메모리 캐시
+ *
+ * 만료된 항목은 조회 시 다시 로딩하고, 크기가 상한을 넘으면 만료된 항목을 먼저 정리한 뒤
+ * 그래도 넘치면 임의의 항목을 제거합니다. 같은 키를 동시에 로딩하는 것은 막지 않습니다
+ * (로더는 멱등인 조회만 사용).
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public class TtlCache<K, V> {
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    public TtlCache(long ttl, TimeUnit unit, int maxSize) {
+        this.ttlNanos = unit.toNanos(ttl);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 유효한 값이 있으면 반환하고, 없거나 만료되었으면 로더로 읽어 저장합니다.
+     * 로더가 null을 반환하면 저장하지 않습니다.
+     */
+    public V get(K key, Supplier<V> loader) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAtNanos - now > 0) {
+            return entry.value;
+        }
+
+        V value = loader.get();
+        if (value != null) {
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+            if (entries.size() > maxSize) {
+                evict();
+            }
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.expiresAtNanos - now <= 0);
+
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+}
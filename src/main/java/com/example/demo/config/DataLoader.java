@@ -6,8 +6,8 @@ import com.example.demo.entity.User;
 import com.example.demo.repository.MenuRepository;
 import com.example.demo.repository.RoleRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.startup.StartupTask;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -17,10 +17,11 @@ import java.util.Set;
 /**
  * 애플리케이션 초기 데이터 로더
  * 첫 실행 시 기본 사용자, 역할, 메뉴 데이터를 생성
+ * 로그인에 필요한 데이터이므로 필수(critical) 기동 작업으로 실행
  */
 @Component
 @RequiredArgsConstructor
-public class DataLoader implements CommandLineRunner {
+public class DataLoader implements StartupTask {
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
@@ -28,7 +29,12 @@ public class DataLoader implements CommandLineRunner {
     private final PasswordEncoder passwordEncoder;
 
     @Override
-    public void run(String... args) throws Exception {
+    public String getName() {
+        return "dataLoader";
+    }
+
+    @Override
+    public void run() {
         // 이미 데이터가 있으면 스킵
         if (roleRepository.count() > 0) {
             return;
@@ -0,0 +1,111 @@
+package com.example.demo.config;
+
+import com.example.demo.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 복제본 라우팅 데이터소스 설정
+ *
+ * app.datasource.replica.enabled=true 일 때만 적용되며, 그 외에는 Spring Boot 기본 데이터소스를 사용합니다.
+ * - 주 DB: spring.datasource.* (+ spring.datasource.hikari.*)
+ * - 복제본: app.datasource.replica.urls (쉼표 구분), 계정은 지정하지 않으면 주 DB와 같음
+ *
+ * 애플리케이션이 사용하는 데이터소스는 LazyConnectionDataSourceProxy → {@link ReplicaRoutingDataSource}
+ * 순서로 감싸져, 첫 SQL 실행 시점의 트랜잭션 읽기 전용 여부로 연결 대상이 정해집니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private final List<HikariDataSource> replicaPools = new ArrayList<>();
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 DataSourceProperties properties,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.datasource.replica.urls}") String[] urls,
+                                 @Value("${app.datasource.replica.username:}") String username,
+                                 @Value("${app.datasource.replica.password:}") String password,
+                                 @Value("${app.datasource.replica.pool-size:10}") int poolSize,
+                                 @Value("${app.datasource.replica.read-your-writes-ms:2000}") long readYourWritesMs) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource pool = replicaDataSource(name, url.trim(),
+                    StringUtils.hasText(username) ? username : properties.determineUsername(),
+                    StringUtils.hasText(username) ? password : properties.determinePassword(),
+                    poolSize);
+            replicaPools.add(pool);
+            replicas.put(name, pool);
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                readYourWritesMs, TimeUnit.MILLISECONDS, meterRegistry);
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval-ms:5000}")
+    public void checkReplicaHealth() {
+        if (routingDataSource != null) {
+            routingDataSource.checkHealth();
+        }
+    }
+
+    /**
+     * 복제본 풀은 빈으로 등록하지 않으므로 직접 닫음
+     */
+    @PreDestroy
+    public void closeReplicaPools() {
+        replicaPools.forEach(HikariDataSource::close);
+    }
+
+    private static HikariDataSource replicaDataSource(String name, String url,
+                                                      String username, String password, int poolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setReadOnly(true);
+        dataSource.setConnectionTimeout(2000);
+        // 기동 시 복제본이 내려가 있어도 애플리케이션은 주 DB로 시작
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
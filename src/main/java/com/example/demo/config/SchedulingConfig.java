@@ -0,0 +1,17 @@
+package com.example.demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 설정
+ *
+ * {@code @Scheduled} 작업(평가금액 스냅샷 등)을 활성화합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,14 +1,23 @@
 package com.example.demo.config;
 
+import com.example.demo.security.UrlAuthorizationEngine;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.session.HttpSessionEventPublisher;
 
 @Configuration
 @EnableWebSecurity
@@ -24,13 +33,59 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * 로그인 세션 목록 (비활성화/삭제된 회원의 세션 만료용, SessionTerminator 참고)
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SessionRegistry sessionRegistry() {
+        return new SessionRegistryImpl();
+    }
+
+    /**
+     * 세션 종료 이벤트를 세션 레지스트리에 전달
+     */
+    @Bean
+    public HttpSessionEventPublisher httpSessionEventPublisher() {
+        return new HttpSessionEventPublisher();
+    }
+
+    /**
+     * JSON API(/api/**) 전용 보안 설정 (화면용 설정보다 먼저 적용)
+     * 요청마다 HTTP Basic으로 인증하고 세션을 만들거나 읽지 않으므로, 브라우저 쿠키로 인증되는 요청이 없어
+     * CSRF 보호가 필요 없습니다. 미인증 요청은 로그인 페이지로 보내지 않고 401을 응답합니다.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiFilterChain(HttpSecurity http,
+                                              UrlAuthorizationEngine urlAuthorizationEngine) throws Exception {
+        http
+            .securityMatcher("/api/**")
+            // API 경로를 같은 데이터의 화면 메뉴 경로로 바꿔 메뉴-역할 매핑 규칙으로 판단 (미등록 API는 거부)
+            .authorizeHttpRequests(auth -> auth.anyRequest().access(urlAuthorizationEngine))
+            .httpBasic(Customizer.withDefaults())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
+            .csrf(csrf -> csrf.disable());
+
+        return http.build();
+    }
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           UrlAuthorizationEngine urlAuthorizationEngine,
+                                           SessionRegistry sessionRegistry) throws Exception {
         http
             .authorizeHttpRequests(auth -> auth
+                // 요청 경로/샤드 구성/기동 실패 메시지를 보여주는 운영 엔드포인트는 관리자만 (그 외 actuator는 공개)
+                .requestMatchers("/actuator/slowrequests/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/shards/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/startuptasks/**").hasRole("ADMIN")
                 .requestMatchers("/", "/login", "/h2-console/**", "/actuator/**", "/css/**", "/js/**", "/images/**").permitAll()
                 .requestMatchers("/admin/**").hasRole("ADMIN")
-                .anyRequest().authenticated()
+                // 그 외 경로는 메뉴-역할 매핑(menu_roles)으로 컴파일된 규칙으로 판단
+                .anyRequest().access(urlAuthorizationEngine)
             )
             .formLogin(form -> form
                 .loginPage("/login")
@@ -43,6 +98,12 @@ public class SecurityConfig {
                 .logoutSuccessUrl("/")
                 .permitAll()
             )
+            // 세션 수는 제한하지 않고, 만료 표시된 세션은 다음 요청에서 로그아웃
+            .sessionManagement(session -> session
+                .maximumSessions(-1)
+                .sessionRegistry(sessionRegistry)
+                .expiredUrl("/login")
+            )
             .csrf(csrf -> csrf.disable()) // 개발 편의상 비활성화 (운영에서는 활성화 필요)
             .headers(headers -> headers
                 .frameOptions(frame -> frame.disable()) // H2 콘솔을 위해 필요
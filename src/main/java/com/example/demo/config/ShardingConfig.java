@@ -0,0 +1,97 @@
+package com.example.demo.config;
+
+import com.example.demo.sharding.ShardRoutingDataSource;
+import com.example.demo.sharding.ShardSchemaInitializer;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 ID 샤딩 데이터소스 설정
+ *
+ * app.sharding.enabled=true 일 때만 적용됩니다 (읽기 복제본 라우팅과 함께 사용할 수 없음).
+ * - 샤드 0 (기본 샤드): spring.datasource.* — 사용자, 종목, 게시판 등 전역 테이블과 JPA 스키마 관리
+ * - 샤드 1..N-1: app.sharding.urls (쉼표 구분, 순서가 곧 샤드 번호) — portfolios, calculation_history만 보관
+ *
+ * 샤드 목록 순서를 바꾸거나 샤드를 추가하면 사용자 배치가 달라지므로, 기동 전에
+ * 재배치 도구(app.sharding.rebalance=true)로 데이터를 옮겨야 합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    private final List<HikariDataSource> shardPools = new ArrayList<>();
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("shard-0");
+        return dataSource;
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(HikariDataSource primaryDataSource,
+                                                         DataSourceProperties properties,
+                                                         @Value("${app.sharding.urls}") String[] urls,
+                                                         @Value("${app.sharding.username:}") String username,
+                                                         @Value("${app.sharding.password:}") String password,
+                                                         @Value("${app.sharding.pool-size:10}") int poolSize) {
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(primaryDataSource);
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            int shard = shards.size();
+            HikariDataSource pool = shardDataSource("shard-" + shard, url.trim(),
+                    StringUtils.hasText(username) ? username : properties.determineUsername(),
+                    StringUtils.hasText(username) ? password : properties.determinePassword(),
+                    poolSize);
+            shardPools.add(pool);
+            ShardSchemaInitializer.initialize(pool, shard);
+            shards.add(pool);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    /**
+     * 추가 샤드 풀은 빈으로 등록하지 않으므로 직접 닫음
+     */
+    @PreDestroy
+    public void closeShardPools() {
+        shardPools.forEach(HikariDataSource::close);
+    }
+
+    private static HikariDataSource shardDataSource(String name, String url,
+                                                    String username, String password, int poolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(poolSize);
+        return dataSource;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.config;
+
+import com.example.demo.ratelimit.RateLimitInterceptor;
+import com.example.demo.tracing.RequestTracingFilter;
+import com.example.demo.tracing.RequestTracingInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 설정
+ * 요청 추적 필터/인터셉터, 요청 속도 제한 인터셉터 등록
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RequestTracingInterceptor requestTracingInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    /**
+     * 요청 추적 필터는 보안 필터 체인 시간까지 측정하도록 그보다 먼저 실행
+     */
+    @Bean
+    public FilterRegistrationBean<RequestTracingFilter> requestTracingFilterRegistration(RequestTracingFilter filter) {
+        FilterRegistrationBean<RequestTracingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestTracingInterceptor);
+        registry.addInterceptor(rateLimitInterceptor);
+    }
+}
@@ -32,6 +32,16 @@ public final class ErrorMessages {
      */
     public static final String USER_CREATE_FAILED = "사용자 생성에 실패했습니다.";
 
+    /**
+     * 관리자가 본인 계정을 삭제하려고 할 때 사용
+     */
+    public static final String USER_DELETE_SELF = "본인 계정은 삭제할 수 없습니다.";
+
+    /**
+     * 삭제 처리 중인 회원을 변경하려고 할 때 사용
+     */
+    public static final String USER_DELETED = "삭제 처리 중인 회원입니다.";
+
     // ========== 권한 관련 에러 메시지 ==========
     /**
      * 역할(Role)을 찾을 수 없을 때 사용
@@ -54,6 +64,16 @@ public final class ErrorMessages {
      */
     public static final String PORTFOLIO_ACCESS_DENIED = "해당 포트폴리오에 접근할 권한이 없습니다.";
 
+    /**
+     * 보유 수량보다 많이 매도하려 할 때 사용
+     */
+    public static final String TRADE_QUANTITY_EXCEEDS_POSITION = "보유 수량보다 많이 매도할 수 없습니다.";
+
+    /**
+     * 같은 포지션의 동시 거래 충돌이 재시도 후에도 계속될 때 사용
+     */
+    public static final String TRADE_CONCURRENT_CONFLICT = "같은 종목의 거래가 동시에 많이 들어와 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+
     // ========== 계산 기록 관련 에러 메시지 ==========
     /**
      * 계산 기록을 찾을 수 없을 때 사용
@@ -76,12 +96,59 @@ public final class ErrorMessages {
      */
     public static final String BOARD_ACCESS_DENIED = "해당 게시글에 접근할 권한이 없습니다.";
 
+    /**
+     * 댓글을 찾을 수 없을 때 사용
+     */
+    public static final String COMMENT_NOT_FOUND = "댓글을 찾을 수 없습니다.";
+
+    /**
+     * 댓글 작성자가 아니고 관리자도 아닐 때 사용
+     */
+    public static final String COMMENT_ACCESS_DENIED = "해당 댓글에 접근할 권한이 없습니다.";
+
+    /**
+     * 댓글 내용이 비어 있거나 너무 길 때 사용
+     */
+    public static final String COMMENT_CONTENT_INVALID = "댓글은 1자 이상 1000자 이하로 입력해주세요.";
+
+    /**
+     * 첨부파일을 찾을 수 없을 때 사용
+     */
+    public static final String ATTACHMENT_NOT_FOUND = "첨부파일을 찾을 수 없습니다.";
+
+    /**
+     * 게시글당 첨부파일 수를 초과했을 때 사용
+     */
+    public static final String ATTACHMENT_TOO_MANY = "첨부파일은 게시글당 최대 5개까지 등록할 수 있습니다.";
+
+    /**
+     * 첨부파일 크기가 제한을 넘었을 때 사용
+     */
+    public static final String ATTACHMENT_TOO_LARGE = "첨부파일 크기가 허용된 최대 크기를 초과했습니다.";
+
+    /**
+     * 첨부파일 저장 중 오류가 발생했을 때 사용
+     */
+    public static final String ATTACHMENT_UPLOAD_FAILED = "첨부파일을 저장하지 못했습니다. 잠시 후 다시 시도해주세요.";
+
     // ========== 메뉴 관련 에러 메시지 ==========
     /**
      * 메뉴를 찾을 수 없을 때 사용
      */
     public static final String MENU_NOT_FOUND = "메뉴를 찾을 수 없습니다.";
 
+    // ========== 일괄 작업 관련 에러 메시지 ==========
+    /**
+     * 일괄 작업 대상(선택 항목 또는 검색 조건)이 없을 때 사용
+     */
+    public static final String BULK_TARGET_REQUIRED = "일괄 작업 대상을 선택하거나 검색 조건을 지정해주세요.";
+
+    // ========== 보유 현황 관련 에러 메시지 ==========
+    /**
+     * 종목별 가격 변동률 입력 형식이 잘못되었을 때 사용
+     */
+    public static final String INVALID_SHOCK_FORMAT = "종목별 변동률은 '종목코드:변동률' 형식으로 입력해주세요. (예: 005930:-20)";
+
     // ========== 입력 검증 에러 메시지 ==========
     /**
      * 필수 입력값이 없을 때 사용
@@ -107,4 +174,26 @@ public final class ErrorMessages {
      * 가격이 양수가 아닐 때 사용
      */
     public static final String PRICE_MUST_BE_POSITIVE = "가격은 양수여야 합니다.";
+
+    /**
+     * 조회 기간의 시작일이 종료일보다 늦을 때 사용
+     */
+    public static final String INVALID_DATE_RANGE = "조회 시작일은 종료일보다 늦을 수 없습니다.";
+
+    // ========== 요청 제한 에러 메시지 ==========
+    /**
+     * 짧은 시간에 너무 많은 요청을 보냈을 때 사용
+     */
+    public static final String RATE_LIMITED = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    // ========== JSON API 에러 메시지 ==========
+    /**
+     * 페이지 커서를 해석할 수 없을 때 사용
+     */
+    public static final String API_INVALID_CURSOR = "잘못된 페이지 커서입니다.";
+
+    /**
+     * fields 파라미터에 없는 필드를 지정했을 때 사용 (뒤에 필드 이름이 붙음)
+     */
+    public static final String API_UNKNOWN_FIELD = "지원하지 않는 필드입니다: ";
 }
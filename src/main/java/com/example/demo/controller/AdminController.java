@@ -1,24 +1,61 @@
 package com.example.demo.controller;
 
+import com.example.demo.analytics.HistoryAnalytics;
+import com.example.demo.audit.AuditAction;
+import com.example.demo.audit.AuditLogger;
+import com.example.demo.cache.CacheInvalidationBus;
+import com.example.demo.cache.InvalidationEvent;
+import com.example.demo.cache.InvalidationType;
+import com.example.demo.constant.ErrorMessages;
+import com.example.demo.dto.AdminUserPage;
+import com.example.demo.dto.AdminUserSearch;
+import com.example.demo.dto.BoardSearch;
+import com.example.demo.dto.BulkOperationResult;
+import com.example.demo.dto.HistoryAnalyticsReport;
+import com.example.demo.dto.HoldingShockReport;
+import com.example.demo.entity.AuditLog;
 import com.example.demo.entity.Menu;
 import com.example.demo.entity.Role;
 import com.example.demo.entity.User;
+import com.example.demo.entity.UserDeletionJob;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.AuditLogRepository;
 import com.example.demo.repository.MenuRepository;
 import com.example.demo.repository.RoleRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.service.AdminBulkService;
 import com.example.demo.service.MenuService;
+import com.example.demo.service.StockHoldingService;
+import com.example.demo.service.TradeService;
+import com.example.demo.service.UserDeletionService;
 import com.example.demo.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 관리자 기능 컨트롤러
  * 회원, 권한, 메뉴 관리
+ *
+ * 메뉴/역할/회원을 변경하면 캐시 무효화 이벤트를 발행하여 모든 노드의 메뉴 캐시와
+ * URL 인가 규칙, 회원별 캐시에 반영합니다.
  */
 @Controller
 @RequiredArgsConstructor
@@ -27,23 +64,43 @@ public class AdminController {
 
     private final UserService userService;
     private final MenuService menuService;
+    private final AdminBulkService adminBulkService;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final MenuRepository menuRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final AuditLogger auditLogger;
+    private final AuditLogRepository auditLogRepository;
+    private final StockHoldingService stockHoldingService;
+    private final TradeService tradeService;
+    private final HistoryAnalytics historyAnalytics;
+    private final UserDeletionService userDeletionService;
 
     /**
      * 회원 관리 페이지
      */
     @GetMapping("/users")
-    public String users(Authentication authentication, Model model) {
+    public String users(@ModelAttribute("search") AdminUserSearch search,
+                        @SortDefault("id") Sort sort,
+                        @RequestParam(required = false) String afterKey,
+                        @RequestParam(required = false) Long afterId,
+                        Authentication authentication,
+                        Model model) {
         User currentUser = userService.getUserByUsername(authentication.getName());
-        List<User> users = userService.getAllUsers();
+        AdminUserPage userPage = userService.searchUsers(search, sort, afterKey, afterId);
         List<Menu> menus = menuService.getMenusForUser(currentUser);
 
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("id"));
+
         model.addAttribute("user", currentUser);
         model.addAttribute("menus", menus);
         model.addAttribute("isAdmin", true);
-        model.addAttribute("users", users);
+        model.addAttribute("userPage", userPage);
+        model.addAttribute("firstPage", afterId == null);
+        model.addAttribute("roleNames", roleRepository.findAllNames());
+        model.addAttribute("sortProperty", order.getProperty());
+        model.addAttribute("sortDirection", order.getDirection().name().toLowerCase());
+        model.addAttribute("deletionJobs", userDeletionService.getRecentJobs(10));
 
         return "admin-users";
     }
@@ -55,22 +112,97 @@ public class AdminController {
     public String toggleUserEnabled(@PathVariable Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        if (user.getDeletedAt() != null) {
+            throw new BusinessException(ErrorMessages.USER_DELETED);
+        }
 
         user.setEnabled(!user.getEnabled());
         userRepository.save(user);
+        invalidationBus.publish(InvalidationEvent.of(InvalidationType.USER, id));
+        auditLogger.record(AuditAction.USER_TOGGLE_ENABLED, "USER:" + id,
+                user.getUsername() + " enabled=" + user.getEnabled());
 
         return "redirect:/admin/users";
     }
 
     /**
      * 회원 삭제
+     * 계정은 즉시 로그인/목록에서 제외되고, 소유 데이터는 백그라운드 삭제 작업이 정리합니다.
      */
     @PostMapping("/users/{id}/delete")
-    public String deleteUser(@PathVariable Long id) {
-        userRepository.deleteById(id);
+    public String deleteUser(@PathVariable Long id,
+                             Authentication authentication,
+                             RedirectAttributes redirectAttributes) {
+        UserDeletionJob job = userDeletionService.requestDeletion(id, authentication.getName());
+        auditLogger.record(AuditAction.USER_DELETE, "USER:" + id, "job=" + job.getId());
+
+        redirectAttributes.addFlashAttribute("success", "회원 삭제를 시작했습니다: " + job.getUsername());
+        return "redirect:/admin/users";
+    }
+
+    /**
+     * 실패한 회원 삭제 작업 다시 시도
+     */
+    @PostMapping("/users/deletions/{id}/retry")
+    public String retryUserDeletion(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+        userDeletionService.retry(id);
+        redirectAttributes.addFlashAttribute("success", "회원 삭제 작업을 다시 시작했습니다.");
+        return "redirect:/admin/users";
+    }
+
+    /**
+     * 회원 활성화/비활성화 일괄 변경
+     * 선택한 회원이 없으면 검색 조건에 맞는 전체 회원을 대상으로 합니다.
+     * 비활성화 시 작업을 실행한 관리자 본인은 제외합니다.
+     * (검색 조건의 enabled 파라미터와 구분하기 위해 변경할 값은 enable 파라미터로 받음)
+     */
+    @PostMapping("/users/bulk/enabled")
+    public String bulkUserEnabled(@RequestParam(required = false) List<Long> ids,
+                                  @RequestParam("enable") boolean enable,
+                                  @ModelAttribute("search") AdminUserSearch search,
+                                  Authentication authentication,
+                                  RedirectAttributes redirectAttributes) {
+        User currentUser = userService.getUserByUsername(authentication.getName());
+        BulkOperationResult result = adminBulkService.setUsersEnabled(ids, search, enable, currentUser.getId());
+        invalidationBus.publish(InvalidationEvent.all(InvalidationType.USER));
+        auditLogger.record(AuditAction.USER_BULK_ENABLED, bulkTarget(ids), result.toMessage());
+
+        redirectAttributes.addFlashAttribute("success", result.toMessage());
+        return "redirect:/admin/users";
+    }
+
+    /**
+     * 회원 역할 일괄 부여
+     * 선택한 회원이 없으면 검색 조건에 맞는 전체 회원을 대상으로 합니다.
+     */
+    @PostMapping("/users/bulk/role")
+    public String bulkAssignRole(@RequestParam(required = false) List<Long> ids,
+                                 @RequestParam String roleName,
+                                 @ModelAttribute("search") AdminUserSearch search,
+                                 RedirectAttributes redirectAttributes) {
+        BulkOperationResult result = adminBulkService.assignRole(ids, search, roleName);
+        invalidationBus.publish(InvalidationEvent.all(InvalidationType.USER));
+        auditLogger.record(AuditAction.USER_BULK_ROLE, bulkTarget(ids), result.toMessage());
+
+        redirectAttributes.addFlashAttribute("success", result.toMessage());
         return "redirect:/admin/users";
     }
 
+    /**
+     * 게시글 일괄 삭제
+     * 선택한 게시글이 없으면 검색 조건(작성자, 제목 키워드, 작성일)에 맞는 게시글을 삭제합니다.
+     */
+    @PostMapping("/boards/bulk-delete")
+    public String bulkDeleteBoards(@RequestParam(required = false) List<Long> ids,
+                                   @ModelAttribute BoardSearch search,
+                                   RedirectAttributes redirectAttributes) {
+        BulkOperationResult result = adminBulkService.deleteBoards(ids, search);
+        auditLogger.record(AuditAction.BOARD_BULK_DELETE, bulkTarget(ids), result.toMessage());
+
+        redirectAttributes.addFlashAttribute("success", result.toMessage());
+        return "redirect:/board";
+    }
+
     /**
      * 권한 관리 페이지
      */
@@ -97,6 +229,8 @@ public class AdminController {
         role.setName(name.startsWith("ROLE_") ? name : "ROLE_" + name);
         role.setDescription(description);
         roleRepository.save(role);
+        invalidationBus.publish(InvalidationEvent.all(InvalidationType.ROLE));
+        auditLogger.record(AuditAction.ROLE_ADD, "ROLE:" + role.getId(), role.getName());
 
         return "redirect:/admin/roles";
     }
@@ -107,6 +241,8 @@ public class AdminController {
     @PostMapping("/roles/{id}/delete")
     public String deleteRole(@PathVariable Long id) {
         roleRepository.deleteById(id);
+        invalidationBus.publish(InvalidationEvent.all(InvalidationType.ROLE));
+        auditLogger.record(AuditAction.ROLE_DELETE, "ROLE:" + id, null);
         return "redirect:/admin/roles";
     }
 
@@ -123,6 +259,7 @@ public class AdminController {
         model.addAttribute("menus", userMenus);
         model.addAttribute("isAdmin", true);
         model.addAttribute("allMenus", allMenus);
+        model.addAttribute("roles", roleRepository.findAll());
 
         return "admin-menus";
     }
@@ -142,6 +279,33 @@ public class AdminController {
         menu.setSortOrder(sortOrder);
         menu.setVisible(true);
         menuRepository.save(menu);
+        invalidationBus.publish(InvalidationEvent.all(InvalidationType.MENU));
+        auditLogger.record(AuditAction.MENU_ADD, "MENU:" + menu.getId(), name + " " + path);
+
+        return "redirect:/admin/menus";
+    }
+
+    /**
+     * 메뉴 접근 역할 변경
+     * 화면 표시뿐 아니라 URL 인가 규칙에도 반영됩니다.
+     */
+    @PostMapping("/menus/{id}/roles")
+    public String updateMenuRoles(@PathVariable Long id,
+                                  @RequestParam(required = false) List<Long> roleIds) {
+        Menu menu = menuRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.MENU_NOT_FOUND));
+        Set<Long> selected = roleIds != null ? new HashSet<>(roleIds) : Set.of();
+
+        for (Role role : roleRepository.findAll()) {
+            boolean changed = selected.contains(role.getId())
+                    ? role.getMenus().add(menu)
+                    : role.getMenus().remove(menu);
+            if (changed) {
+                roleRepository.save(role);
+            }
+        }
+        invalidationBus.publish(InvalidationEvent.all(InvalidationType.MENU));
+        auditLogger.record(AuditAction.MENU_ROLES, "MENU:" + id, "roleIds=" + selected);
 
         return "redirect:/admin/menus";
     }
@@ -156,6 +320,8 @@ public class AdminController {
 
         menu.setVisible(!menu.getVisible());
         menuRepository.save(menu);
+        invalidationBus.publish(InvalidationEvent.all(InvalidationType.MENU));
+        auditLogger.record(AuditAction.MENU_TOGGLE_VISIBLE, "MENU:" + id, "visible=" + menu.getVisible());
 
         return "redirect:/admin/menus";
     }
@@ -166,6 +332,134 @@ public class AdminController {
     @PostMapping("/menus/{id}/delete")
     public String deleteMenu(@PathVariable Long id) {
         menuRepository.deleteById(id);
+        invalidationBus.publish(InvalidationEvent.all(InvalidationType.MENU));
+        auditLogger.record(AuditAction.MENU_DELETE, "MENU:" + id, null);
         return "redirect:/admin/menus";
     }
+
+    /**
+     * 감사 로그 페이지
+     */
+    @GetMapping("/audit")
+    public String audit(@RequestParam(required = false) String actor,
+                        @RequestParam(required = false) AuditAction action,
+                        @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+                        Authentication authentication,
+                        Model model) {
+        User currentUser = userService.getUserByUsername(authentication.getName());
+        String actorFilter = actor != null && !actor.isBlank() ? actor.trim() : null;
+        Page<AuditLog> auditPage = auditLogRepository.search(actorFilter, action, pageable);
+
+        model.addAttribute("user", currentUser);
+        model.addAttribute("menus", menuService.getMenusForUser(currentUser));
+        model.addAttribute("isAdmin", true);
+        model.addAttribute("auditPage", auditPage);
+        model.addAttribute("actor", actorFilter);
+        model.addAttribute("action", action);
+        model.addAttribute("actions", AuditAction.values());
+        model.addAttribute("stats", auditLogger.getStats());
+
+        return "admin-audit";
+    }
+
+    /**
+     * 종목별 보유 현황 및 가격 충격 평가 페이지
+     *
+     * @param shock     개별 지정이 없는 종목에 적용할 가격 변동률 (%)
+     * @param overrides 종목별 변동률 (예: "005930:-20, 000660:5")
+     */
+    @GetMapping("/holdings")
+    public String holdings(@RequestParam(defaultValue = "-10") double shock,
+                           @RequestParam(required = false) String overrides,
+                           Authentication authentication,
+                           Model model) {
+        User currentUser = userService.getUserByUsername(authentication.getName());
+        HoldingShockReport report = stockHoldingService.evaluateShock(shock, parseShockOverrides(overrides));
+
+        model.addAttribute("user", currentUser);
+        model.addAttribute("menus", menuService.getMenusForUser(currentUser));
+        model.addAttribute("isAdmin", true);
+        model.addAttribute("report", report);
+        model.addAttribute("shock", shock);
+        model.addAttribute("overrides", overrides);
+
+        return "admin-holdings";
+    }
+
+    /**
+     * 종목별 보유 현황 전체 재집계 (증분 집계 보정용)
+     */
+    @PostMapping("/holdings/rebuild")
+    public String rebuildHoldings(RedirectAttributes redirectAttributes) {
+        int stocks = stockHoldingService.rebuild();
+        redirectAttributes.addFlashAttribute("success", "보유 현황을 다시 집계했습니다: " + stocks + "개 종목");
+        return "redirect:/admin/holdings";
+    }
+
+    /**
+     * 한 사용자 포지션을 거래 원장(마지막 체크포인트 이후 거래)으로 다시 계산 (스냅샷 보정용)
+     */
+    @PostMapping("/holdings/positions/rebuild")
+    public String rebuildPosition(@RequestParam String username,
+                                  @RequestParam String stockCode,
+                                  RedirectAttributes redirectAttributes) {
+        User owner = userRepository.findByUsername(username.trim())
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.USER_NOT_FOUND));
+        tradeService.rebuildPosition(owner, stockCode.trim());
+        redirectAttributes.addFlashAttribute("success", "포지션을 원장으로 다시 계산했습니다: " + username + " / " + stockCode);
+        return "redirect:/admin/holdings";
+    }
+
+    /**
+     * 전체 계산 기록 통계 (JSON, 메모리 스냅샷 기준)
+     */
+    @GetMapping("/analytics/history")
+    @ResponseBody
+    public HistoryAnalyticsReport historyAnalytics(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                   @RequestParam(defaultValue = "20") int stocks) {
+        return historyAnalytics.summarize(null, from, to, stocks);
+    }
+
+    /**
+     * 계산 기록 통계 스냅샷 즉시 갱신
+     */
+    @PostMapping("/analytics/history/refresh")
+    @ResponseBody
+    public HistoryAnalyticsReport refreshHistoryAnalytics() {
+        historyAnalytics.refresh();
+        return historyAnalytics.summarize(null, null, null, 20);
+    }
+
+    /**
+     * "종목코드:변동률" 목록을 파싱합니다 (쉼표 또는 줄바꿈 구분).
+     */
+    private static Map<String, Double> parseShockOverrides(String overrides) {
+        Map<String, Double> result = new HashMap<>();
+        if (overrides == null || overrides.isBlank()) {
+            return result;
+        }
+        for (String entry : overrides.split("[,\\n]")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split(":");
+            try {
+                if (parts.length != 2) {
+                    throw new NumberFormatException(entry);
+                }
+                result.put(parts[0].trim(), Double.parseDouble(parts[1].trim()));
+            } catch (NumberFormatException e) {
+                throw new BusinessException(ErrorMessages.INVALID_SHOCK_FORMAT);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 일괄 작업 감사 로그의 대상 표시 (선택 항목 수 또는 검색 조건)
+     */
+    private static String bulkTarget(List<Long> ids) {
+        return ids != null && !ids.isEmpty() ? "IDS:" + ids.size() : "SEARCH";
+    }
 }
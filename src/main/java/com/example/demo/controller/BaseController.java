@@ -3,12 +3,12 @@ package com.example.demo.controller;
 import com.example.demo.constant.RoleType;
 import com.example.demo.entity.Menu;
 import com.example.demo.entity.User;
+import com.example.demo.security.SecurityUtils;
 import com.example.demo.service.MenuService;
 import com.example.demo.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.ui.Model;
 
 import java.util.List;
@@ -72,8 +72,7 @@ public abstract class BaseController {
      * @return 관리자이면 true, 아니면 false
      */
     protected boolean isAdmin(Authentication authentication) {
-        boolean hasAdminRole = authentication.getAuthorities()
-                .contains(new SimpleGrantedAuthority(RoleType.ADMIN.getAuthority()));
+        boolean hasAdminRole = SecurityUtils.hasRole(authentication, RoleType.ADMIN);
         log.debug("관리자 권한 확인: {}", hasAdminRole);
         return hasAdminRole;
     }
@@ -1,35 +1,56 @@
 package com.example.demo.controller;
 
+import com.example.demo.attachment.FileResponseWriter;
+import com.example.demo.audit.AuditAction;
+import com.example.demo.audit.AuditLogger;
+import com.example.demo.constant.ErrorMessages;
 import com.example.demo.entity.Board;
+import com.example.demo.entity.BoardAttachment;
 import com.example.demo.entity.Menu;
 import com.example.demo.entity.User;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.ratelimit.RateLimited;
 import com.example.demo.repository.BoardRepository;
+import com.example.demo.service.AttachmentService;
+import com.example.demo.service.BoardService;
 import com.example.demo.service.MenuService;
 import com.example.demo.service.UserService;
+import com.example.demo.security.SecurityUtils;
+import com.example.demo.trending.TrendingRanking;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
 import java.util.List;
 
 /**
  * 자유게시판 컨트롤러
+ * 게시글 목록/작성/조회/삭제, 댓글 작성/삭제, 첨부파일 다운로드
  */
 @Controller
 @RequiredArgsConstructor
 @RequestMapping("/board")
 public class BoardController {
 
+    /**
+     * 인기 게시글 패널에 표시할 개수
+     */
+    public static final int TRENDING_LIMIT = 5;
+
     private final UserService userService;
     private final MenuService menuService;
     private final BoardRepository boardRepository;
+    private final BoardService boardService;
+    private final AttachmentService attachmentService;
+    private final TrendingRanking trendingRanking;
+    private final AuditLogger auditLogger;
 
     @GetMapping
     public String board(@RequestParam(defaultValue = "0") int page,
@@ -38,18 +59,17 @@ public class BoardController {
         String username = authentication.getName();
         User user = userService.getUserByUsername(username);
 
-        Pageable pageable = PageRequest.of(page, 10);
-        Page<Board> boardPage = boardRepository.findAllByOrderByCreatedAtDesc(pageable);
+        Page<Board> boardPage = boardService.getAllBoards(page);
 
         List<Menu> menus = menuService.getMenusForUser(user);
-        boolean isAdmin = authentication.getAuthorities()
-                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        boolean isAdmin = SecurityUtils.isAdmin(authentication);
 
         model.addAttribute("user", user);
         model.addAttribute("menus", menus);
         model.addAttribute("isAdmin", isAdmin);
         model.addAttribute("boardPage", boardPage);
         model.addAttribute("currentPage", page);
+        model.addAttribute("trending", trendingRanking.getTrending(TRENDING_LIMIT));
 
         return "board";
     }
@@ -60,8 +80,7 @@ public class BoardController {
         User user = userService.getUserByUsername(username);
 
         List<Menu> menus = menuService.getMenusForUser(user);
-        boolean isAdmin = authentication.getAuthorities()
-                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        boolean isAdmin = SecurityUtils.isAdmin(authentication);
 
         model.addAttribute("user", user);
         model.addAttribute("menus", menus);
@@ -70,62 +89,91 @@ public class BoardController {
         return "board-write";
     }
 
+    @RateLimited("board-write")
     @PostMapping("/write")
     public String write(@RequestParam String title,
                        @RequestParam String content,
+                       @RequestParam(required = false) List<MultipartFile> files,
                        Authentication authentication) {
         String username = authentication.getName();
         User user = userService.getUserByUsername(username);
 
-        Board board = new Board();
-        board.setUser(user);
-        board.setTitle(title);
-        board.setContent(content);
-        board.setViewCount(0);
-        board.setCreatedAt(LocalDateTime.now());
-        board.setUpdatedAt(LocalDateTime.now());
-
-        boardRepository.save(board);
+        boardService.write(user, title, content, files);
 
         return "redirect:/board";
     }
 
     @GetMapping("/view/{id}")
-    public String view(@PathVariable Long id, Authentication authentication, Model model) {
+    public String view(@PathVariable Long id,
+                       @RequestParam(defaultValue = "0") long after,
+                       Authentication authentication,
+                       Model model) {
         String username = authentication.getName();
         User user = userService.getUserByUsername(username);
 
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Board not found"));
-
-        // 조회수 증가
-        board.setViewCount(board.getViewCount() + 1);
-        boardRepository.save(board);
+        // 조회수 증가 (댓글 수와 함께 저장되지 않도록 UPDATE 문으로)
+        Board board = boardService.viewBoard(id);
+        trendingRanking.recordView(board.getId(), board.getTitle(), board.getUser().getName());
 
         List<Menu> menus = menuService.getMenusForUser(user);
-        boolean isAdmin = authentication.getAuthorities()
-                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        boolean isAdmin = SecurityUtils.isAdmin(authentication);
 
         model.addAttribute("user", user);
         model.addAttribute("menus", menus);
         model.addAttribute("isAdmin", isAdmin);
         model.addAttribute("board", board);
+        model.addAttribute("attachments", attachmentService.getAttachments(id));
+        model.addAttribute("commentPage", boardService.getComments(id, after));
+        model.addAttribute("commentsAfter", after);
 
         return "board-view";
     }
 
+    /**
+     * 첨부파일 다운로드 (Range/ETag 지원, 본문은 sendfile 또는 transferTo로 전송)
+     */
+    @GetMapping("/attachments/{attachmentId}")
+    public void downloadAttachment(@PathVariable Long attachmentId,
+                                   HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        BoardAttachment attachment = attachmentService.getAttachment(attachmentId);
+        FileResponseWriter.write(request, response, attachmentService.resolveFile(attachment),
+                attachment.getSize(), attachment.getSha256(),
+                attachment.getContentType(), attachment.getOriginalName());
+    }
+
+    @RateLimited("comment-write")
+    @PostMapping("/view/{id}/comments")
+    public String addComment(@PathVariable Long id,
+                             @RequestParam String content,
+                             Authentication authentication) {
+        User user = userService.getUserByUsername(authentication.getName());
+        boardService.addComment(id, user, content);
+        return "redirect:/board/view/" + id;
+    }
+
+    @RateLimited("comment-write")
+    @PostMapping("/comments/{commentId}/delete")
+    public String deleteComment(@PathVariable Long commentId, Authentication authentication) {
+        boolean isAdmin = SecurityUtils.isAdmin(authentication);
+        Long boardId = boardService.deleteComment(commentId, authentication.getName(), isAdmin);
+        auditLogger.record(AuditAction.COMMENT_DELETE, "COMMENT:" + commentId, "BOARD:" + boardId);
+        return "redirect:/board/view/" + boardId;
+    }
+
+    @RateLimited("board-write")
     @PostMapping("/delete/{id}")
     public String delete(@PathVariable Long id, Authentication authentication) {
         String username = authentication.getName();
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Board not found"));
+        Board board = boardRepository.findWithUserById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.BOARD_NOT_FOUND));
 
-        boolean isAdmin = authentication.getAuthorities()
-                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        boolean isAdmin = SecurityUtils.isAdmin(authentication);
 
-        // 본인 글이거나 관리자만 삭제 가능
+        // 본인 글이거나 관리자만 삭제 가능 (댓글 포함)
         if (board.getUser().getUsername().equals(username) || isAdmin) {
-            boardRepository.delete(board);
+            boardService.deleteBoards(List.of(id));
+            auditLogger.record(AuditAction.BOARD_DELETE, "BOARD:" + id, board.getTitle());
         }
 
         return "redirect:/board";
@@ -1,7 +1,10 @@
 package com.example.demo.controller;
 
+import com.example.demo.entity.User;
+import com.example.demo.service.DashboardService;
 import com.example.demo.service.MenuService;
 import com.example.demo.service.UserService;
+import com.example.demo.trending.TrendingRanking;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
@@ -12,7 +15,7 @@ import org.springframework.web.bind.annotation.GetMapping;
  * 대시보드 컨트롤러
  *
  * 로그인 후 표시되는 메인 대시보드 페이지를 처리합니다.
- * 사용자 정보와 역할 기반 메뉴를 표시합니다.
+ * 사용자 정보와 역할 기반 메뉴, 그리고 {@link DashboardService}가 동시에 로딩한 위젯을 표시합니다.
  *
  * BaseController를 상속받아 공통 로직을 재사용합니다.
  *
@@ -23,20 +26,29 @@ import org.springframework.web.bind.annotation.GetMapping;
 @Controller
 public class DashboardController extends BaseController {
 
+    private final DashboardService dashboardService;
+    private final TrendingRanking trendingRanking;
+
     /**
      * 생성자 주입
      *
-     * @param userService 사용자 서비스
-     * @param menuService 메뉴 서비스
+     * @param userService      사용자 서비스
+     * @param menuService      메뉴 서비스
+     * @param dashboardService 대시보드 위젯 서비스
+     * @param trendingRanking  인기 게시글 순위
      */
-    public DashboardController(UserService userService, MenuService menuService) {
+    public DashboardController(UserService userService, MenuService menuService,
+                               DashboardService dashboardService, TrendingRanking trendingRanking) {
         super(userService, menuService);
+        this.dashboardService = dashboardService;
+        this.trendingRanking = trendingRanking;
     }
 
     /**
      * 대시보드 페이지
      *
-     * 사용자 정보와 접근 가능한 메뉴를 모델에 추가하여 대시보드를 표시합니다.
+     * 사용자 정보와 접근 가능한 메뉴, 위젯 결과를 모델에 추가하여 대시보드를 표시합니다.
+     * 제한 시간 안에 로딩되지 않은 위젯은 자리 표시로 렌더링됩니다.
      *
      * @param authentication Spring Security 인증 객체
      * @param model          뷰에 전달할 모델
@@ -49,6 +61,12 @@ public class DashboardController extends BaseController {
         // BaseController의 공통 메서드를 사용하여 모델에 속성 추가
         addCommonAttributes(model, authentication);
 
+        User user = (User) model.getAttribute("user");
+        model.addAttribute("widgets",
+                dashboardService.loadDashboard(user.getId(), Boolean.TRUE.equals(model.getAttribute("isAdmin"))));
+        // 인기 게시글은 메모리 순위에서 바로 읽으므로 위젯 스레드를 거치지 않음
+        model.addAttribute("trending", trendingRanking.getTrending(BoardController.TRENDING_LIMIT));
+
         return "dashboard";
     }
 }
@@ -1,23 +1,33 @@
 package com.example.demo.controller;
 
+import com.example.demo.analytics.HistoryAnalytics;
+import com.example.demo.audit.AuditAction;
+import com.example.demo.audit.AuditLogger;
+import com.example.demo.dto.ArchivedCalculation;
+import com.example.demo.dto.HistoryAnalyticsReport;
 import com.example.demo.entity.CalculationHistory;
 import com.example.demo.entity.Menu;
 import com.example.demo.entity.User;
+import com.example.demo.ratelimit.RateLimited;
 import com.example.demo.repository.CalculationHistoryRepository;
+import com.example.demo.service.HistoryArchiveService;
 import com.example.demo.service.MenuService;
 import com.example.demo.service.UserService;
+import com.example.demo.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 계산 히스토리 컨트롤러
- * 물타기 계산 기록 조회
+ * 물타기 계산 기록 조회, 보관된 기록 조회 (JSON), 본인 계산 통계 (JSON)
  */
 @Controller
 @RequiredArgsConstructor
@@ -27,37 +37,70 @@ public class HistoryController {
     private final UserService userService;
     private final MenuService menuService;
     private final CalculationHistoryRepository historyRepository;
+    private final AuditLogger auditLogger;
+    private final HistoryAnalytics historyAnalytics;
+    private final HistoryArchiveService historyArchiveService;
 
     @GetMapping
     public String history(Authentication authentication, Model model) {
         String username = authentication.getName();
         User user = userService.getUserByUsername(username);
 
-        List<CalculationHistory> histories = historyRepository.findByUser_UsernameOrderByCreatedAtDesc(username);
+        List<CalculationHistory> histories = historyRepository.findByUserOrderByCreatedAtDesc(user);
 
         List<Menu> menus = menuService.getMenusForUser(user);
-        boolean isAdmin = authentication.getAuthorities()
-                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        boolean isAdmin = SecurityUtils.isAdmin(authentication);
 
         model.addAttribute("user", user);
         model.addAttribute("menus", menus);
         model.addAttribute("isAdmin", isAdmin);
         model.addAttribute("histories", histories);
+        model.addAttribute("archivedCount", historyArchiveService.countArchived(user));
 
         return "history";
     }
 
+    @RateLimited("history-write")
     @PostMapping("/delete/{id}")
     public String deleteHistory(@PathVariable Long id, Authentication authentication) {
-        String username = authentication.getName();
+        User user = userService.getUserByUsername(authentication.getName());
         CalculationHistory history = historyRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("History not found"));
 
-        // 본인 히스토리만 삭제 가능
-        if (history.getUser().getUsername().equals(username)) {
+        // 본인 히스토리만 삭제 가능 (기록은 사용자 샤드에 있으므로 사용자 ID로 비교)
+        if (history.getUser().getId().equals(user.getId())) {
             historyRepository.delete(history);
+            auditLogger.record(AuditAction.HISTORY_DELETE, "HISTORY:" + id, null);
         }
 
         return "redirect:/history";
     }
+
+    /**
+     * 보관 기간이 지나 보관된 본인 계산 기록 (작성 시각 내림차순)
+     *
+     * @param before 이 시각 이전의 기록만 (다음 페이지는 마지막 항목의 작성 시각)
+     * @param limit  최대 건수
+     */
+    @GetMapping("/archive")
+    @ResponseBody
+    public List<ArchivedCalculation> archive(Authentication authentication,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+                                             @RequestParam(defaultValue = "100") int limit) {
+        User user = userService.getUserByUsername(authentication.getName());
+        return historyArchiveService.getArchived(user.getId(), before, limit);
+    }
+
+    /**
+     * 본인 계산 기록 통계 (메모리 스냅샷 기준, 최근 갱신 이후의 계산은 포함되지 않음)
+     */
+    @GetMapping("/analytics")
+    @ResponseBody
+    public HistoryAnalyticsReport analytics(Authentication authentication,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                            @RequestParam(defaultValue = "20") int stocks) {
+        User user = userService.getUserByUsername(authentication.getName());
+        return historyAnalytics.summarize(user.getId(), from, to, stocks);
+    }
 }
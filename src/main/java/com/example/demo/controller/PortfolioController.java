@@ -1,14 +1,24 @@
 package com.example.demo.controller;
 
+import com.example.demo.audit.AuditAction;
+import com.example.demo.audit.AuditLogger;
 import com.example.demo.dto.PortfolioRequest;
 import com.example.demo.dto.PortfolioView;
+import com.example.demo.dto.TradeRequest;
+import com.example.demo.dto.TradeResult;
+import com.example.demo.dto.TradeView;
+import com.example.demo.dto.ValuationChart;
 import com.example.demo.entity.Portfolio;
 import com.example.demo.entity.User;
+import com.example.demo.ratelimit.RateLimited;
 import com.example.demo.service.MenuService;
 import com.example.demo.service.PortfolioService;
+import com.example.demo.service.TradeService;
 import com.example.demo.service.UserService;
+import com.example.demo.service.ValuationService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -16,6 +26,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,9 +35,10 @@ import java.util.stream.Collectors;
  *
  * 사용자의 주식 포트폴리오 관리 기능을 제공합니다:
  * - 포트폴리오 목록 조회
- * - 포트폴리오 추가
- * - 포트폴리오 삭제
+ * - 포트폴리오 추가 / 매도 / 삭제
+ * - 종목별 최근 거래 내역 (JSON)
  * - 투자 금액 및 손익 계산
+ * - 평가금액 추이 차트 (JSON)
  *
  * BaseController를 상속받아 공통 로직을 재사용합니다.
  *
@@ -39,6 +51,9 @@ import java.util.stream.Collectors;
 public class PortfolioController extends BaseController {
 
     private final PortfolioService portfolioService;
+    private final AuditLogger auditLogger;
+    private final ValuationService valuationService;
+    private final TradeService tradeService;
 
     /**
      * 생성자 주입
@@ -46,12 +61,21 @@ public class PortfolioController extends BaseController {
      * @param userService      사용자 서비스
      * @param menuService      메뉴 서비스
      * @param portfolioService 포트폴리오 서비스
+     * @param auditLogger      감사 로그 기록기
+     * @param valuationService 평가금액 시계열 서비스
+     * @param tradeService     거래 원장 서비스
      */
     public PortfolioController(UserService userService,
                                MenuService menuService,
-                               PortfolioService portfolioService) {
+                               PortfolioService portfolioService,
+                               AuditLogger auditLogger,
+                               ValuationService valuationService,
+                               TradeService tradeService) {
         super(userService, menuService);
         this.portfolioService = portfolioService;
+        this.auditLogger = auditLogger;
+        this.valuationService = valuationService;
+        this.tradeService = tradeService;
     }
 
     /**
@@ -119,6 +143,7 @@ public class PortfolioController extends BaseController {
      * @param redirectAttributes 리다이렉트 시 전달할 속성
      * @return 리다이렉트 경로
      */
+    @RateLimited("portfolio-write")
     @PostMapping("/add")
     public String addPortfolio(@Valid @ModelAttribute PortfolioRequest request,
                                BindingResult bindingResult,
@@ -145,6 +170,44 @@ public class PortfolioController extends BaseController {
         return "redirect:/portfolio";
     }
 
+    /**
+     * 보유 종목 매도
+     *
+     * 소유자만 매도할 수 있으며, 전량 매도하면 포지션이 청산됩니다.
+     *
+     * @param id                 매도할 포트폴리오 ID
+     * @param request            매도 요청 DTO
+     * @param bindingResult      입력 검증 결과
+     * @param authentication     Spring Security 인증 객체
+     * @param redirectAttributes 리다이렉트 시 전달할 속성
+     * @return 리다이렉트 경로
+     */
+    @RateLimited("portfolio-write")
+    @PostMapping("/sell/{id}")
+    public String sellPortfolio(@PathVariable Long id,
+                                @Valid @ModelAttribute TradeRequest request,
+                                BindingResult bindingResult,
+                                Authentication authentication,
+                                RedirectAttributes redirectAttributes) {
+        log.info("포트폴리오 매도 요청 - 사용자: {}, 포트폴리오 ID: {}", authentication.getName(), id);
+
+        if (bindingResult.hasErrors()) {
+            String errorMessage = bindingResult.getAllErrors().get(0).getDefaultMessage();
+            log.warn("포트폴리오 매도 검증 실패: {}", errorMessage);
+            redirectAttributes.addFlashAttribute("error", errorMessage);
+            return "redirect:/portfolio";
+        }
+
+        User user = getCurrentUser(authentication);
+        TradeResult result = portfolioService.sellShares(id, request, user);
+        auditLogger.record(AuditAction.PORTFOLIO_SELL, "PORTFOLIO:" + id,
+                "quantity=" + request.getQuantity() + ", price=" + request.getPrice());
+
+        redirectAttributes.addFlashAttribute("success",
+                String.format("매도가 반영되었습니다. (실현손익 %,.0f원)", result.realizedProfitLoss()));
+        return "redirect:/portfolio";
+    }
+
     /**
      * 포트폴리오 삭제
      *
@@ -156,6 +219,7 @@ public class PortfolioController extends BaseController {
      * @param redirectAttributes 리다이렉트 시 전달할 속성
      * @return 리다이렉트 경로
      */
+    @RateLimited("portfolio-write")
     @PostMapping("/delete/{id}")
     public String deletePortfolio(@PathVariable Long id,
                                   Authentication authentication,
@@ -169,8 +233,51 @@ public class PortfolioController extends BaseController {
 
         // 포트폴리오 삭제 (서비스에서 권한 검증)
         portfolioService.deletePortfolio(id, user, isAdmin);
+        auditLogger.record(AuditAction.PORTFOLIO_DELETE, "PORTFOLIO:" + id, null);
 
         redirectAttributes.addFlashAttribute("success", "포트폴리오가 삭제되었습니다.");
         return "redirect:/portfolio";
     }
+
+    /**
+     * 평가금액 추이 차트 데이터 (JSON)
+     *
+     * 기간 내 스냅샷을 LTTB로 최대 points개까지 줄여 반환합니다.
+     *
+     * @param authentication Spring Security 인증 객체
+     * @param stockCode      종목코드 (없으면 포트폴리오 전체)
+     * @param from           조회 시작일 (기본: 종료일 1년 전)
+     * @param to             조회 종료일 (기본: 오늘)
+     * @param points         최대 포인트 수
+     * @return 차트 데이터
+     */
+    @GetMapping("/valuation")
+    @ResponseBody
+    public ValuationChart valuation(Authentication authentication,
+                                    @RequestParam(required = false) String stockCode,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                    @RequestParam(defaultValue = "300") int points) {
+        User user = getCurrentUser(authentication);
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        return valuationService.getChart(user.getId(), stockCode, start, end, points);
+    }
+
+    /**
+     * 종목의 최근 거래 내역 (JSON)
+     *
+     * @param authentication Spring Security 인증 객체
+     * @param stockCode      종목코드
+     * @param limit          최대 건수
+     * @return 최근 거래 목록 (순번 내림차순)
+     */
+    @GetMapping("/trades")
+    @ResponseBody
+    public List<TradeView> trades(Authentication authentication,
+                                  @RequestParam String stockCode,
+                                  @RequestParam(defaultValue = "50") int limit) {
+        User user = getCurrentUser(authentication);
+        return tradeService.getRecentTrades(user, stockCode, limit);
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.StockSuggestion;
+import com.example.demo.service.StockMasterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 종목 컨트롤러
+ *
+ * 종목 입력란의 자동완성 데이터를 JSON으로 제공합니다.
+ * 메모리 인덱스만 조회하므로 데이터베이스에 접근하지 않습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/stocks")
+@RequiredArgsConstructor
+public class StockController {
+
+    private final StockMasterService stockMasterService;
+
+    /**
+     * 종목 자동완성
+     *
+     * @param q     검색어 (종목코드, 종목명 또는 초성 접두사)
+     * @param limit 최대 결과 수
+     * @return 일치하는 종목 목록
+     */
+    @GetMapping("/autocomplete")
+    public List<StockSuggestion> autocomplete(@RequestParam(defaultValue = "") String q,
+                                              @RequestParam(defaultValue = "10") int limit) {
+        return stockMasterService.autocomplete(q, limit);
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.demo.controller;
 
+import com.example.demo.audit.AuditAction;
+import com.example.demo.audit.AuditLogger;
+import com.example.demo.cache.CacheInvalidationBus;
+import com.example.demo.cache.InvalidationEvent;
+import com.example.demo.cache.InvalidationType;
 import com.example.demo.entity.Menu;
 import com.example.demo.entity.User;
+import com.example.demo.ratelimit.RateLimited;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.service.MenuService;
 import com.example.demo.service.UserService;
+import com.example.demo.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -29,6 +35,8 @@ public class UserProfileController {
     private final MenuService menuService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuditLogger auditLogger;
+    private final CacheInvalidationBus invalidationBus;
 
     /**
      * 내정보 조회 페이지
@@ -39,8 +47,7 @@ public class UserProfileController {
         User user = userService.getUserByUsername(username);
 
         List<Menu> menus = menuService.getMenusForUser(user);
-        boolean isAdmin = authentication.getAuthorities()
-                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        boolean isAdmin = SecurityUtils.isAdmin(authentication);
 
         model.addAttribute("user", user);
         model.addAttribute("menus", menus);
@@ -58,8 +65,7 @@ public class UserProfileController {
         User user = userService.getUserByUsername(username);
 
         List<Menu> menus = menuService.getMenusForUser(user);
-        boolean isAdmin = authentication.getAuthorities()
-                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        boolean isAdmin = SecurityUtils.isAdmin(authentication);
 
         model.addAttribute("user", user);
         model.addAttribute("menus", menus);
@@ -71,6 +77,7 @@ public class UserProfileController {
     /**
      * 내정보 수정 처리
      */
+    @RateLimited("profile-write")
     @PostMapping("/edit")
     public String edit(@RequestParam String name,
                       @RequestParam String email,
@@ -102,9 +109,12 @@ public class UserProfileController {
 
             // 비밀번호 변경
             user.setPassword(passwordEncoder.encode(newPassword));
+            auditLogger.record(AuditAction.PASSWORD_CHANGE, "USER:" + user.getId(), null);
         }
 
         userRepository.save(user);
+        invalidationBus.publish(InvalidationEvent.of(InvalidationType.USER, user.getId()));
+        auditLogger.record(AuditAction.PROFILE_UPDATE, "USER:" + user.getId(), null);
         redirectAttributes.addFlashAttribute("success", "정보가 성공적으로 수정되었습니다.");
 
         return "redirect:/profile";
@@ -119,8 +129,7 @@ public class UserProfileController {
         User user = userService.getUserByUsername(username);
 
         List<Menu> menus = menuService.getMenusForUser(user);
-        boolean isAdmin = authentication.getAuthorities()
-                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        boolean isAdmin = SecurityUtils.isAdmin(authentication);
 
         model.addAttribute("user", user);
         model.addAttribute("menus", menus);
@@ -157,6 +166,8 @@ public class UserProfileController {
         // 계정 비활성화 (실제 삭제 대신)
         user.setEnabled(false);
         userRepository.save(user);
+        invalidationBus.publish(InvalidationEvent.of(InvalidationType.USER, user.getId()));
+        auditLogger.record(AuditAction.ACCOUNT_WITHDRAW, "USER:" + user.getId(), null);
 
         // 로그아웃 처리를 위해 로그인 페이지로 리다이렉트
         return "redirect:/logout";
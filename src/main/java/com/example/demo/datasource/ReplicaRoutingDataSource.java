@@ -0,0 +1,228 @@
+package com.example.demo.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica)으로 보내는 라우팅 데이터소스
+ *
+ * 연결을 얻는 시점의 트랜잭션 상태로 대상을 정합니다.
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true)) → 정상 상태의 복제본 중 하나 (라운드 로빈)
+ * - 쓰기 트랜잭션, 트랜잭션 밖의 접근 → 주 DB(primary)
+ * - 복제본 연결에 실패하면 그 복제본을 비정상으로 표시하고 주 DB로 대체 (장애 조치)
+ * - 쓰기 트랜잭션이 커밋된 뒤 read-your-writes 시간 동안은 같은 사용자의 읽기도 주 DB로 보냄 (복제 지연 대비,
+ *   연결을 얻는 시점이 아니라 커밋 시점부터 세므로 오래 걸린 쓰기도 커밋 직후의 읽기가 주 DB로 감)
+ *
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 동기화되지 않으므로 반드시
+ * LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시점에 연결을 얻도록 해야 합니다.
+ * 비정상 복제본은 {@link #checkHealth()}가 주기적으로 다시 확인해 복구합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final int MAX_TRACKED_WRITERS = 100_000;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long readYourWritesNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * 사용자 → 주 DB로 읽어야 하는 기한 (System.nanoTime 기준)
+     */
+    private final Map<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    /**
+     * @param primary        주 DB
+     * @param replicas       복제본 이름 → 데이터소스 (순서 유지)
+     * @param readYourWrites 쓰기 후 같은 사용자의 읽기를 주 DB로 보낼 시간 (0이면 사용 안 함)
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    long readYourWrites, TimeUnit unit, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.readYourWritesNanos = unit.toNanos(readYourWrites);
+
+        this.primaryCounter = routingCounter(meterRegistry, "primary");
+        this.replicaCounter = routingCounter(meterRegistry, "replica");
+        this.fallbackCounter = routingCounter(meterRegistry, "fallback");
+        Gauge.builder("datasource.replicas.healthy", this.replicas,
+                        list -> list.stream().filter(replica -> replica.healthy).count())
+                .description("정상 상태의 복제본 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaCounter.increment();
+                return connection;
+            } catch (SQLException e) {
+                markDown(replica, e);
+                fallbackCounter.increment();
+            }
+        } else {
+            primaryCounter.increment();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // 계정을 지정한 연결은 라우팅하지 않음
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 비정상으로 표시된 복제본에 다시 연결해 보고, 정상 복제본도 연결이 유효한지 확인합니다.
+     * 만료된 read-your-writes 기록도 이때 정리합니다.
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("연결 검증 실패");
+                }
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("복제본 복구: {}", replica.name);
+                }
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+
+        long now = System.nanoTime();
+        recentWriters.values().removeIf(until -> until - now <= 0);
+    }
+
+    /**
+     * 이번 연결을 보낼 복제본 (주 DB로 보내야 하면 null)
+     */
+    private Replica selectReplica() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit(user);
+            return null;
+        }
+        if (user != null && readYourWritesNanos > 0) {
+            Long until = recentWriters.get(user);
+            if (until != null && until - System.nanoTime() > 0) {
+                return null;
+            }
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 그 시점부터 read-your-writes 기한을 셈 (롤백되면 기록하지 않음)
+     */
+    private void recordWriteAfterCommit(String user) {
+        if (user == null || readYourWritesNanos <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordWrite(user);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(user);
+            }
+        });
+    }
+
+    private void recordWrite(String user) {
+        if (user == null || readYourWritesNanos <= 0) {
+            return;
+        }
+        if (recentWriters.size() >= MAX_TRACKED_WRITERS && !recentWriters.containsKey(user)) {
+            // 상한을 넘으면 가장 오래된 것부터가 아니라 임의로 하나 제거 (읽기가 주 DB로 가는 것뿐이므로 안전)
+            Iterator<String> iterator = recentWriters.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        recentWriters.put(user, System.nanoTime() + readYourWritesNanos);
+    }
+
+    private void markDown(Replica replica, SQLException cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("복제본 연결 실패, 주 DB로 대체: {} ({})", replica.name, cause.getMessage());
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing")
+                .description("데이터소스 라우팅 결과별 연결 수")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile boolean healthy = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
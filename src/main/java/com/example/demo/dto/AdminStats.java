@@ -0,0 +1,12 @@
+package com.example.demo.dto;
+
+/**
+ * 관리자 대시보드 통계 (대시보드 위젯)
+ *
+ * @param totalUsers        전체 회원수
+ * @param todayCalculations 오늘 계산 횟수
+ * @param totalPortfolios   전체 포트폴리오 수
+ * @param weekActivity      최근 7일 활동 (계산 + 게시글)
+ */
+public record AdminStats(long totalUsers, long todayCalculations, long totalPortfolios, long weekActivity) {
+}
@@ -0,0 +1,13 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * 관리자 회원 목록 키셋 페이지
+ *
+ * @param users   이번 페이지 회원 (정렬 순서대로)
+ * @param nextKey 다음 페이지를 요청할 때 사용할 마지막 회원의 정렬 컬럼 값 (ID 정렬이면 null)
+ * @param nextId  다음 페이지를 요청할 때 사용할 마지막 회원 ID (다음 페이지가 없으면 null)
+ */
+public record AdminUserPage(List<AdminUserRow> users, String nextKey, Long nextId) {
+}
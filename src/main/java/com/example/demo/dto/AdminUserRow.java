@@ -0,0 +1,41 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 관리자 회원 목록 행 DTO
+ *
+ * 회원 엔티티 대신 목록에 필요한 컬럼만 조회하는 프로젝션입니다.
+ * 역할 이름은 SQL에서 쉼표로 이어 붙인 문자열로 받아오므로 역할/메뉴 엔티티를 로딩하지 않습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Getter
+public class AdminUserRow {
+
+    private final Long id;
+    private final String username;
+    private final String name;
+    private final String email;
+    private final Boolean enabled;
+    private final LocalDateTime createdAt;
+    private final List<String> roles;
+
+    public AdminUserRow(Long id, String username, String name, String email,
+                        Boolean enabled, LocalDateTime createdAt, String roleNames) {
+        this.id = id;
+        this.username = username;
+        this.name = name;
+        this.email = email;
+        this.enabled = enabled;
+        this.createdAt = createdAt;
+        this.roles = roleNames == null || roleNames.isEmpty()
+                ? List.of()
+                : Arrays.asList(roleNames.split(","));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 관리자 회원 목록 검색 조건 DTO
+ *
+ * 모든 조건은 선택값이며, 비어 있는 조건은 검색에 사용하지 않습니다.
+ * 문자열 조건은 대소문자를 구분하지 않는 접두어 일치로 검색합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class AdminUserSearch {
+
+    /**
+     * 아이디 접두어
+     */
+    private String username;
+
+    /**
+     * 이름 접두어
+     */
+    private String name;
+
+    /**
+     * 이메일 접두어
+     */
+    private String email;
+
+    /**
+     * 활성화 여부 (null이면 전체)
+     */
+    private Boolean enabled;
+
+    /**
+     * 보유 역할 이름 (예: "ROLE_ADMIN")
+     */
+    private String role;
+
+    /**
+     * 조건이 하나라도 지정되었는지 여부
+     */
+    public boolean hasCriteria() {
+        return (username != null && !username.isBlank())
+                || (name != null && !name.isBlank())
+                || (email != null && !email.isBlank())
+                || enabled != null
+                || (role != null && !role.isBlank());
+    }
+}
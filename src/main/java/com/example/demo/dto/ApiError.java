@@ -0,0 +1,11 @@
+package com.example.demo.dto;
+
+/**
+ * JSON API 오류 응답
+ *
+ * @param status  HTTP 상태 코드
+ * @param error   상태 이름 (예: NOT_FOUND)
+ * @param message 사용자에게 보여줄 메시지
+ */
+public record ApiError(int status, String error, String message) {
+}
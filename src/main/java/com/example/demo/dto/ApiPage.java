@@ -0,0 +1,12 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * JSON API 키셋 페이지
+ *
+ * @param items      이번 페이지 항목 (fields 파라미터를 지정하면 선택한 필드만 담은 맵)
+ * @param nextCursor 다음 페이지를 요청할 때 cursor 파라미터로 보낼 값 (다음 페이지가 없으면 null)
+ */
+public record ApiPage<T>(List<T> items, String nextCursor) {
+}
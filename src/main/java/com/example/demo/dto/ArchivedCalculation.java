@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 묶음에서 꺼낸 계산 기록 (읽기 전용)
+ */
+public record ArchivedCalculation(Long id,
+                                  Long stockId,
+                                  String stockCode,
+                                  String stockName,
+                                  Integer existingQuantity,
+                                  Double existingAvgPrice,
+                                  Integer additionalQuantity,
+                                  Double additionalPrice,
+                                  Double newAveragePrice,
+                                  Integer newTotalQuantity,
+                                  LocalDateTime createdAt) {
+}
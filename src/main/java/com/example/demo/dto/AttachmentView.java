@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+/**
+ * 게시글 첨부파일 목록 항목
+ *
+ * @param id           첨부파일 ID
+ * @param originalName 파일명
+ * @param size         크기 (바이트)
+ */
+public record AttachmentView(Long id, String originalName, long size) {
+
+    /**
+     * 화면 표시용 크기 (예: 1.2 MB)
+     */
+    public String getDisplaySize() {
+        if (size < 1024) {
+            return size + " B";
+        }
+        if (size < 1024 * 1024) {
+            return String.format("%.1f KB", size / 1024.0);
+        }
+        return String.format("%.1f MB", size / (1024.0 * 1024.0));
+    }
+}
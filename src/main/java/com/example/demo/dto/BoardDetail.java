@@ -0,0 +1,20 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * JSON API 게시글 상세
+ *
+ * @param content     원문 (Markdown)
+ * @param contentHtml 렌더링된 HTML (sanitize 완료)
+ */
+public record BoardDetail(Long id,
+                          String title,
+                          String authorName,
+                          String content,
+                          String contentHtml,
+                          Integer viewCount,
+                          Integer commentCount,
+                          LocalDateTime createdAt,
+                          LocalDateTime updatedAt) {
+}
@@ -0,0 +1,14 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * JSON API 게시글 목록 항목 (본문 제외)
+ */
+public record BoardItem(Long id,
+                        String title,
+                        String authorName,
+                        Integer viewCount,
+                        Integer commentCount,
+                        LocalDateTime createdAt) {
+}
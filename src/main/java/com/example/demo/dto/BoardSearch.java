@@ -0,0 +1,47 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 게시글 일괄 관리 검색 조건 DTO
+ *
+ * 모든 조건은 선택값이며, 비어 있는 조건은 검색에 사용하지 않습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BoardSearch {
+
+    /**
+     * 작성자 아이디 (정확히 일치)
+     */
+    private String authorUsername;
+
+    /**
+     * 제목에 포함된 키워드
+     */
+    private String titleKeyword;
+
+    /**
+     * 이 날짜 이전(해당 날짜 미포함)에 작성된 게시글
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdBefore;
+
+    /**
+     * 조건이 하나라도 지정되었는지 여부
+     */
+    public boolean hasCriteria() {
+        return (authorUsername != null && !authorUsername.isBlank())
+                || (titleKeyword != null && !titleKeyword.isBlank())
+                || createdBefore != null;
+    }
+}
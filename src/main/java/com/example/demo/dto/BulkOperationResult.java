@@ -0,0 +1,48 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 작업 결과 DTO
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class BulkOperationResult {
+
+    /**
+     * 작업 이름 (예: "회원 비활성화")
+     */
+    private final String operation;
+
+    /**
+     * 처리 대상으로 선택된 행 수
+     */
+    private final long matched;
+
+    /**
+     * 실제로 변경/삭제된 행 수
+     */
+    private final long affected;
+
+    /**
+     * 실행한 청크(트랜잭션) 수
+     */
+    private final int chunks;
+
+    /**
+     * 소요 시간 (ms)
+     */
+    private final long elapsedMs;
+
+    /**
+     * 화면 표시용 요약 메시지
+     */
+    public String toMessage() {
+        return String.format("%s 완료: 대상 %d건 중 %d건 처리 (%d개 청크, %dms)",
+                operation, matched, affected, chunks, elapsedMs);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * JSON API 물타기 계산 기록 항목 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public record CalculationItem(Long id,
+                              String stockCode,
+                              String stockName,
+                              Integer existingQuantity,
+                              Double existingAvgPrice,
+                              Integer additionalQuantity,
+                              Double additionalPrice,
+                              Double newAveragePrice,
+                              Integer newTotalQuantity,
+                              LocalDateTime createdAt) {
+}
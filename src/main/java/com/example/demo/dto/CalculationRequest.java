@@ -1,6 +1,7 @@
 package com.example.demo.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
@@ -43,6 +44,7 @@ public class CalculationRequest {
      * 기존 보유 수량
      * 0 또는 양수 (처음 매수하는 경우 0)
      */
+    @NotNull(message = "기존 수량은 필수입니다.")
     @PositiveOrZero(message = "기존 수량은 0 이상이어야 합니다.")
     private Integer existingQuantity;
 
@@ -50,6 +52,7 @@ public class CalculationRequest {
      * 기존 평균 매수가
      * 0 또는 양수 (처음 매수하는 경우 0)
      */
+    @NotNull(message = "기존 평균가는 필수입니다.")
     @PositiveOrZero(message = "기존 평균가는 0 이상이어야 합니다.")
     private Double existingAvgPrice;
 
@@ -57,6 +60,7 @@ public class CalculationRequest {
      * 추가 매수 수량
      * 양수만 입력 가능
      */
+    @NotNull(message = "추가 수량은 필수입니다.")
     @Positive(message = "추가 수량은 양수여야 합니다.")
     private Integer additionalQuantity;
 
@@ -64,6 +68,7 @@ public class CalculationRequest {
      * 추가 매수가
      * 양수만 입력 가능
      */
+    @NotNull(message = "추가 매수가는 필수입니다.")
     @Positive(message = "추가 매수가는 양수여야 합니다.")
     private Double additionalPrice;
 }
@@ -0,0 +1,12 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * 댓글 키셋 페이지
+ *
+ * @param comments 이번 페이지 댓글 (작성 순)
+ * @param nextId   다음 페이지를 요청할 때 사용할 마지막 댓글 ID (다음 페이지가 없으면 null)
+ */
+public record CommentPage(List<CommentView> comments, Long nextId) {
+}
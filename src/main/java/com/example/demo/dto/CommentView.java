@@ -0,0 +1,16 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 항목
+ *
+ * @param id             댓글 ID
+ * @param content        내용
+ * @param createdAt      작성일
+ * @param authorUsername 작성자 아이디 (삭제 권한 확인용)
+ * @param authorName     작성자 이름
+ */
+public record CommentView(Long id, String content, LocalDateTime createdAt,
+                          String authorUsername, String authorName) {
+}
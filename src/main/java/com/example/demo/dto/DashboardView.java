@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * 대시보드 위젯 묶음
+ *
+ * @param portfolio          내 포트폴리오 합계
+ * @param calculationCount   내 계산 횟수
+ * @param recentCalculations 내 최근 계산
+ * @param recentBoards       최근 게시글
+ * @param adminStats         관리자 통계 (관리자가 아니면 null)
+ */
+public record DashboardView(WidgetResult<PortfolioSummary> portfolio,
+                            WidgetResult<Long> calculationCount,
+                            WidgetResult<List<RecentCalculation>> recentCalculations,
+                            WidgetResult<List<RecentBoard>> recentBoards,
+                            WidgetResult<AdminStats> adminStats) {
+}
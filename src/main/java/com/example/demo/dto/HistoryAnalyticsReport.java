@@ -0,0 +1,38 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 계산 기록 통계 (메모리 스냅샷 기준)
+ *
+ * @param snapshotAt         스냅샷을 만든 시각 (아직 없으면 null)
+ * @param snapshotRows       스냅샷의 전체 행 수
+ * @param calculations       조건에 맞는 계산 수
+ * @param avgImprovementRate 평균 단가 개선율 평균 (%, 기존 평균가 대비 새 평균가가 낮아진 비율)
+ * @param stocks             종목별 통계 (계산 수 내림차순)
+ * @param days               일자별 계산 수 (계산이 없는 날 포함, 일자 오름차순)
+ * @param elapsedMicros      집계 소요 시간 (μs)
+ */
+public record HistoryAnalyticsReport(LocalDateTime snapshotAt,
+                                     int snapshotRows,
+                                     long calculations,
+                                     double avgImprovementRate,
+                                     List<StockActivity> stocks,
+                                     List<DailyActivity> days,
+                                     long elapsedMicros) {
+
+    /**
+     * @param calculations       계산 수
+     * @param avgImprovementRate 평균 단가 개선율 평균 (%)
+     * @param additionalQuantity 추가 매수 수량 합계
+     * @param additionalAmount   추가 매수 금액 합계
+     */
+    public record StockActivity(String stockCode, String stockName, long calculations,
+                                double avgImprovementRate, long additionalQuantity, double additionalAmount) {
+    }
+
+    public record DailyActivity(LocalDate date, long calculations) {
+    }
+}
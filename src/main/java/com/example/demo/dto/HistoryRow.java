@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계산 기록 분석 스냅샷 적재용 행 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public record HistoryRow(Long id,
+                         Long userId,
+                         String stockCode,
+                         String stockName,
+                         Double existingAvgPrice,
+                         Integer additionalQuantity,
+                         Double additionalPrice,
+                         Double newAveragePrice,
+                         LocalDateTime createdAt) {
+}
@@ -0,0 +1,23 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * 전체 종목 가격 충격 평가 보고서
+ *
+ * @param results           종목별 결과 (평가금액 변화가 큰 손실 순)
+ * @param totalInvestment   전체 투자금액
+ * @param totalCurrentValue 기준 가격 평가금액 합계
+ * @param totalShockedValue 충격 적용 후 평가금액 합계
+ * @param elapsedMs         평가 소요 시간 (ms)
+ */
+public record HoldingShockReport(List<HoldingShockResult> results,
+                                 double totalInvestment,
+                                 double totalCurrentValue,
+                                 double totalShockedValue,
+                                 long elapsedMs) {
+
+    public double getTotalValueChange() {
+        return totalShockedValue - totalCurrentValue;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.dto;
+
+/**
+ * 종목별 가격 충격 평가 결과
+ *
+ * @param stockCode       종목코드
+ * @param stockName       종목명
+ * @param holders         보유자 수
+ * @param totalQuantity   전체 보유 수량
+ * @param totalInvestment 전체 투자금액
+ * @param lastPrice       기준 가격
+ * @param shockPercent    적용한 가격 변동률 (%)
+ * @param currentValue    기준 가격 평가금액
+ * @param shockedValue    충격 적용 후 평가금액
+ * @param valueChange     평가금액 변화 (shockedValue - currentValue)
+ * @param profitLoss      충격 적용 후 손익 (shockedValue - totalInvestment)
+ */
+public record HoldingShockResult(String stockCode,
+                                 String stockName,
+                                 int holders,
+                                 long totalQuantity,
+                                 double totalInvestment,
+                                 double lastPrice,
+                                 double shockPercent,
+                                 double currentValue,
+                                 double shockedValue,
+                                 double valueChange,
+                                 double profitLoss) {
+}
@@ -0,0 +1,7 @@
+package com.example.demo.dto;
+
+/**
+ * 포지션의 보유 현황 집계 반영용 값 (회원 삭제 시 집계 차감)
+ */
+public record OpenPosition(Long id, String stockCode, Integer quantity, Double totalInvestment) {
+}
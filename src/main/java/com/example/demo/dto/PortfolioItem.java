@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * JSON API 포트폴리오 항목 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public record PortfolioItem(Long id,
+                            String stockCode,
+                            String stockName,
+                            Integer quantity,
+                            Double averagePrice,
+                            Double currentPrice,
+                            Double totalInvestment,
+                            Double profitLoss,
+                            Double profitLossRate,
+                            Double realizedProfitLoss,
+                            LocalDateTime updatedAt) {
+}
@@ -2,6 +2,7 @@ package com.example.demo.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -51,4 +52,11 @@ public class PortfolioRequest {
      */
     @Positive(message = "평균가는 양수여야 합니다.")
     private Double averagePrice;
+
+    /**
+     * 매수 수수료 (선택, 기본 0)
+     * 취득원가에 포함됩니다.
+     */
+    @PositiveOrZero(message = "수수료는 0 이상이어야 합니다.")
+    private Double fee;
 }
@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+/**
+ * 사용자 포트폴리오 합계 (대시보드 위젯)
+ *
+ * @param positions        보유 종목 수
+ * @param totalInvestment  총 투자금액
+ * @param evaluationAmount 현재가 기준 평가금액
+ */
+public record PortfolioSummary(Long positions, Double totalInvestment, Double evaluationAmount) {
+
+    /**
+     * 수익률 (%) - 투자금액이 없으면 0
+     */
+    public double getProfitLossRate() {
+        return totalInvestment == null || totalInvestment == 0
+                ? 0 : (evaluationAmount - totalInvestment) / totalInvestment * 100;
+    }
+}
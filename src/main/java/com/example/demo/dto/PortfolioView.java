@@ -27,6 +27,7 @@ public class PortfolioView {
     private Double evaluationAmount;   // 평가금액
     private Double profitLoss;         // 손익
     private Double profitLossRate;     // 수익률 (%)
+    private Double realizedProfitLoss; // 실현손익 (매도 누적)
 
     /**
      * Portfolio 엔티티로부터 PortfolioView 생성
@@ -69,6 +70,10 @@ public class PortfolioView {
             : 0.0;
         view.setProfitLossRate(profitLossRate);
 
+        view.setRealizedProfitLoss(portfolio.getRealizedProfitLoss() != null
+            ? portfolio.getRealizedProfitLoss()
+            : 0.0);
+
         return view;
     }
 }
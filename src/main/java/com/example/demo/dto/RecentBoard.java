@@ -0,0 +1,9 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 게시글 항목 (대시보드 위젯)
+ */
+public record RecentBoard(Long id, String title, String authorName, LocalDateTime createdAt) {
+}
@@ -0,0 +1,12 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 물타기 계산 항목 (대시보드 위젯)
+ */
+public record RecentCalculation(String stockName,
+                                Double newAveragePrice,
+                                Integer newTotalQuantity,
+                                LocalDateTime createdAt) {
+}
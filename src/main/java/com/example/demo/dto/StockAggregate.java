@@ -0,0 +1,12 @@
+package com.example.demo.dto;
+
+/**
+ * 샤드 하나의 종목별 보유 합계 (종목별 보유 현황 재집계용)
+ *
+ * @param holders       보유 포지션 수
+ * @param totalQuantity 보유 수량 합계
+ * @param totalValue    현재가(없으면 평균가) 기준 평가금액 합계
+ */
+public record StockAggregate(String stockCode, String stockName, Long holders, Long totalQuantity,
+                             Double totalInvestment, Double totalValue) {
+}
@@ -0,0 +1,12 @@
+package com.example.demo.dto;
+
+/**
+ * 종목 자동완성 항목
+ *
+ * @param id     종목 마스터 ID
+ * @param code   종목코드
+ * @param name   종목명
+ * @param market 시장 구분
+ */
+public record StockSuggestion(Long id, String code, String name, String market) {
+}
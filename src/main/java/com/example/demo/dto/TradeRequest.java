@@ -0,0 +1,40 @@
+package com.example.demo.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 보유 종목 매도 요청 DTO
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TradeRequest {
+
+    /**
+     * 매도 수량
+     */
+    @NotNull(message = "수량은 필수입니다.")
+    @Positive(message = "수량은 양수여야 합니다.")
+    private Integer quantity;
+
+    /**
+     * 매도 단가
+     */
+    @NotNull(message = "단가는 필수입니다.")
+    @Positive(message = "단가는 양수여야 합니다.")
+    private Double price;
+
+    /**
+     * 수수료/세금 (선택, 기본 0)
+     */
+    @PositiveOrZero(message = "수수료는 0 이상이어야 합니다.")
+    private Double fee;
+}
@@ -0,0 +1,14 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.Portfolio;
+import com.example.demo.entity.Trade;
+
+/**
+ * 거래 기록 결과
+ *
+ * @param trade              기록된 거래
+ * @param position           거래 후 포지션 (전량 매도로 청산되었으면 null)
+ * @param realizedProfitLoss 이번 거래의 실현손익 (매수는 0)
+ */
+public record TradeResult(Trade trade, Portfolio position, double realizedProfitLoss) {
+}
@@ -0,0 +1,14 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.Trade;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 원장 조회 항목
+ *
+ * @param seq 포지션 안의 거래 순번
+ */
+public record TradeView(Long seq, Trade.Side side, Integer quantity, Double price, Double fee,
+                        LocalDateTime executedAt) {
+}
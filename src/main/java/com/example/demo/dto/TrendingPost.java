@@ -0,0 +1,12 @@
+package com.example.demo.dto;
+
+/**
+ * 인기 게시글 항목
+ *
+ * @param id         게시글 ID
+ * @param title      제목
+ * @param authorName 작성자 이름
+ * @param score      현재 시각 기준 감쇠 점수 (방금 발생한 조회 1회 = 1.0)
+ */
+public record TrendingPost(Long id, String title, String authorName, double score) {
+}
@@ -0,0 +1,9 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 순위 재구축용 게시글 요약
+ */
+public record TrendingSeed(Long id, String title, String authorName, Integer viewCount, LocalDateTime createdAt) {
+}
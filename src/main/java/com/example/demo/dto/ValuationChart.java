@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 평가금액 차트 응답
+ *
+ * @param series    시리즈 키 (종목코드 또는 "*" = 포트폴리오 전체)
+ * @param from      조회 시작일
+ * @param to        조회 종료일
+ * @param rawPoints 기간 내 원본 포인트 수
+ * @param points    다운샘플링된 포인트
+ */
+public record ValuationChart(String series, LocalDate from, LocalDate to, int rawPoints,
+                             List<ValuationPoint> points) {
+}
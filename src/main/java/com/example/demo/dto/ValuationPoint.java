@@ -0,0 +1,12 @@
+package com.example.demo.dto;
+
+/**
+ * 평가금액 차트 포인트
+ *
+ * @param t          시각 (epoch milliseconds)
+ * @param evaluation 평가금액
+ * @param investment 투자금액
+ * @param profitLoss 평가손익
+ */
+public record ValuationPoint(long t, double evaluation, double investment, double profitLoss) {
+}
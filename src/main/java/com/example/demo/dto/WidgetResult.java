@@ -0,0 +1,34 @@
+package com.example.demo.dto;
+
+/**
+ * 대시보드 위젯 로딩 결과
+ *
+ * 제한 시간 안에 로딩하지 못했거나 오류가 나면 data 없이 상태만 담아
+ * 화면에서 자리 표시(placeholder)로 렌더링합니다.
+ *
+ * @param status 로딩 상태
+ * @param data   위젯 데이터 (OK가 아니면 null)
+ * @param <T>    위젯 데이터 타입
+ */
+public record WidgetResult<T>(Status status, T data) {
+
+    public enum Status {
+        OK, TIMEOUT, ERROR
+    }
+
+    public static <T> WidgetResult<T> ok(T data) {
+        return new WidgetResult<>(Status.OK, data);
+    }
+
+    public static <T> WidgetResult<T> timeout() {
+        return new WidgetResult<>(Status.TIMEOUT, null);
+    }
+
+    public static <T> WidgetResult<T> error() {
+        return new WidgetResult<>(Status.ERROR, null);
+    }
+
+    public boolean isAvailable() {
+        return status == Status.OK;
+    }
+}
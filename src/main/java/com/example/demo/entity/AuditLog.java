@@ -0,0 +1,52 @@
+package com.example.demo.entity;
+
+import com.example.demo.audit.AuditAction;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 엔티티 (추가 전용)
+ *
+ * 행은 {@link com.example.demo.audit.AuditLogger}가 JDBC 배치로만 추가하며,
+ * 애플리케이션에서는 조회만 합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Entity
+@Table(name = "audit_log", indexes = {
+        @Index(name = "idx_audit_log_occurred_at", columnList = "occurred_at"),
+        @Index(name = "idx_audit_log_actor", columnList = "actor")
+})
+@Getter
+@NoArgsConstructor
+public class AuditLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    /**
+     * 작업 수행자 아이디
+     */
+    @Column(nullable = false, length = 50, updatable = false)
+    private String actor;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40, updatable = false)
+    private AuditAction action;
+
+    /**
+     * 작업 대상 (예: "USER:12", "MENU:3")
+     */
+    @Column(length = 100, updatable = false)
+    private String target;
+
+    @Column(length = 500, updatable = false)
+    private String detail;
+}
@@ -5,12 +5,19 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 /**
  * 자유게시판 엔티티
+ *
+ * content는 Markdown 원문이며, 렌더링한 HTML을 contentHtml에 함께 저장합니다.
+ * contentHtmlSourceAt은 HTML을 만든 시점의 updatedAt으로, 둘이 다르면 원문이 바뀐 것이므로 다시 렌더링합니다.
+ * 변경된 컬럼만 UPDATE 하여(DynamicUpdate) 조회수/댓글 수처럼 UPDATE 문으로 증감하는 값을 덮어쓰지 않습니다.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "boards")
 @Getter @Setter
 @NoArgsConstructor
@@ -28,11 +35,21 @@ public class Board {
     private String title;  // 제목
 
     @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;  // 내용
+    private String content;  // 내용 (Markdown)
+
+    @Column(columnDefinition = "TEXT")
+    private String contentHtml;  // 렌더링된 HTML (sanitize 완료)
+
+    @Column(name = "content_html_source_at")
+    private LocalDateTime contentHtmlSourceAt;  // contentHtml을 렌더링한 원문의 updatedAt
 
     @Column(nullable = false)
     private Integer viewCount = 0;  // 조회수
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer commentCount = 0;  // 댓글 수 (댓글 추가/삭제 시 같은 트랜잭션에서 갱신)
+
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
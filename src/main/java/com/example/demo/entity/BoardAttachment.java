@@ -0,0 +1,47 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 첨부파일 엔티티
+ *
+ * 파일 내용은 DB가 아니라 로컬 내용 주소 저장소에 SHA-256 해시를 이름으로 저장되며,
+ * 이 엔티티는 해시와 원본 파일명/형식만 가집니다. 같은 내용의 파일은 여러 첨부가 하나의
+ * 저장 파일을 공유하고, 어떤 첨부도 참조하지 않는 파일은 주기적인 정리 작업이 삭제합니다.
+ */
+@Entity
+@Table(name = "board_attachments",
+       indexes = {
+           @Index(name = "idx_board_attachments_board", columnList = "board_id, id"),
+           @Index(name = "idx_board_attachments_sha256", columnList = "sha256")
+       })
+@Getter @Setter
+@NoArgsConstructor
+public class BoardAttachment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", nullable = false)
+    private Board board;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;  // 내용 해시 (저장 파일 이름, ETag)
+
+    @Column(nullable = false)
+    private long size;  // 바이트 수
+
+    @Column(name = "original_name", nullable = false)
+    private String originalName;  // 업로드 당시 파일명
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,39 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 댓글 엔티티
+ *
+ * 게시글 쪽에는 컬렉션을 두지 않고 댓글이 게시글을 참조만 합니다.
+ * 댓글 수는 {@link Board#getCommentCount()}에 비정규화되어 함께 갱신되며,
+ * 댓글 목록은 (board_id, id) 인덱스를 따라 키셋으로 페이지 단위 조회합니다.
+ */
+@Entity
+@Table(name = "board_comments",
+       indexes = @Index(name = "idx_board_comments_board", columnList = "board_id, id"))
+@Getter @Setter
+@NoArgsConstructor
+public class BoardComment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", nullable = false)
+    private Board board;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 1000)
+    private String content;  // 내용
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
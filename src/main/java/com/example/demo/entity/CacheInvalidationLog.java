@@ -0,0 +1,38 @@
+package com.example.demo.entity;
+
+import com.example.demo.cache.InvalidationType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 이벤트 기록 (노드 간 전달용)
+ *
+ * 변경 트랜잭션 안에서 함께 기록되므로 변경이 커밋된 경우에만 다른 노드가 볼 수 있습니다.
+ * 각 노드는 ID 순으로 새 행을 조회해 자기 캐시를 비우고, 오래된 행은 보존 기간이 지나면 삭제됩니다.
+ */
+@Entity
+@Table(name = "cache_invalidation_events",
+       indexes = @Index(name = "idx_cache_invalidation_events_created", columnList = "created_at"))
+@Getter @Setter
+@NoArgsConstructor
+public class CacheInvalidationLog {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private InvalidationType type;
+
+    @Column(name = "cache_key", length = 100)
+    private String cacheKey;  // null이면 종류 전체
+
+    @Column(nullable = false, length = 36)
+    private String origin;  // 발행한 노드 ID (자기 이벤트는 커밋 직후 이미 처리됨)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -18,7 +18,9 @@ import java.time.LocalDateTime;
  * @version 1.0
  */
 @Entity
-@Table(name = "calculation_history")
+@Table(name = "calculation_history", indexes = {
+        @Index(name = "idx_calculation_history_user", columnList = "user_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,6 +43,13 @@ public class CalculationHistory {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * 종목 마스터 참조 (마스터에 없는 종목이면 null, 종목코드/종목명 컬럼은 호환을 위해 유지)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stock_id")
+    private Stock stock;
+
     /**
      * 주식 코드 (예: "005930" - 삼성전자)
      */
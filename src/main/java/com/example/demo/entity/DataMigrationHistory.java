@@ -0,0 +1,69 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 데이터 마이그레이션 실행 기록 엔티티
+ *
+ * 버전별 데이터 보정 작업의 진행 상태를 저장합니다.
+ * 청크 단위 마이그레이션은 처리한 마지막 키(checkpoint)를 함께 기록하여
+ * 중단된 경우 그 다음 청크부터 이어서 실행합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Entity
+@Table(name = "data_migration_history")
+@Getter
+@Setter
+@NoArgsConstructor
+public class DataMigrationHistory {
+
+    /**
+     * 실행 상태
+     */
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * 마이그레이션 버전 (기본 키)
+     */
+    @Id
+    private Integer version;
+
+    @Column(nullable = false, length = 200)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    /**
+     * 처리 완료된 마지막 키 (청크 마이그레이션 전용)
+     */
+    @Column(name = "checkpoint_key")
+    private Long checkpointKey;
+
+    /**
+     * 실행 시작 시점에 고정한 처리 대상의 최대 키 (청크 마이그레이션 전용)
+     */
+    @Column(name = "target_key")
+    private Long targetKey;
+
+    @Column(name = "rows_affected", nullable = false)
+    private Long rowsAffected = 0L;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,55 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 계산 기록 묶음 엔티티
+ *
+ * 보관 기간이 지난 calculation_history 행을 사용자별로 묶어 압축한 payload 하나로 저장합니다.
+ * 묶음에 담긴 기록의 작성 시각 범위를 별도 컬럼에 두어 기간으로 필요한 묶음만 골라 풀 수 있습니다.
+ * 인코딩 형식은 {@link com.example.demo.archive.HistoryArchiveCodec} 참고.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Entity
+@Table(name = "calculation_history_archive",
+       indexes = @Index(name = "idx_history_archive_user", columnList = "user_id, to_created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class HistoryArchiveSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount;
+
+    /**
+     * 묶음 안에서 가장 이른 기록의 작성 시각
+     */
+    @Column(name = "from_created_at", nullable = false)
+    private LocalDateTime fromCreatedAt;
+
+    /**
+     * 묶음 안에서 가장 늦은 기록의 작성 시각
+     */
+    @Column(name = "to_created_at", nullable = false)
+    private LocalDateTime toCreatedAt;
+
+    @Column(nullable = false, length = 1_048_576)
+    private byte[] payload;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt = LocalDateTime.now();
+}
@@ -14,12 +14,17 @@ import java.time.LocalDateTime;
  * 사용자가 보유한 주식 정보를 관리하는 엔티티입니다.
  * 각 사용자는 여러 개의 포트폴리오를 가질 수 있으며,
  * 각 포트폴리오는 하나의 주식 종목에 대한 정보를 담고 있습니다.
+ * (사용자, 종목코드) 조합은 유니크 인덱스로 보장되어 종목당 하나의 포지션만 존재합니다.
+ * 수량/평균가/실현손익은 거래 원장({@link Trade})을 추가할 때마다 증분 갱신되는 스냅샷이며,
+ * lastTradeSeq까지의 거래가 반영되어 있습니다 (원장 도입 전 포지션은 null).
  *
  * @author JAVA-WEB-PROTO
  * @version 1.0
  */
 @Entity
-@Table(name = "portfolios")
+@Table(name = "portfolios",
+       uniqueConstraints = @UniqueConstraint(name = "uk_portfolios_user_stock",
+                                             columnNames = {"user_id", "stock_code"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,6 +39,10 @@ public class Portfolio {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stock_id")
+    private Stock stock;  // 종목 마스터 참조 (마스터에 없는 종목이면 null)
+
     @Column(nullable = false, length = 100)
     private String stockName;  // 종목명
 
@@ -58,6 +67,12 @@ public class Portfolio {
     @Column
     private Double profitLossRate;  // 수익률
 
+    @Column(name = "realized_profit_loss")
+    private Double realizedProfitLoss;  // 실현손익 (매도 누적)
+
+    @Column(name = "last_trade_seq")
+    private Long lastTradeSeq;  // 스냅샷에 반영된 마지막 거래 순번
+
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -0,0 +1,53 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 포지션 체크포인트 엔티티
+ *
+ * 거래 원장의 tradeSeq번 거래까지 반영한 포지션 상태입니다. 일정 거래 수마다, 그리고 포지션이
+ * 모두 청산될 때 기록되며, 포지션 재구성은 마지막 체크포인트 이후의 거래만 다시 적용합니다.
+ * 원장 도입 전 포지션은 처음 거래할 때 당시 스냅샷을 tradeSeq 0 체크포인트로 남깁니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Entity
+@Table(name = "position_checkpoints",
+       uniqueConstraints = @UniqueConstraint(name = "uk_position_checkpoints_seq",
+                                             columnNames = {"user_id", "stock_code", "trade_seq"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class PositionCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "stock_code", nullable = false, length = 20)
+    private String stockCode;
+
+    @Column(name = "trade_seq", nullable = false)
+    private Long tradeSeq;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "total_cost", nullable = false)
+    private Double totalCost;
+
+    @Column(name = "realized_profit_loss", nullable = false)
+    private Double realizedProfitLoss;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
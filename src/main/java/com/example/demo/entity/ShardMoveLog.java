@@ -0,0 +1,69 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 샤드 재배치 진행 기록 (기본 샤드에 저장)
+ *
+ * 사용자 한 명의 한 테이블 행을 다른 샤드로 옮길 때마다 기록합니다.
+ * 재배치가 중간에 중단되면 다음 실행에서 이 기록으로 이어서 처리합니다.
+ * - COPYING: 대상 샤드의 targetMaxId 이후 행(복사 도중 들어간 행)을 지우고 다시 복사
+ * - COPIED: 원본 샤드의 행 삭제부터 다시 실행
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Entity
+@Table(name = "shard_move_log",
+       indexes = @Index(name = "idx_shard_move_log_status", columnList = "status"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ShardMoveLog {
+
+    /**
+     * 진행 상태
+     */
+    public enum Status {
+        COPYING, COPIED, DONE, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "table_name", nullable = false, length = 50)
+    private String tableName;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "source_shard", nullable = false)
+    private Integer sourceShard;
+
+    @Column(name = "target_shard", nullable = false)
+    private Integer targetShard;
+
+    /**
+     * 복사 시작 전 대상 샤드 테이블의 최대 ID (이후 ID는 이번 복사로 생긴 행)
+     */
+    @Column(name = "target_max_id", nullable = false)
+    private Long targetMaxId;
+
+    @Column(name = "rows_moved", nullable = false)
+    private Integer rowsMoved = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(length = 500)
+    private String message;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
@@ -0,0 +1,46 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 종목 마스터 엔티티
+ *
+ * 종목코드/종목명/시장 구분의 기준 데이터입니다. 포트폴리오와 계산 기록은
+ * stock_id로 이 테이블을 참조하며, 종목명 자동완성 인덱스의 원본이 됩니다.
+ * 초기 데이터는 classpath:data/stocks.csv 에서 적재합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Entity
+@Table(name = "stocks")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Stock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 20)
+    private String code;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    /**
+     * 시장 구분 (KOSPI, KOSDAQ 등)
+     */
+    @Column(length = 20)
+    private String market;
+
+    public Stock(String code, String name, String market) {
+        this.code = code;
+        this.name = name;
+        this.market = market;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 종목별 보유 현황 집계 엔티티
+ *
+ * 전체 사용자의 포트폴리오를 종목코드 단위로 합산한 값입니다.
+ * 포지션 생성/추가 매수/삭제 시 같은 트랜잭션에서 증분으로 갱신되므로
+ * 조회할 때 portfolios 테이블을 스캔하지 않습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Entity
+@Table(name = "stock_holdings")
+@Getter
+@Setter
+@NoArgsConstructor
+public class StockHolding {
+
+    @Id
+    @Column(name = "stock_code", length = 20)
+    private String stockCode;
+
+    @Column(nullable = false, length = 100)
+    private String stockName;
+
+    /**
+     * 이 종목을 보유한 사용자 수
+     */
+    @Column(nullable = false)
+    private Integer holders;
+
+    @Column(nullable = false)
+    private Long totalQuantity;
+
+    @Column(nullable = false)
+    private Double totalInvestment;
+
+    /**
+     * 마지막으로 알려진 가격 (가장 최근 매수가)
+     */
+    @Column(nullable = false)
+    private Double lastPrice;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,77 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 원장 엔티티 (추가 전용)
+ *
+ * 사용자/종목별 매수·매도 거래를 순서대로 기록합니다. 한 번 기록된 행은 수정하지 않으며,
+ * 포지션 스냅샷(Portfolio)과 체크포인트(PositionCheckpoint)는 이 원장으로부터 계산됩니다.
+ * seq는 (사용자, 종목) 안에서 1부터 증가하는 순번이며, 유니크 인덱스가 같은 포지션에 대한
+ * 동시 거래를 직렬화합니다 (먼저 커밋된 쪽이 이기고 나머지는 다시 시도).
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Entity
+@Table(name = "trades",
+       uniqueConstraints = @UniqueConstraint(name = Trade.POSITION_SEQ_CONSTRAINT,
+                                             columnNames = {"user_id", "stock_code", "seq"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class Trade {
+
+    /**
+     * (사용자, 종목, 순번) 유니크 제약 이름 (동시 거래 감지용)
+     */
+    public static final String POSITION_SEQ_CONSTRAINT = "uk_trades_position_seq";
+
+    /**
+     * 매매 구분
+     */
+    public enum Side {
+        BUY, SELL
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "stock_id")
+    private Stock stock;  // 종목 마스터 참조 (마스터에 없는 종목이면 null)
+
+    @Column(name = "stock_code", nullable = false, length = 20)
+    private String stockCode;
+
+    @Column(nullable = false, length = 100)
+    private String stockName;
+
+    @Column(name = "seq", nullable = false)
+    private Long seq;  // 포지션 안의 거래 순번
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 4)
+    private Side side;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false)
+    private Double price;
+
+    @Column(nullable = false)
+    private Double fee;  // 수수료/세금 (매수는 취득원가에 더하고, 매도는 실현손익에서 뺌)
+
+    @Column(name = "executed_at", nullable = false)
+    private LocalDateTime executedAt;
+}
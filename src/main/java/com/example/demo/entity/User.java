@@ -1,12 +1,14 @@
 package com.example.demo.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 /**
@@ -19,7 +21,11 @@ import java.util.Set;
  * @version 1.0
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_username_lower_id", columnList = "username_lower, id"),
+        @Index(name = "idx_users_name_lower_id", columnList = "name_lower, id"),
+        @Index(name = "idx_users_email_lower_id", columnList = "email_lower, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -70,6 +76,28 @@ public class User {
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    /**
+     * 삭제 요청 일시 (null이 아니면 삭제 작업이 소유 데이터를 지우는 중이며 회원 목록에서 제외)
+     */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    /**
+     * 관리자 회원 검색용 소문자 아이디/이름/이메일
+     * 저장할 때마다 원본 값에서 다시 만들며, 인덱스를 타는 접두어 검색(LIKE 'abc%')에 사용
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "username_lower", length = 50)
+    private String usernameLower;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "name_lower", length = 100)
+    private String nameLower;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "email_lower", length = 100)
+    private String emailLower;
+
     /**
      * 사용자가 가진 역할(권한) 목록
      * Eager 로딩으로 설정하여 사용자 조회 시 역할도 함께 조회
@@ -82,4 +110,20 @@ public class User {
         inverseJoinColumns = @JoinColumn(name = "role_id")
     )
     private Set<Role> roles = new HashSet<>();
+
+    @PrePersist
+    @PreUpdate
+    void updateSearchKeys() {
+        usernameLower = lower(username);
+        nameLower = lower(name);
+        // 키셋 정렬 키로도 쓰므로 이메일이 없으면 NULL 대신 빈 문자열
+        emailLower = email != null ? lower(email) : "";
+    }
+
+    /**
+     * 검색 키 정규화 (검색어도 같은 방식으로 바꿔야 일치함)
+     */
+    public static String lower(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
 }
@@ -0,0 +1,93 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 회원 삭제 작업 (기본 샤드에 저장)
+ *
+ * 회원 삭제 요청 시 계정을 즉시 삭제 상태로 표시하고 이 작업을 만든 뒤, 백그라운드에서 회원이 소유한 행을
+ * 의존 순서(phase)대로 작은 묶음씩 삭제합니다. 현재 단계와 삭제한 행 수를 묶음마다 기록하므로
+ * 중단되더라도 다음 실행에서 같은 단계부터 이어서 처리합니다 (각 단계의 삭제는 반복 실행해도 안전).
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Entity
+@Table(name = "user_deletion_jobs",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_deletion_jobs_user", columnNames = "user_id"),
+       indexes = @Index(name = "idx_user_deletion_jobs_status", columnList = "status"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserDeletionJob {
+
+    /**
+     * 진행 상태
+     */
+    public enum Status {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    /**
+     * 삭제 단계 (선언 순서대로 실행, 다른 행이 참조하는 행을 나중에 삭제)
+     */
+    public enum Phase {
+        COMMENTS, BOARDS, TRADES, CHECKPOINTS, PORTFOLIOS, HISTORY, HISTORY_ARCHIVE, VALUATIONS, ROLES, ACCOUNT
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 50)
+    private String username;
+
+    @Column(name = "requested_by", length = 50)
+    private String requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Phase phase = Phase.COMMENTS;
+
+    @Column(name = "rows_deleted", nullable = false)
+    private Long rowsDeleted = 0L;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    /**
+     * 보유 현황 집계에서 이미 차감했지만 아직 회원 샤드에서 삭제하지 않은 포지션 ID (쉼표 구분)
+     * 두 샤드에 걸친 작업이라 중단되면 다음 실행에서 차감 없이 삭제만 마저 합니다.
+     */
+    @Column(name = "pending_position_ids", length = 8000)
+    private String pendingPositionIds;
+
+    /**
+     * 이 시각까지는 작업을 가져간 노드가 처리 중 (지나면 다른 노드가 이어서 처리)
+     */
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(length = 500)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,76 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDate;
+
+/**
+ * 포트폴리오 평가금액 시계열 엔티티
+ *
+ * 사용자 × 시리즈(종목코드 또는 포트폴리오 전체) × 월 단위로 한 행을 두고,
+ * 그 달의 스냅샷 포인트를 델타 인코딩한 바이트 배열(payload)에 이어 붙입니다.
+ * 마지막 포인트 값을 별도 컬럼에 두어 추가할 때 payload를 디코딩하지 않습니다.
+ * 인코딩 형식은 {@link com.example.demo.valuation.ValuationSeriesCodec} 참고.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Entity
+@Table(name = "valuation_series",
+       uniqueConstraints = @UniqueConstraint(name = "uk_valuation_series_bucket",
+                                             columnNames = {"user_id", "series_key", "bucket_month"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ValuationSeries {
+
+    /**
+     * 포트폴리오 전체 합계 시리즈의 키
+     */
+    public static final String TOTAL_KEY = "*";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 종목코드, 또는 포트폴리오 전체면 {@link #TOTAL_KEY}
+     */
+    @Column(name = "series_key", nullable = false, length = 20)
+    private String seriesKey;
+
+    /**
+     * 버킷 월의 1일
+     */
+    @Column(name = "bucket_month", nullable = false)
+    private LocalDate bucketMonth;
+
+    @Column(nullable = false)
+    private Integer pointCount;
+
+    /**
+     * 마지막 포인트 시각 (epoch seconds)
+     */
+    @Column(nullable = false)
+    private Long lastAt;
+
+    /**
+     * 마지막 포인트 평가금액 (1/100원 단위)
+     */
+    @Column(nullable = false)
+    private Long lastEvaluation;
+
+    /**
+     * 마지막 포인트 투자금액 (1/100원 단위)
+     */
+    @Column(nullable = false)
+    private Long lastInvestment;
+
+    @Column(nullable = false, length = 65535)
+    private byte[] payload;
+}
@@ -1,5 +1,6 @@
 package com.example.demo.exception;
 
+import com.example.demo.constant.ErrorMessages;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.ui.Model;
@@ -7,6 +8,7 @@ import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 /**
@@ -82,6 +84,25 @@ public class GlobalExceptionHandler {
         return "redirect:/dashboard";
     }
 
+    /**
+     * 업로드 크기 제한 초과 처리 (multipart 파싱 단계에서 발생)
+     *
+     * @param ex                 발생한 예외
+     * @param redirectAttributes 리다이렉트 시 전달할 속성
+     * @return 에러 페이지 경로
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public String handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException ex,
+            RedirectAttributes redirectAttributes) {
+
+        log.warn("업로드 크기 제한 초과: {}", ex.getMessage());
+
+        redirectAttributes.addFlashAttribute("error", ErrorMessages.ATTACHMENT_TOO_LARGE);
+        return "redirect:/dashboard";
+    }
+
     /**
      * 입력 검증 실패 시 처리 (Bean Validation)
      *
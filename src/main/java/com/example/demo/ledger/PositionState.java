@@ -0,0 +1,79 @@
+package com.example.demo.ledger;
+
+import com.example.demo.entity.Portfolio;
+import com.example.demo.entity.PositionCheckpoint;
+import com.example.demo.entity.Trade;
+
+/**
+ * 거래를 순서대로 적용해 얻는 포지션 상태 (불변)
+ *
+ * 이동평균법으로 계산합니다.
+ * - 매수: 수량 += q, 취득원가 += q × 가격 + 수수료
+ * - 매도: 매도분 원가 = 취득원가 × q / 수량, 실현손익 += q × 가격 − 수수료 − 매도분 원가,
+ *   취득원가 −= 매도분 원가, 수량 −= q (평균 단가는 변하지 않음)
+ *
+ * @param seq                마지막으로 적용한 거래 순번
+ * @param quantity           보유 수량
+ * @param totalCost          보유분 취득원가
+ * @param realizedProfitLoss 누적 실현손익
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public record PositionState(long seq, int quantity, double totalCost, double realizedProfitLoss) {
+
+    public static final PositionState EMPTY = new PositionState(0, 0, 0, 0);
+
+    public static PositionState of(Portfolio portfolio) {
+        double totalCost = portfolio.getTotalInvestment() != null
+                ? portfolio.getTotalInvestment() : portfolio.getQuantity() * portfolio.getAveragePrice();
+        return new PositionState(portfolio.getLastTradeSeq() != null ? portfolio.getLastTradeSeq() : 0,
+                portfolio.getQuantity(), totalCost,
+                portfolio.getRealizedProfitLoss() != null ? portfolio.getRealizedProfitLoss() : 0);
+    }
+
+    public static PositionState of(PositionCheckpoint checkpoint) {
+        return new PositionState(checkpoint.getTradeSeq(), checkpoint.getQuantity(),
+                checkpoint.getTotalCost(), checkpoint.getRealizedProfitLoss());
+    }
+
+    public PositionState apply(Trade trade) {
+        if (trade.getSeq() != seq + 1) {
+            throw new IllegalStateException("거래 순번이 연속되지 않음: " + seq + " → " + trade.getSeq());
+        }
+        return apply(trade.getSide(), trade.getQuantity(), trade.getPrice(), trade.getFee());
+    }
+
+    /**
+     * 다음 순번의 거래를 적용한 상태
+     *
+     * @throws IllegalArgumentException 보유 수량보다 많이 매도할 때
+     */
+    public PositionState apply(Trade.Side side, int tradeQuantity, double price, double fee) {
+        if (side == Trade.Side.BUY) {
+            return new PositionState(seq + 1, quantity + tradeQuantity,
+                    totalCost + tradeQuantity * price + fee, realizedProfitLoss);
+        }
+        if (tradeQuantity > quantity) {
+            throw new IllegalArgumentException("보유 수량 초과 매도: " + tradeQuantity + " > " + quantity);
+        }
+        double soldCost = costOf(tradeQuantity);
+        int remaining = quantity - tradeQuantity;
+        return new PositionState(seq + 1, remaining, remaining == 0 ? 0 : totalCost - soldCost,
+                realizedProfitLoss + tradeQuantity * price - fee - soldCost);
+    }
+
+    /**
+     * 보유분 일부의 취득원가
+     */
+    public double costOf(int tradeQuantity) {
+        return quantity == 0 ? 0 : totalCost * tradeQuantity / quantity;
+    }
+
+    public double averagePrice() {
+        return quantity == 0 ? 0 : totalCost / quantity;
+    }
+
+    public boolean isOpen() {
+        return quantity > 0;
+    }
+}
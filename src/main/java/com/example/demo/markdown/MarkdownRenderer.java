@@ -0,0 +1,36 @@
+package com.example.demo.markdown;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 Markdown → HTML 렌더러
+ *
+ * 본문에 포함된 HTML 태그는 실행되지 않도록 이스케이프하고(escapeHtml),
+ * 링크/이미지 주소는 http, https, mailto 등 안전한 스킴만 남깁니다(sanitizeUrls).
+ * 결과는 게시글에 저장되어 조회 시에는 다시 렌더링하지 않습니다.
+ * Parser와 HtmlRenderer는 스레드 안전하므로 하나의 인스턴스를 공유합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class MarkdownRenderer {
+
+    private final Parser parser = Parser.builder().build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder()
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .softbreak("<br />\n")
+            .build();
+
+    /**
+     * Markdown 원문을 안전한 HTML로 렌더링합니다.
+     */
+    public String render(String markdown) {
+        Node document = parser.parse(markdown != null ? markdown : "");
+        return renderer.render(document);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.migration;
+
+import com.example.demo.constant.RoleType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 감사 로그 관리자 메뉴(/admin/audit) 추가 마이그레이션
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class AuditMenuMigration extends MenuMigration {
+
+    @Override
+    public int getVersion() {
+        return 3;
+    }
+
+    @Override
+    protected String getMenuName() {
+        return "감사 로그";
+    }
+
+    @Override
+    protected String getMenuPath() {
+        return "/admin/audit";
+    }
+
+    @Override
+    protected String getMenuIcon() {
+        return "🧾";
+    }
+
+    @Override
+    protected int getSortOrder() {
+        return 10;
+    }
+
+    @Override
+    protected List<String> getRoleNames() {
+        return List.of(RoleType.ADMIN.getAuthority());
+    }
+}
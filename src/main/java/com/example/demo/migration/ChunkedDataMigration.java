@@ -0,0 +1,56 @@
+package com.example.demo.migration;
+
+/**
+ * 키 범위 단위로 나누어 실행하는 데이터 마이그레이션
+ *
+ * 실행 시작 시 대상 테이블의 최대 키를 고정하고 (0, maxKey] 구간을 청크 크기만큼 잘라
+ * 청크마다 별도의 트랜잭션으로 {@link #migrateChunk(long, long)}을 호출합니다.
+ * 청크가 커밋될 때 체크포인트도 함께 저장되므로 중단되더라도 다음 실행에서 이어서 처리합니다.
+ * 시작 이후에 추가된 행은 이미 올바른 값으로 저장된다고 가정하고 처리하지 않습니다.
+ * {@link DataMigrationRunner}를 거치지 않고 {@link #migrate()}로 호출하면 같은 청크들을 호출자의
+ * 트랜잭션 하나에서 차례로 실행합니다 (체크포인트 없음).
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public abstract class ChunkedDataMigration implements DataMigration {
+
+    /**
+     * 기본 청크 크기 (키 범위)
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * 청크 하나가 다루는 키 범위의 크기
+     */
+    public int getChunkSize() {
+        return DEFAULT_CHUNK_SIZE;
+    }
+
+    /**
+     * 처리 대상의 현재 최대 키 (대상이 없으면 0)
+     */
+    public abstract long findMaxKey();
+
+    /**
+     * (fromExclusive, toInclusive] 범위의 행을 보정합니다.
+     *
+     * @param fromExclusive 시작 키 (미포함)
+     * @param toInclusive   끝 키 (포함)
+     * @return 영향받은 행 수
+     */
+    public abstract long migrateChunk(long fromExclusive, long toInclusive);
+
+    /**
+     * 현재 최대 키까지 모든 청크를 차례로 실행합니다 (호출자의 트랜잭션 안에서, 체크포인트 없음).
+     */
+    @Override
+    public long migrate() {
+        long maxKey = findMaxKey();
+        long affected = 0;
+        for (long from = 0; from < maxKey; from += getChunkSize()) {
+            affected += migrateChunk(from, Math.min(from + getChunkSize(), maxKey));
+        }
+        return affected;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.migration;
+
+/**
+ * 버전 관리되는 데이터 마이그레이션
+ *
+ * 한 번 완료된 마이그레이션은 {@link DataMigrationRunner}가 기록을 남기므로 다시 실행되지 않습니다.
+ * 구현체는 엔티티를 하나씩 읽어 저장하는 대신 UPDATE/DELETE 문으로 데이터를 한 번에 보정해야 합니다.
+ * 데이터 양에 비례해 오래 걸리는 작업은 {@link ChunkedDataMigration}을 상속하여 키 범위 단위로 나눕니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public interface DataMigration {
+
+    /**
+     * 실행 순서를 결정하는 버전 (오름차순 실행, 중복 불가)
+     */
+    int getVersion();
+
+    /**
+     * 실행 기록에 남길 설명
+     */
+    String getDescription();
+
+    /**
+     * 마이그레이션을 실행합니다. 하나의 트랜잭션 안에서 호출됩니다.
+     *
+     * @return 영향받은 행 수
+     */
+    long migrate();
+}
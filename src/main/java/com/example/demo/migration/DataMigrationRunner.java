@@ -0,0 +1,167 @@
+package com.example.demo.migration;
+
+import com.example.demo.entity.DataMigrationHistory;
+import com.example.demo.entity.DataMigrationHistory.Status;
+import com.example.demo.repository.DataMigrationHistoryRepository;
+import com.example.demo.startup.StartupTask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 데이터 마이그레이션 실행기
+ *
+ * 등록된 {@link DataMigration} 빈을 버전 순으로 실행하고 결과를 data_migration_history에 기록합니다.
+ * - 완료 기록이 있는 마이그레이션은 테이블을 조회하지 않고 건너뜁니다.
+ * - 청크 마이그레이션은 청크마다 트랜잭션을 커밋하고 체크포인트를 저장하여 중단 지점부터 재개합니다.
+ * - 실패하면 이후 버전은 실행하지 않고 예외를 던집니다 (다음 기동 시 재시도).
+ *
+ * 필수 기동 작업이므로 모든 마이그레이션이 끝날 때까지 readiness가 UP이 되지 않습니다.
+ * 보정 중에 요청을 받으면 중복 포지션 병합(V2) 중 단건 조회가 실패하거나 매수가 유실/중복되고,
+ * 보유 현황 재구축(V4) 중 반영된 증감이 사라지며, 검색 키 채우기(V7) 전 회원이 목록 검색에서 빠지기 때문입니다.
+ * (의존하는 종목 마스터 작업이 실패해도 건너뜀 처리되어 readiness가 DOWN이 됨)
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataMigrationRunner implements StartupTask {
+
+    private final List<DataMigration> migrations;
+    private final DataMigrationHistoryRepository historyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public String getName() {
+        return "dataMigration";
+    }
+
+    /**
+     * 초기 데이터(역할/메뉴)와 종목 마스터가 만들어진 뒤에 보정합니다.
+     */
+    @Override
+    public Set<String> getDependsOn() {
+        return Set.of("dataLoader", "stockMaster");
+    }
+
+    @Override
+    public void run() {
+        Map<Integer, DataMigrationHistory> histories = historyRepository.findAll().stream()
+                .collect(Collectors.toMap(DataMigrationHistory::getVersion, Function.identity()));
+
+        List<DataMigration> pending = migrations.stream()
+                .sorted(Comparator.comparingInt(DataMigration::getVersion))
+                .filter(migration -> {
+                    DataMigrationHistory history = histories.get(migration.getVersion());
+                    return history == null || history.getStatus() != Status.COMPLETED;
+                })
+                .collect(Collectors.toList());
+
+        if (pending.isEmpty()) {
+            log.info("=== 데이터 마이그레이션: 실행할 항목 없음 ===");
+            return;
+        }
+
+        for (DataMigration migration : pending) {
+            DataMigrationHistory history = histories.get(migration.getVersion());
+            execute(migration, history);
+        }
+    }
+
+    private void execute(DataMigration migration, DataMigrationHistory existing) {
+        DataMigrationHistory history = existing != null ? existing : new DataMigrationHistory();
+        history.setVersion(migration.getVersion());
+        history.setDescription(migration.getDescription());
+        history.setStatus(Status.RUNNING);
+        history.setErrorMessage(null);
+        if (history.getStartedAt() == null) {
+            history.setStartedAt(LocalDateTime.now());
+        }
+
+        log.info("=== 데이터 마이그레이션 V{} 시작: {} ===", migration.getVersion(), migration.getDescription());
+        long startNanos = System.nanoTime();
+
+        try {
+            history = historyRepository.save(history);
+            if (migration instanceof ChunkedDataMigration chunked) {
+                history = runChunked(chunked, history);
+            } else {
+                history = runSingle(migration, history);
+            }
+        } catch (RuntimeException e) {
+            log.error("데이터 마이그레이션 V{} 실패", migration.getVersion(), e);
+            markFailed(migration.getVersion(), e);
+            throw new IllegalStateException("데이터 마이그레이션 V" + migration.getVersion() + " 실패", e);
+        }
+
+        log.info("=== 데이터 마이그레이션 V{} 완료: {}개 행, {}ms ===", migration.getVersion(),
+                history.getRowsAffected(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private DataMigrationHistory runSingle(DataMigration migration, DataMigrationHistory history) {
+        return transactionTemplate.execute(status -> {
+            long affected = migration.migrate();
+            history.setRowsAffected(affected);
+            history.setStatus(Status.COMPLETED);
+            history.setCompletedAt(LocalDateTime.now());
+            return historyRepository.save(history);
+        });
+    }
+
+    private DataMigrationHistory runChunked(ChunkedDataMigration migration, DataMigrationHistory initial) {
+        DataMigrationHistory history = initial;
+
+        // 처리 범위를 처음 실행할 때 고정하여 재개 시에도 같은 범위를 사용
+        if (history.getTargetKey() == null) {
+            history.setTargetKey(migration.findMaxKey());
+            history.setCheckpointKey(0L);
+            history = historyRepository.save(history);
+        }
+
+        long targetKey = history.getTargetKey();
+        long from = history.getCheckpointKey() != null ? history.getCheckpointKey() : 0L;
+        if (from > 0) {
+            log.info("데이터 마이그레이션 V{} 재개 - 체크포인트: {}/{}", migration.getVersion(), from, targetKey);
+        }
+
+        while (from < targetKey) {
+            long chunkFrom = from;
+            long chunkTo = Math.min(from + migration.getChunkSize(), targetKey);
+            DataMigrationHistory current = history;
+
+            history = transactionTemplate.execute(status -> {
+                long affected = migration.migrateChunk(chunkFrom, chunkTo);
+                current.setCheckpointKey(chunkTo);
+                current.setRowsAffected(current.getRowsAffected() + affected);
+                return historyRepository.save(current);
+            });
+
+            log.debug("데이터 마이그레이션 V{} 진행 - {}/{}", migration.getVersion(), chunkTo, targetKey);
+            from = chunkTo;
+        }
+
+        history.setStatus(Status.COMPLETED);
+        history.setCompletedAt(LocalDateTime.now());
+        return historyRepository.save(history);
+    }
+
+    private void markFailed(int version, RuntimeException e) {
+        historyRepository.findById(version).ifPresent(history -> {
+            history.setStatus(Status.FAILED);
+            String message = String.valueOf(e.getMessage());
+            history.setErrorMessage(message.length() > 500 ? message.substring(0, 500) : message);
+            historyRepository.save(history);
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.migration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 중복 포지션 병합 마이그레이션
+ *
+ * 종목당 하나의 포지션만 허용하기 전에 쌓인 (사용자, 종목코드) 중복 행을
+ * 가장 먼저 생성된 행으로 합산한 뒤 나머지를 삭제합니다.
+ * 중복이 정리되면 다음 기동 시 스키마 갱신 과정에서 유니크 인덱스가 생성됩니다.
+ *
+ * MySQL은 UPDATE/DELETE 대상 테이블을 같은 문의 서브쿼리에서 읽을 수 없으므로(오류 1093),
+ * 그룹별 합계와 삭제할 ID를 먼저 조회한 뒤 ID 조건으로만 갱신/삭제합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class DuplicatePortfolioMergeMigration implements DataMigration {
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+
+    @Override
+    public String getDescription() {
+        return "(사용자, 종목코드) 중복 포트폴리오 병합";
+    }
+
+    @Override
+    public long migrate() {
+        // 1. 중복 그룹별 첫 행 ID와 합계 (첫 행, 수량 합, 투자금액 합)
+        List<Object[]> groups = entityManager.createQuery("SELECT MIN(p.id), SUM(p.quantity), "
+                        + "SUM(COALESCE(p.totalInvestment, p.quantity * p.averagePrice)) FROM Portfolio p "
+                        + "GROUP BY p.user.id, p.stockCode HAVING COUNT(p) > 1", Object[].class)
+                .getResultList();
+        if (groups.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 그룹별 첫 행에 수량/투자금액/평균가를 합산
+        LocalDateTime now = LocalDateTime.now();
+        long merged = 0;
+        for (Object[] group : groups) {
+            long quantity = ((Number) group[1]).longValue();
+            double investment = ((Number) group[2]).doubleValue();
+            merged += entityManager.createQuery("UPDATE Portfolio p SET p.quantity = :quantity, "
+                            + "p.totalInvestment = :investment, p.averagePrice = :averagePrice, p.updatedAt = :now "
+                            + "WHERE p.id = :id")
+                    .setParameter("quantity", (int) quantity)
+                    .setParameter("investment", investment)
+                    .setParameter("averagePrice", quantity > 0 ? investment / quantity : 0.0)
+                    .setParameter("now", now)
+                    .setParameter("id", group[0])
+                    .executeUpdate();
+        }
+
+        // 3. 합산된 나머지 행 삭제 (조회는 같은 테이블 서브쿼리를 써도 됨)
+        List<Long> duplicateIds = entityManager.createQuery("SELECT p.id FROM Portfolio p WHERE p.id NOT IN "
+                        + "(SELECT MIN(k.id) FROM Portfolio k GROUP BY k.user.id, k.stockCode)", Long.class)
+                .getResultList();
+        long deleted = 0;
+        for (int from = 0; from < duplicateIds.size(); from += DELETE_BATCH_SIZE) {
+            deleted += entityManager.createQuery("DELETE FROM Portfolio p WHERE p.id IN :ids")
+                    .setParameter("ids", duplicateIds.subList(from, Math.min(from + DELETE_BATCH_SIZE, duplicateIds.size())))
+                    .executeUpdate();
+        }
+
+        return merged + deleted;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.migration;
+
+import com.example.demo.constant.RoleType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 종목별 보유 현황 관리자 메뉴(/admin/holdings) 추가 마이그레이션
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class HoldingsMenuMigration extends MenuMigration {
+
+    @Override
+    public int getVersion() {
+        return 5;
+    }
+
+    @Override
+    protected String getMenuName() {
+        return "보유 현황";
+    }
+
+    @Override
+    protected String getMenuPath() {
+        return "/admin/holdings";
+    }
+
+    @Override
+    protected String getMenuIcon() {
+        return "📈";
+    }
+
+    @Override
+    protected int getSortOrder() {
+        return 11;
+    }
+
+    @Override
+    protected List<String> getRoleNames() {
+        return List.of(RoleType.ADMIN.getAuthority());
+    }
+}
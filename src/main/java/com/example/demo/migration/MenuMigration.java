@@ -0,0 +1,66 @@
+package com.example.demo.migration;
+
+import com.example.demo.entity.Menu;
+import com.example.demo.entity.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+
+/**
+ * 메뉴 추가 마이그레이션 기반 클래스
+ *
+ * 초기 데이터가 이미 만들어진 데이터베이스에 새 메뉴를 추가하고 지정한 역할에 매핑합니다.
+ * 같은 경로의 메뉴가 이미 있으면 아무것도 하지 않습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public abstract class MenuMigration implements DataMigration {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    protected abstract String getMenuName();
+
+    protected abstract String getMenuPath();
+
+    protected abstract String getMenuIcon();
+
+    protected abstract int getSortOrder();
+
+    /**
+     * 메뉴에 접근할 수 있는 역할 이름 목록
+     */
+    protected abstract List<String> getRoleNames();
+
+    @Override
+    public String getDescription() {
+        return getMenuName() + " 메뉴 추가 (" + getMenuPath() + ")";
+    }
+
+    @Override
+    public long migrate() {
+        Long existing = entityManager.createQuery("SELECT COUNT(m) FROM Menu m WHERE m.path = :path", Long.class)
+                .setParameter("path", getMenuPath())
+                .getSingleResult();
+        if (existing > 0) {
+            return 0;
+        }
+
+        Menu menu = new Menu();
+        menu.setName(getMenuName());
+        menu.setPath(getMenuPath());
+        menu.setIcon(getMenuIcon());
+        menu.setSortOrder(getSortOrder());
+        menu.setVisible(true);
+        entityManager.persist(menu);
+
+        List<Role> roles = entityManager.createQuery("SELECT r FROM Role r WHERE r.name IN :names", Role.class)
+                .setParameter("names", getRoleNames())
+                .getResultList();
+        roles.forEach(role -> role.getMenus().add(menu));
+
+        return 1 + roles.size();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.migration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포트폴리오 데이터 마이그레이션
+ *
+ * 기존 포트폴리오 데이터의 비어 있는 파생 컬럼을 채웁니다:
+ * - totalInvestment가 null이면 수량 × 평균가로 계산
+ * - currentPrice가 null이면 평균가로 설정
+ * - updatedAt이 null이면 현재 시간으로 설정
+ *
+ * 키 범위 청크마다 세 개의 UPDATE 문만 실행하며, 완료 후에는 다시 실행되지 않습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class PortfolioDataMigration extends ChunkedDataMigration {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public String getDescription() {
+        return "포트폴리오 totalInvestment/currentPrice/updatedAt 기본값 채우기";
+    }
+
+    @Override
+    public long findMaxKey() {
+        return entityManager.createQuery("SELECT COALESCE(MAX(p.id), 0) FROM Portfolio p", Long.class)
+                .getSingleResult();
+    }
+
+    @Override
+    public long migrateChunk(long fromExclusive, long toInclusive) {
+        long updated = 0;
+
+        updated += entityManager.createQuery("UPDATE Portfolio p SET p.totalInvestment = p.quantity * p.averagePrice "
+                        + "WHERE p.totalInvestment IS NULL AND p.id > :from AND p.id <= :to")
+                .setParameter("from", fromExclusive)
+                .setParameter("to", toInclusive)
+                .executeUpdate();
+
+        updated += entityManager.createQuery("UPDATE Portfolio p SET p.currentPrice = p.averagePrice "
+                        + "WHERE p.currentPrice IS NULL AND p.id > :from AND p.id <= :to")
+                .setParameter("from", fromExclusive)
+                .setParameter("to", toInclusive)
+                .executeUpdate();
+
+        updated += entityManager.createQuery("UPDATE Portfolio p SET p.updatedAt = :now "
+                        + "WHERE p.updatedAt IS NULL AND p.id > :from AND p.id <= :to")
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("from", fromExclusive)
+                .setParameter("to", toInclusive)
+                .executeUpdate();
+
+        return updated;
+    }
+}
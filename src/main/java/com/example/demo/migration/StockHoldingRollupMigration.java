@@ -0,0 +1,36 @@
+package com.example.demo.migration;
+
+import com.example.demo.service.StockHoldingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종목별 보유 현황 집계 초기 구축 마이그레이션
+ *
+ * 증분 갱신이 도입되기 전의 포트폴리오를 stock_holdings에 한 번 집계합니다.
+ * 이후에는 포지션 변경 시 같은 트랜잭션에서 증분으로 유지됩니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class StockHoldingRollupMigration implements DataMigration {
+
+    private final StockHoldingService stockHoldingService;
+
+    @Override
+    public int getVersion() {
+        return 4;
+    }
+
+    @Override
+    public String getDescription() {
+        return "종목별 보유 현황 집계(stock_holdings) 초기 구축";
+    }
+
+    @Override
+    public long migrate() {
+        return stockHoldingService.rebuild();
+    }
+}
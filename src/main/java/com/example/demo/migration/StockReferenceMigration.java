@@ -0,0 +1,57 @@
+package com.example.demo.migration;
+
+import com.example.demo.entity.Stock;
+import com.example.demo.repository.CalculationHistoryRepository;
+import com.example.demo.repository.PortfolioRepository;
+import com.example.demo.repository.StockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 종목 마스터 참조 연결 마이그레이션
+ *
+ * 종목 마스터 도입 전의 포트폴리오/계산 기록을 종목코드로 stocks 테이블에 연결합니다.
+ * 마스터에 없는 종목코드의 행은 stock_id 없이 기존 종목코드/종목명 컬럼만 유지합니다.
+ * 종목 마스터는 기본 샤드에만 있으므로, 모든 샤드에서 연결되지 않은 종목코드를 모아 기본 샤드에서 ID를 찾은 뒤
+ * 종목코드별 UPDATE를 모든 샤드에 실행합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class StockReferenceMigration implements DataMigration {
+
+    private final PortfolioRepository portfolioRepository;
+    private final CalculationHistoryRepository calculationHistoryRepository;
+    private final StockRepository stockRepository;
+
+    @Override
+    public int getVersion() {
+        return 6;
+    }
+
+    @Override
+    public String getDescription() {
+        return "포트폴리오/계산 기록의 종목 마스터(stock_id) 연결";
+    }
+
+    @Override
+    public long migrate() {
+        Set<String> codes = new HashSet<>(portfolioRepository.findUnlinkedStockCodes());
+        codes.addAll(calculationHistoryRepository.findUnlinkedStockCodes());
+        if (codes.isEmpty()) {
+            return 0;
+        }
+
+        long linked = 0;
+        for (Stock stock : stockRepository.findByCodeIn(codes)) {
+            linked += portfolioRepository.linkStockMaster(stock.getCode(), stock.getId());
+            linked += calculationHistoryRepository.linkStockMaster(stock.getCode(), stock.getId());
+        }
+        return linked;
+    }
+}
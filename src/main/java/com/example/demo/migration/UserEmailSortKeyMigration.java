@@ -0,0 +1,46 @@
+package com.example.demo.migration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 이메일 정렬 키 마이그레이션
+ *
+ * 이메일이 없는 회원의 email_lower를 NULL에서 빈 문자열로 바꿉니다.
+ * 회원 목록은 email_lower를 키셋 정렬 키로 쓰므로 NULL이 있으면 페이지 경계 비교가 성립하지 않습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class UserEmailSortKeyMigration extends ChunkedDataMigration {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int getVersion() {
+        return 8;
+    }
+
+    @Override
+    public String getDescription() {
+        return "이메일 없는 회원의 정렬 키(email_lower)를 빈 문자열로 채우기";
+    }
+
+    @Override
+    public long findMaxKey() {
+        return entityManager.createQuery("SELECT COALESCE(MAX(u.id), 0) FROM User u", Long.class)
+                .getSingleResult();
+    }
+
+    @Override
+    public long migrateChunk(long fromExclusive, long toInclusive) {
+        return entityManager.createQuery("UPDATE User u SET u.emailLower = COALESCE(LOWER(u.email), '') "
+                        + "WHERE u.emailLower IS NULL AND u.id > :from AND u.id <= :to")
+                .setParameter("from", fromExclusive)
+                .setParameter("to", toInclusive)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.migration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 검색 키 채우기 마이그레이션
+ *
+ * 소문자 검색 컬럼(username_lower, name_lower, email_lower) 도입 전에 저장된 회원의 값을 채웁니다.
+ * 이후에 저장되는 회원은 엔티티가 저장 시점에 직접 채웁니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class UserSearchKeyMigration extends ChunkedDataMigration {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int getVersion() {
+        return 7;
+    }
+
+    @Override
+    public String getDescription() {
+        return "회원 소문자 검색 키(username_lower/name_lower/email_lower) 채우기";
+    }
+
+    @Override
+    public long findMaxKey() {
+        return entityManager.createQuery("SELECT COALESCE(MAX(u.id), 0) FROM User u", Long.class)
+                .getSingleResult();
+    }
+
+    @Override
+    public long migrateChunk(long fromExclusive, long toInclusive) {
+        return entityManager.createQuery("UPDATE User u SET u.usernameLower = LOWER(u.username), "
+                        + "u.nameLower = LOWER(u.name), u.emailLower = LOWER(u.email) "
+                        + "WHERE u.usernameLower IS NULL AND u.id > :from AND u.id <= :to")
+                .setParameter("from", fromExclusive)
+                .setParameter("to", toInclusive)
+                .executeUpdate();
+    }
+}
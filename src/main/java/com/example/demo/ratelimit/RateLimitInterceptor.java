@@ -0,0 +1,86 @@
+package com.example.demo.ratelimit;
+
+import com.example.demo.constant.ErrorMessages;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RateLimited} 핸들러의 요청 속도 제한 인터셉터
+ *
+ * 컨트롤러 실행 전에 판단하므로 거부된 요청은 서비스/데이터베이스에 도달하지 않고
+ * 429 (Retry-After 헤더 포함)로 끝납니다. 로그인 사용자는 사용자명, 그 외에는 원격 주소로 구분합니다.
+ * 기동 시 모든 핸들러의 규칙을 모아 {@link RateLimiter}에 등록합니다 (분류별 한도 불일치 검사).
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void registerRules(ContextRefreshedEvent event) {
+        Map<String, RateLimited> rules = new LinkedHashMap<>();
+        event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class).values()
+                .forEach(mapping -> mapping.getHandlerMethods().values().forEach(method -> {
+                    RateLimited rule = method.getMethodAnnotation(RateLimited.class);
+                    if (rule != null) {
+                        rules.put(method.getShortLogMessage(), rule);
+                    }
+                }));
+        rateLimiter.registerRules(rules);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        RateLimited rule = method.getMethodAnnotation(RateLimited.class);
+        if (rule == null) {
+            return true;
+        }
+
+        String principal = principal(request);
+        long retryAfterNanos = rateLimiter.tryAcquire(rule, principal);
+        if (retryAfterNanos == 0) {
+            return true;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999));
+        log.warn("요청 속도 제한 - 분류: {}, 사용자: {}, {}초 후 재시도 가능", rule.value(), principal, retryAfterSeconds);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), ErrorMessages.RATE_LIMITED);
+        return false;
+    }
+
+    private static String principal(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
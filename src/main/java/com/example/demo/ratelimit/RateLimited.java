@@ -0,0 +1,38 @@
+package com.example.demo.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 사용자별 요청 속도 제한 대상 핸들러 표시
+ *
+ * 같은 {@link #value()}(엔드포인트 분류)를 쓰는 핸들러는 사용자마다 하나의 버킷을 공유합니다.
+ * 한도는 분류마다 한 곳에서 정합니다: app.ratelimit.limits.{분류}.capacity / refill-per-minute 속성
+ * (권장), 없으면 애너테이션 값. 같은 분류의 핸들러가 서로 다른 한도를 선언하면 기동 시 오류입니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /**
+     * 엔드포인트 분류 이름 (버킷 키와 메트릭 태그로 사용)
+     */
+    String value();
+
+    /**
+     * 연속으로 허용하는 최대 요청 수 (버킷 크기)
+     */
+    int capacity() default 10;
+
+    /**
+     * 분당 채워지는 토큰 수
+     */
+    int refillPerMinute() default 30;
+}
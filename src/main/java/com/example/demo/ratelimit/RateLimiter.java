@@ -0,0 +1,185 @@
+package com.example.demo.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 × 엔드포인트 분류별 토큰 버킷 속도 제한기
+ *
+ * 버킷 상태는 GCRA(Generic Cell Rate Algorithm) 방식으로 "이론상 다음 도착 시각(TAT)" 하나만
+ * AtomicLong에 저장하고 CAS로 갱신합니다. 토큰 충전은 별도 스레드 없이 요청 시각과 TAT의 차이로
+ * 계산되며(지연 충전), 잠금을 사용하지 않습니다.
+ *
+ * TAT가 현재 시각 이전인 버킷은 가득 찬 새 버킷과 상태가 같으므로 주기적으로 제거해도
+ * 제한 결과가 달라지지 않습니다. 버킷 수가 상한(max-buckets)에 이르면 즉시 한 번 정리하고,
+ * 그래도 넘치면 새 키는 추적하지 않고 허용합니다 (메트릭 outcome=untracked).
+ *
+ * 한도는 분류 이름으로 한 번 계산해 두므로, 기동 시 {@link #registerRules(Map)}로 같은 분류의 선언이
+ * 모두 같은 한도인지 확인합니다 (어느 핸들러가 먼저 호출되었는지에 따라 한도가 달라지지 않도록).
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final Map<BucketKey, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final boolean enabled;
+    private final int maxBuckets;
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       Environment environment,
+                       @Value("${app.ratelimit.enabled:true}") boolean enabled,
+                       @Value("${app.ratelimit.max-buckets:100000}") int maxBuckets) {
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.enabled = enabled;
+        this.maxBuckets = maxBuckets;
+
+        Gauge.builder("ratelimit.buckets", buckets, Map::size)
+                .description("추적 중인 속도 제한 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 핸들러에 선언된 규칙을 검사하고 한도를 미리 계산합니다.
+     *
+     * @param rulesByHandler 핸들러 이름 → 선언된 규칙
+     * @throws IllegalStateException 같은 분류를 서로 다른 한도로 선언한 핸들러가 있을 때
+     */
+    public void registerRules(Map<String, RateLimited> rulesByHandler) {
+        Map<String, Map.Entry<String, RateLimited>> declared = new TreeMap<>();
+        for (Map.Entry<String, RateLimited> entry : rulesByHandler.entrySet()) {
+            RateLimited rule = entry.getValue();
+            Map.Entry<String, RateLimited> first = declared.putIfAbsent(rule.value(), entry);
+            if (first != null && (first.getValue().capacity() != rule.capacity()
+                    || first.getValue().refillPerMinute() != rule.refillPerMinute())) {
+                throw new IllegalStateException("속도 제한 분류 '" + rule.value() + "'의 한도가 핸들러마다 다름: "
+                        + first.getKey() + ", " + entry.getKey()
+                        + " (app.ratelimit.limits." + rule.value() + ".* 속성 한 곳에서 정해야 함)");
+            }
+        }
+        declared.values().forEach(entry -> limits.computeIfAbsent(entry.getValue().value(),
+                name -> resolveLimit(entry.getValue())));
+    }
+
+    /**
+     * 요청 하나를 소비합니다.
+     *
+     * @param rule      제한 규칙
+     * @param principal 사용자 식별자
+     * @return 허용이면 0, 거부면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(RateLimited rule, String principal) {
+        if (!enabled) {
+            return 0;
+        }
+        Limit limit = limits.computeIfAbsent(rule.value(), name -> resolveLimit(rule));
+        Counter[] outcome = counters.computeIfAbsent(rule.value(), this::registerCounters);
+
+        AtomicLong bucket = bucket(new BucketKey(rule.value(), principal));
+        if (bucket == null) {
+            outcome[2].increment();
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + limit.intervalNanos;
+            long excess = newTat - now - limit.toleranceNanos;
+            if (excess > 0) {
+                outcome[1].increment();
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                outcome[0].increment();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬(TAT가 지난) 버킷을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.ratelimit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("속도 제한 버킷 정리: {}개 제거, {}개 유지", evicted, buckets.size());
+        }
+    }
+
+    private AtomicLong bucket(BucketKey key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            evictIdle();
+            if (buckets.size() >= maxBuckets) {
+                return null;
+            }
+        }
+        // 처음 보는 키는 가득 찬 버킷으로 시작 (TAT를 충분히 과거로)
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime() - TimeUnit.DAYS.toNanos(1)));
+    }
+
+    private Limit resolveLimit(RateLimited rule) {
+        String prefix = "app.ratelimit.limits." + rule.value() + ".";
+        int capacity = environment.getProperty(prefix + "capacity", Integer.class, rule.capacity());
+        int refillPerMinute = environment.getProperty(prefix + "refill-per-minute", Integer.class, rule.refillPerMinute());
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalStateException("속도 제한 설정이 잘못됨: " + rule.value());
+        }
+        long interval = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        log.info("속도 제한 규칙: {} - 버킷 {}개, 분당 {}개 충전", rule.value(), capacity, refillPerMinute);
+        return new Limit(interval, interval * capacity);
+    }
+
+    private Counter[] registerCounters(String name) {
+        return new Counter[]{
+                counter(name, "allowed"),
+                counter(name, "rejected"),
+                counter(name, "untracked")
+        };
+    }
+
+    private Counter counter(String name, String outcome) {
+        return Counter.builder("ratelimit.requests")
+                .description("속도 제한 판정 결과")
+                .tag("limit", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record BucketKey(String name, String principal) {
+    }
+
+    /**
+     * @param intervalNanos  토큰 하나가 충전되는 시간
+     * @param toleranceNanos 버킷 크기만큼의 허용 여유
+     */
+    private record Limit(long intervalNanos, long toleranceNanos) {
+    }
+}
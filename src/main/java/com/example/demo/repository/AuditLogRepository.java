@@ -0,0 +1,23 @@
+package com.example.demo.repository;
+
+import com.example.demo.audit.AuditAction;
+import com.example.demo.entity.AuditLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+
+    /**
+     * 수행자/작업 유형으로 감사 로그 검색 (null인 조건은 무시)
+     */
+    @Query("SELECT a FROM AuditLog a WHERE (:actor IS NULL OR a.actor = :actor) "
+            + "AND (:action IS NULL OR a.action = :action)")
+    Page<AuditLog> search(@Param("actor") String actor,
+                          @Param("action") AuditAction action,
+                          Pageable pageable);
+}
@@ -0,0 +1,38 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AttachmentView;
+import com.example.demo.entity.BoardAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BoardAttachmentRepository extends JpaRepository<BoardAttachment, Long> {
+
+    /**
+     * 게시글의 첨부파일 목록 (등록 순)
+     */
+    @Query("SELECT new com.example.demo.dto.AttachmentView(a.id, a.originalName, a.size) "
+            + "FROM BoardAttachment a WHERE a.board.id = :boardId ORDER BY a.id")
+    List<AttachmentView> findViewsByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 주어진 해시 중 아직 첨부파일이 참조하고 있는 해시 (고아 파일 정리용)
+     */
+    @Query("SELECT DISTINCT a.sha256 FROM BoardAttachment a WHERE a.sha256 IN :hashes")
+    List<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+
+    /**
+     * 게시글들의 첨부파일 행을 한 번에 삭제합니다. 저장 파일은 정리 작업이 삭제합니다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM BoardAttachment a WHERE a.board.id IN :boardIds")
+    int deleteByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+}
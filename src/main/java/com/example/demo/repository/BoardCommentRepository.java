@@ -0,0 +1,43 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.CommentView;
+import com.example.demo.entity.BoardComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BoardCommentRepository extends JpaRepository<BoardComment, Long> {
+
+    /**
+     * 게시글의 댓글을 ID 순 키셋으로 조회합니다 (작성자 이름까지 한 번의 쿼리).
+     */
+    @Query("SELECT new com.example.demo.dto.CommentView(c.id, c.content, c.createdAt, u.username, u.name) "
+            + "FROM BoardComment c JOIN c.user u "
+            + "WHERE c.board.id = :boardId AND c.id > :afterId ORDER BY c.id")
+    List<CommentView> findPage(@Param("boardId") Long boardId, @Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 게시글들의 댓글을 한 번에 삭제합니다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM BoardComment c WHERE c.board.id IN :boardIds")
+    int deleteByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+
+    /**
+     * 회원의 행 ID (회원 삭제 작업의 묶음 단위 삭제용)
+     */
+    @Query("SELECT c.id FROM BoardComment c WHERE c.user.id = :userId ORDER BY c.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT DISTINCT c.board.id FROM BoardComment c WHERE c.id IN :ids")
+    List<Long> findBoardIds(@Param("ids") Collection<Long> ids);
+}
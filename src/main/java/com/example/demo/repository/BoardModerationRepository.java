@@ -0,0 +1,21 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.BoardSearch;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 관리용 커스텀 리포지토리
+ */
+public interface BoardModerationRepository {
+
+    /**
+     * 검색 조건에 맞는 게시글 ID를 키셋 방식으로 조회합니다.
+     *
+     * @param search  검색 조건
+     * @param afterId 이 ID보다 큰 게시글만 조회
+     * @param limit   최대 조회 건수
+     * @return ID 오름차순 목록
+     */
+    List<Long> findModerationIds(BoardSearch search, long afterId, int limit);
+}
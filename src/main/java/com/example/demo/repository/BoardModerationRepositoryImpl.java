@@ -0,0 +1,52 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.BoardSearch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+/**
+ * {@link BoardModerationRepository} 구현체
+ *
+ * 지정된 조건만 WHERE 절에 포함하도록 JPQL을 동적으로 구성합니다.
+ */
+public class BoardModerationRepositoryImpl implements BoardModerationRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findModerationIds(BoardSearch search, long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT b.id FROM Board b WHERE b.id > :afterId");
+        boolean byAuthor = search.getAuthorUsername() != null && !search.getAuthorUsername().isBlank();
+        boolean byKeyword = search.getTitleKeyword() != null && !search.getTitleKeyword().isBlank();
+
+        if (byAuthor) {
+            jpql.append(" AND b.user.username = :authorUsername");
+        }
+        if (byKeyword) {
+            jpql.append(" AND b.title LIKE :titleKeyword ESCAPE '\\'");
+        }
+        if (search.getCreatedBefore() != null) {
+            jpql.append(" AND b.createdAt < :createdBefore");
+        }
+        jpql.append(" ORDER BY b.id");
+
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class)
+                .setParameter("afterId", afterId);
+        if (byAuthor) {
+            query.setParameter("authorUsername", search.getAuthorUsername().trim());
+        }
+        if (byKeyword) {
+            String keyword = search.getTitleKeyword().trim()
+                    .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            query.setParameter("titleKeyword", "%" + keyword + "%");
+        }
+        if (search.getCreatedBefore() != null) {
+            query.setParameter("createdBefore", search.getCreatedBefore().atStartOfDay());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -1,12 +1,79 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.BoardItem;
+import com.example.demo.dto.RecentBoard;
+import com.example.demo.dto.TrendingSeed;
 import com.example.demo.entity.Board;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardModerationRepository {
+    /**
+     * 목록 페이지 조회 (작성자를 함께 조인하여 행마다 사용자를 조회하지 않음)
+     */
+    @EntityGraph(attributePaths = "user")
     Page<Board> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * 댓글 수를 원자적으로 증감합니다.
+     *
+     * @return 갱신된 행 수 (게시글이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.commentCount = b.commentCount + :delta WHERE b.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @EntityGraph(attributePaths = "user")
+    Optional<Board> findWithUserById(Long id);
+
+    @Modifying
+    @Query("UPDATE Board b SET b.viewCount = b.viewCount + 1 WHERE b.id = :id")
+    int incrementViewCount(@Param("id") Long id);
+
+    long countByCreatedAtGreaterThanEqual(LocalDateTime from);
+
+    @Query("SELECT new com.example.demo.dto.RecentBoard(b.id, b.title, u.name, b.createdAt) "
+            + "FROM Board b JOIN b.user u ORDER BY b.createdAt DESC")
+    List<RecentBoard> findRecent(Pageable pageable);
+
+    /**
+     * JSON API 게시글 목록 (ID 내림차순 키셋, 본문 제외)
+     */
+    @Query("SELECT new com.example.demo.dto.BoardItem(b.id, b.title, u.name, b.viewCount, b.commentCount, b.createdAt) "
+            + "FROM Board b JOIN b.user u WHERE b.id < :beforeId ORDER BY b.id DESC")
+    List<BoardItem> findItems(@Param("beforeId") long beforeId, Pageable pageable);
+
+    @Query("SELECT new com.example.demo.dto.TrendingSeed(b.id, b.title, u.name, b.viewCount, b.createdAt) "
+            + "FROM Board b JOIN b.user u WHERE b.createdAt >= :since")
+    List<TrendingSeed> findTrendingSeeds(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM Board b WHERE b.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 회원의 행 ID (회원 삭제 작업의 묶음 단위 삭제용)
+     */
+    @Query("SELECT b.id FROM Board b WHERE b.user.id = :userId ORDER BY b.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 게시글들의 댓글 수를 실제 댓글 행 수로 다시 맞춥니다 (댓글을 일괄 삭제한 뒤).
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.commentCount = (SELECT COUNT(c) FROM BoardComment c WHERE c.board.id = b.id) "
+            + "WHERE b.id IN :ids")
+    int recountComments(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,36 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.CacheInvalidationLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationLogRepository extends JpaRepository<CacheInvalidationLog, Long> {
+
+    /**
+     * 주어진 ID 이후의 이벤트 (ID 순)
+     */
+    List<CacheInvalidationLog> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * 주어진 시각 이전에 기록된 이벤트 중 가장 큰 ID (없으면 null)
+     */
+    @Query("SELECT MAX(e.id) FROM CacheInvalidationLog e WHERE e.createdAt < :before")
+    Long findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * 보존 기간이 지난 이벤트 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM CacheInvalidationLog e WHERE e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,13 +1,100 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.CalculationItem;
+import com.example.demo.dto.HistoryRow;
+import com.example.demo.dto.RecentCalculation;
 import com.example.demo.entity.CalculationHistory;
 import com.example.demo.entity.User;
+import com.example.demo.sharding.CrossShard;
+import com.example.demo.sharding.ShardKey;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * 계산 기록 리포지토리 (사용자 ID로 샤딩됨, 라우팅 규칙은 PortfolioRepository와 같음)
+ */
 @Repository
 public interface CalculationHistoryRepository extends JpaRepository<CalculationHistory, Long> {
     List<CalculationHistory> findByUserOrderByCreatedAtDesc(User user);
-    List<CalculationHistory> findByUser_UsernameOrderByCreatedAtDesc(String username);
+
+    long countByUser_Id(@ShardKey Long userId);
+
+    @CrossShard
+    long countByCreatedAtGreaterThanEqual(LocalDateTime from);
+
+    @Query("SELECT new com.example.demo.dto.RecentCalculation(h.stockName, h.newAveragePrice, h.newTotalQuantity, h.createdAt) "
+            + "FROM CalculationHistory h WHERE h.user.id = :userId ORDER BY h.createdAt DESC")
+    List<RecentCalculation> findRecentByUserId(@Param("userId") @ShardKey Long userId, Pageable pageable);
+
+    /**
+     * 계산 기록을 ID 키셋 순서로 조회합니다 (분석 스냅샷 적재용, 필요한 컬럼만).
+     */
+    @Query("SELECT new com.example.demo.dto.HistoryRow(h.id, h.user.id, h.stockCode, h.stockName, h.existingAvgPrice, "
+            + "h.additionalQuantity, h.additionalPrice, h.newAveragePrice, h.createdAt) "
+            + "FROM CalculationHistory h WHERE h.id > :afterId ORDER BY h.id")
+    List<HistoryRow> findRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 기록을 (사용자, 작성 시각) 키셋 순서로 조회합니다 (보관 작업용, 사용자별 묶음을 만들기 위함).
+     */
+    @Query("SELECT h FROM CalculationHistory h WHERE h.user.id >= :fromUserId AND h.createdAt < :before "
+            + "ORDER BY h.user.id, h.createdAt, h.id")
+    List<CalculationHistory> findArchivable(@Param("fromUserId") long fromUserId,
+                                            @Param("before") LocalDateTime before,
+                                            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM CalculationHistory h WHERE h.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 종목 마스터 참조가 없는 행의 종목코드 (모든 샤드, 종목 마스터 연결용)
+     */
+    @CrossShard
+    @Query("SELECT DISTINCT h.stockCode FROM CalculationHistory h WHERE h.stock IS NULL")
+    List<String> findUnlinkedStockCodes();
+
+    /**
+     * 종목 마스터 참조가 없는 행을 주어진 마스터 종목에 연결합니다 (모든 샤드).
+     * 종목 마스터(stocks)는 기본 샤드에만 있으므로 호출자가 기본 샤드에서 종목코드 → ID를 구해 넘깁니다.
+     *
+     * @return 연결된 행 수
+     */
+    @CrossShard
+    @Modifying
+    @Query(value = "UPDATE calculation_history SET stock_id = :stockId WHERE stock_id IS NULL AND stock_code = :stockCode",
+            nativeQuery = true)
+    int linkStockMaster(@Param("stockCode") String stockCode, @Param("stockId") Long stockId);
+
+    /**
+     * 회원의 행 ID (회원 삭제 작업의 묶음 단위 삭제용)
+     */
+    @Query("SELECT h.id FROM CalculationHistory h WHERE h.user.id = :userId ORDER BY h.id")
+    List<Long> findIdsByUserId(@Param("userId") @ShardKey Long userId, Pageable pageable);
+
+    /**
+     * JSON API 계산 기록 목록 (ID 내림차순 키셋)
+     */
+    @Query("SELECT new com.example.demo.dto.CalculationItem(h.id, h.stockCode, h.stockName, h.existingQuantity, "
+            + "h.existingAvgPrice, h.additionalQuantity, h.additionalPrice, h.newAveragePrice, h.newTotalQuantity, "
+            + "h.createdAt) FROM CalculationHistory h WHERE h.user.id = :userId AND h.id < :beforeId ORDER BY h.id DESC")
+    List<CalculationItem> findItems(@Param("userId") @ShardKey Long userId,
+                                    @Param("beforeId") long beforeId,
+                                    Pageable pageable);
+
+    /**
+     * JSON API 계산 기록 단건 (본인 기록만)
+     */
+    @Query("SELECT new com.example.demo.dto.CalculationItem(h.id, h.stockCode, h.stockName, h.existingQuantity, "
+            + "h.existingAvgPrice, h.additionalQuantity, h.additionalPrice, h.newAveragePrice, h.newTotalQuantity, "
+            + "h.createdAt) FROM CalculationHistory h WHERE h.id = :id AND h.user.id = :userId")
+    Optional<CalculationItem> findItem(@Param("userId") @ShardKey Long userId, @Param("id") Long id);
 }
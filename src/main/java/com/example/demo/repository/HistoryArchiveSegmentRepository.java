@@ -0,0 +1,42 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.HistoryArchiveSegment;
+import com.example.demo.sharding.ShardKey;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관된 계산 기록 묶음 리포지토리 (사용자 ID로 샤딩됨)
+ */
+@Repository
+public interface HistoryArchiveSegmentRepository extends JpaRepository<HistoryArchiveSegment, Long> {
+
+    /**
+     * 지정 시각 이전의 기록이 담긴 묶음 (최근 묶음부터)
+     */
+    @Query("SELECT s FROM HistoryArchiveSegment s WHERE s.user.id = :userId AND s.fromCreatedAt < :before "
+            + "ORDER BY s.toCreatedAt DESC")
+    List<HistoryArchiveSegment> findByUserIdBefore(@Param("userId") @ShardKey Long userId,
+                                                   @Param("before") LocalDateTime before,
+                                                   Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(s.rowCount), 0) FROM HistoryArchiveSegment s WHERE s.user.id = :userId")
+    long sumRowCountByUserId(@Param("userId") @ShardKey Long userId);
+
+    /**
+     * 묶음을 ID 키셋 순서로 조회합니다 (통계 스냅샷 적재용, 샤드는 호출자가 지정).
+     */
+    @Query("SELECT s FROM HistoryArchiveSegment s WHERE s.id > :afterId ORDER BY s.id")
+    List<HistoryArchiveSegment> findAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 회원의 행 ID (회원 삭제 작업의 묶음 단위 삭제용)
+     */
+    @Query("SELECT s.id FROM HistoryArchiveSegment s WHERE s.user.id = :userId ORDER BY s.id")
+    List<Long> findIdsByUserId(@Param("userId") @ShardKey Long userId, Pageable pageable);
+}
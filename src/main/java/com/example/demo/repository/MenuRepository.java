@@ -13,4 +13,10 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
 
     @Query("SELECT DISTINCT m FROM Menu m JOIN m.roles r WHERE r.name IN :roleNames AND m.visible = true ORDER BY m.sortOrder")
     List<Menu> findByRoleNamesAndVisible(@Param("roleNames") List<String> roleNames);
+
+    /**
+     * 메뉴 경로와 접근 가능한 역할 이름 쌍 (URL 인가 규칙 컴파일용, 표시 여부와 무관)
+     */
+    @Query("SELECT m.path, r.name FROM Menu m JOIN m.roles r")
+    List<Object[]> findPathRoleNames();
 }
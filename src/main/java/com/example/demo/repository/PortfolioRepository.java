@@ -1,13 +1,116 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.OpenPosition;
+import com.example.demo.dto.PortfolioItem;
+import com.example.demo.dto.PortfolioSummary;
+import com.example.demo.dto.StockAggregate;
 import com.example.demo.entity.Portfolio;
 import com.example.demo.entity.User;
+import com.example.demo.sharding.CrossShard;
+import com.example.demo.sharding.ShardKey;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * 포트폴리오 리포지토리 (사용자 ID로 샤딩됨)
+ *
+ * 샤딩을 사용하면 호출마다 User/엔티티 인자, {@link ShardKey} 파라미터, 행 ID로 샤드가 정해지고,
+ * {@link CrossShard} 메서드는 모든 샤드에서 실행됩니다. 그 밖의 메서드(키셋 순회 등)는
+ * ShardContext.onShard로 샤드를 지정해 호출해야 합니다. users 등 다른 테이블과 조인하는 쿼리는 둘 수 없습니다.
+ */
 @Repository
 public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
     List<Portfolio> findByUserOrderByCreatedAtDesc(User user);
-    List<Portfolio> findByUser_UsernameOrderByCreatedAtDesc(String username);
+    Optional<Portfolio> findByUserAndStockCode(User user, String stockCode);
+
+    @Override
+    @CrossShard
+    long count();
+
+    @Query("SELECT new com.example.demo.dto.PortfolioSummary(COUNT(p), "
+            + "COALESCE(SUM(COALESCE(p.totalInvestment, p.quantity * p.averagePrice)), 0.0), "
+            + "COALESCE(SUM(p.quantity * COALESCE(p.currentPrice, p.averagePrice)), 0.0)) "
+            + "FROM Portfolio p WHERE p.user.id = :userId")
+    PortfolioSummary summarizeByUserId(@Param("userId") @ShardKey Long userId);
+
+    /**
+     * 포지션을 보유한 사용자 ID를 키셋 순서로 조회합니다 (평가금액 스냅샷 작업용).
+     */
+    @Query("SELECT DISTINCT p.user.id FROM Portfolio p WHERE p.user.id > :afterId ORDER BY p.user.id")
+    List<Long> findHolderIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT p FROM Portfolio p WHERE p.user.id IN :userIds")
+    List<Portfolio> findByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 저장된 손익/수익률을 현재가(없으면 평균가) 기준으로 일괄 갱신합니다.
+     * 투자금액이 비어 있는 이전 포지션은 수량 × 평균가를 투자금액으로 봅니다 (아래 집계 쿼리도 같음).
+     * 두 컬럼 모두 갱신하지 않는 컬럼만으로 계산합니다. MySQL은 단일 테이블 UPDATE의 SET을 왼쪽부터 적용하며
+     * 뒤의 식이 앞에서 바뀐 값을 읽으므로, 수익률을 갱신된 profitLoss로 계산하면 DB마다 결과가 달라집니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @CrossShard
+    @Modifying
+    @Query("UPDATE Portfolio p SET "
+            + "p.profitLoss = COALESCE(p.currentPrice, p.averagePrice) * p.quantity "
+            + "  - COALESCE(p.totalInvestment, p.quantity * p.averagePrice), "
+            + "p.profitLossRate = CASE WHEN COALESCE(p.totalInvestment, p.quantity * p.averagePrice) > 0 "
+            + "THEN (COALESCE(p.currentPrice, p.averagePrice) * p.quantity - COALESCE(p.totalInvestment, p.quantity * p.averagePrice)) "
+            + "  / COALESCE(p.totalInvestment, p.quantity * p.averagePrice) * 100 "
+            + "ELSE 0 END")
+    int refreshProfitLoss();
+
+    /**
+     * 종목별 보유 합계 (종목별 보유 현황 재집계용, 샤드별 결과는 호출자가 종목코드로 합침)
+     */
+    @CrossShard
+    @Query("SELECT new com.example.demo.dto.StockAggregate(p.stockCode, MAX(p.stockName), COUNT(p), "
+            + "SUM(p.quantity), SUM(COALESCE(p.totalInvestment, p.quantity * p.averagePrice)), SUM(p.quantity * COALESCE(p.currentPrice, p.averagePrice))) "
+            + "FROM Portfolio p GROUP BY p.stockCode")
+    List<StockAggregate> aggregateByStock();
+
+    /**
+     * 종목 마스터 참조가 없는 행의 종목코드 (모든 샤드, 종목 마스터 연결용)
+     */
+    @CrossShard
+    @Query("SELECT DISTINCT p.stockCode FROM Portfolio p WHERE p.stock IS NULL")
+    List<String> findUnlinkedStockCodes();
+
+    /**
+     * 종목 마스터 참조가 없는 행을 주어진 마스터 종목에 연결합니다 (모든 샤드).
+     * 종목 마스터(stocks)는 기본 샤드에만 있으므로 호출자가 기본 샤드에서 종목코드 → ID를 구해 넘깁니다.
+     *
+     * @return 연결된 행 수
+     */
+    @CrossShard
+    @Modifying
+    @Query(value = "UPDATE portfolios SET stock_id = :stockId WHERE stock_id IS NULL AND stock_code = :stockCode",
+            nativeQuery = true)
+    int linkStockMaster(@Param("stockCode") String stockCode, @Param("stockId") Long stockId);
+
+    /**
+     * 회원의 포지션 (회원 삭제 작업의 묶음 단위 삭제와 보유 현황 집계 차감용)
+     */
+    @Query("SELECT new com.example.demo.dto.OpenPosition(p.id, p.stockCode, p.quantity, "
+            + "COALESCE(p.totalInvestment, p.quantity * p.averagePrice)) "
+            + "FROM Portfolio p WHERE p.user.id = :userId ORDER BY p.id")
+    List<OpenPosition> findPositionsByUserId(@Param("userId") @ShardKey Long userId, Pageable pageable);
+
+    /**
+     * JSON API 포트폴리오 목록 (ID 내림차순 키셋)
+     */
+    @Query("SELECT new com.example.demo.dto.PortfolioItem(p.id, p.stockCode, p.stockName, p.quantity, p.averagePrice, "
+            + "p.currentPrice, p.totalInvestment, p.profitLoss, p.profitLossRate, p.realizedProfitLoss, p.updatedAt) "
+            + "FROM Portfolio p WHERE p.user.id = :userId AND p.id < :beforeId ORDER BY p.id DESC")
+    List<PortfolioItem> findItems(@Param("userId") @ShardKey Long userId,
+                                  @Param("beforeId") long beforeId,
+                                  Pageable pageable);
 }
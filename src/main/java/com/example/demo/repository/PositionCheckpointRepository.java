@@ -0,0 +1,28 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.PositionCheckpoint;
+import com.example.demo.entity.User;
+import com.example.demo.sharding.ShardKey;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포지션 체크포인트 리포지토리 (사용자 ID로 샤딩됨, 라우팅 규칙은 PortfolioRepository와 같음)
+ */
+@Repository
+public interface PositionCheckpointRepository extends JpaRepository<PositionCheckpoint, Long> {
+
+    Optional<PositionCheckpoint> findTopByUserAndStockCodeOrderByTradeSeqDesc(User user, String stockCode);
+
+    /**
+     * 회원의 행 ID (회원 삭제 작업의 묶음 단위 삭제용)
+     */
+    @Query("SELECT c.id FROM PositionCheckpoint c WHERE c.user.id = :userId ORDER BY c.id")
+    List<Long> findIdsByUserId(@Param("userId") @ShardKey Long userId, Pageable pageable);
+}
@@ -2,10 +2,15 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
     Optional<Role> findByName(String name);
+
+    @Query("SELECT r.name FROM Role r ORDER BY r.name")
+    List<String> findAllNames();
 }
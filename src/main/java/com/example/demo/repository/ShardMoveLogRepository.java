@@ -0,0 +1,14 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.ShardMoveLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ShardMoveLogRepository extends JpaRepository<ShardMoveLog, Long> {
+
+    List<ShardMoveLog> findByStatusInOrderByIdAsc(Collection<ShardMoveLog.Status> statuses);
+}
@@ -0,0 +1,45 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.StockHolding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockHoldingRepository extends JpaRepository<StockHolding, String> {
+
+    /**
+     * 보유자가 있는 종목 집계 (보유자 0인 행은 남겨 두므로 제외)
+     */
+    List<StockHolding> findByHoldersGreaterThanOrderByTotalInvestmentDesc(int holders);
+
+    List<StockHolding> findByHoldersGreaterThan(int holders);
+
+    /**
+     * 종목 집계에 증분을 더합니다. lastPrice가 null이면 기존 가격을 유지합니다.
+     *
+     * @return 갱신된 행 수 (집계 행이 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StockHolding h SET "
+            + "h.holders = h.holders + :holders, "
+            + "h.totalQuantity = h.totalQuantity + :quantity, "
+            + "h.totalInvestment = h.totalInvestment + :investment, "
+            + "h.lastPrice = COALESCE(:lastPrice, h.lastPrice), "
+            + "h.updatedAt = :now "
+            + "WHERE h.stockCode = :stockCode")
+    int applyDelta(@Param("stockCode") String stockCode,
+                   @Param("holders") int holders,
+                   @Param("quantity") long quantity,
+                   @Param("investment") double investment,
+                   @Param("lastPrice") Double lastPrice,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM StockHolding h")
+    int deleteAllHoldings();
+}
@@ -0,0 +1,17 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Stock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StockRepository extends JpaRepository<Stock, Long> {
+
+    @Query("SELECT s.code FROM Stock s")
+    List<String> findAllCodes();
+
+    List<Stock> findByCodeIn(Collection<String> codes);
+}
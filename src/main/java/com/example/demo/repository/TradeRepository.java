@@ -0,0 +1,38 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.TradeView;
+import com.example.demo.entity.Trade;
+import com.example.demo.entity.User;
+import com.example.demo.sharding.ShardKey;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 거래 원장 리포지토리 (사용자 ID로 샤딩됨, 라우팅 규칙은 PortfolioRepository와 같음)
+ */
+@Repository
+public interface TradeRepository extends JpaRepository<Trade, Long> {
+
+    /**
+     * 체크포인트 이후의 거래 (포지션 재구성용)
+     */
+    List<Trade> findByUserAndStockCodeAndSeqGreaterThanOrderBySeqAsc(User user, String stockCode, Long seq);
+
+    /**
+     * 종목의 최근 거래 (순번 내림차순)
+     */
+    @Query("SELECT new com.example.demo.dto.TradeView(t.seq, t.side, t.quantity, t.price, t.fee, t.executedAt) "
+            + "FROM Trade t WHERE t.user = :user AND t.stockCode = :stockCode ORDER BY t.seq DESC")
+    List<TradeView> findRecentViews(@Param("user") User user, @Param("stockCode") String stockCode, Pageable pageable);
+
+    /**
+     * 회원의 행 ID (회원 삭제 작업의 묶음 단위 삭제용)
+     */
+    @Query("SELECT t.id FROM Trade t WHERE t.user.id = :userId ORDER BY t.id")
+    List<Long> findIdsByUserId(@Param("userId") @ShardKey Long userId, Pageable pageable);
+}
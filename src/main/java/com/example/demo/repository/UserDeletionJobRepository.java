@@ -0,0 +1,38 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.UserDeletionJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserDeletionJobRepository extends JpaRepository<UserDeletionJob, Long> {
+
+    Optional<UserDeletionJob> findByUserId(Long userId);
+
+    List<UserDeletionJob> findByStatusInOrderByIdAsc(Collection<UserDeletionJob.Status> statuses);
+
+    List<UserDeletionJob> findAllByOrderByIdDesc(Pageable pageable);
+
+    /**
+     * 다른 노드가 처리 중이 아닌(임대 시간이 지난) 미완료 작업을 가져갑니다.
+     *
+     * @return 가져갔으면 1
+     */
+    @Modifying
+    @Query("UPDATE UserDeletionJob j SET j.status = :running, j.leaseUntil = :leaseUntil, j.updatedAt = :now "
+            + "WHERE j.id = :id AND j.status IN :claimable AND (j.leaseUntil IS NULL OR j.leaseUntil < :now)")
+    int claim(@Param("id") Long id,
+              @Param("claimable") Collection<UserDeletionJob.Status> claimable,
+              @Param("running") UserDeletionJob.Status running,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -0,0 +1,37 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AdminUserPage;
+import com.example.demo.dto.AdminUserSearch;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * 관리자 회원 목록 조회용 커스텀 리포지토리
+ *
+ * 검색 조건에 따라 JPQL을 동적으로 구성하므로 Spring Data 파생 쿼리 대신 직접 구현합니다.
+ */
+public interface UserDirectoryRepository {
+
+    /**
+     * 검색 조건에 맞는 회원을 키셋 방식으로 한 페이지 조회합니다. (OFFSET, COUNT 쿼리 없음)
+     *
+     * @param search   검색 조건
+     * @param sort     정렬 (첫 번째 항목만 사용, 정렬 가능 컬럼: id, username, name, email — 그 외는 ID 순)
+     * @param afterKey 이전 페이지의 nextKey (첫 페이지이거나 ID 정렬이면 null)
+     * @param afterId  이전 페이지의 nextId (첫 페이지면 null)
+     * @param limit    페이지 크기
+     * @return 회원 목록 페이지
+     */
+    AdminUserPage searchDirectory(AdminUserSearch search, Sort sort, String afterKey, Long afterId, int limit);
+
+    /**
+     * 검색 조건에 맞는 회원 ID를 키셋 방식으로 조회합니다. (일괄 작업용)
+     *
+     * @param search  검색 조건
+     * @param afterId 이 ID보다 큰 회원만 조회
+     * @param limit   최대 조회 건수
+     * @return ID 오름차순 목록
+     */
+    List<Long> findDirectoryIds(AdminUserSearch search, long afterId, int limit);
+}
@@ -0,0 +1,150 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AdminUserPage;
+import com.example.demo.dto.AdminUserRow;
+import com.example.demo.dto.AdminUserSearch;
+import com.example.demo.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link UserDirectoryRepository} 구현체
+ *
+ * 회원 한 명당 한 행을 반환하는 단일 프로젝션 쿼리를 사용합니다.
+ * 역할 이름은 상관 서브쿼리의 listagg로 집계하므로 페이지에 포함된 행에 대해서만 계산되고,
+ * 회원/역할/메뉴 엔티티는 영속성 컨텍스트에 로딩되지 않습니다.
+ * 페이지는 (정렬 컬럼, ID) 키셋으로 이어 읽고 limit + 1건으로 다음 페이지 여부를 판단하므로
+ * 뒤쪽 페이지로 갈수록 느려지는 OFFSET이나 페이지마다 전체를 세는 COUNT 쿼리가 없습니다.
+ * 정렬과 문자열 조건 모두 NULL이 없는 소문자 검색 컬럼을 사용하므로
+ * (소문자 컬럼, ID) 복합 인덱스 하나로 접두어 LIKE 검색, 정렬, 키셋 비교를 처리합니다.
+ */
+public class UserDirectoryRepositoryImpl implements UserDirectoryRepository {
+
+    /**
+     * 키셋 정렬 컬럼
+     *
+     * @param expression JPQL 정렬/비교 식 (NULL이 없어야 키셋 비교가 성립)
+     * @param keyOf      행에서 다음 페이지 키를 꺼내는 함수
+     */
+    private record SortKey(String expression, Function<AdminUserRow, String> keyOf) {
+    }
+
+    /**
+     * 정렬에 사용할 수 있는 속성 (그 외 속성은 ID 순). 대소문자 구분 없이 정렬합니다.
+     */
+    private static final Map<String, SortKey> SORT_KEYS = Map.of(
+            "username", new SortKey("u.usernameLower", row -> User.lower(row.getUsername())),
+            "name", new SortKey("u.nameLower", row -> User.lower(row.getName())),
+            "email", new SortKey("u.emailLower",
+                    row -> row.getEmail() != null ? User.lower(row.getEmail()) : ""));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public AdminUserPage searchDirectory(AdminUserSearch search, Sort sort, String afterKey, Long afterId,
+                                         int limit) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("id"));
+        SortKey sortKey = SORT_KEYS.get(order.getProperty());
+        String comparison = order.isAscending() ? " > " : " < ";
+        String direction = order.isAscending() ? " ASC" : " DESC";
+
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder where = new StringBuilder(buildWhere(search, parameters));
+        if (afterId != null) {
+            if (sortKey == null) {
+                where.append(" AND u.id").append(comparison).append(":afterId");
+            } else {
+                where.append(" AND (").append(sortKey.expression()).append(comparison).append(":afterKey")
+                        .append(" OR (").append(sortKey.expression()).append(" = :afterKey")
+                        .append(" AND u.id").append(comparison).append(":afterId))");
+                parameters.put("afterKey", afterKey != null ? afterKey : "");
+            }
+            parameters.put("afterId", afterId);
+        }
+        // 동일 값 사이의 순서를 ID로 고정하여 페이지 경계에서 행이 중복/누락되지 않도록 함
+        String orderBy = sortKey == null ? " ORDER BY u.id" + direction
+                : " ORDER BY " + sortKey.expression() + direction + ", u.id" + direction;
+
+        TypedQuery<AdminUserRow> query = entityManager.createQuery(
+                "SELECT new com.example.demo.dto.AdminUserRow("
+                        + "u.id, u.username, u.name, u.email, u.enabled, u.createdAt, "
+                        + "(SELECT listagg(r.name, ',') WITHIN GROUP (ORDER BY r.name) "
+                        + "   FROM Role r JOIN r.users ru WHERE ru.id = u.id)) "
+                        + "FROM User u" + where + orderBy,
+                AdminUserRow.class);
+        parameters.forEach(query::setParameter);
+        List<AdminUserRow> rows = query.setMaxResults(limit + 1).getResultList();
+
+        if (rows.size() <= limit) {
+            return new AdminUserPage(rows, null, null);
+        }
+        List<AdminUserRow> page = rows.subList(0, limit);
+        AdminUserRow last = page.get(page.size() - 1);
+        return new AdminUserPage(page, sortKey != null ? sortKey.keyOf().apply(last) : null, last.getId());
+    }
+
+    @Override
+    public List<Long> findDirectoryIds(AdminUserSearch search, long afterId, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = buildWhere(search, parameters);
+        where += " AND u.id > :afterId";
+        parameters.put("afterId", afterId);
+
+        TypedQuery<Long> query = entityManager.createQuery(
+                "SELECT u.id FROM User u" + where + " ORDER BY u.id", Long.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * 검색 조건으로 WHERE 절을 만들고 바인딩할 파라미터를 채웁니다.
+     */
+    static String buildWhere(AdminUserSearch search, Map<String, Object> parameters) {
+        // 삭제 처리 중(또는 처리가 끝나기 전)인 회원은 목록과 일괄 작업 대상에서 제외
+        StringBuilder where = new StringBuilder(" WHERE u.deletedAt IS NULL");
+        if (search == null) {
+            return where.toString();
+        }
+
+        appendPrefix(where, parameters, "u.usernameLower", "username", search.getUsername());
+        appendPrefix(where, parameters, "u.nameLower", "name", search.getName());
+        appendPrefix(where, parameters, "u.emailLower", "email", search.getEmail());
+
+        if (search.getEnabled() != null) {
+            where.append(" AND u.enabled = :enabled");
+            parameters.put("enabled", search.getEnabled());
+        }
+
+        if (hasText(search.getRole())) {
+            where.append(" AND EXISTS (SELECT 1 FROM Role rf JOIN rf.users rfu WHERE rfu.id = u.id AND rf.name = :role)");
+            parameters.put("role", search.getRole().trim());
+        }
+
+        return where.toString();
+    }
+
+    private static void appendPrefix(StringBuilder where, Map<String, Object> parameters,
+                                     String column, String parameter, String value) {
+        if (!hasText(value)) {
+            return;
+        }
+        where.append(" AND ").append(column).append(" LIKE :").append(parameter).append(" ESCAPE '\\'");
+        parameters.put(parameter, escapeLike(User.lower(value.trim())) + "%");
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -2,11 +2,65 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserDirectoryRepository {
     Optional<User> findByUsername(String username);
+
+    /**
+     * 사용자명으로 ID만 조회 (엔티티/역할을 로딩하지 않음, 삭제 처리 중인 회원 제외)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.username = :username AND u.deletedAt IS NULL")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    /**
+     * 비활성화되었거나 삭제 처리 중인 회원이면 사용자명 (세션 만료용)
+     */
+    @Query("SELECT u.username FROM User u WHERE u.id = :id AND (u.enabled = false OR u.deletedAt IS NOT NULL)")
+    Optional<String> findInactiveUsernameById(@Param("id") Long id);
+
+    /**
+     * 주어진 사용자명 중 비활성화되었거나 삭제 처리 중인 회원 (세션 만료용)
+     */
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames AND (u.enabled = false OR u.deletedAt IS NOT NULL)")
+    List<String> findInactiveUsernames(@Param("usernames") Collection<String> usernames);
     boolean existsByUsername(String username);
+
+    /**
+     * 삭제 처리 중인 회원을 제외한 회원 수
+     */
+    long countByDeletedAtIsNull();
+
+    @Modifying
+    @Query("UPDATE User u SET u.enabled = :enabled WHERE u.id IN :ids AND u.enabled <> :enabled AND u.deletedAt IS NULL")
+    int updateEnabled(@Param("ids") Collection<Long> ids, @Param("enabled") boolean enabled);
+
+    /**
+     * 역할을 아직 갖지 않은 회원에게만 user_roles 매핑을 추가합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_roles (user_id, role_id) "
+            + "SELECT u.id, :roleId FROM users u WHERE u.id IN (:ids) AND u.deleted_at IS NULL "
+            + "AND NOT EXISTS (SELECT 1 FROM user_roles ur WHERE ur.user_id = u.id AND ur.role_id = :roleId)",
+            nativeQuery = true)
+    int assignRole(@Param("ids") Collection<Long> ids, @Param("roleId") Long roleId);
+
+    /**
+     * 회원을 삭제 상태로 표시하고 로그인을 막습니다 (이미 삭제 상태이면 변경 없음).
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.enabled = false, u.deletedAt = :now WHERE u.id = :id AND u.deletedAt IS NULL")
+    int markDeleted(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_roles WHERE user_id = :userId", nativeQuery = true)
+    int deleteRoles(@Param("userId") Long userId);
 }
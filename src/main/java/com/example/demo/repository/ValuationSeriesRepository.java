@@ -0,0 +1,26 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.ValuationSeries;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ValuationSeriesRepository extends JpaRepository<ValuationSeries, Long> {
+
+    List<ValuationSeries> findByUserIdInAndBucketMonth(Collection<Long> userIds, LocalDate bucketMonth);
+
+    List<ValuationSeries> findByUserIdAndSeriesKeyAndBucketMonthBetweenOrderByBucketMonth(
+            Long userId, String seriesKey, LocalDate fromMonth, LocalDate toMonth);
+
+    /**
+     * 회원의 행 ID (회원 삭제 작업의 묶음 단위 삭제용)
+     */
+    @Query("SELECT v.id FROM ValuationSeries v WHERE v.userId = :userId ORDER BY v.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+}
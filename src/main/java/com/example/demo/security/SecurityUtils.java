@@ -0,0 +1,45 @@
+package com.example.demo.security;
+
+import com.example.demo.constant.RoleType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 인증 정보 관련 유틸리티
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public final class SecurityUtils {
+
+    private SecurityUtils() {
+    }
+
+    /**
+     * 인증 정보가 지정한 역할을 가지고 있는지 확인합니다.
+     * 권한 문자열을 직접 비교하므로 비교용 GrantedAuthority 객체를 만들지 않습니다.
+     *
+     * @param authentication Spring Security 인증 객체 (null이면 false)
+     * @param roleType       확인할 역할
+     * @return 역할을 가지고 있으면 true
+     */
+    public static boolean hasRole(Authentication authentication, RoleType roleType) {
+        if (authentication == null) {
+            return false;
+        }
+        String expected = roleType.getAuthority();
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (expected.equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 관리자 역할 보유 여부
+     */
+    public static boolean isAdmin(Authentication authentication) {
+        return hasRole(authentication, RoleType.ADMIN);
+    }
+}
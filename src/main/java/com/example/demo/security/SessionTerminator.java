@@ -0,0 +1,83 @@
+package com.example.demo.security;
+
+import com.example.demo.cache.CacheInvalidationListener;
+import com.example.demo.cache.InvalidationEvent;
+import com.example.demo.cache.InvalidationType;
+import com.example.demo.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 비활성화/삭제된 회원의 로그인 세션 만료 처리
+ *
+ * 회원 변경 이벤트(캐시 무효화 버스)를 받으면 이 노드의 세션 레지스트리에서 해당 회원의 세션을
+ * 만료시킵니다. 만료된 세션은 다음 요청에서 ConcurrentSessionFilter가 로그아웃시키므로,
+ * 삭제 요청 전에 로그인해 있던 회원도 더 이상 데이터를 만들 수 없습니다.
+ * 이벤트는 모든 노드에 전달되므로 다른 노드의 세션도 폴링 주기 안에 만료됩니다.
+ *
+ * 회원 상태는 쓰기 트랜잭션에서 읽어 복제본 라우팅을 사용할 때도 방금 커밋된 값을 봅니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class SessionTerminator implements CacheInvalidationListener {
+
+    private final SessionRegistry sessionRegistry;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SessionTerminator(SessionRegistry sessionRegistry,
+                             UserRepository userRepository,
+                             TransactionTemplate transactionTemplate) {
+        this.sessionRegistry = sessionRegistry;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public Set<InvalidationType> getInvalidationTypes() {
+        return Set.of(InvalidationType.USER);
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        Map<String, Object> principals = new HashMap<>();
+        for (Object principal : sessionRegistry.getAllPrincipals()) {
+            if (principal instanceof UserDetails details) {
+                principals.put(details.getUsername(), principal);
+            }
+        }
+        if (principals.isEmpty()) {
+            return;
+        }
+
+        List<String> inactive = transactionTemplate.execute(status -> event.isAll()
+                ? userRepository.findInactiveUsernames(principals.keySet())
+                : userRepository.findInactiveUsernameById(event.keyAsLong()).stream().toList());
+        for (String username : inactive) {
+            expire(username, principals.get(username));
+        }
+    }
+
+    private void expire(String username, Object principal) {
+        if (principal == null) {
+            return;
+        }
+        List<SessionInformation> sessions = sessionRegistry.getAllSessions(principal, false);
+        sessions.forEach(SessionInformation::expireNow);
+        if (!sessions.isEmpty()) {
+            log.info("로그인 세션 만료 - 사용자: {}, 세션 {}개", username, sessions.size());
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.example.demo.security;
+
+import com.example.demo.cache.CacheInvalidationListener;
+import com.example.demo.cache.InvalidationEvent;
+import com.example.demo.cache.InvalidationType;
+import com.example.demo.constant.RoleType;
+import com.example.demo.repository.MenuRepository;
+import com.example.demo.repository.RoleRepository;
+import com.example.demo.startup.StartupTask;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 메뉴-역할 매핑 기반 URL 인가 엔진
+ *
+ * menus × menu_roles 를 경로 접두사 트라이로 컴파일하고, 각 노드에 접근 가능한 역할의
+ * 비트마스크를 저장합니다. 요청 URL은 트라이를 한 번 따라가며 경로 구분자('/') 경계에서
+ * 끝나는 가장 긴 메뉴 경로를 찾고, 사용자 역할 마스크와 AND 연산 한 번으로 판단합니다.
+ *
+ * - 역할이 매핑되지 않은 메뉴 경로와 메뉴에 없는 경로는 로그인만 요구
+ * - 규칙은 컨트롤러 매핑과 같은 기준인 디코딩된 애플리케이션 내부 경로에 적용
+ *   (인코딩된 '/', ';', '..' 세그먼트처럼 해석이 모호한 경로는 거부)
+ * - JSON API(/api/**) 경로는 같은 데이터를 보여주는 화면 메뉴 경로로 바꿔 판단하며,
+ *   {@link #API_MENU_PATHS}에 없는 API 경로는 거부 (새 API가 메뉴 규칙을 우회하지 않도록)
+ * - ROLE_ADMIN 은 매핑과 관계없이 항상 허용 (관리자가 스스로를 잠그지 않도록)
+ * - 컴파일 결과는 불변 스냅샷이며, {@link #rebuild()}가 새 스냅샷으로 한 번에 교체
+ *   (첫 컴파일 전에는 모든 요청을 거부)
+ * - 메뉴/역할 변경 이벤트(캐시 무효화 버스)를 받으면 모든 노드에서 다시 컴파일
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UrlAuthorizationEngine
+        implements AuthorizationManager<RequestAuthorizationContext>, StartupTask, CacheInvalidationListener {
+
+    /**
+     * API 리소스 경로 → 같은 데이터를 다루는 화면 메뉴 경로 (모든 메뉴에 접근할 수 있어야 허용)
+     * API 컨트롤러를 추가하면 여기에도 등록해야 합니다.
+     */
+    static final Map<String, List<String>> API_MENU_PATHS = Map.of(
+            "/api/v1/portfolios", List.of("/portfolio"),
+            "/api/v1/calculations", List.of("/calculator", "/history"),
+            "/api/v1/history", List.of("/history"),
+            "/api/v1/boards", List.of("/board"));
+
+    private static final String API_PREFIX = "/api/";
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final MenuRepository menuRepository;
+    private final RoleRepository roleRepository;
+
+    /**
+     * 경로 해석 기준 (세미콜론 내용 제거 + URL 디코딩, Spring MVC 디스패치와 같음)
+     */
+    private static final UrlPathHelper PATH_HELPER = UrlPathHelper.defaultInstance;
+
+    /**
+     * 현재 컴파일된 스냅샷 (기동 작업 완료 전에는 모든 요청을 거부하는 빈 스냅샷)
+     */
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Override
+    public String getName() {
+        return "urlAuthorization";
+    }
+
+    @Override
+    public Set<String> getDependsOn() {
+        return Set.of("dataLoader");
+    }
+
+    @Override
+    public void run() {
+        rebuild();
+    }
+
+    @Override
+    public Set<InvalidationType> getInvalidationTypes() {
+        return Set.of(InvalidationType.MENU, InvalidationType.ROLE);
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 메뉴/역할 매핑을 다시 읽어 트라이를 컴파일하고 스냅샷을 교체합니다.
+     * 메뉴나 역할 변경 이벤트를 받으면 호출됩니다. 컴파일 중에도 요청은 이전 스냅샷으로 판단됩니다.
+     */
+    public synchronized void rebuild() {
+        List<String> roleNames = roleRepository.findAllNames();
+        if (roleNames.size() > Long.SIZE) {
+            throw new IllegalStateException("URL 인가 엔진은 역할을 최대 " + Long.SIZE + "개까지 지원합니다: " + roleNames.size());
+        }
+
+        Map<String, Long> roleBits = new HashMap<>();
+        for (int i = 0; i < roleNames.size(); i++) {
+            roleBits.put(roleNames.get(i), 1L << i);
+        }
+
+        Node root = new Node();
+        int rules = 0;
+        for (Object[] row : menuRepository.findPathRoleNames()) {
+            String path = normalize((String) row[0]);
+            Long bit = roleBits.get((String) row[1]);
+            if (path == null || bit == null) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < path.length(); i++) {
+                node = node.getOrAddChild(path.charAt(i));
+            }
+            if (node.mask == 0) {
+                rules++;
+            }
+            node.mask |= bit;
+        }
+
+        Long adminBit = roleBits.get(RoleType.ADMIN.getAuthority());
+        snapshot = new Snapshot(root, Map.copyOf(roleBits), adminBit != null ? adminBit : 0L, true);
+        log.info("URL 인가 규칙 컴파일 완료: 경로 {}개, 역할 {}개", rules, roleNames.size());
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        Authentication auth = authentication.get();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return DENIED;
+        }
+        HttpServletRequest request = context.getRequest();
+        if (isAmbiguous(request.getRequestURI())) {
+            log.warn("해석이 모호한 요청 경로 거부: {}", request.getRequestURI());
+            return DENIED;
+        }
+        return isAllowed(PATH_HELPER.getPathWithinApplication(request), auth) ? GRANTED : DENIED;
+    }
+
+    /**
+     * 인증된 사용자가 경로에 접근할 수 있는지 판단합니다.
+     *
+     * @param path 디코딩된 애플리케이션 내부 경로 (컨텍스트 경로 제외)
+     * @param auth 인증 정보
+     */
+    boolean isAllowed(String path, Authentication auth) {
+        Snapshot current = snapshot;
+        if (!current.ready || isDotSegmentPath(path)) {
+            return false;
+        }
+        if (path.startsWith(API_PREFIX)) {
+            List<String> menuPaths = apiMenuPaths(path);
+            return menuPaths != null && menuPaths.stream().allMatch(menuPath -> current.permits(menuPath, auth));
+        }
+        return current.permits(path, auth);
+    }
+
+    /**
+     * API 경로에 대응하는 메뉴 경로 ('/' 경계에서 일치하는 리소스 경로가 없으면 null)
+     */
+    private static List<String> apiMenuPaths(String path) {
+        for (Map.Entry<String, List<String>> entry : API_MENU_PATHS.entrySet()) {
+            String resource = entry.getKey();
+            if (path.startsWith(resource)
+                    && (path.length() == resource.length() || path.charAt(resource.length()) == '/')) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 디코딩하면 경로 구분이 바뀌거나 매핑 대상이 달라질 수 있는 원본 URI인지 확인합니다.
+     * (인코딩된 '/', 백슬래시, 인코딩된 '%', '.', 그리고 ';' 경로 매개변수)
+     */
+    static boolean isAmbiguous(String rawUri) {
+        if (rawUri.indexOf(';') >= 0 || rawUri.indexOf('\\') >= 0) {
+            return true;
+        }
+        for (int i = rawUri.indexOf('%'); i >= 0; i = rawUri.indexOf('%', i + 1)) {
+            if (i + 2 >= rawUri.length()) {
+                return true;
+            }
+            String encoded = rawUri.substring(i + 1, i + 3).toUpperCase(Locale.ROOT);
+            if (encoded.equals("2F") || encoded.equals("5C") || encoded.equals("25")
+                    || encoded.equals("2E") || encoded.equals("3B")) {
+                return true;
+            }
+        }
+        return isDotSegmentPath(rawUri);
+    }
+
+    /**
+     * '.' 또는 '..' 세그먼트나 빈 세그먼트('//')가 있는 경로인지 확인합니다.
+     */
+    private static boolean isDotSegmentPath(String path) {
+        if (path.contains("//")) {
+            return true;
+        }
+        for (String segment : path.split("/", -1)) {
+            if (segment.equals(".") || segment.equals("..")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 메뉴 경로를 트라이 키로 정규화합니다. 쿼리 문자열과 끝의 '/'는 제거하고,
+     * 루트('/')나 상대 경로처럼 접두사 규칙으로 쓸 수 없는 경로는 null을 반환합니다.
+     */
+    private static String normalize(String path) {
+        if (path == null) {
+            return null;
+        }
+        String normalized = path.trim();
+        int query = normalized.indexOf('?');
+        if (query >= 0) {
+            normalized = normalized.substring(0, query);
+        }
+        while (normalized.length() > 1 && normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized.length() > 1 && normalized.charAt(0) == '/' ? normalized : null;
+    }
+
+    /**
+     * 불변 컴파일 결과
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new Node(), Map.of(), 0L, false);
+
+        final Node root;
+        final Map<String, Long> roleBits;
+        final long adminMask;
+
+        /**
+         * 메뉴/역할 매핑을 한 번이라도 컴파일했는지 (false면 모든 요청 거부)
+         */
+        final boolean ready;
+
+        Snapshot(Node root, Map<String, Long> roleBits, long adminMask, boolean ready) {
+            this.root = root;
+            this.roleBits = roleBits;
+            this.adminMask = adminMask;
+            this.ready = ready;
+        }
+
+        /**
+         * '/' 경계에서 끝나는 가장 긴 메뉴 경로의 역할 마스크 (없으면 0)
+         */
+        long requiredMask(String path) {
+            long required = 0;
+            Node node = root;
+            int end = path.length();
+            for (int i = 0; i < end; i++) {
+                node = node.child(path.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.mask != 0 && (i + 1 == end || path.charAt(i + 1) == '/')) {
+                    required = node.mask;
+                }
+            }
+            return required;
+        }
+
+        boolean permits(String path, Authentication auth) {
+            long required = requiredMask(path);
+            return required == 0 || (roleMask(auth) & (required | adminMask)) != 0;
+        }
+
+        long roleMask(Authentication auth) {
+            long mask = 0;
+            for (GrantedAuthority authority : auth.getAuthorities()) {
+                Long bit = roleBits.get(authority.getAuthority());
+                if (bit != null) {
+                    mask |= bit;
+                }
+            }
+            return mask;
+        }
+    }
+
+    /**
+     * 문자 단위 트라이 노드. 자식은 문자 오름차순 배열로 두고 이진 탐색합니다.
+     * 스냅샷으로 공개된 뒤에는 변경되지 않습니다.
+     */
+    private static final class Node {
+
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private long mask;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrAddChild(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            Node child = new Node();
+            newLabels[insertAt] = c;
+            newChildren[insertAt] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.demo.service;
+
+import com.example.demo.constant.ErrorMessages;
+import com.example.demo.dto.AdminUserSearch;
+import com.example.demo.dto.BoardSearch;
+import com.example.demo.dto.BulkOperationResult;
+import com.example.demo.entity.Role;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.BoardRepository;
+import com.example.demo.repository.RoleRepository;
+import com.example.demo.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * 관리자 일괄 작업 서비스
+ *
+ * 회원 활성화/비활성화, 역할 부여, 게시글 삭제를 ID 목록 또는 검색 조건으로 일괄 처리합니다.
+ * 대상은 ID 오름차순 키셋으로 청크 단위(CHUNK_SIZE)로 나누고, 청크마다 하나의 트랜잭션에서
+ * IN 절을 사용하는 UPDATE/INSERT/DELETE 문만 실행합니다. 엔티티는 로딩하지 않습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminBulkService {
+
+    /**
+     * 청크 하나에 포함되는 최대 ID 수
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final BoardRepository boardRepository;
+    private final BoardService boardService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 회원 활성화 여부 일괄 변경
+     *
+     * @param ids           선택한 회원 ID 목록 (비어 있으면 검색 조건 사용)
+     * @param search        검색 조건
+     * @param enabled       변경할 활성화 여부
+     * @param excludeUserId 대상에서 제외할 회원 ID (작업을 실행하는 관리자 본인)
+     * @return 작업 결과
+     */
+    public BulkOperationResult setUsersEnabled(List<Long> ids, AdminUserSearch search,
+                                               boolean enabled, Long excludeUserId) {
+        String operation = enabled ? "회원 활성화" : "회원 비활성화";
+        LongFunction<List<Long>> source = userSource(ids, search);
+
+        return run(operation, source, chunk -> {
+            List<Long> targets = chunk;
+            if (!enabled && excludeUserId != null && chunk.contains(excludeUserId)) {
+                targets = new ArrayList<>(chunk);
+                targets.remove(excludeUserId);
+            }
+            return targets.isEmpty() ? 0 : userRepository.updateEnabled(targets, enabled);
+        });
+    }
+
+    /**
+     * 회원 역할 일괄 부여 (이미 가진 회원은 건너뜀)
+     *
+     * @param ids      선택한 회원 ID 목록 (비어 있으면 검색 조건 사용)
+     * @param search   검색 조건
+     * @param roleName 부여할 역할 이름
+     * @return 작업 결과
+     */
+    public BulkOperationResult assignRole(List<Long> ids, AdminUserSearch search, String roleName) {
+        Role role = roleRepository.findByName(roleName)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.ROLE_NOT_FOUND));
+        LongFunction<List<Long>> source = userSource(ids, search);
+
+        return run("역할 부여(" + role.getName() + ")", source,
+                chunk -> userRepository.assignRole(chunk, role.getId()));
+    }
+
+    /**
+     * 게시글 일괄 삭제 (댓글/첨부파일 포함)
+     *
+     * @param ids    선택한 게시글 ID 목록 (비어 있으면 검색 조건 사용)
+     * @param search 검색 조건
+     * @return 작업 결과
+     */
+    public BulkOperationResult deleteBoards(List<Long> ids, BoardSearch search) {
+        LongFunction<List<Long>> source;
+        if (ids != null && !ids.isEmpty()) {
+            source = fromIds(ids);
+        } else if (search != null && search.hasCriteria()) {
+            source = afterId -> boardRepository.findModerationIds(search, afterId, CHUNK_SIZE);
+        } else {
+            throw new BusinessException(ErrorMessages.BULK_TARGET_REQUIRED);
+        }
+
+        return run("게시글 삭제", source, boardService::deleteBoards);
+    }
+
+    private LongFunction<List<Long>> userSource(List<Long> ids, AdminUserSearch search) {
+        if (ids != null && !ids.isEmpty()) {
+            return fromIds(ids);
+        }
+        if (search != null && search.hasCriteria()) {
+            return afterId -> userRepository.findDirectoryIds(search, afterId, CHUNK_SIZE);
+        }
+        throw new BusinessException(ErrorMessages.BULK_TARGET_REQUIRED);
+    }
+
+    /**
+     * 명시적인 ID 목록을 정렬/중복 제거 후 키셋 청크로 잘라 제공합니다.
+     */
+    private static LongFunction<List<Long>> fromIds(List<Long> ids) {
+        long[] sorted = ids.stream().filter(id -> id != null).mapToLong(Long::longValue)
+                .distinct().sorted().toArray();
+        return afterId -> {
+            List<Long> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (long id : sorted) {
+                if (id > afterId) {
+                    chunk.add(id);
+                    if (chunk.size() == CHUNK_SIZE) {
+                        break;
+                    }
+                }
+            }
+            return chunk;
+        };
+    }
+
+    /**
+     * 키셋 청크 단위로 작업을 실행합니다.
+     *
+     * @param operation 작업 이름 (로그/결과 표시용)
+     * @param source    마지막으로 처리한 ID 다음의 청크를 반환하는 함수 (빈 목록이면 종료)
+     * @param action    청크 하나를 처리하고 영향받은 행 수를 반환하는 함수
+     */
+    private BulkOperationResult run(String operation,
+                                    LongFunction<List<Long>> source,
+                                    Function<List<Long>, Integer> action) {
+        long startNanos = System.nanoTime();
+        long matched = 0;
+        long affected = 0;
+        int chunks = 0;
+        long afterId = 0;
+
+        log.info("일괄 작업 시작: {}", operation);
+        while (true) {
+            List<Long> chunk = source.apply(afterId);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            Integer changed = transactionTemplate.execute(status -> action.apply(chunk));
+            chunks++;
+            matched += chunk.size();
+            affected += changed != null ? changed : 0;
+            afterId = chunk.get(chunk.size() - 1);
+
+            log.info("일괄 작업 진행: {} - 청크 {}, 누적 대상 {}건, 누적 처리 {}건",
+                    operation, chunks, matched, affected);
+        }
+
+        BulkOperationResult result = new BulkOperationResult(operation, matched, affected, chunks,
+                (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("일괄 작업 완료: {}", result.toMessage());
+        return result;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.demo.service;
+
+import com.example.demo.attachment.ContentAddressedStore;
+import com.example.demo.attachment.ContentAddressedStore.ContentTooLargeException;
+import com.example.demo.attachment.ContentAddressedStore.StoredContent;
+import com.example.demo.constant.ErrorMessages;
+import com.example.demo.dto.AttachmentView;
+import com.example.demo.entity.Board;
+import com.example.demo.entity.BoardAttachment;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.BoardAttachmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 게시글 첨부파일 서비스
+ *
+ * - 업로드는 multipart 임시 파일에서 스트림으로 읽어 내용 주소 저장소에 저장 (힙에 전체를 올리지 않음)
+ * - 같은 내용은 SHA-256 해시로 중복 제거되어 하나의 파일을 공유
+ * - 게시글 삭제 시 첨부 행만 삭제하고, 참조가 없어진 파일은 정리 작업(cleanupOrphans)이 삭제
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class AttachmentService {
+
+    /**
+     * 게시글당 최대 첨부파일 수
+     */
+    public static final int MAX_FILES_PER_BOARD = 5;
+
+    private static final String DEFAULT_CONTENT_TYPE = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+    private final BoardAttachmentRepository attachmentRepository;
+    private final ContentAddressedStore contentStore;
+    private final long maxFileBytes;
+    private final Duration orphanGracePeriod;
+
+    public AttachmentService(BoardAttachmentRepository attachmentRepository,
+                             ContentAddressedStore contentStore,
+                             @Value("${spring.servlet.multipart.max-file-size:20MB}") DataSize maxFileSize,
+                             @Value("${app.attachment.orphan-grace-hours:24}") long orphanGraceHours) {
+        this.attachmentRepository = attachmentRepository;
+        this.contentStore = contentStore;
+        this.maxFileBytes = maxFileSize.toBytes();
+        this.orphanGracePeriod = Duration.ofHours(orphanGraceHours);
+    }
+
+    /**
+     * 게시글에 파일을 첨부합니다. 파일을 선택하지 않은 빈 항목은 건너뜁니다.
+     *
+     * @throws BusinessException 첨부 수/크기 제한을 넘거나 저장에 실패했을 때
+     */
+    @Transactional
+    public List<BoardAttachment> attach(Board board, List<MultipartFile> files) {
+        List<MultipartFile> uploads = files == null ? List.of()
+                : files.stream().filter(file -> file != null && !file.isEmpty()).toList();
+        if (uploads.size() > MAX_FILES_PER_BOARD) {
+            throw new BusinessException(ErrorMessages.ATTACHMENT_TOO_MANY);
+        }
+
+        List<BoardAttachment> attachments = new ArrayList<>(uploads.size());
+        for (MultipartFile file : uploads) {
+            StoredContent content = store(file);
+
+            BoardAttachment attachment = new BoardAttachment();
+            attachment.setBoard(board);
+            attachment.setSha256(content.sha256());
+            attachment.setSize(content.size());
+            attachment.setOriginalName(cleanFileName(file.getOriginalFilename()));
+            attachment.setContentType(cleanContentType(file.getContentType()));
+            attachments.add(attachment);
+
+            log.info("첨부파일 저장 - 게시글: {}, 파일: {}, {}bytes{}", board.getId(),
+                    attachment.getOriginalName(), content.size(), content.created() ? "" : " (중복 내용 재사용)");
+        }
+        return attachmentRepository.saveAll(attachments);
+    }
+
+    /**
+     * 게시글의 첨부파일 목록
+     */
+    public List<AttachmentView> getAttachments(Long boardId) {
+        return attachmentRepository.findViewsByBoardId(boardId);
+    }
+
+    /**
+     * 다운로드할 첨부파일 조회
+     *
+     * @throws ResourceNotFoundException 첨부파일을 찾을 수 없을 때
+     */
+    public BoardAttachment getAttachment(Long id) {
+        return attachmentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.ATTACHMENT_NOT_FOUND));
+    }
+
+    /**
+     * 첨부파일 내용이 저장된 경로
+     */
+    public Path resolveFile(BoardAttachment attachment) {
+        return contentStore.resolve(attachment.getSha256());
+    }
+
+    /**
+     * 게시글들의 첨부 행을 삭제합니다 (게시글 삭제 트랜잭션에 참여).
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int deleteForBoards(Collection<Long> boardIds) {
+        return attachmentRepository.deleteByBoardIds(boardIds);
+    }
+
+    /**
+     * 어떤 첨부도 참조하지 않는 저장 파일을 삭제합니다.
+     * 업로드 직후 아직 커밋되지 않은 파일이 지워지지 않도록 유예 시간보다 오래된 파일만 대상으로 합니다.
+     */
+    @Scheduled(cron = "${app.attachment.cleanup-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void cleanupOrphans() {
+        long startNanos = System.nanoTime();
+        try {
+            int deleted = contentStore.sweep(Instant.now().minus(orphanGracePeriod),
+                    hashes -> new HashSet<>(attachmentRepository.findReferencedHashes(hashes)));
+            log.info("첨부파일 정리 완료 - 삭제 {}개, {}ms", deleted, (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.error("첨부파일 정리 실패", e);
+        }
+    }
+
+    private StoredContent store(MultipartFile file) {
+        try {
+            return contentStore.store(file.getInputStream(), maxFileBytes);
+        } catch (ContentTooLargeException e) {
+            throw new BusinessException(ErrorMessages.ATTACHMENT_TOO_LARGE, e);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorMessages.ATTACHMENT_UPLOAD_FAILED, e);
+        }
+    }
+
+    /**
+     * 경로를 제거한 파일명 (브라우저에 따라 전체 경로가 올 수 있음)
+     */
+    private static String cleanFileName(String originalName) {
+        String name = StringUtils.getFilename(StringUtils.cleanPath(
+                originalName != null ? originalName.replace('\\', '/') : ""));
+        if (!StringUtils.hasText(name)) {
+            return "file";
+        }
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
+    }
+
+    private static String cleanContentType(String contentType) {
+        if (!StringUtils.hasText(contentType) || contentType.length() > 100) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+        try {
+            return MediaType.parseMediaType(contentType).toString();
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+    }
+}
@@ -1,34 +1,44 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.CacheInvalidationBus;
+import com.example.demo.cache.InvalidationEvent;
+import com.example.demo.cache.InvalidationType;
 import com.example.demo.constant.ErrorMessages;
 import com.example.demo.dto.BoardRequest;
+import com.example.demo.dto.CommentPage;
+import com.example.demo.dto.CommentView;
 import com.example.demo.entity.Board;
+import com.example.demo.entity.BoardComment;
 import com.example.demo.entity.User;
 import com.example.demo.exception.AccessDeniedException;
+import com.example.demo.exception.BusinessException;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.markdown.MarkdownRenderer;
+import com.example.demo.repository.BoardCommentRepository;
 import com.example.demo.repository.BoardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * 게시판 비즈니스 로직 서비스
  *
- * 게시판 관련 모든 비즈니스 로직을 처리합니다:
- * - 게시글 조회 (전체 목록, 단건)
- * - 게시글 생성
- * - 게시글 수정
- * - 게시글 삭제
- * - 조회수 증가
- * - 권한 검증
- * - 페이지네이션
+ * 게시글 조회(목록/단건), 생성, 수정, 삭제, 조회수 증가, 권한 검증과 댓글을 처리합니다.
+ * - 조회수/댓글 수는 엔티티를 저장하지 않고 UPDATE 문으로 원자적으로 증감
+ *   (동시에 들어온 댓글 추가/조회가 서로의 값을 덮어쓰지 않음)
+ * - 댓글 목록은 게시글마다 한 번의 키셋 쿼리로 조회
+ * - 본문 Markdown은 작성 시(또는 HTML이 없거나 원문보다 오래된 경우 첫 조회 시) 한 번만 렌더링하여 저장
+ * - 게시글 삭제 시 댓글/첨부 행을 각각 한 번의 DELETE 문으로 먼저 삭제하고,
+ *   삭제 이벤트를 발행하여 모든 노드의 인기 게시글 순위/최근 게시글 캐시에서 제거
  *
  * @author JAVA-WEB-PROTO
  * @version 1.0
@@ -39,28 +49,37 @@ import java.time.LocalDateTime;
 @Transactional(readOnly = true)
 public class BoardService {
 
-    private final BoardRepository boardRepository;
+    /**
+     * 댓글 한 페이지의 크기
+     */
+    public static final int COMMENT_PAGE_SIZE = 50;
 
     /**
      * 기본 페이지 크기 (한 페이지에 표시할 게시글 수)
      */
     private static final int DEFAULT_PAGE_SIZE = 10;
 
+    private static final int MAX_COMMENT_LENGTH = 1000;
+
+    private final BoardRepository boardRepository;
+    private final BoardCommentRepository boardCommentRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final MarkdownRenderer markdownRenderer;
+    private final AttachmentService attachmentService;
+
     /**
-     * 모든 게시글 조회 (페이지네이션)
+     * 모든 게시글 조회 (페이지네이션, 작성자 함께 조회)
      *
      * @param page 페이지 번호 (0부터 시작)
      * @return 게시글 페이지 객체
      */
     public Page<Board> getAllBoards(int page) {
         log.info("게시글 목록 조회 - 페이지: {}", page);
-        Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE,
-                Sort.by(Sort.Direction.DESC, "createdAt"));
-        return boardRepository.findAll(pageable);
+        return boardRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(page, DEFAULT_PAGE_SIZE));
     }
 
     /**
-     * ID로 게시글 조회
+     * ID로 게시글 조회 (조회수 변화 없음)
      *
      * @param id 게시글 ID
      * @return 조회된 게시글
@@ -68,7 +87,7 @@ public class BoardService {
      */
     public Board getBoardById(Long id) {
         log.debug("게시글 조회: ID={}", id);
-        return boardRepository.findById(id)
+        return boardRepository.findWithUserById(id)
                 .orElseThrow(() -> {
                     log.error("게시글을 찾을 수 없음: ID={}", id);
                     return new ResourceNotFoundException(ErrorMessages.BOARD_NOT_FOUND);
@@ -76,7 +95,7 @@ public class BoardService {
     }
 
     /**
-     * 새로운 게시글 생성
+     * 새로운 게시글 생성 (첨부파일 없음)
      *
      * @param request 게시글 생성 요청 DTO
      * @param user    게시글 작성자
@@ -85,22 +104,13 @@ public class BoardService {
     @Transactional
     public Board createBoard(BoardRequest request, User user) {
         log.info("게시글 생성 - 작성자: {}, 제목: {}", user.getUsername(), request.getTitle());
-
-        Board board = new Board();
-        board.setUser(user);
-        board.setTitle(request.getTitle());
-        board.setContent(request.getContent());
-        board.setViewCount(0);
-        board.setCreatedAt(LocalDateTime.now());
-        board.setUpdatedAt(LocalDateTime.now());
-
-        Board saved = boardRepository.save(board);
+        Board saved = write(user, request.getTitle(), request.getContent(), null);
         log.info("게시글 생성 완료: ID={}", saved.getId());
         return saved;
     }
 
     /**
-     * 게시글 수정 (권한 검증 포함)
+     * 게시글 수정 (권한 검증 포함, 본문 HTML도 다시 렌더링)
      *
      * @param id          수정할 게시글 ID
      * @param request     수정할 내용
@@ -115,7 +125,7 @@ public class BoardService {
         Board board = getBoardById(id);
 
         // 권한 검증: 작성자이거나 관리자만 수정 가능
-        if (!board.getUser().getId().equals(currentUser.getId()) && !isAdmin) {
+        if (!isAuthor(board, currentUser) && !isAdmin) {
             log.warn("게시글 수정 권한 없음 - 게시글 ID: {}, 사용자: {}",
                     id, currentUser.getUsername());
             throw new AccessDeniedException(ErrorMessages.BOARD_ACCESS_DENIED);
@@ -124,15 +134,17 @@ public class BoardService {
         log.info("게시글 수정 - ID: {}, 작성자: {}, 수정 요청자: {}",
                 id, board.getUser().getUsername(), currentUser.getUsername());
 
+        LocalDateTime now = LocalDateTime.now();
         board.setTitle(request.getTitle());
         board.setContent(request.getContent());
-        board.setUpdatedAt(LocalDateTime.now());
-
-        return boardRepository.save(board);
+        board.setUpdatedAt(now);
+        board.setContentHtml(markdownRenderer.render(request.getContent()));
+        board.setContentHtmlSourceAt(now);
+        return board;
     }
 
     /**
-     * 게시글 삭제 (권한 검증 포함)
+     * 게시글 삭제 (권한 검증 포함, 댓글/첨부 행과 함께 삭제)
      *
      * @param id          삭제할 게시글 ID
      * @param currentUser 현재 로그인한 사용자
@@ -145,7 +157,7 @@ public class BoardService {
         Board board = getBoardById(id);
 
         // 권한 검증: 작성자이거나 관리자만 삭제 가능
-        if (!board.getUser().getId().equals(currentUser.getId()) && !isAdmin) {
+        if (!isAuthor(board, currentUser) && !isAdmin) {
             log.warn("게시글 삭제 권한 없음 - 게시글 ID: {}, 사용자: {}",
                     id, currentUser.getUsername());
             throw new AccessDeniedException(ErrorMessages.BOARD_ACCESS_DENIED);
@@ -153,21 +165,24 @@ public class BoardService {
 
         log.info("게시글 삭제 - ID: {}, 작성자: {}, 삭제 요청자: {}",
                 id, board.getUser().getUsername(), currentUser.getUsername());
-        boardRepository.delete(board);
+        deleteBoards(List.of(id));
     }
 
     /**
-     * 조회수 증가
+     * 조회수 증가 (UPDATE 문으로 원자적으로 증가)
      *
      * @param id 게시글 ID
      * @return 조회수가 증가된 게시글
+     * @throws ResourceNotFoundException 게시글을 찾을 수 없을 때
      */
     @Transactional
     public Board incrementViewCount(Long id) {
+        if (boardRepository.incrementViewCount(id) == 0) {
+            throw new ResourceNotFoundException(ErrorMessages.BOARD_NOT_FOUND);
+        }
         Board board = getBoardById(id);
-        board.setViewCount(board.getViewCount() + 1);
         log.debug("게시글 조회수 증가 - ID: {}, 조회수: {}", id, board.getViewCount());
-        return boardRepository.save(board);
+        return board;
     }
 
     /**
@@ -182,4 +197,128 @@ public class BoardService {
         log.debug("게시글 작성자 확인 - 게시글 ID: {}, 작성자 여부: {}", board.getId(), isAuthor);
         return isAuthor;
     }
+
+    /**
+     * 게시글 작성 (본문 HTML을 함께 렌더링하여 저장하고 첨부파일을 등록)
+     *
+     * @param files 첨부파일 (없으면 null 또는 빈 목록)
+     */
+    @Transactional
+    public Board write(User user, String title, String content, List<MultipartFile> files) {
+        LocalDateTime now = LocalDateTime.now();
+        Board board = new Board();
+        board.setUser(user);
+        board.setTitle(title);
+        board.setContent(content);
+        board.setViewCount(0);
+        board.setCreatedAt(now);
+        board.setUpdatedAt(now);
+        board.setContentHtml(markdownRenderer.render(content));
+        board.setContentHtmlSourceAt(now);
+        Board saved = boardRepository.save(board);
+        attachmentService.attach(saved, files);
+        return saved;
+    }
+
+    /**
+     * 조회수를 1 증가시키고 게시글을 조회합니다.
+     * 저장된 HTML이 없거나 원문보다 오래되었으면 이때 한 번 렌더링하여 저장합니다.
+     *
+     * @throws ResourceNotFoundException 게시글을 찾을 수 없을 때
+     */
+    @Transactional
+    public Board viewBoard(Long id) {
+        boardRepository.incrementViewCount(id);
+        Board board = boardRepository.findWithUserById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.BOARD_NOT_FOUND));
+
+        if (board.getContentHtml() == null
+                || !Objects.equals(board.getContentHtmlSourceAt(), board.getUpdatedAt())) {
+            // 변경 감지로 contentHtml, contentHtmlSourceAt 컬럼만 갱신됨 (DynamicUpdate)
+            board.setContentHtml(markdownRenderer.render(board.getContent()));
+            board.setContentHtmlSourceAt(board.getUpdatedAt());
+            log.debug("게시글 본문 HTML 렌더링 - 게시글: {}", id);
+        }
+        return board;
+    }
+
+    /**
+     * 댓글 한 페이지 조회
+     *
+     * @param boardId 게시글 ID
+     * @param afterId 이전 페이지의 마지막 댓글 ID (첫 페이지는 0)
+     */
+    public CommentPage getComments(Long boardId, long afterId) {
+        List<CommentView> rows = boardCommentRepository.findPage(boardId, afterId,
+                PageRequest.of(0, COMMENT_PAGE_SIZE + 1));
+        if (rows.size() <= COMMENT_PAGE_SIZE) {
+            return new CommentPage(rows, null);
+        }
+        List<CommentView> page = rows.subList(0, COMMENT_PAGE_SIZE);
+        return new CommentPage(page, page.get(page.size() - 1).id());
+    }
+
+    /**
+     * 댓글 작성 (게시글 댓글 수를 같은 트랜잭션에서 증가)
+     *
+     * @throws BusinessException         내용이 비어 있거나 너무 길 때
+     * @throws ResourceNotFoundException 게시글을 찾을 수 없을 때
+     */
+    @Transactional
+    public BoardComment addComment(Long boardId, User user, String content) {
+        String text = content != null ? content.strip() : "";
+        if (text.isEmpty() || text.length() > MAX_COMMENT_LENGTH) {
+            throw new BusinessException(ErrorMessages.COMMENT_CONTENT_INVALID);
+        }
+        if (boardRepository.addCommentCount(boardId, 1) == 0) {
+            throw new ResourceNotFoundException(ErrorMessages.BOARD_NOT_FOUND);
+        }
+
+        BoardComment comment = new BoardComment();
+        comment.setBoard(boardRepository.getReferenceById(boardId));
+        comment.setUser(user);
+        comment.setContent(text);
+        comment.setCreatedAt(LocalDateTime.now());
+        BoardComment saved = boardCommentRepository.save(comment);
+        log.info("댓글 작성 - 게시글: {}, 댓글: {}, 작성자: {}", boardId, saved.getId(), user.getUsername());
+        return saved;
+    }
+
+    /**
+     * 댓글 삭제 (작성자 또는 관리자, 게시글 댓글 수를 같은 트랜잭션에서 감소)
+     *
+     * @return 댓글이 속한 게시글 ID
+     * @throws ResourceNotFoundException 댓글을 찾을 수 없을 때
+     * @throws AccessDeniedException     권한이 없을 때
+     */
+    @Transactional
+    public Long deleteComment(Long commentId, String currentUsername, boolean isAdmin) {
+        BoardComment comment = boardCommentRepository.findById(commentId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.COMMENT_NOT_FOUND));
+        if (!comment.getUser().getUsername().equals(currentUsername) && !isAdmin) {
+            throw new AccessDeniedException(ErrorMessages.COMMENT_ACCESS_DENIED);
+        }
+
+        Long boardId = comment.getBoard().getId();
+        boardCommentRepository.delete(comment);
+        boardRepository.addCommentCount(boardId, -1);
+        log.info("댓글 삭제 - 게시글: {}, 댓글: {}, 요청자: {}", boardId, commentId, currentUsername);
+        return boardId;
+    }
+
+    /**
+     * 게시글과 그 댓글/첨부 행을 삭제합니다 (각각 한 번의 DELETE 문).
+     *
+     * @return 삭제된 게시글 수
+     */
+    @Transactional
+    public int deleteBoards(Collection<Long> boardIds) {
+        int comments = boardCommentRepository.deleteByBoardIds(boardIds);
+        attachmentService.deleteForBoards(boardIds);
+        int boards = boardRepository.deleteAllByIdIn(boardIds);
+        // 커밋된 뒤에만 전달되므로 롤백되면 순위에서 빠지지 않음
+        boardIds.forEach(id -> invalidationBus.publish(InvalidationEvent.of(InvalidationType.BOARD, id)));
+        log.debug("게시글 삭제 - 게시글 {}건, 댓글 {}건", boards, comments);
+        return boards;
+    }
 }
@@ -2,6 +2,7 @@ package com.example.demo.service;
 
 import com.example.demo.constant.ErrorMessages;
 import com.example.demo.dto.CalculationRequest;
+import com.example.demo.dto.StockSuggestion;
 import com.example.demo.entity.CalculationHistory;
 import com.example.demo.entity.User;
 import com.example.demo.exception.AccessDeniedException;
@@ -34,6 +35,7 @@ import java.util.List;
 public class CalculationHistoryService {
 
     private final CalculationHistoryRepository calculationHistoryRepository;
+    private final StockMasterService stockMasterService;
 
     /**
      * 사용자의 모든 계산 기록 조회
@@ -88,8 +90,12 @@ public class CalculationHistoryService {
         // 계산 기록 생성
         CalculationHistory history = new CalculationHistory();
         history.setUser(user);
+        StockSuggestion master = stockMasterService.findByCode(request.getStockCode());
+        if (master != null) {
+            history.setStock(stockMasterService.getReference(master));
+        }
         history.setStockCode(request.getStockCode());
-        history.setStockName(request.getStockName());
+        history.setStockName(master != null ? master.name() : request.getStockName());
         history.setExistingQuantity(request.getExistingQuantity());
         history.setExistingAvgPrice(request.getExistingAvgPrice());
         history.setAdditionalQuantity(request.getAdditionalQuantity());
@@ -123,8 +129,8 @@ public class CalculationHistoryService {
             throw new AccessDeniedException(ErrorMessages.HISTORY_ACCESS_DENIED);
         }
 
-        log.info("계산 기록 삭제 - ID: {}, 소유자: {}, 삭제 요청자: {}",
-                id, history.getUser().getUsername(), currentUser.getUsername());
+        log.info("계산 기록 삭제 - ID: {}, 소유자 ID: {}, 삭제 요청자: {}",
+                id, history.getUser().getId(), currentUser.getUsername());
         calculationHistoryRepository.delete(history);
     }
 
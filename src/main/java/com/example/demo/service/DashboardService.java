@@ -0,0 +1,193 @@
+package com.example.demo.service;
+
+import com.example.demo.cache.CacheInvalidationListener;
+import com.example.demo.cache.InvalidationEvent;
+import com.example.demo.cache.InvalidationType;
+import com.example.demo.cache.TtlCache;
+import com.example.demo.dto.AdminStats;
+import com.example.demo.dto.DashboardView;
+import com.example.demo.dto.PortfolioSummary;
+import com.example.demo.dto.RecentBoard;
+import com.example.demo.dto.RecentCalculation;
+import com.example.demo.dto.WidgetResult;
+import com.example.demo.repository.BoardRepository;
+import com.example.demo.repository.CalculationHistoryRepository;
+import com.example.demo.repository.PortfolioRepository;
+import com.example.demo.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 위젯 서비스
+ *
+ * 서로 독립적인 위젯(포트폴리오 합계, 계산 횟수, 최근 계산, 최근 게시글, 관리자 통계)을
+ * 전용 스레드 풀에서 동시에 로딩합니다.
+ * - 위젯마다 제한 시간(widget-timeout-ms)이 있으며, 넘기면 TIMEOUT 결과로 대체되어 페이지가 기다리지 않음
+ * - 로딩 결과는 짧은 TTL의 캐시에 보관 (사용자별 위젯은 사용자 ID, 공용 위젯은 단일 키)
+ * - 스레드 풀 큐가 가득 차면 새 로딩을 거부하고 자리 표시로 대체 (과부하 시 DB를 더 누르지 않음)
+ *
+ * 제한 시간을 넘긴 로딩도 백그라운드에서 끝까지 실행되어 캐시를 채우므로 다음 요청에서는 표시됩니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class DashboardService implements CacheInvalidationListener {
+
+    private static final int RECENT_LIMIT = 5;
+    private static final int MAX_CACHED_USERS = 10_000;
+    private static final String GLOBAL_KEY = "global";
+
+    private final PortfolioRepository portfolioRepository;
+    private final CalculationHistoryRepository calculationHistoryRepository;
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final long widgetTimeoutMs;
+    private final ThreadPoolExecutor executor;
+
+    private final TtlCache<Long, PortfolioSummary> portfolioCache;
+    private final TtlCache<Long, Long> calculationCountCache;
+    private final TtlCache<Long, List<RecentCalculation>> recentCalculationCache;
+    private final TtlCache<String, List<RecentBoard>> recentBoardCache;
+    private final TtlCache<String, AdminStats> adminStatsCache;
+
+    public DashboardService(PortfolioRepository portfolioRepository,
+                            CalculationHistoryRepository calculationHistoryRepository,
+                            BoardRepository boardRepository,
+                            UserRepository userRepository,
+                            @Value("${app.dashboard.widget-timeout-ms:300}") long widgetTimeoutMs,
+                            @Value("${app.dashboard.cache-ttl-seconds:15}") long cacheTtlSeconds,
+                            @Value("${app.dashboard.pool-size:8}") int poolSize,
+                            @Value("${app.dashboard.queue-capacity:100}") int queueCapacity) {
+        this.portfolioRepository = portfolioRepository;
+        this.calculationHistoryRepository = calculationHistoryRepository;
+        this.boardRepository = boardRepository;
+        this.userRepository = userRepository;
+        this.widgetTimeoutMs = widgetTimeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-widget-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.portfolioCache = new TtlCache<>(cacheTtlSeconds, TimeUnit.SECONDS, MAX_CACHED_USERS);
+        this.calculationCountCache = new TtlCache<>(cacheTtlSeconds, TimeUnit.SECONDS, MAX_CACHED_USERS);
+        this.recentCalculationCache = new TtlCache<>(cacheTtlSeconds, TimeUnit.SECONDS, MAX_CACHED_USERS);
+        this.recentBoardCache = new TtlCache<>(cacheTtlSeconds, TimeUnit.SECONDS, 1);
+        this.adminStatsCache = new TtlCache<>(cacheTtlSeconds, TimeUnit.SECONDS, 1);
+    }
+
+    /**
+     * 대시보드 위젯을 동시에 로딩합니다. 가장 느린 위젯도 제한 시간 안에 반환됩니다.
+     *
+     * @param userId  현재 사용자 ID
+     * @param isAdmin 관리자 여부 (관리자 통계 위젯 포함 여부)
+     * @return 위젯 결과 묶음
+     */
+    public DashboardView loadDashboard(Long userId, boolean isAdmin) {
+        CompletableFuture<WidgetResult<PortfolioSummary>> portfolio = load("portfolio",
+                () -> portfolioCache.get(userId, () -> portfolioRepository.summarizeByUserId(userId)));
+        CompletableFuture<WidgetResult<Long>> calculationCount = load("calculationCount",
+                () -> calculationCountCache.get(userId, () -> calculationHistoryRepository.countByUser_Id(userId)));
+        CompletableFuture<WidgetResult<List<RecentCalculation>>> recentCalculations = load("recentCalculations",
+                () -> recentCalculationCache.get(userId, () -> calculationHistoryRepository.findRecentByUserId(
+                        userId, PageRequest.of(0, RECENT_LIMIT))));
+        CompletableFuture<WidgetResult<List<RecentBoard>>> recentBoards = load("recentBoards",
+                () -> recentBoardCache.get(GLOBAL_KEY, () -> boardRepository.findRecent(
+                        PageRequest.of(0, RECENT_LIMIT))));
+        CompletableFuture<WidgetResult<AdminStats>> adminStats = isAdmin
+                ? load("adminStats", () -> adminStatsCache.get(GLOBAL_KEY, this::loadAdminStats))
+                : CompletableFuture.completedFuture(null);
+
+        CompletableFuture.allOf(portfolio, calculationCount, recentCalculations, recentBoards, adminStats).join();
+        return new DashboardView(portfolio.join(), calculationCount.join(), recentCalculations.join(),
+                recentBoards.join(), adminStats.join());
+    }
+
+    /**
+     * 사용자별 위젯 캐시를 비웁니다 (본인 데이터를 변경한 직후 최신 값을 보여줄 때).
+     */
+    public void evictUser(Long userId) {
+        portfolioCache.invalidate(userId);
+        calculationCountCache.invalidate(userId);
+        recentCalculationCache.invalidate(userId);
+    }
+
+    /**
+     * 회원 변경 시 해당 회원(키가 없으면 전체)의 위젯 캐시를, 게시글 삭제 시 최근 게시글 캐시를 비웁니다.
+     */
+    @Override
+    public Set<InvalidationType> getInvalidationTypes() {
+        return Set.of(InvalidationType.USER, InvalidationType.BOARD);
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        if (event.type() == InvalidationType.BOARD) {
+            recentBoardCache.invalidateAll();
+        } else if (event.isAll()) {
+            portfolioCache.invalidateAll();
+            calculationCountCache.invalidateAll();
+            recentCalculationCache.invalidateAll();
+        } else {
+            evictUser(event.keyAsLong());
+        }
+    }
+
+    private AdminStats loadAdminStats() {
+        LocalDate today = LocalDate.now();
+        return new AdminStats(
+                userRepository.countByDeletedAtIsNull(),
+                calculationHistoryRepository.countByCreatedAtGreaterThanEqual(today.atStartOfDay()),
+                portfolioRepository.count(),
+                calculationHistoryRepository.countByCreatedAtGreaterThanEqual(today.minusDays(6).atStartOfDay())
+                        + boardRepository.countByCreatedAtGreaterThanEqual(today.minusDays(6).atStartOfDay()));
+    }
+
+    /**
+     * 위젯 하나를 비동기로 로딩하고, 제한 시간 초과/오류/거부 시 자리 표시 결과로 대체합니다.
+     */
+    private <T> CompletableFuture<WidgetResult<T>> load(String widget, Supplier<T> loader) {
+        try {
+            return CompletableFuture.supplyAsync(() -> WidgetResult.ok(loader.get()), executor)
+                    .exceptionally(e -> {
+                        log.warn("대시보드 위젯 로딩 실패: {}", widget, e);
+                        return WidgetResult.error();
+                    })
+                    .completeOnTimeout(WidgetResult.timeout(), widgetTimeoutMs, TimeUnit.MILLISECONDS)
+                    .thenApply(result -> {
+                        if (result.status() == WidgetResult.Status.TIMEOUT) {
+                            log.debug("대시보드 위젯 제한 시간 초과: {} ({}ms)", widget, widgetTimeoutMs);
+                        }
+                        return result;
+                    });
+        } catch (RejectedExecutionException e) {
+            log.warn("대시보드 위젯 로딩 거부 (스레드 풀 포화): {}", widget);
+            return CompletableFuture.completedFuture(WidgetResult.error());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
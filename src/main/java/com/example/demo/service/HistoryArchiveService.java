@@ -0,0 +1,283 @@
+package com.example.demo.service;
+
+import com.example.demo.archive.HistoryArchiveCodec;
+import com.example.demo.dto.ArchivedCalculation;
+import com.example.demo.entity.CalculationHistory;
+import com.example.demo.entity.HistoryArchiveSegment;
+import com.example.demo.entity.User;
+import com.example.demo.repository.CalculationHistoryRepository;
+import com.example.demo.repository.HistoryArchiveSegmentRepository;
+import com.example.demo.sharding.ShardRouter;
+import com.example.demo.sharding.ShardTransactions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 계산 기록 보관 서비스
+ *
+ * calculation_history 가 계속 커지지 않도록 보관 기간(retention-days)이 지난 행을 압축 보관 묶음으로 옮깁니다.
+ * - 샤드별로 (사용자, 작성 시각) 키셋 순서로 읽어 사용자마다 최대 chunk-size행의 보관 묶음을 만들고,
+ *   묶음 저장과 원본 행 삭제를 한 트랜잭션에서 실행 (중간에 중단되어도 중복/유실 없음)
+ * - 보관할 기록이 min-segment-rows행보다 적은 사용자는 다음 실행까지 남겨 두어 작은 묶음이 쌓이지 않도록 함
+ * - 묶음 사이에 pause-ms 만큼 쉬고, 한 번 실행에 max-chunks-per-run 묶음까지만 처리해 운영 DB 부하를 제한
+ * - 공용 스케줄러 스레드를 오래 잡지 않도록 보관 작업은 전용 스레드에서 실행 (이미 실행 중이면 건너뜀)
+ * - 보관된 기록은 {@link #getArchived}로 필요할 때 해당 기간의 묶음만 풀어서 조회
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class HistoryArchiveService {
+
+    private static final int SEGMENT_PAGE_SIZE = 20;
+    private static final int MAX_ARCHIVED_RESULTS = 500;
+
+    private final CalculationHistoryRepository historyRepository;
+    private final HistoryArchiveSegmentRepository segmentRepository;
+    private final ShardRouter shardRouter;
+    private final ShardTransactions shardTransactions;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int minSegmentRows;
+    private final int maxChunksPerRun;
+    private final long pauseMs;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "history-archive");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public HistoryArchiveService(CalculationHistoryRepository historyRepository,
+                                 HistoryArchiveSegmentRepository segmentRepository,
+                                 ShardRouter shardRouter,
+                                 ShardTransactions shardTransactions,
+                                 @Value("${app.history.archive.retention-days:365}") int retentionDays,
+                                 @Value("${app.history.archive.chunk-size:500}") int chunkSize,
+                                 @Value("${app.history.archive.min-segment-rows:50}") int minSegmentRows,
+                                 @Value("${app.history.archive.max-chunks-per-run:1000}") int maxChunksPerRun,
+                                 @Value("${app.history.archive.pause-ms:200}") long pauseMs) {
+        this.historyRepository = historyRepository;
+        this.segmentRepository = segmentRepository;
+        this.shardRouter = shardRouter;
+        this.shardTransactions = shardTransactions;
+        this.retentionDays = retentionDays;
+        this.chunkSize = Math.max(1, Math.min(chunkSize, 1000));
+        this.minSegmentRows = Math.max(1, Math.min(minSegmentRows, this.chunkSize));
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseMs = pauseMs;
+    }
+
+    /**
+     * 보관 작업을 전용 스레드에서 시작합니다 (이전 실행이 아직 진행 중이면 건너뜀).
+     */
+    @Scheduled(cron = "${app.history.archive.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void scheduleArchive() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("계산 기록 보관: 이전 실행이 진행 중이어서 건너뜀");
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    archiveOldHistory();
+                } catch (RuntimeException e) {
+                    log.error("계산 기록 보관 실패", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 보관 기간이 지난 계산 기록을 보관 묶음으로 옮깁니다 (retention-days 가 0 이하이면 사용 안 함).
+     * 묶음 사이에 쉬면서 오래 실행되므로 호출한 스레드를 그동안 잡아 둡니다.
+     *
+     * @return 옮긴 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int archiveOldHistory() {
+        if (retentionDays <= 0) {
+            return 0;
+        }
+        long startNanos = System.nanoTime();
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int archived = 0;
+        int chunks = 0;
+
+        shards:
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            long fromUserId = 0;
+            while (true) {
+                if (chunks >= maxChunksPerRun) {
+                    log.info("계산 기록 보관: 실행당 최대 묶음 수({}) 도달, 나머지는 다음 실행에서 처리", maxChunksPerRun);
+                    break shards;
+                }
+                long from = fromUserId;
+                Chunk chunk = shardTransactions.inShard(shard, () -> archiveChunk(from, before));
+                chunks++;
+                archived += chunk.archived();
+                if (!chunk.more()) {
+                    break;
+                }
+                fromUserId = chunk.nextUserId();
+                if (!pause()) {
+                    break shards;
+                }
+            }
+        }
+
+        log.info("계산 기록 보관 완료: {}행, 묶음 {}개, 기준 {}, {}ms", archived, chunks, before,
+                (System.nanoTime() - startNanos) / 1_000_000);
+        return archived;
+    }
+
+    /**
+     * 보관된 계산 기록 조회 (작성 시각 내림차순)
+     *
+     * @param before 이 시각 이전의 기록만 (null이면 전체)
+     * @param limit  최대 건수
+     */
+    public List<ArchivedCalculation> getArchived(Long userId, LocalDateTime before, int limit) {
+        LocalDateTime until = before != null ? before : LocalDateTime.now().plusDays(1);
+        int max = Math.max(1, Math.min(limit, MAX_ARCHIVED_RESULTS));
+        Comparator<ArchivedCalculation> newestFirst =
+                Comparator.comparing(ArchivedCalculation::createdAt).thenComparing(ArchivedCalculation::id).reversed();
+
+        List<ArchivedCalculation> result = new ArrayList<>();
+        int page = 0;
+        while (true) {
+            List<HistoryArchiveSegment> segments = segmentRepository.findByUserIdBefore(userId, until,
+                    PageRequest.of(page++, SEGMENT_PAGE_SIZE));
+            for (HistoryArchiveSegment segment : segments) {
+                // 최근 묶음부터 보므로, 이미 max건을 모았고 이 묶음이 모두 그보다 오래되었으면 더 볼 필요 없음
+                if (result.size() >= max && segment.getToCreatedAt().isBefore(result.get(max - 1).createdAt())) {
+                    return result;
+                }
+                for (ArchivedCalculation calculation : HistoryArchiveCodec.decode(segment.getPayload())) {
+                    if (calculation.createdAt().isBefore(until)) {
+                        result.add(calculation);
+                    }
+                }
+                result.sort(newestFirst);
+                if (result.size() > max) {
+                    result.subList(max, result.size()).clear();
+                }
+            }
+            if (segments.size() < SEGMENT_PAGE_SIZE) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * 보관된 계산 기록 수
+     */
+    public long countArchived(User user) {
+        return segmentRepository.sumRowCountByUserId(user.getId());
+    }
+
+    /**
+     * fromUserId 이후 사용자의 보관 대상 기록을 한 번 읽어 사용자별 보관 묶음으로 옮깁니다.
+     * 마지막 사용자의 기록이 더 이어지는지 알 수 있도록 chunk-size + min-segment-rows행까지 읽습니다.
+     */
+    private Chunk archiveChunk(long fromUserId, LocalDateTime before) {
+        int limit = chunkSize + minSegmentRows;
+        List<CalculationHistory> rows = historyRepository.findArchivable(fromUserId, before, PageRequest.of(0, limit));
+        if (rows.isEmpty()) {
+            return new Chunk(fromUserId, 0, false);
+        }
+
+        Map<Long, List<CalculationHistory>> byUser = new LinkedHashMap<>();
+        for (CalculationHistory row : rows) {
+            byUser.computeIfAbsent(row.getUser().getId(), id -> new ArrayList<>()).add(row);
+        }
+        List<List<CalculationHistory>> segments = new ArrayList<>(byUser.values());
+        boolean more = rows.size() == limit;
+        long nextUserId = fromUserId;
+        if (more) {
+            List<CalculationHistory> last = segments.remove(segments.size() - 1);
+            nextUserId = last.get(0).getUser().getId();
+            if (segments.isEmpty()) {
+                // 한 사용자의 기록만 읽힘: 앞쪽 chunk-size행을 보관 (남은 행이 min-segment-rows 이상이므로 다음 묶음도 작지 않음)
+                segments.add(last.subList(0, chunkSize));
+            }
+            // 그 밖에는 잘렸을 수 있는 마지막 사용자의 기록을 다음 읽기에서 처음부터 다시 읽음
+            // (앞 사용자들은 보관했거나 min-segment-rows 미만이라 남겼으므로 다시 읽지 않음)
+        }
+
+        List<Long> archivedIds = new ArrayList<>();
+        for (List<CalculationHistory> histories : segments) {
+            if (histories.size() < minSegmentRows) {
+                continue;
+            }
+            // 작성 시각 순으로 읽었으므로 처음/마지막 행이 묶음의 기간
+            HistoryArchiveSegment segment = new HistoryArchiveSegment();
+            segment.setUser(histories.get(0).getUser());
+            segment.setRowCount(histories.size());
+            segment.setFromCreatedAt(histories.get(0).getCreatedAt());
+            segment.setToCreatedAt(histories.get(histories.size() - 1).getCreatedAt());
+            segment.setPayload(HistoryArchiveCodec.encode(histories));
+            segmentRepository.save(segment);
+            histories.forEach(history -> archivedIds.add(history.getId()));
+        }
+        if (!archivedIds.isEmpty()) {
+            historyRepository.deleteByIds(archivedIds);
+        }
+
+        return new Chunk(nextUserId, archivedIds.size(), more);
+    }
+
+    /**
+     * 묶음 사이 대기 (중단 요청을 받으면 false)
+     */
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("계산 기록 보관 중단");
+            return false;
+        }
+    }
+
+    /**
+     * @param nextUserId 다음 읽기를 시작할 사용자 ID (포함)
+     * @param archived   보관한 행 수
+     * @param more       이어서 읽을 기록이 남았는지
+     */
+    private record Chunk(long nextUserId, int archived, boolean more) {
+    }
+}
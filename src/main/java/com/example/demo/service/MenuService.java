@@ -1,5 +1,8 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.CacheInvalidationListener;
+import com.example.demo.cache.InvalidationEvent;
+import com.example.demo.cache.InvalidationType;
 import com.example.demo.entity.Menu;
 import com.example.demo.entity.Role;
 import com.example.demo.entity.User;
@@ -8,27 +11,76 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * 메뉴 관리 서비스
  * 사용자 권한에 따른 메뉴 조회 로직 처리
+ *
+ * 메뉴 목록은 모든 화면에서 조회되므로 역할 조합별로 메모리에 캐시하고,
+ * 메뉴/역할 변경 이벤트(캐시 무효화 버스)를 받으면 모든 노드에서 비웁니다.
  */
 @Service
 @RequiredArgsConstructor
-public class MenuService {
+public class MenuService implements CacheInvalidationListener {
+
+    private static final List<String> ALL_MENUS_KEY = List.of("*");
 
     private final MenuRepository menuRepository;
 
+    /**
+     * 정렬된 역할 이름 목록 → 메뉴 목록 (ALL_MENUS_KEY는 표시 중인 전체 메뉴)
+     */
+    private final Map<List<String>, List<Menu>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 무효화될 때마다 증가. 로딩 중에 무효화되었으면 로딩 결과를 캐시에 넣지 않음
+     */
+    private final AtomicLong generation = new AtomicLong();
+
     public List<Menu> getAllMenus() {
-        return menuRepository.findByVisibleTrueOrderBySortOrder();
+        return cached(ALL_MENUS_KEY, menuRepository::findByVisibleTrueOrderBySortOrder);
     }
 
     public List<Menu> getMenusForUser(User user) {
         List<String> roleNames = user.getRoles().stream()
                 .map(Role::getName)
+                .sorted()
+                .distinct()
                 .collect(Collectors.toList());
 
-        return menuRepository.findByRoleNamesAndVisible(roleNames);
+        return cached(roleNames, () -> menuRepository.findByRoleNamesAndVisible(roleNames));
+    }
+
+    @Override
+    public Set<InvalidationType> getInvalidationTypes() {
+        return Set.of(InvalidationType.MENU, InvalidationType.ROLE);
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private List<Menu> cached(List<String> key, Supplier<List<Menu>> loader) {
+        List<Menu> menus = cache.get(key);
+        if (menus != null) {
+            return menus;
+        }
+
+        long loadedAt = generation.get();
+        List<Menu> loaded = List.copyOf(loader.get());
+        cache.put(key, loaded);
+        if (generation.get() != loadedAt) {
+            // 로딩 중에 무효화되었으면 이전 데이터일 수 있으므로 버림
+            cache.remove(key, loaded);
+        }
+        return loaded;
     }
 }
@@ -2,17 +2,21 @@ package com.example.demo.service;
 
 import com.example.demo.constant.ErrorMessages;
 import com.example.demo.dto.PortfolioRequest;
+import com.example.demo.dto.TradeRequest;
+import com.example.demo.dto.TradeResult;
 import com.example.demo.entity.Portfolio;
+import com.example.demo.entity.Trade;
 import com.example.demo.entity.User;
 import com.example.demo.exception.AccessDeniedException;
+import com.example.demo.exception.BusinessException;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.repository.PortfolioRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -20,8 +24,7 @@ import java.util.List;
  *
  * 포트폴리오 관련 모든 비즈니스 로직을 처리합니다:
  * - 포트폴리오 조회 (전체 목록, 단건)
- * - 포트폴리오 생성
- * - 포트폴리오 삭제
+ * - 포트폴리오 생성 / 추가 매수 / 매도 / 삭제 (모두 {@link TradeService}를 통해 거래 원장에 기록)
  * - 권한 검증
  *
  * @author JAVA-WEB-PROTO
@@ -34,6 +37,7 @@ import java.util.List;
 public class PortfolioService {
 
     private final PortfolioRepository portfolioRepository;
+    private final TradeService tradeService;
 
     /**
      * 사용자의 모든 포트폴리오 조회
@@ -65,32 +69,46 @@ public class PortfolioService {
     /**
      * 새로운 포트폴리오 생성
      *
+     * 원장에 매수 거래로 기록되며, 같은 종목의 포지션이 이미 있으면 추가 매수로 합산됩니다.
+     *
      * @param request 포트폴리오 생성 요청 DTO
      * @param user    포트폴리오 소유자
-     * @return 생성된 포트폴리오
+     * @return 생성되거나 합산된 포트폴리오
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Portfolio createPortfolio(PortfolioRequest request, User user) {
-        log.info("포트폴리오 생성 - 사용자: {}, 주식: {}", user.getUsername(), request.getStockCode());
-
-        // 총 투자금액 계산
-        double totalInvestment = request.getQuantity() * request.getAveragePrice();
+        log.info("포트폴리오 생성 - 사용자 ID: {}, 주식: {}", user.getId(), request.getStockCode());
+        TradeResult result = tradeService.record(user, Trade.Side.BUY, request.getStockCode(),
+                request.getStockName(), request.getQuantity(), request.getAveragePrice(),
+                request.getFee() != null ? request.getFee() : 0);
+        return result.position();
+    }
 
-        Portfolio portfolio = Portfolio.builder()
-                .user(user)
-                .stockCode(request.getStockCode())
-                .stockName(request.getStockName())
-                .quantity(request.getQuantity())
-                .averagePrice(request.getAveragePrice())
-                .totalInvestment(totalInvestment)
-                .currentPrice(request.getAveragePrice())  // 초기값은 평균가로 설정
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+    /**
+     * 포지션 일부 또는 전부 매도 (소유자만 가능)
+     *
+     * @param id          매도할 포트폴리오 ID
+     * @param request     매도 수량, 가격, 수수료
+     * @param currentUser 현재 로그인한 사용자
+     * @return 매도 결과 (전량 매도 시 position은 null)
+     * @throws ResourceNotFoundException 포트폴리오를 찾을 수 없을 때
+     * @throws AccessDeniedException     소유자가 아닐 때
+     * @throws BusinessException         보유 수량보다 많이 매도할 때
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TradeResult sellShares(Long id, TradeRequest request, User currentUser) {
+        Portfolio portfolio = getPortfolioById(id);
+        if (!isOwner(portfolio, currentUser)) {
+            log.warn("포트폴리오 매도 권한 없음 - 포트폴리오 ID: {}, 사용자 ID: {}", id, currentUser.getId());
+            throw new AccessDeniedException(ErrorMessages.PORTFOLIO_ACCESS_DENIED);
+        }
 
-        Portfolio saved = portfolioRepository.save(portfolio);
-        log.info("포트폴리오 생성 완료: ID={}, 총 투자금액: {}", saved.getId(), totalInvestment);
-        return saved;
+        TradeResult result = tradeService.record(currentUser, Trade.Side.SELL, portfolio.getStockCode(),
+                portfolio.getStockName(), request.getQuantity(), request.getPrice(),
+                request.getFee() != null ? request.getFee() : 0);
+        log.info("포트폴리오 매도 - ID: {}, 수량: {}, 실현손익: {}", id, request.getQuantity(),
+                result.realizedProfitLoss());
+        return result;
     }
 
     /**
@@ -102,7 +120,7 @@ public class PortfolioService {
      * @throws ResourceNotFoundException 포트폴리오를 찾을 수 없을 때
      * @throws AccessDeniedException     권한이 없을 때
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deletePortfolio(Long id, User currentUser, boolean isAdmin) {
         Portfolio portfolio = getPortfolioById(id);
 
@@ -113,9 +131,10 @@ public class PortfolioService {
             throw new AccessDeniedException(ErrorMessages.PORTFOLIO_ACCESS_DENIED);
         }
 
-        log.info("포트폴리오 삭제 - ID: {}, 소유자: {}, 삭제 요청자: {}",
-                id, portfolio.getUser().getUsername(), currentUser.getUsername());
-        portfolioRepository.delete(portfolio);
+        log.info("포트폴리오 삭제 - ID: {}, 소유자 ID: {}, 삭제 요청자: {}",
+                id, portfolio.getUser().getId(), currentUser.getUsername());
+        // 원장에 남도록 평균 단가로 전량 매도 처리 (실현손익 변화 없음)
+        tradeService.closeAtCost(portfolio.getUser(), portfolio);
     }
 
     /**
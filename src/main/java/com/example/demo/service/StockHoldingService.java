@@ -0,0 +1,201 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.HoldingShockReport;
+import com.example.demo.dto.HoldingShockResult;
+import com.example.demo.dto.StockAggregate;
+import com.example.demo.entity.StockHolding;
+import com.example.demo.repository.PortfolioRepository;
+import com.example.demo.repository.StockHoldingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종목별 보유 현황 집계 서비스
+ *
+ * 포지션 변경 시 {@link StockHolding} 집계를 증분 갱신하고,
+ * 집계 결과에 종목별 가격 충격을 적용한 평가를 메모리에서 병렬로 계산합니다.
+ *
+ * 증분 갱신 메서드는 포지션 변경과 같은 트랜잭션에서만 호출해야 합니다 (MANDATORY).
+ * 종목의 첫 보유자가 동시에 생기는 경우를 위해 집계 행은 별도 트랜잭션에서 먼저 만들고(이미 있으면 무시)
+ * 증분은 항상 UPDATE로 더합니다.
+ * 마지막 보유자가 포지션을 닫아도 집계 행은 보유자 0으로 남겨 둡니다. 행을 지우면 새 보유자가 행 존재를 확인한 뒤
+ * 증분을 더하기 전에 행이 사라져 증분이 유실될 수 있기 때문입니다. 조회와 평가는 보유자가 있는 행만 사용합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class StockHoldingService {
+
+    private final StockHoldingRepository stockHoldingRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final TransactionTemplate newTransaction;
+
+    public StockHoldingService(StockHoldingRepository stockHoldingRepository,
+                               PortfolioRepository portfolioRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.stockHoldingRepository = stockHoldingRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 새 포지션 생성 반영 (보유자 +1)
+     *
+     * @param investment 포지션 취득원가 (수수료 포함)
+     * @param price      최근 거래가
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPositionOpened(String stockCode, String stockName, int quantity, double investment, double price) {
+        // 잠금 없는 조회로 확인 (없는 행에 대한 UPDATE는 MySQL에서 간격 잠금을 잡아 아래 생성 트랜잭션을 막음)
+        if (!stockHoldingRepository.existsById(stockCode)) {
+            createEmpty(stockCode, stockName, price);
+        }
+        int updated = stockHoldingRepository.applyDelta(stockCode, 1, quantity, investment, price, LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("종목 집계 행 없음 (재집계 필요): {}", stockCode);
+        }
+    }
+
+    /**
+     * 종목의 첫 보유자: 보유자 0인 집계 행을 별도 트랜잭션으로 생성 (다른 거래가 먼저 만들었으면 무시)
+     */
+    private void createEmpty(String stockCode, String stockName, double price) {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                StockHolding holding = new StockHolding();
+                holding.setStockCode(stockCode);
+                holding.setStockName(stockName);
+                holding.setHolders(0);
+                holding.setTotalQuantity(0L);
+                holding.setTotalInvestment(0.0);
+                holding.setLastPrice(price);
+                holding.setUpdatedAt(LocalDateTime.now());
+                stockHoldingRepository.saveAndFlush(holding);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("종목 집계 행 동시 생성 - 기존 행 사용: {}", stockCode);
+        }
+    }
+
+    /**
+     * 기존 포지션의 수량/원가 변화 반영 (추가 매수, 일부 매도, 재구성 보정 - 보유자 수 변화 없음)
+     *
+     * @param lastPrice 최근 거래가 (null이면 기존 가격 유지)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPositionAdjusted(String stockCode, int quantityDelta, double investmentDelta, Double lastPrice) {
+        int updated = stockHoldingRepository.applyDelta(stockCode, 0, quantityDelta, investmentDelta, lastPrice,
+                LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("종목 집계 행 없음 (재집계 필요): {}", stockCode);
+        }
+    }
+
+    /**
+     * 포지션 삭제 반영 (보유자 -1, 마지막 보유자여도 집계 행은 보유자 0으로 유지)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onPositionClosed(String stockCode, int quantity, double totalInvestment) {
+        int updated = stockHoldingRepository.applyDelta(stockCode, -1, -quantity, -totalInvestment, null,
+                LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("종목 집계 행 없음 (재집계 필요): {}", stockCode);
+        }
+    }
+
+    /**
+     * portfolios 전체를 다시 집계합니다 (초기 구축 및 보정용).
+     * 포트폴리오는 사용자별로 샤딩될 수 있으므로 샤드별 종목 합계를 모아 종목코드로 합친 뒤 삽입합니다.
+     * 기준 가격은 보유 수량으로 가중 평균한 현재가입니다.
+     *
+     * @return 집계된 종목 수
+     */
+    @Transactional
+    public int rebuild() {
+        Map<String, StockHolding> holdings = new LinkedHashMap<>();
+        Map<String, Double> values = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (StockAggregate aggregate : portfolioRepository.aggregateByStock()) {
+            StockHolding holding = holdings.computeIfAbsent(aggregate.stockCode(), code -> {
+                StockHolding created = new StockHolding();
+                created.setStockCode(code);
+                created.setStockName(aggregate.stockName());
+                created.setHolders(0);
+                created.setTotalQuantity(0L);
+                created.setTotalInvestment(0.0);
+                created.setUpdatedAt(now);
+                return created;
+            });
+            holding.setHolders(holding.getHolders() + aggregate.holders().intValue());
+            holding.setTotalQuantity(holding.getTotalQuantity() + aggregate.totalQuantity());
+            holding.setTotalInvestment(holding.getTotalInvestment() + aggregate.totalInvestment());
+            values.merge(aggregate.stockCode(), aggregate.totalValue(), Double::sum);
+        }
+        holdings.values().forEach(holding -> holding.setLastPrice(holding.getTotalQuantity() > 0
+                ? values.get(holding.getStockCode()) / holding.getTotalQuantity() : 0.0));
+
+        stockHoldingRepository.deleteAllHoldings();
+        stockHoldingRepository.saveAll(holdings.values());
+        log.info("종목별 보유 현황 재집계 완료: {}개 종목", holdings.size());
+        return holdings.size();
+    }
+
+    public List<StockHolding> getHoldings() {
+        return stockHoldingRepository.findByHoldersGreaterThanOrderByTotalInvestmentDesc(0);
+    }
+
+    /**
+     * 종목별 가격 변동률을 적용해 전체 보유 평가금액 변화를 계산합니다.
+     * 집계 행만 읽고, 종목별 계산은 병렬 스트림으로 수행합니다.
+     *
+     * @param defaultShockPercent 개별 지정이 없는 종목에 적용할 변동률 (%)
+     * @param shockByStock        종목코드별 변동률 (%)
+     * @return 평가 보고서
+     */
+    public HoldingShockReport evaluateShock(double defaultShockPercent, Map<String, Double> shockByStock) {
+        List<StockHolding> holdings = stockHoldingRepository.findByHoldersGreaterThan(0);
+        long startNanos = System.nanoTime();
+
+        List<HoldingShockResult> results = holdings.parallelStream()
+                .map(holding -> evaluate(holding, shockByStock.getOrDefault(holding.getStockCode(), defaultShockPercent)))
+                .sorted(Comparator.comparingDouble(HoldingShockResult::valueChange))
+                .toList();
+
+        double totalInvestment = 0;
+        double totalCurrent = 0;
+        double totalShocked = 0;
+        for (HoldingShockResult result : results) {
+            totalInvestment += result.totalInvestment();
+            totalCurrent += result.currentValue();
+            totalShocked += result.shockedValue();
+        }
+
+        return new HoldingShockReport(results, totalInvestment, totalCurrent, totalShocked,
+                (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private static HoldingShockResult evaluate(StockHolding holding, double shockPercent) {
+        long quantity = holding.getTotalQuantity();
+        double currentValue = quantity * holding.getLastPrice();
+        double shockedValue = currentValue * (1 + shockPercent / 100.0);
+        return new HoldingShockResult(holding.getStockCode(), holding.getStockName(), holding.getHolders(),
+                quantity, holding.getTotalInvestment(), holding.getLastPrice(), shockPercent,
+                currentValue, shockedValue, shockedValue - currentValue, shockedValue - holding.getTotalInvestment());
+    }
+}
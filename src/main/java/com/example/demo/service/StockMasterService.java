@@ -0,0 +1,145 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.StockSuggestion;
+import com.example.demo.entity.Stock;
+import com.example.demo.repository.StockRepository;
+import com.example.demo.startup.StartupTask;
+import com.example.demo.stock.StockIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 종목 마스터 서비스
+ *
+ * - 기동 시 classpath:data/stocks.csv 에서 마스터에 없는 종목을 추가 (멱등)
+ * - 마스터 전체를 메모리 접두사 인덱스({@link StockIndex})로 컴파일하여 자동완성에 사용
+ * - 포트폴리오/계산 기록 저장 시 종목코드로 마스터 종목을 찾아 참조를 연결
+ *
+ * 인덱스는 불변 객체이며 {@link #rebuildIndex()}가 한 번에 교체합니다.
+ * 자동완성은 종목 기준 데이터가 없어도 동작해야 하는 기능이 아니므로 선택 기동 작업으로 실행합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StockMasterService implements StartupTask {
+
+    private static final String SEED_RESOURCE = "data/stocks.csv";
+    private static final int MAX_SUGGESTIONS = 20;
+
+    private final StockRepository stockRepository;
+
+    private volatile StockIndex index = StockIndex.EMPTY;
+
+    @Override
+    public String getName() {
+        return "stockMaster";
+    }
+
+    @Override
+    public boolean isCritical() {
+        return false;
+    }
+
+    @Override
+    public void run() {
+        seed();
+        rebuildIndex();
+    }
+
+    /**
+     * 시드 파일의 종목 중 마스터에 없는 종목을 추가합니다.
+     *
+     * @return 추가된 종목 수
+     */
+    @Transactional
+    public int seed() {
+        Set<String> existing = new HashSet<>(stockRepository.findAllCodes());
+        List<Stock> missing = new ArrayList<>();
+        for (Stock stock : readSeed()) {
+            if (existing.add(stock.getCode())) {
+                missing.add(stock);
+            }
+        }
+        if (!missing.isEmpty()) {
+            stockRepository.saveAll(missing);
+            log.info("종목 마스터 시드 적재: {}건", missing.size());
+        }
+        return missing.size();
+    }
+
+    /**
+     * 마스터 테이블을 다시 읽어 자동완성 인덱스를 교체합니다.
+     */
+    public void rebuildIndex() {
+        long startNanos = System.nanoTime();
+        List<StockSuggestion> entries = stockRepository.findAll().stream()
+                .map(stock -> new StockSuggestion(stock.getId(), stock.getCode(), stock.getName(), stock.getMarket()))
+                .toList();
+        index = new StockIndex(entries);
+        log.info("종목 자동완성 인덱스 구축: {}종목, {}ms", entries.size(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * 종목코드/종목명/초성 접두사 검색 (데이터베이스를 조회하지 않음)
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     */
+    public List<StockSuggestion> autocomplete(String query, int limit) {
+        return index.search(query, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+    }
+
+    /**
+     * 종목코드로 마스터 종목을 찾습니다 (인덱스 조회, 없으면 null).
+     */
+    public StockSuggestion findByCode(String code) {
+        return index.findByCode(code);
+    }
+
+    /**
+     * 마스터 종목의 참조를 반환합니다. 엔티티를 조회하지 않고 프록시만 만들어 외래키 연결에 사용합니다.
+     */
+    public Stock getReference(StockSuggestion stock) {
+        return stockRepository.getReferenceById(stock.id());
+    }
+
+    private List<Stock> readSeed() {
+        ClassPathResource resource = new ClassPathResource(SEED_RESOURCE);
+        if (!resource.exists()) {
+            return List.of();
+        }
+        List<Stock> stocks = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line = reader.readLine(); // 헤더
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split(",", -1);
+                if (columns.length < 2 || columns[0].isBlank()) {
+                    continue;
+                }
+                stocks.add(new Stock(columns[0].trim(), columns[1].trim(),
+                        columns.length > 2 && !columns[2].isBlank() ? columns[2].trim() : null));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("종목 시드 파일을 읽을 수 없음: " + SEED_RESOURCE, e);
+        }
+        return stocks;
+    }
+}
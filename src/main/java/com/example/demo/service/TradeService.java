@@ -0,0 +1,345 @@
+package com.example.demo.service;
+
+import com.example.demo.constant.ErrorMessages;
+import com.example.demo.dto.StockSuggestion;
+import com.example.demo.dto.TradeResult;
+import com.example.demo.dto.TradeView;
+import com.example.demo.entity.Portfolio;
+import com.example.demo.entity.PositionCheckpoint;
+import com.example.demo.entity.Stock;
+import com.example.demo.entity.Trade;
+import com.example.demo.entity.User;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.ledger.PositionState;
+import com.example.demo.repository.PortfolioRepository;
+import com.example.demo.repository.PositionCheckpointRepository;
+import com.example.demo.repository.TradeRepository;
+import com.example.demo.sharding.ShardTransactions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 거래 원장 서비스
+ *
+ * 모든 포지션 변경은 원장에 거래를 추가하는 방식으로만 이루어집니다.
+ * - 기록: 거래 한 건 추가 + 포지션 스냅샷(Portfolio) 증분 갱신 + 필요 시 체크포인트를 사용자 샤드의
+ *   한 트랜잭션에서 처리하고, 이어서 종목별 보유 현황 집계를 갱신합니다.
+ * - 체크포인트: checkpoint-interval 거래마다, 그리고 포지션이 모두 청산될 때 기록
+ * - 재구성: 마지막 체크포인트 이후의 거래만 다시 적용 (원장 전체를 읽지 않음)
+ * - 조회: 포지션은 스냅샷을, 거래 목록은 최근 N건만 읽습니다.
+ *
+ * 같은 포지션에 거래가 동시에 들어오면 (사용자, 종목, 순번) 유니크 인덱스 위반으로 한쪽이 실패하며,
+ * 최신 스냅샷을 다시 읽어 최대 MAX_ATTEMPTS 번까지 재시도합니다 (동시에 실패한 요청끼리 다시 부딪치지 않도록
+ * 시도마다 늘어나는 무작위 대기 후). 재시도는 사용자 샤드 작업 안에서 난 순번 충돌에만 하며
+ * (샤드 트랜잭션이 커밋되기 전이므로 거래가 중복 기록되지 않음), 그 밖의 무결성 오류는 그대로 전파합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TradeService {
+
+    private static final int MAX_RECENT_TRADES = 200;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long RETRY_BACKOFF_MS = 10;
+
+    private final TradeRepository tradeRepository;
+    private final PositionCheckpointRepository checkpointRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final StockHoldingService stockHoldingService;
+    private final StockMasterService stockMasterService;
+    private final ShardTransactions shardTransactions;
+    private final TransactionTemplate transactionTemplate;
+    private final int checkpointInterval;
+
+    public TradeService(TradeRepository tradeRepository,
+                        PositionCheckpointRepository checkpointRepository,
+                        PortfolioRepository portfolioRepository,
+                        StockHoldingService stockHoldingService,
+                        StockMasterService stockMasterService,
+                        ShardTransactions shardTransactions,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${app.ledger.checkpoint-interval:50}") int checkpointInterval) {
+        this.tradeRepository = tradeRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.stockHoldingService = stockHoldingService;
+        this.stockMasterService = stockMasterService;
+        this.shardTransactions = shardTransactions;
+        this.transactionTemplate = transactionTemplate;
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+    }
+
+    /**
+     * 거래를 원장에 기록하고 포지션을 갱신합니다.
+     *
+     * @param stockName 종목명 (마스터에 없는 종목일 때만 사용)
+     * @param fee       수수료/세금
+     * @return 기록 결과
+     * @throws BusinessException 보유 수량보다 많이 매도할 때, 동시 거래 충돌이 재시도 횟수 안에 풀리지 않을 때
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TradeResult record(User user, Trade.Side side, String stockCode, String stockName,
+                              int quantity, double price, double fee) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status ->
+                        recordOnce(user, side, stockCode, stockName, quantity, price, fee));
+            } catch (SequenceConflictException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.warn("같은 포지션의 동시 거래 충돌이 {}회 반복되어 포기 - 사용자 ID: {}, 주식: {}",
+                            attempt, user.getId(), stockCode);
+                    throw new BusinessException(ErrorMessages.TRADE_CONCURRENT_CONFLICT, e);
+                }
+                log.info("같은 포지션의 동시 거래 감지, 재시도 {}/{} - 사용자 ID: {}, 주식: {}",
+                        attempt, MAX_ATTEMPTS - 1, user.getId(), stockCode);
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 재시도 전 대기 (시도마다 늘어나는 상한 안에서 무작위)
+     */
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(RETRY_BACKOFF_MS * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorMessages.TRADE_CONCURRENT_CONFLICT, e);
+        }
+    }
+
+    /**
+     * 포지션 전량을 평균 단가로 매도 처리합니다 (포지션 삭제 - 실현손익 변화 없이 원장에 청산 기록).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TradeResult closeAtCost(User owner, Portfolio portfolio) {
+        return record(owner, Trade.Side.SELL, portfolio.getStockCode(), portfolio.getStockName(),
+                portfolio.getQuantity(), PositionState.of(portfolio).averagePrice(), 0);
+    }
+
+    /**
+     * 종목의 최근 거래 목록
+     */
+    public List<TradeView> getRecentTrades(User user, String stockCode, int limit) {
+        return tradeRepository.findRecentViews(user, stockCode,
+                PageRequest.of(0, Math.max(1, Math.min(limit, MAX_RECENT_TRADES))));
+    }
+
+    /**
+     * 마지막 체크포인트와 그 이후 거래로 포지션 스냅샷을 다시 계산합니다 (스냅샷 보정용).
+     * 원장이 없는(도입 전) 포지션은 그대로 둡니다.
+     *
+     * @return 재구성된 포지션 (청산 상태이면 null)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Portfolio rebuildPosition(User user, String stockCode) {
+        return transactionTemplate.execute(status -> {
+            PositionChange change = shardTransactions.inUserShard(user.getId(), () -> replay(user, stockCode));
+            applyToHoldings(change);
+            return change.position();
+        });
+    }
+
+    private TradeResult recordOnce(User user, Trade.Side side, String stockCode, String stockName,
+                                   int quantity, double price, double fee) {
+        // 종목 마스터는 기본 샤드의 전역 데이터이므로 사용자 샤드 트랜잭션에 들어가기 전에 조회
+        StockSuggestion master = stockMasterService.findByCode(stockCode);
+        Stock stock = master != null ? stockMasterService.getReference(master) : null;
+        String name = master != null ? master.name() : stockName;
+
+        PositionChange change = shardTransactions.inUserShard(user.getId(),
+                () -> append(user, stock, side, stockCode, name, quantity, price, fee));
+        applyToHoldings(change);
+
+        log.info("거래 기록 - 사용자 ID: {}, 주식: {}, {} {}주 @ {}, 순번: {}", user.getId(), stockCode,
+                side, quantity, price, change.after().seq());
+        return new TradeResult(change.trade(), change.position(),
+                change.after().realizedProfitLoss() - change.before().realizedProfitLoss());
+    }
+
+    private PositionChange append(User user, Stock stock, Trade.Side side, String stockCode, String stockName,
+                                  int quantity, double price, double fee) {
+        Portfolio position = portfolioRepository.findByUserAndStockCode(user, stockCode).orElse(null);
+        PositionState before = currentState(user, stockCode, position);
+        if (side == Trade.Side.SELL && quantity > before.quantity()) {
+            throw new BusinessException(ErrorMessages.TRADE_QUANTITY_EXCEEDS_POSITION);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Trade trade = new Trade();
+        trade.setUser(user);
+        trade.setStock(stock);
+        trade.setStockCode(stockCode);
+        trade.setStockName(stockName);
+        trade.setSeq(before.seq() + 1);
+        trade.setSide(side);
+        trade.setQuantity(quantity);
+        trade.setPrice(price);
+        trade.setFee(fee);
+        trade.setExecutedAt(now);
+        // 순번 충돌(동시 거래)을 스냅샷 변경 전에 확인
+        try {
+            tradeRepository.saveAndFlush(trade);
+        } catch (DataIntegrityViolationException e) {
+            if (isSequenceConflict(e)) {
+                throw new SequenceConflictException(e);
+            }
+            throw e;
+        }
+
+        PositionState after = before.apply(trade);
+        Portfolio saved = saveSnapshot(user, stock, stockCode, stockName, position, after, price, now);
+        if (!after.isOpen() || after.seq() % checkpointInterval == 0) {
+            saveCheckpoint(user, stockCode, after);
+        }
+        return new PositionChange(trade, saved, stockCode, saved != null ? saved.getStockName() : stockName,
+                position != null, before, after, price);
+    }
+
+    private static boolean isSequenceConflict(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(Trade.POSITION_SEQ_CONSTRAINT);
+    }
+
+    /**
+     * 거래 적용 전 포지션 상태 (스냅샷이 있으면 스냅샷, 청산된 포지션이면 마지막 체크포인트)
+     */
+    private PositionState currentState(User user, String stockCode, Portfolio position) {
+        if (position != null) {
+            if (position.getLastTradeSeq() == null) {
+                // 원장 도입 전 포지션: 현재 스냅샷을 재구성 기준(순번 0)으로 남김
+                PositionState base = PositionState.of(position);
+                saveCheckpoint(user, stockCode, base);
+                return base;
+            }
+            return PositionState.of(position);
+        }
+        return checkpointRepository.findTopByUserAndStockCodeOrderByTradeSeqDesc(user, stockCode)
+                .map(PositionState::of)
+                .orElse(PositionState.EMPTY);
+    }
+
+    private PositionChange replay(User user, String stockCode) {
+        Portfolio position = portfolioRepository.findByUserAndStockCode(user, stockCode).orElse(null);
+        PositionState before = position != null ? PositionState.of(position) : PositionState.EMPTY;
+
+        PositionCheckpoint checkpoint = checkpointRepository
+                .findTopByUserAndStockCodeOrderByTradeSeqDesc(user, stockCode).orElse(null);
+        PositionState state = checkpoint != null ? PositionState.of(checkpoint) : PositionState.EMPTY;
+        List<Trade> trades = tradeRepository.findByUserAndStockCodeAndSeqGreaterThanOrderBySeqAsc(
+                user, stockCode, state.seq());
+        if (checkpoint == null && trades.isEmpty()) {
+            log.info("원장이 없는 포지션, 재구성 생략 - 사용자 ID: {}, 주식: {}", user.getId(), stockCode);
+            return new PositionChange(null, position, stockCode, position != null ? position.getStockName() : stockCode,
+                    position != null, before, before, null);
+        }
+
+        for (Trade trade : trades) {
+            state = state.apply(trade);
+        }
+        Trade last = trades.isEmpty() ? null : trades.get(trades.size() - 1);
+        String stockName = position != null ? position.getStockName()
+                : last != null ? last.getStockName() : stockCode;
+        Double lastPrice = last != null ? last.getPrice() : null;
+
+        Portfolio saved = saveSnapshot(user, last != null ? last.getStock() : null, stockCode, stockName, position,
+                state, lastPrice != null ? lastPrice : state.averagePrice(), LocalDateTime.now());
+        log.info("포지션 재구성 - 사용자 ID: {}, 주식: {}, 체크포인트 순번: {}, 적용 거래: {}건",
+                user.getId(), stockCode, checkpoint != null ? checkpoint.getTradeSeq() : 0, trades.size());
+        return new PositionChange(null, saved, stockCode, stockName, position != null, before, state, lastPrice);
+    }
+
+    private Portfolio saveSnapshot(User user, Stock stock, String stockCode, String stockName, Portfolio position,
+                                   PositionState state, double price, LocalDateTime now) {
+        if (!state.isOpen()) {
+            if (position != null) {
+                portfolioRepository.delete(position);
+            }
+            return null;
+        }
+
+        if (position == null) {
+            position = Portfolio.builder()
+                    .user(user)
+                    .stock(stock)
+                    .stockCode(stockCode)
+                    .stockName(stockName)
+                    .currentPrice(price)  // 초기값은 거래가로 설정
+                    .profitLoss(0.0)
+                    .profitLossRate(0.0)
+                    .createdAt(now)
+                    .build();
+        }
+        position.setQuantity(state.quantity());
+        position.setAveragePrice(state.averagePrice());
+        position.setTotalInvestment(state.totalCost());
+        position.setRealizedProfitLoss(state.realizedProfitLoss());
+        position.setLastTradeSeq(state.seq());
+        position.setUpdatedAt(now);
+        return portfolioRepository.saveAndFlush(position);
+    }
+
+    private void saveCheckpoint(User user, String stockCode, PositionState state) {
+        PositionCheckpoint checkpoint = new PositionCheckpoint();
+        checkpoint.setUser(user);
+        checkpoint.setStockCode(stockCode);
+        checkpoint.setTradeSeq(state.seq());
+        checkpoint.setQuantity(state.quantity());
+        checkpoint.setTotalCost(state.totalCost());
+        checkpoint.setRealizedProfitLoss(state.realizedProfitLoss());
+        checkpointRepository.save(checkpoint);
+    }
+
+    /**
+     * 포지션 변화를 종목별 보유 현황 집계에 반영합니다 (기본 샤드 트랜잭션).
+     */
+    private void applyToHoldings(PositionChange change) {
+        PositionState before = change.before();
+        PositionState after = change.after();
+        boolean open = after.isOpen();
+        if (!change.existed() && open) {
+            stockHoldingService.onPositionOpened(change.stockCode(), change.stockName(), after.quantity(),
+                    after.totalCost(), change.price() != null ? change.price() : after.averagePrice());
+        } else if (change.existed() && !open) {
+            stockHoldingService.onPositionClosed(change.stockCode(), before.quantity(), before.totalCost());
+        } else if (change.existed() && (after.quantity() != before.quantity() || after.totalCost() != before.totalCost())) {
+            stockHoldingService.onPositionAdjusted(change.stockCode(), after.quantity() - before.quantity(),
+                    after.totalCost() - before.totalCost(), change.price());
+        }
+    }
+
+    /**
+     * 사용자 샤드 트랜잭션의 결과 (이어서 기본 샤드의 집계에 반영)
+     *
+     * @param existed 변경 전 스냅샷이 있었는지
+     * @param price   최근 거래가 (없으면 null)
+     */
+    private record PositionChange(Trade trade, Portfolio position, String stockCode, String stockName,
+                                  boolean existed, PositionState before, PositionState after, Double price) {
+    }
+
+    /**
+     * 같은 포지션의 동시 거래로 순번이 충돌함 (사용자 샤드 트랜잭션 롤백 후 재시도)
+     */
+    private static class SequenceConflictException extends RuntimeException {
+
+        SequenceConflictException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package com.example.demo.service;
+
+import com.example.demo.cache.CacheInvalidationBus;
+import com.example.demo.cache.InvalidationEvent;
+import com.example.demo.cache.InvalidationType;
+import com.example.demo.constant.ErrorMessages;
+import com.example.demo.dto.OpenPosition;
+import com.example.demo.entity.User;
+import com.example.demo.entity.UserDeletionJob;
+import com.example.demo.entity.UserDeletionJob.Phase;
+import com.example.demo.entity.UserDeletionJob.Status;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.BoardCommentRepository;
+import com.example.demo.repository.BoardRepository;
+import com.example.demo.repository.CalculationHistoryRepository;
+import com.example.demo.repository.HistoryArchiveSegmentRepository;
+import com.example.demo.repository.PortfolioRepository;
+import com.example.demo.repository.PositionCheckpointRepository;
+import com.example.demo.repository.TradeRepository;
+import com.example.demo.repository.UserDeletionJobRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.ValuationSeriesRepository;
+import com.example.demo.sharding.ShardRouter;
+import com.example.demo.sharding.ShardTransactions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 삭제 서비스
+ *
+ * 회원 삭제 요청은 계정을 즉시 삭제 상태(로그인 불가, 회원 목록 제외)로 바꾸고 {@link UserDeletionJob}을
+ * 만든 뒤 끝납니다. 소유 데이터는 백그라운드 스레드가 단계({@link Phase}) 순서대로 지웁니다.
+ * - 단계마다 회원의 행 ID를 chunk-size 개씩 읽어 IN 절 DELETE 한 번으로 삭제 (엔티티를 로딩하지 않음)
+ * - 묶음마다 별도 트랜잭션이며, 사이에 pause-ms 만큼 쉬어 운영 트래픽에 주는 영향을 줄임
+ * - 포트폴리오/원장/계산 기록은 회원 샤드에서 삭제하고, 포지션 삭제분은 종목별 보유 현황 집계에서 차감
+ *   (집계 차감과 삭제할 포지션 ID 기록을 기본 샤드에서 먼저 커밋한 뒤 회원 샤드에서 삭제하므로,
+ *   중간에 중단되어도 다음 실행이 기록된 포지션을 차감 없이 마저 지움)
+ * - 게시글은 댓글/첨부 행과 함께 삭제하고, 회원이 다른 게시글에 단 댓글을 지운 뒤에는 댓글 수를 다시 계산
+ * - 진행 단계와 삭제 행 수를 묶음마다 작업 행에 기록 (샤드 쪽 삭제와는 다른 트랜잭션이므로 행 수는 근사값)
+ *
+ * 작업은 임대 시간(lease-seconds) 동안 한 노드만 처리합니다. 처리 중 노드가 중단되면 임대가 끝난 뒤
+ * 주기적인 확인(poll-interval-ms)에서 다른 노드가 같은 단계부터 이어서 처리합니다. 각 단계는 남은 행을
+ * 다시 조회해 지우므로 반복 실행해도 안전합니다. 오류가 max-attempts 번 반복되면 FAILED로 남기며,
+ * 관리자가 다시 시도할 수 있습니다.
+ *
+ * 삭제 요청 시점에 로그인 세션은 만료되지만(SessionTerminator), 그 전에 시작된 요청이 이미 지난 단계의
+ * 행을 새로 만들 수 있습니다. 이 경우 ACCOUNT 단계가 외래 키 위반으로 실패하므로, 그때와 관리자 재시도 시에는
+ * 첫 단계부터 다시 진행합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UserDeletionService {
+
+    private static final List<Status> CLAIMABLE = List.of(Status.PENDING, Status.RUNNING);
+
+    /**
+     * 포지션 묶음 크기 상한 (삭제 대기 ID 목록이 작업 행의 컬럼 길이에 들어가도록)
+     */
+    private static final int MAX_POSITION_CHUNK = 400;
+
+    private final UserRepository userRepository;
+    private final UserDeletionJobRepository jobRepository;
+    private final BoardRepository boardRepository;
+    private final BoardCommentRepository commentRepository;
+    private final BoardService boardService;
+    private final TradeRepository tradeRepository;
+    private final PositionCheckpointRepository checkpointRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final CalculationHistoryRepository historyRepository;
+    private final HistoryArchiveSegmentRepository archiveRepository;
+    private final ValuationSeriesRepository valuationRepository;
+    private final StockHoldingService stockHoldingService;
+    private final ShardRouter shardRouter;
+    private final ShardTransactions shardTransactions;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final Duration lease;
+    private final int maxAttempts;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-deletion");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public UserDeletionService(UserRepository userRepository,
+                               UserDeletionJobRepository jobRepository,
+                               BoardRepository boardRepository,
+                               BoardCommentRepository commentRepository,
+                               BoardService boardService,
+                               TradeRepository tradeRepository,
+                               PositionCheckpointRepository checkpointRepository,
+                               PortfolioRepository portfolioRepository,
+                               CalculationHistoryRepository historyRepository,
+                               HistoryArchiveSegmentRepository archiveRepository,
+                               ValuationSeriesRepository valuationRepository,
+                               StockHoldingService stockHoldingService,
+                               ShardRouter shardRouter,
+                               ShardTransactions shardTransactions,
+                               CacheInvalidationBus invalidationBus,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.user-deletion.chunk-size:500}") int chunkSize,
+                               @Value("${app.user-deletion.pause-ms:50}") long pauseMs,
+                               @Value("${app.user-deletion.lease-seconds:300}") long leaseSeconds,
+                               @Value("${app.user-deletion.max-attempts:5}") int maxAttempts) {
+        this.userRepository = userRepository;
+        this.jobRepository = jobRepository;
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.boardService = boardService;
+        this.tradeRepository = tradeRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.historyRepository = historyRepository;
+        this.archiveRepository = archiveRepository;
+        this.valuationRepository = valuationRepository;
+        this.stockHoldingService = stockHoldingService;
+        this.shardRouter = shardRouter;
+        this.shardTransactions = shardTransactions;
+        this.invalidationBus = invalidationBus;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, Math.min(chunkSize, 1000));
+        this.pauseMs = pauseMs;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 회원을 삭제 상태로 바꾸고 삭제 작업을 등록합니다. 작업은 커밋 후 백그라운드에서 시작됩니다.
+     *
+     * @param userId      삭제할 회원 ID
+     * @param requestedBy 요청한 관리자 사용자명
+     * @return 등록된 작업 (이미 삭제 중이면 기존 작업)
+     * @throws ResourceNotFoundException 회원을 찾을 수 없을 때
+     * @throws BusinessException         본인 계정을 삭제하려고 할 때
+     */
+    @Transactional
+    public UserDeletionJob requestDeletion(Long userId, String requestedBy) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.USER_NOT_FOUND));
+        if (user.getUsername().equals(requestedBy)) {
+            throw new BusinessException(ErrorMessages.USER_DELETE_SELF);
+        }
+
+        UserDeletionJob job = jobRepository.findByUserId(userId).orElse(null);
+        if (job == null) {
+            userRepository.markDeleted(userId, LocalDateTime.now());
+            job = new UserDeletionJob();
+            job.setUserId(userId);
+            job.setUsername(user.getUsername());
+            job.setRequestedBy(requestedBy);
+            job = jobRepository.save(job);
+            invalidationBus.publish(InvalidationEvent.of(InvalidationType.USER, userId));
+            log.info("회원 삭제 요청 - 회원 ID: {}, 작업 ID: {}, 요청자: {}", userId, job.getId(), requestedBy);
+        }
+        startAfterCommit();
+        return job;
+    }
+
+    /**
+     * 실패한 삭제 작업을 첫 단계부터 다시 시도합니다 (이미 지운 단계는 남은 행만 다시 확인).
+     */
+    @Transactional
+    public void retry(Long jobId) {
+        UserDeletionJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.USER_NOT_FOUND));
+        if (job.getStatus() == Status.FAILED) {
+            job.setStatus(Status.PENDING);
+            job.setPhase(Phase.values()[0]);
+            job.setAttempts(0);
+            job.setLeaseUntil(null);
+            job.setUpdatedAt(LocalDateTime.now());
+            startAfterCommit();
+        }
+    }
+
+    /**
+     * 최근 삭제 작업 (진행 상황 표시용)
+     */
+    public List<UserDeletionJob> getRecentJobs(int limit) {
+        return jobRepository.findAllByOrderByIdDesc(PageRequest.of(0, limit));
+    }
+
+    /**
+     * 다른 노드가 남긴(임대가 끝난) 작업이나 중단된 작업을 이어서 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.user-deletion.poll-interval-ms:60000}")
+    public void resumePending() {
+        start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void startAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    start();
+                }
+            });
+        } else {
+            start();
+        }
+    }
+
+    private void start() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runPendingJobs();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    private void runPendingJobs() {
+        List<UserDeletionJob> jobs = transactionTemplate.execute(status -> jobRepository.findByStatusInOrderByIdAsc(CLAIMABLE));
+        for (UserDeletionJob job : jobs) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            if (claim(job.getId())) {
+                runJob(job.getId(), job.getUserId());
+            }
+        }
+    }
+
+    private boolean claim(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                jobRepository.claim(jobId, CLAIMABLE, Status.RUNNING, now, now.plus(lease)));
+        return claimed != null && claimed > 0;
+    }
+
+    private void runJob(Long jobId, Long userId) {
+        long startNanos = System.nanoTime();
+        Phase current = null;
+        try {
+            Phase phase = transactionTemplate.execute(status -> jobRepository.findById(jobId).orElseThrow().getPhase());
+            for (Phase next : Phase.values()) {
+                if (next.ordinal() < phase.ordinal()) {
+                    continue;
+                }
+                current = next;
+                while (true) {
+                    int deleted = deleteChunk(jobId, current, userId);
+                    updateProgress(jobId, current, deleted);
+                    if (deleted < chunkSize(current) || current == Phase.ACCOUNT) {
+                        break;
+                    }
+                    pause();
+                }
+            }
+            finish(jobId);
+            invalidationBus.publish(InvalidationEvent.of(InvalidationType.USER, userId));
+            log.info("회원 삭제 완료 - 회원 ID: {}, 작업 ID: {}, {}ms", userId, jobId,
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (DataIntegrityViolationException e) {
+            // 계정 삭제가 참조 행 때문에 실패하면 지난 단계에 새로 생긴 행이 있으므로 첫 단계부터 다시
+            boolean restart = current == Phase.ACCOUNT;
+            log.warn("회원 삭제 작업 실패 - 회원 ID: {}, 작업 ID: {}, 단계: {}{}", userId, jobId, current,
+                    restart ? " (첫 단계부터 다시 진행)" : "", e);
+            recordFailure(jobId, e, restart);
+        } catch (RuntimeException e) {
+            log.error("회원 삭제 작업 실패 - 회원 ID: {}, 작업 ID: {}", userId, jobId, e);
+            recordFailure(jobId, e, false);
+        }
+    }
+
+    /**
+     * 한 단계의 묶음 하나를 삭제합니다.
+     *
+     * @return 삭제한 행 수 (chunk-size 보다 작으면 이 단계는 끝남)
+     */
+    private int deleteChunk(Long jobId, Phase phase, Long userId) {
+        Pageable chunk = PageRequest.of(0, chunkSize(phase));
+        return switch (phase) {
+            case COMMENTS -> inTransaction(() -> {
+                List<Long> ids = commentRepository.findIdsByUserId(userId, chunk);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                List<Long> boardIds = commentRepository.findBoardIds(ids);
+                commentRepository.deleteAllByIdInBatch(ids);
+                boardRepository.recountComments(boardIds);
+                return ids.size();
+            });
+            case BOARDS -> inTransaction(() -> {
+                List<Long> ids = boardRepository.findIdsByUserId(userId, chunk);
+                if (!ids.isEmpty()) {
+                    boardService.deleteBoards(ids);
+                }
+                return ids.size();
+            });
+            case TRADES -> inUserShard(userId, () -> deleteIds(tradeRepository.findIdsByUserId(userId, chunk),
+                    tradeRepository::deleteAllByIdInBatch));
+            case CHECKPOINTS -> inUserShard(userId, () -> deleteIds(checkpointRepository.findIdsByUserId(userId, chunk),
+                    checkpointRepository::deleteAllByIdInBatch));
+            case PORTFOLIOS -> deletePositions(jobId, userId, chunk);
+            case HISTORY -> inUserShard(userId, () -> deleteIds(historyRepository.findIdsByUserId(userId, chunk),
+                    historyRepository::deleteAllByIdInBatch));
+            case HISTORY_ARCHIVE -> inUserShard(userId, () -> deleteIds(archiveRepository.findIdsByUserId(userId, chunk),
+                    archiveRepository::deleteAllByIdInBatch));
+            case VALUATIONS -> inTransaction(() -> deleteIds(valuationRepository.findIdsByUserId(userId, chunk),
+                    valuationRepository::deleteAllByIdInBatch));
+            case ROLES -> inTransaction(() -> userRepository.deleteRoles(userId));
+            case ACCOUNT -> inTransaction(() -> {
+                userRepository.deleteAllByIdInBatch(List.of(userId));
+                return 1;
+            });
+        };
+    }
+
+    /**
+     * 포지션 묶음 삭제: 지난 실행이 남긴 삭제 대기 포지션을 먼저 지우고, 다음 묶음을 보유 현황 집계에서
+     * 차감하면서 ID를 작업 행에 기록한 뒤(기본 샤드 커밋) 회원 샤드에서 삭제합니다.
+     * 대기 목록은 이어지는 진행 기록(updateProgress)에서 비웁니다.
+     */
+    private int deletePositions(Long jobId, Long userId, Pageable chunk) {
+        String pending = transactionTemplate.execute(status ->
+                jobRepository.findById(jobId).orElseThrow().getPendingPositionIds());
+        if (pending != null && !pending.isEmpty()) {
+            List<Long> ids = Arrays.stream(pending.split(",")).map(Long::valueOf).toList();
+            log.info("삭제 대기 포지션 정리 - 회원 ID: {}, {}건", userId, ids.size());
+            inUserShard(userId, () -> deleteIds(ids, portfolioRepository::deleteAllByIdInBatch));
+        }
+
+        List<OpenPosition> positions = inUserShard(userId, () -> portfolioRepository.findPositionsByUserId(userId, chunk));
+        if (positions.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = positions.stream().map(OpenPosition::id).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (OpenPosition position : positions) {
+                stockHoldingService.onPositionClosed(position.stockCode(), position.quantity(),
+                        position.totalInvestment());
+            }
+            jobRepository.findById(jobId).orElseThrow().setPendingPositionIds(
+                    ids.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        });
+        return inUserShard(userId, () -> deleteIds(ids, portfolioRepository::deleteAllByIdInBatch));
+    }
+
+    private int chunkSize(Phase phase) {
+        return phase == Phase.PORTFOLIOS ? Math.min(chunkSize, MAX_POSITION_CHUNK) : chunkSize;
+    }
+
+    private static int deleteIds(List<Long> ids, Consumer<List<Long>> delete) {
+        if (!ids.isEmpty()) {
+            delete.accept(ids);
+        }
+        return ids.size();
+    }
+
+    private int inTransaction(Supplier<Integer> work) {
+        Integer deleted = transactionTemplate.execute(status -> work.get());
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * 회원 샤드로 라우팅한 쓰기 트랜잭션 (샤드 키가 없는 ID 목록 삭제도 같은 샤드로 감)
+     */
+    private <T> T inUserShard(Long userId, Supplier<T> work) {
+        return shardTransactions.inShard(shardRouter.shardForUser(userId), work);
+    }
+
+    private void updateProgress(Long jobId, Phase phase, int deleted) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            job.setPhase(phase);
+            job.setPendingPositionIds(null);
+            job.setRowsDeleted(job.getRowsDeleted() + deleted);
+            job.setUpdatedAt(LocalDateTime.now());
+            job.setLeaseUntil(LocalDateTime.now().plus(lease));
+        }));
+    }
+
+    private void finish(Long jobId) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            LocalDateTime now = LocalDateTime.now();
+            job.setStatus(Status.DONE);
+            job.setLeaseUntil(null);
+            job.setMessage(null);
+            job.setUpdatedAt(now);
+            job.setFinishedAt(now);
+        }));
+    }
+
+    /**
+     * @param restart 다음 시도를 첫 단계부터 진행할지
+     */
+    private void recordFailure(Long jobId, RuntimeException cause, boolean restart) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            int attempts = job.getAttempts() + 1;
+            if (restart) {
+                job.setPhase(Phase.values()[0]);
+            }
+            String message = String.valueOf(cause.getMessage());
+            job.setAttempts(attempts);
+            job.setStatus(attempts >= maxAttempts ? Status.FAILED : Status.PENDING);
+            job.setMessage(message.length() > 500 ? message.substring(0, 500) : message);
+            job.setLeaseUntil(null);
+            job.setUpdatedAt(LocalDateTime.now());
+        }));
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("회원 삭제 작업 중단", e);
+        }
+    }
+}
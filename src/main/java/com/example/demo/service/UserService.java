@@ -1,10 +1,13 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.AdminUserPage;
+import com.example.demo.dto.AdminUserSearch;
 import com.example.demo.entity.Role;
 import com.example.demo.entity.User;
 import com.example.demo.repository.RoleRepository;
 import com.example.demo.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +24,11 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class UserService {
 
+    /**
+     * 관리자 회원 목록 페이지 크기
+     */
+    private static final int ADMIN_USER_PAGE_SIZE = 20;
+
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
@@ -29,8 +37,24 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * 관리자 회원 목록 검색 (키셋 페이지 단위 프로젝션 조회)
+     *
+     * @param afterKey 이전 페이지의 nextKey (첫 페이지면 null)
+     * @param afterId  이전 페이지의 nextId (첫 페이지면 null)
+     */
+    @Transactional(readOnly = true)
+    public AdminUserPage searchUsers(AdminUserSearch search, Sort sort, String afterKey, Long afterId) {
+        return userRepository.searchDirectory(search, sort, afterKey, afterId, ADMIN_USER_PAGE_SIZE);
+    }
+
+    /**
+     * 사용자명으로 회원 조회 (없거나 삭제 처리 중인 회원이면 null)
+     */
     public User getUserByUsername(String username) {
-        return userRepository.findByUsername(username).orElse(null);
+        return userRepository.findByUsername(username)
+                .filter(user -> user.getDeletedAt() == null)
+                .orElse(null);
     }
 
     @Transactional
@@ -0,0 +1,208 @@
+package com.example.demo.service;
+
+import com.example.demo.constant.ErrorMessages;
+import com.example.demo.dto.ValuationChart;
+import com.example.demo.dto.ValuationPoint;
+import com.example.demo.entity.Portfolio;
+import com.example.demo.entity.ValuationSeries;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.ledger.PositionState;
+import com.example.demo.repository.PortfolioRepository;
+import com.example.demo.repository.ValuationSeriesRepository;
+import com.example.demo.sharding.ShardContext;
+import com.example.demo.sharding.ShardRouter;
+import com.example.demo.valuation.Lttb;
+import com.example.demo.valuation.ValuationSeriesCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포트폴리오 평가금액 시계열 서비스
+ *
+ * - 스냅샷: 샤드마다 포지션을 가진 사용자를 키셋 청크로 나눠, 종목별 시리즈와 전체 합계 시리즈에
+ *   현재 평가금액/투자금액 포인트를 하나씩 추가합니다 (청크마다 한 트랜잭션, 시리즈는 기본 샤드에 저장).
+ * - 차트: 기간에 걸친 월 버킷 행만 읽어 디코딩하고 LTTB로 요청한 포인트 수까지 줄입니다.
+ *   5년 일별 시리즈도 60행 안팎이므로 디코딩 비용이 작습니다.
+ *
+ * 같은 시리즈에 이전 포인트보다 늦지 않은 시각의 스냅샷은 무시하므로 작업이 중복 실행되어도
+ * 포인트가 뒤섞이지 않습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ValuationService {
+
+    private static final int CHUNK_SIZE = 200;
+    private static final int MAX_CHART_POINTS = 2000;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final PortfolioRepository portfolioRepository;
+    private final ValuationSeriesRepository valuationSeriesRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 모든 사용자의 현재 평가금액 스냅샷을 기록하고 저장된 손익/수익률을 갱신합니다.
+     *
+     * @param at 스냅샷 시각
+     * @return 추가된 포인트 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int snapshotAll(Instant at) {
+        long startNanos = System.nanoTime();
+        Integer refreshed = transactionTemplate.execute(status -> portfolioRepository.refreshProfitLoss());
+
+        LocalDate bucketMonth = LocalDate.ofInstant(at, ZONE).withDayOfMonth(1);
+        int points = 0;
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            int target = shard;
+            long afterId = 0;
+            while (true) {
+                long after = afterId;
+                List<Long> userIds = ShardContext.onShard(target,
+                        () -> portfolioRepository.findHolderIdsAfter(after, PageRequest.of(0, CHUNK_SIZE)));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                Integer appended = transactionTemplate.execute(status -> snapshotChunk(target, userIds, bucketMonth, at));
+                points += appended != null ? appended : 0;
+                afterId = userIds.get(userIds.size() - 1);
+            }
+        }
+
+        log.info("평가금액 스냅샷 완료: 포인트 {}개, 손익 갱신 {}건, {}ms", points, refreshed,
+                (System.nanoTime() - startNanos) / 1_000_000);
+        return points;
+    }
+
+    private int snapshotChunk(int shard, List<Long> userIds, LocalDate bucketMonth, Instant at) {
+        // 사용자별 시리즈 키 → (평가금액, 투자금액) (1/100원 단위)
+        Map<Long, Map<String, long[]>> values = new LinkedHashMap<>();
+        for (Portfolio portfolio : ShardContext.onShard(shard, () -> portfolioRepository.findByUserIds(userIds))) {
+            double price = portfolio.getCurrentPrice() != null ? portfolio.getCurrentPrice() : portfolio.getAveragePrice();
+            long evaluation = Math.round(price * portfolio.getQuantity() * 100);
+            // 투자금액이 비어 있는 이전 포지션은 수량 × 평균가 (PositionState와 같은 기준)
+            long investment = Math.round(PositionState.of(portfolio).totalCost() * 100);
+
+            Map<String, long[]> series = values.computeIfAbsent(portfolio.getUser().getId(), id -> new LinkedHashMap<>());
+            series.put(portfolio.getStockCode(), new long[]{evaluation, investment});
+            long[] total = series.computeIfAbsent(ValuationSeries.TOTAL_KEY, key -> new long[2]);
+            total[0] += evaluation;
+            total[1] += investment;
+        }
+
+        Map<String, ValuationSeries> existing = new HashMap<>();
+        for (ValuationSeries row : valuationSeriesRepository.findByUserIdInAndBucketMonth(userIds, bucketMonth)) {
+            existing.put(row.getUserId() + "|" + row.getSeriesKey(), row);
+        }
+
+        long atSeconds = at.getEpochSecond();
+        List<ValuationSeries> changed = new ArrayList<>();
+        values.forEach((userId, series) -> series.forEach((seriesKey, value) -> {
+            ValuationSeries row = existing.get(userId + "|" + seriesKey);
+            if (row == null) {
+                row = new ValuationSeries();
+                row.setUserId(userId);
+                row.setSeriesKey(seriesKey);
+                row.setBucketMonth(bucketMonth);
+                row.setPointCount(0);
+                row.setLastAt(bucketStart(bucketMonth));
+                row.setLastEvaluation(0L);
+                row.setLastInvestment(0L);
+            } else if (row.getPointCount() > 0 && atSeconds <= row.getLastAt()) {
+                return;
+            }
+
+            row.setPayload(ValuationSeriesCodec.append(row.getPayload(), atSeconds - row.getLastAt(),
+                    value[0] - row.getLastEvaluation(), value[1] - row.getLastInvestment()));
+            row.setPointCount(row.getPointCount() + 1);
+            row.setLastAt(atSeconds);
+            row.setLastEvaluation(value[0]);
+            row.setLastInvestment(value[1]);
+            changed.add(row);
+        }));
+
+        valuationSeriesRepository.saveAll(changed);
+        return changed.size();
+    }
+
+    /**
+     * 평가금액 차트 조회
+     *
+     * @param userId    사용자 ID
+     * @param seriesKey 종목코드 (null이면 포트폴리오 전체)
+     * @param from      조회 시작일 (포함)
+     * @param to        조회 종료일 (포함)
+     * @param maxPoints 최대 포인트 수 (LTTB 다운샘플링)
+     * @return 차트 데이터
+     * @throws BusinessException 시작일이 종료일보다 늦을 때
+     */
+    public ValuationChart getChart(Long userId, String seriesKey, LocalDate from, LocalDate to, int maxPoints) {
+        if (from.isAfter(to)) {
+            throw new BusinessException(ErrorMessages.INVALID_DATE_RANGE);
+        }
+        String key = seriesKey == null || seriesKey.isBlank() ? ValuationSeries.TOTAL_KEY : seriesKey.trim();
+        int threshold = Math.max(3, Math.min(maxPoints, MAX_CHART_POINTS));
+
+        List<ValuationSeries> rows = valuationSeriesRepository
+                .findByUserIdAndSeriesKeyAndBucketMonthBetweenOrderByBucketMonth(
+                        userId, key, from.withDayOfMonth(1), to.withDayOfMonth(1));
+
+        ValuationSeriesCodec.Points decoded = new ValuationSeriesCodec.Points();
+        for (ValuationSeries row : rows) {
+            ValuationSeriesCodec.decode(row.getPayload(), row.getPointCount(), bucketStart(row.getBucketMonth()), decoded);
+        }
+
+        // 월 버킷 안에서 기간 밖 포인트 제외
+        long fromSeconds = from.atStartOfDay(ZONE).toEpochSecond();
+        long toSeconds = to.plusDays(1).atStartOfDay(ZONE).toEpochSecond();
+        int start = 0;
+        while (start < decoded.size() && decoded.at(start) < fromSeconds) {
+            start++;
+        }
+        int end = decoded.size();
+        while (end > start && decoded.at(end - 1) >= toSeconds) {
+            end--;
+        }
+
+        int offset = start;
+        int size = end - start;
+        int[] selected = Lttb.downsample(i -> decoded.at(offset + i), i -> decoded.evaluation(offset + i),
+                size, threshold);
+
+        List<ValuationPoint> points = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            int i = offset + index;
+            double evaluation = decoded.evaluation(i) / 100.0;
+            double investment = decoded.investment(i) / 100.0;
+            points.add(new ValuationPoint(decoded.at(i) * 1000, evaluation, investment, evaluation - investment));
+        }
+        return new ValuationChart(key, from, to, size, points);
+    }
+
+    /**
+     * 버킷 첫 포인트의 델타 기준 시각 (버킷 월 1일 0시 UTC, epoch seconds)
+     */
+    private static long bucketStart(LocalDate bucketMonth) {
+        return bucketMonth.atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+    }
+}
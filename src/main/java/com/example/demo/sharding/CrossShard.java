@@ -0,0 +1,25 @@
+package com.example.demo.sharding;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 모든 샤드에서 병렬로 실행하고 결과를 합치는 리포지토리 메서드 표시 (관리/집계용)
+ *
+ * 결과 병합 규칙
+ * - 숫자(long/int): 합계
+ * - List: 샤드 순서대로 이어 붙임 (정렬이 필요하면 호출자가 다시 정렬)
+ *
+ * 샤드별 실행은 각자의 트랜잭션에서 커밋되므로 샤드 사이의 원자성은 보장되지 않습니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CrossShard {
+}
@@ -0,0 +1,68 @@
+package com.example.demo.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 샤드 지정 상태
+ *
+ * 두 가지 값을 구분합니다.
+ * - 라우팅 샤드: {@link ShardRoutingDataSource}가 연결을 얻을 샤드. 샤딩 애스펙트/팬아웃만 설정하며,
+ *   그 밖에서는 항상 0(기본 샤드)이므로 서비스 트랜잭션과 전역 테이블은 기본 샤드에 남습니다.
+ * - 요청 샤드: 사용자 ID로 샤드를 정할 수 없는 리포지토리 호출(키셋 순회 등)을 보낼 샤드.
+ *   {@link #onShard(int, Supplier)}로 지정합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> ROUTING_SHARD = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> REQUESTED_SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * 샤드 키가 없는 샤딩 리포지토리 호출을 지정한 샤드에서 실행합니다.
+     * 사용자 ID로 샤드가 정해지는 호출에는 영향을 주지 않습니다.
+     */
+    public static <T> T onShard(int shard, Supplier<T> action) {
+        Integer previous = REQUESTED_SHARD.get();
+        REQUESTED_SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            restore(REQUESTED_SHARD, previous);
+        }
+    }
+
+    /**
+     * 연결을 얻을 샤드 (지정되지 않았으면 기본 샤드 0)
+     */
+    public static int currentRoutingShard() {
+        Integer shard = ROUTING_SHARD.get();
+        return shard != null ? shard : 0;
+    }
+
+    static Integer requestedShard() {
+        return REQUESTED_SHARD.get();
+    }
+
+    static <T> T withRoutingShard(int shard, Supplier<T> action) {
+        Integer previous = ROUTING_SHARD.get();
+        ROUTING_SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            restore(ROUTING_SHARD, previous);
+        }
+    }
+
+    private static void restore(ThreadLocal<Integer> holder, Integer previous) {
+        if (previous != null) {
+            holder.set(previous);
+        } else {
+            holder.remove();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.sharding;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 모든 샤드에 같은 작업을 병렬로 실행합니다 (관리용 집계/전체 조회).
+ *
+ * 기본 샤드(0)는 호출 스레드에서 실행하므로 호출자의 트랜잭션에 참여하고,
+ * 나머지 샤드는 전용 스레드 풀에서 해당 샤드로 라우팅된 상태로 실행됩니다 (호출자 트랜잭션 밖).
+ * 샤드가 하나이면 스레드 풀을 만들지 않고 호출 스레드에서 바로 실행합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class ShardFanout {
+
+    private final ShardRouter shardRouter;
+    private final ExecutorService executor;
+
+    public ShardFanout(ShardRouter shardRouter,
+                       @Value("${app.sharding.fanout-threads:8}") int threads) {
+        this.shardRouter = shardRouter;
+        if (shardRouter.isSharded()) {
+            AtomicInteger sequence = new AtomicInteger();
+            int poolSize = Math.max(1, Math.min(threads, shardRouter.getShardCount() - 1));
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "shard-fanout-" + sequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * 샤드별 결과를 샤드 번호 순서로 반환합니다. 어느 샤드에서든 예외가 나면 다른 샤드를 기다린 뒤 그 예외를 던집니다.
+     */
+    public <T> List<T> onEachShard(IntFunction<T> task) {
+        int shards = shardRouter.getShardCount();
+        if (shards == 1) {
+            return List.of(ShardContext.withRoutingShard(0, () -> task.apply(0)));
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(shards - 1);
+        for (int shard = 1; shard < shards; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> ShardContext.withRoutingShard(target, () -> task.apply(target)), executor));
+        }
+
+        List<T> results = new ArrayList<>(shards);
+        RuntimeException failure = null;
+        try {
+            results.add(ShardContext.withRoutingShard(0, () -> task.apply(0)));
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.sharding;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 샤드를 정하는 사용자 ID 파라미터 표시
+ *
+ * 샤딩 리포지토리 메서드에서 User 객체나 엔티티 대신 사용자 ID(Long)만 받는 경우에 붙입니다.
+ * 표시가 없는 Long 파라미터는 사용자 ID로 간주하지 않습니다 (findById 등의 행 ID와 구분).
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+}
@@ -0,0 +1,48 @@
+package com.example.demo.sharding;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재배치 모드 실행기
+ *
+ * app.sharding.rebalance=true 로 기동하면 재배치를 한 번 실행하고 프로세스를 종료합니다.
+ * 요청을 받지 않도록 웹 서버 없이 실행합니다.
+ * <pre>
+ * java -jar app.jar --spring.profiles.active=sharded --spring.main.web-application-type=none \
+ *      --app.sharding.rebalance=true
+ * </pre>
+ * 실패한 사용자가 있으면 종료 코드 2, 오류로 중단되면 1을 반환합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = {"app.sharding.enabled", "app.sharding.rebalance"}, havingValue = "true")
+public class ShardRebalanceRunner implements ApplicationRunner {
+
+    private final ShardRebalancer shardRebalancer;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode;
+        try {
+            ShardRebalancer.RebalanceResult result = shardRebalancer.rebalance();
+            exitCode = result.failedUsers() > 0 ? 2 : 0;
+        } catch (RuntimeException e) {
+            log.error("샤드 재배치 중단", e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
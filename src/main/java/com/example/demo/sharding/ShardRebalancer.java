@@ -0,0 +1,195 @@
+package com.example.demo.sharding;
+
+import com.example.demo.entity.ShardMoveLog;
+import com.example.demo.repository.ShardMoveLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오프라인 샤드 재배치 도구
+ *
+ * 모든 샤드를 훑어 현재 샤드 구성({@link ShardRouter#shardForUser})과 다른 샤드에 있는 사용자 행을
+ * 자기 샤드로 옮깁니다. 샤드를 추가했거나 기존 단일 DB 데이터를 처음 샤딩할 때 실행합니다.
+ * 애플리케이션이 요청을 받지 않는 상태에서 실행해야 합니다 (사용자 단위로 복사 후 원본 삭제).
+ *
+ * - 옮긴 행은 대상 샤드의 ID 구간에서 새 ID를 받습니다 (기존 ID를 가리키는 URL은 무효가 됨).
+ * - 사용자 한 명의 테이블 하나 = 복사 트랜잭션(대상 샤드) + 삭제 트랜잭션(원본 샤드)이며,
+ *   진행 상태를 {@link ShardMoveLog}에 남겨 중단 후 다시 실행하면 이어서 처리합니다.
+ * - 대상 샤드에 이미 같은 종목 포지션이 있는 등 복사가 실패한 사용자는 FAILED로 남기고 건너뜁니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardRebalancer {
+
+    private static final int USER_CHUNK_SIZE = 500;
+
+    private final ShardRouter shardRouter;
+    private final ShardMoveLogRepository moveLogRepository;
+    private final List<JdbcTemplate> jdbcTemplates = new ArrayList<>();
+    private final List<TransactionTemplate> transactionTemplates = new ArrayList<>();
+
+    public ShardRebalancer(ShardRouter shardRouter,
+                           ShardRoutingDataSource shardRoutingDataSource,
+                           ShardMoveLogRepository moveLogRepository) {
+        this.shardRouter = shardRouter;
+        this.moveLogRepository = moveLogRepository;
+        for (int shard = 0; shard < shardRoutingDataSource.getShardCount(); shard++) {
+            DataSource dataSource = shardRoutingDataSource.getShard(shard);
+            jdbcTemplates.add(new JdbcTemplate(dataSource));
+            transactionTemplates.add(new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        }
+    }
+
+    /**
+     * 중단된 이동을 마무리한 뒤 잘못된 샤드에 있는 모든 사용자 행을 옮깁니다.
+     */
+    public RebalanceResult rebalance() {
+        long startNanos = System.nanoTime();
+        int resumed = resumeUnfinished();
+
+        int movedUsers = 0;
+        long movedRows = 0;
+        int failedUsers = 0;
+        for (String table : ShardSchemaInitializer.SHARDED_TABLES) {
+            for (int source = 0; source < shardRouter.getShardCount(); source++) {
+                long afterUserId = 0;
+                while (true) {
+                    List<Long> userIds = jdbcTemplates.get(source).queryForList(
+                            "SELECT DISTINCT user_id FROM " + table + " WHERE user_id > ? ORDER BY user_id "
+                                    + "LIMIT " + USER_CHUNK_SIZE, Long.class, afterUserId);
+                    for (Long userId : userIds) {
+                        int target = shardRouter.shardForUser(userId);
+                        if (target == source) {
+                            continue;
+                        }
+                        ShardMoveLog entry = move(table, userId, source, target);
+                        if (entry.getStatus() == ShardMoveLog.Status.DONE) {
+                            movedUsers++;
+                            movedRows += entry.getRowsMoved();
+                        } else {
+                            failedUsers++;
+                        }
+                    }
+                    if (userIds.size() < USER_CHUNK_SIZE) {
+                        break;
+                    }
+                    afterUserId = userIds.get(userIds.size() - 1);
+                }
+            }
+        }
+
+        RebalanceResult result = new RebalanceResult(resumed, movedUsers, movedRows, failedUsers,
+                (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("샤드 재배치 완료: {}", result);
+        return result;
+    }
+
+    private int resumeUnfinished() {
+        List<ShardMoveLog> unfinished = moveLogRepository.findByStatusInOrderByIdAsc(
+                List.of(ShardMoveLog.Status.COPYING, ShardMoveLog.Status.COPIED));
+        for (ShardMoveLog entry : unfinished) {
+            log.info("중단된 샤드 이동 재개: {} 사용자 {} ({} → {}, {})", entry.getTableName(), entry.getUserId(),
+                    entry.getSourceShard(), entry.getTargetShard(), entry.getStatus());
+            if (entry.getStatus() == ShardMoveLog.Status.COPYING) {
+                discardPartialCopy(entry);
+                copy(entry);
+            } else {
+                finish(entry);
+            }
+        }
+        return unfinished.size();
+    }
+
+    private ShardMoveLog move(String table, long userId, int source, int target) {
+        ShardMoveLog entry = new ShardMoveLog();
+        entry.setTableName(table);
+        entry.setUserId(userId);
+        entry.setSourceShard(source);
+        entry.setTargetShard(target);
+        entry.setTargetMaxId(jdbcTemplates.get(target).queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class));
+        entry.setStatus(ShardMoveLog.Status.COPYING);
+        return copy(moveLogRepository.save(entry));
+    }
+
+    private ShardMoveLog copy(ShardMoveLog entry) {
+        String table = entry.getTableName();
+        List<Map<String, Object>> rows = jdbcTemplates.get(entry.getSourceShard()).queryForList(
+                "SELECT * FROM " + table + " WHERE user_id = ? ORDER BY id", entry.getUserId());
+        try {
+            if (!rows.isEmpty()) {
+                List<String> columns = rows.get(0).keySet().stream()
+                        .filter(column -> !column.equalsIgnoreCase("id"))
+                        .toList();
+                String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                        + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+                List<Object[]> batch = rows.stream()
+                        .map(row -> columns.stream().map(row::get).toArray())
+                        .toList();
+                transactionTemplates.get(entry.getTargetShard()).executeWithoutResult(status ->
+                        jdbcTemplates.get(entry.getTargetShard()).batchUpdate(sql, batch));
+            }
+        } catch (DataAccessException e) {
+            log.warn("샤드 이동 실패 (수동 확인 필요): {} 사용자 {} ({} → {})", table, entry.getUserId(),
+                    entry.getSourceShard(), entry.getTargetShard(), e);
+            entry.setMessage(abbreviate(e.getMostSpecificCause().getMessage()));
+            return save(entry, ShardMoveLog.Status.FAILED);
+        }
+
+        entry.setRowsMoved(rows.size());
+        return finish(save(entry, ShardMoveLog.Status.COPIED));
+    }
+
+    private ShardMoveLog finish(ShardMoveLog entry) {
+        transactionTemplates.get(entry.getSourceShard()).executeWithoutResult(status ->
+                jdbcTemplates.get(entry.getSourceShard()).update(
+                        "DELETE FROM " + entry.getTableName() + " WHERE user_id = ?", entry.getUserId()));
+        return save(entry, ShardMoveLog.Status.DONE);
+    }
+
+    private void discardPartialCopy(ShardMoveLog entry) {
+        transactionTemplates.get(entry.getTargetShard()).executeWithoutResult(status ->
+                jdbcTemplates.get(entry.getTargetShard()).update(
+                        "DELETE FROM " + entry.getTableName() + " WHERE user_id = ? AND id > ?",
+                        entry.getUserId(), entry.getTargetMaxId()));
+    }
+
+    private ShardMoveLog save(ShardMoveLog entry, ShardMoveLog.Status status) {
+        entry.setStatus(status);
+        entry.setUpdatedAt(LocalDateTime.now());
+        return moveLogRepository.save(entry);
+    }
+
+    private static String abbreviate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    /**
+     * 재배치 결과
+     *
+     * @param resumed     이어서 처리한 중단 이동 수
+     * @param movedUsers  옮긴 (사용자, 테이블) 수
+     * @param movedRows   옮긴 행 수
+     * @param failedUsers 실패해 건너뛴 (사용자, 테이블) 수
+     */
+    public record RebalanceResult(int resumed, int movedUsers, long movedRows, int failedUsers, long elapsedMs) {
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.demo.sharding;
+
+import com.example.demo.entity.CalculationHistory;
+import com.example.demo.entity.HistoryArchiveSegment;
+import com.example.demo.entity.Portfolio;
+import com.example.demo.entity.PositionCheckpoint;
+import com.example.demo.entity.Trade;
+import com.example.demo.entity.User;
+import com.example.demo.repository.CalculationHistoryRepository;
+import com.example.demo.repository.HistoryArchiveSegmentRepository;
+import com.example.demo.repository.PortfolioRepository;
+import com.example.demo.repository.PositionCheckpointRepository;
+import com.example.demo.repository.TradeRepository;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 포트폴리오/계산 기록 리포지토리 호출을 사용자 샤드로 보내는 애스펙트
+ *
+ * 샤드 결정 순서
+ * 1. {@link ShardKey} 파라미터 (사용자 ID)
+ * 2. findById/deleteById 등의 행 ID → ID 구간의 샤드
+ * 3. User 인자 → 사용자의 샤드, 엔티티 인자 → ID가 있으면 ID 구간, 없으면(신규) 소유자의 샤드
+ * 4. {@link ShardContext#onShard}로 지정한 샤드
+ * 어느 것으로도 샤드를 정할 수 없으면 기본 샤드로 보내지 않고 {@link IllegalStateException}을 던집니다
+ * (다른 샤드의 데이터를 조용히 빠뜨리거나 기본 샤드에 잘못 쓰는 것을 막기 위함).
+ * {@link CrossShard} 메서드는 모든 샤드에서 병렬로 실행하고 결과를 합칩니다.
+ *
+ * 트랜잭션: 현재 라우팅 샤드(보통 서비스 트랜잭션이 있는 기본 샤드, {@link ShardTransactions} 안에서는 그 샤드)로
+ * 가는 호출은 진행 중인 트랜잭션에 참여하고, 다른 샤드 호출은 별도 트랜잭션(REQUIRES_NEW)과
+ * 별도 EntityManager에서 실행되어 바로 커밋됩니다.
+ * 따라서 샤드 데이터와 기본 샤드의 전역 테이블(종목 집계 등) 사이에는 원자성이 없고,
+ * 반환된 엔티티는 준영속 상태입니다 (지연 로딩 연관은 ID만 사용).
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardRoutingAspect {
+
+    private static final Set<String> ID_METHODS = Set.of("findById", "existsById", "deleteById",
+            "getReferenceById", "getById");
+
+    private final ShardRouter shardRouter;
+    private final ShardFanout shardFanout;
+    private final ShardTransactions shardTransactions;
+    private final Map<Method, MethodRouting> routings = new ConcurrentHashMap<>();
+
+    public ShardRoutingAspect(ShardRouter shardRouter,
+                              ShardFanout shardFanout,
+                              ShardTransactions shardTransactions) {
+        this.shardRouter = shardRouter;
+        this.shardFanout = shardFanout;
+        this.shardTransactions = shardTransactions;
+    }
+
+    @Around("target(com.example.demo.repository.PortfolioRepository) "
+            + "|| target(com.example.demo.repository.CalculationHistoryRepository) "
+            + "|| target(com.example.demo.repository.TradeRepository) "
+            + "|| target(com.example.demo.repository.PositionCheckpointRepository) "
+            + "|| target(com.example.demo.repository.HistoryArchiveSegmentRepository)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodRouting routing = routings.computeIfAbsent(method,
+                invoked -> MethodRouting.of(invoked, joinPoint.getTarget().getClass()));
+
+        if (routing.crossShard()) {
+            return fanOut(joinPoint, routing.method());
+        }
+        int shard = resolveShard(joinPoint.getArgs(), routing);
+        if (shard == ShardContext.currentRoutingShard()) {
+            return joinPoint.proceed();
+        }
+        return shardTransactions.inShard(shard, ShardTransactions.callerReadOnly(), () -> proceed(joinPoint));
+    }
+
+    private Object fanOut(ProceedingJoinPoint joinPoint, Method method) {
+        TransactionTemplate template = shardTransactions.template(ShardTransactions.callerReadOnly());
+
+        List<Object> results = shardFanout.onEachShard(shard -> shard == 0
+                ? proceed(joinPoint)
+                : template.execute(status -> proceed(joinPoint)));
+        return merge(method, results);
+    }
+
+    private int resolveShard(Object[] args, MethodRouting routing) {
+        if (routing.shardKeyIndex() >= 0 && args[routing.shardKeyIndex()] instanceof Long userId) {
+            return shardRouter.shardForUser(userId);
+        }
+        if (routing.byId() && args[0] instanceof Long id) {
+            return shardRouter.shardForId(id);
+        }
+        for (Object arg : args) {
+            Integer shard = shardOf(arg);
+            if (shard != null) {
+                return shard;
+            }
+        }
+        Integer requested = ShardContext.requestedShard();
+        if (requested == null) {
+            throw new IllegalStateException("샤드를 정할 수 없는 샤딩 리포지토리 호출입니다 "
+                    + "(@ShardKey, @CrossShard 또는 ShardContext.onShard 필요): " + routing.method());
+        }
+        return requested;
+    }
+
+    /**
+     * 인자 하나로 정해지는 샤드 (정할 수 없으면 null). 엔티티 목록은 모두 같은 사용자의 것이어야 합니다.
+     */
+    private Integer shardOf(Object arg) {
+        if (arg instanceof User user) {
+            return user.getId() != null ? shardRouter.shardForUser(user.getId()) : null;
+        }
+        if (arg instanceof Portfolio portfolio) {
+            return ownerShard(portfolio.getId(), portfolio.getUser());
+        }
+        if (arg instanceof CalculationHistory history) {
+            return ownerShard(history.getId(), history.getUser());
+        }
+        if (arg instanceof Trade trade) {
+            return ownerShard(trade.getId(), trade.getUser());
+        }
+        if (arg instanceof PositionCheckpoint checkpoint) {
+            return ownerShard(checkpoint.getId(), checkpoint.getUser());
+        }
+        if (arg instanceof HistoryArchiveSegment segment) {
+            return ownerShard(segment.getId(), segment.getUser());
+        }
+        if (arg instanceof Iterable<?> iterable) {
+            Iterator<?> iterator = iterable.iterator();
+            return iterator.hasNext() ? shardOf(iterator.next()) : null;
+        }
+        return null;
+    }
+
+    private Integer ownerShard(Long id, User owner) {
+        if (id != null) {
+            return shardRouter.shardForId(id);
+        }
+        return owner != null && owner.getId() != null ? shardRouter.shardForUser(owner.getId()) : null;
+    }
+
+    private static Object merge(Method method, List<Object> results) {
+        Class<?> type = method.getReturnType();
+        if (type == long.class || type == Long.class) {
+            return results.stream().mapToLong(result -> ((Number) result).longValue()).sum();
+        }
+        if (type == int.class || type == Integer.class) {
+            return results.stream().mapToInt(result -> ((Number) result).intValue()).sum();
+        }
+        List<Object> merged = new ArrayList<>();
+        results.forEach(result -> merged.addAll((List<?>) result));
+        return merged;
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * 메서드별 라우팅 정보 (리포지토리 인터페이스에 선언된 메서드의 어노테이션 기준)
+     */
+    private record MethodRouting(Method method, boolean crossShard, int shardKeyIndex, boolean byId) {
+
+        static MethodRouting of(Method invoked, Class<?> targetClass) {
+            Method declared = declaredMethod(invoked, targetClass);
+            boolean crossShard = declared.isAnnotationPresent(CrossShard.class);
+            if (crossShard) {
+                Class<?> type = declared.getReturnType();
+                if (type != long.class && type != Long.class && type != int.class && type != Integer.class
+                        && !List.class.isAssignableFrom(type)) {
+                    throw new IllegalStateException("@CrossShard 결과를 합칠 수 없는 반환 형식: " + declared);
+                }
+            }
+
+            int shardKeyIndex = -1;
+            Annotation[][] parameterAnnotations = declared.getParameterAnnotations();
+            for (int i = 0; i < parameterAnnotations.length && shardKeyIndex < 0; i++) {
+                for (Annotation annotation : parameterAnnotations[i]) {
+                    if (annotation instanceof ShardKey) {
+                        shardKeyIndex = i;
+                        break;
+                    }
+                }
+            }
+
+            boolean byId = ID_METHODS.contains(declared.getName()) && declared.getParameterCount() == 1;
+            return new MethodRouting(declared, crossShard, shardKeyIndex, byId);
+        }
+
+        /**
+         * JpaRepository 메서드를 다시 선언(@CrossShard count 등)한 경우 그 선언을 찾음
+         */
+        private static Method declaredMethod(Method invoked, Class<?> targetClass) {
+            for (Class<?> repository : List.of(PortfolioRepository.class, CalculationHistoryRepository.class,
+                    TradeRepository.class, PositionCheckpointRepository.class,
+                    HistoryArchiveSegmentRepository.class)) {
+                if (repository.isAssignableFrom(targetClass)) {
+                    try {
+                        return repository.getDeclaredMethod(invoked.getName(), invoked.getParameterTypes());
+                    } catch (NoSuchMethodException e) {
+                        return invoked;
+                    }
+                }
+            }
+            return invoked;
+        }
+    }
+}
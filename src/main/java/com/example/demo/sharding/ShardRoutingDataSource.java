@@ -0,0 +1,51 @@
+package com.example.demo.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 스레드의 라우팅 샤드({@link ShardContext#currentRoutingShard()})로 연결을 보내는 데이터소스
+ *
+ * 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 대상이 정해지도록
+ * LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final List<DataSource> shards;
+
+    /**
+     * @param shards 샤드 번호 순서의 데이터소스 (0번이 기본 샤드)
+     */
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setLenientFallback(false);
+    }
+
+    /**
+     * 샤드 하나의 데이터소스 (라우팅 없이 직접 접근, 재배치 도구용)
+     */
+    public DataSource getShard(int shard) {
+        return shards.get(shard);
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.currentRoutingShard();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 추가 샤드(1번 이후)의 테이블 생성
+ *
+ * 기본 샤드는 JPA(ddl-auto)가 관리하므로 대상이 아닙니다. 샤드 DB 종류에 맞는 스키마 파일
+ * (H2/PostgreSQL은 db/shard-schema.sql, MySQL/MariaDB는 db/shard-schema-mysql.sql)을 실행하고,
+ * 새로 만든 테이블은 ID 시작값을 샤드의 ID 구간({@link ShardRouter#idBlockStart})으로 옮깁니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+public final class ShardSchemaInitializer {
+
+    /**
+     * 사용자 ID로 샤딩되는 테이블
+     */
+    public static final List<String> SHARDED_TABLES = List.of(
+            "portfolios", "calculation_history", "calculation_history_archive", "trades", "position_checkpoints");
+
+    /**
+     * 지원하는 샤드 DB 종류별 스키마 파일, 현재 스키마 함수, ID 시작값 변경 구문
+     */
+    enum Dialect {
+        H2("db/shard-schema.sql", "CURRENT_SCHEMA", "ALTER TABLE %s ALTER COLUMN id RESTART WITH %d"),
+        POSTGRESQL("db/shard-schema.sql", "current_schema()", "ALTER TABLE %s ALTER COLUMN id RESTART WITH %d"),
+        MYSQL("db/shard-schema-mysql.sql", "DATABASE()", "ALTER TABLE %s AUTO_INCREMENT = %d");
+
+        private final String schemaLocation;
+        private final String currentSchema;
+        private final String restartIdentity;
+
+        Dialect(String schemaLocation, String currentSchema, String restartIdentity) {
+            this.schemaLocation = schemaLocation;
+            this.currentSchema = currentSchema;
+            this.restartIdentity = restartIdentity;
+        }
+
+        static Dialect of(String productName) {
+            String name = productName.toLowerCase(Locale.ROOT);
+            if (name.contains("h2")) {
+                return H2;
+            }
+            if (name.contains("postgresql")) {
+                return POSTGRESQL;
+            }
+            if (name.contains("mysql") || name.contains("mariadb")) {
+                return MYSQL;
+            }
+            throw new IllegalStateException("지원하지 않는 샤드 DB: " + productName);
+        }
+    }
+
+    private ShardSchemaInitializer() {
+    }
+
+    public static void initialize(DataSource dataSource, int shard) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Dialect dialect = Dialect.of(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        List<String> created = new ArrayList<>();
+        for (String table : SHARDED_TABLES) {
+            if (!tableExists(jdbcTemplate, dialect, table)) {
+                created.add(table);
+            }
+        }
+
+        new ResourceDatabasePopulator(new ClassPathResource(dialect.schemaLocation)).execute(dataSource);
+
+        long idStart = ShardRouter.idBlockStart(shard);
+        for (String table : created) {
+            jdbcTemplate.execute(String.format(dialect.restartIdentity, table, idStart));
+        }
+        if (!created.isEmpty()) {
+            log.info("샤드 {} 테이블 생성 ({}): {} (ID 시작값 {})", shard, dialect, created, idStart);
+        }
+    }
+
+    /**
+     * 현재 스키마에 테이블이 있는지 (같은 서버의 다른 스키마/DB에 있는 같은 이름의 테이블은 제외)
+     */
+    private static boolean tableExists(JdbcTemplate jdbcTemplate, Dialect dialect, String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE LOWER(table_name) = ? "
+                        + "AND LOWER(table_schema) = LOWER(" + dialect.currentSchema + ")", Integer.class, table);
+        return count != null && count > 0;
+    }
+}
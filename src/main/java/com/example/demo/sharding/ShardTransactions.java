@@ -0,0 +1,89 @@
+package com.example.demo.sharding;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 사용자 샤드에서 여러 리포지토리 호출을 한 트랜잭션으로 묶어 실행합니다.
+ *
+ * 원장 추가와 포지션 스냅샷 갱신처럼 같은 사용자(또는 같은 샤드)의 샤딩 테이블을 함께 바꾸는 작업에 사용합니다.
+ * - 사용자 샤드가 현재 라우팅 샤드와 같으면(샤딩 미사용 포함) 진행 중인 트랜잭션에 참여
+ * - 다르면 그 샤드로 라우팅한 별도 트랜잭션/EntityManager에서 실행하고 바로 커밋
+ * 작업 안에서는 기본 샤드의 전역 테이블에 접근하면 안 됩니다 (연결이 사용자 샤드로 감).
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class ShardTransactions {
+
+    private final ShardRouter shardRouter;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate requiredTemplate;
+    private final TransactionTemplate readWriteTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public ShardTransactions(ShardRouter shardRouter,
+                             EntityManagerFactory entityManagerFactory,
+                             PlatformTransactionManager transactionManager) {
+        this.shardRouter = shardRouter;
+        this.entityManagerFactory = entityManagerFactory;
+        this.requiredTemplate = new TransactionTemplate(transactionManager);
+        this.readWriteTemplate = new TransactionTemplate(transactionManager);
+        this.readWriteTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 사용자 샤드에서 쓰기 트랜잭션으로 실행합니다 (샤드 키가 없는 리포지토리 호출도 이 샤드로 감).
+     */
+    public <T> T inUserShard(long userId, Supplier<T> work) {
+        return inShard(shardRouter.shardForUser(userId), work);
+    }
+
+    /**
+     * 지정한 샤드에서 쓰기 트랜잭션으로 실행합니다 (샤드 키가 없는 리포지토리 호출도 이 샤드로 감).
+     */
+    public <T> T inShard(int shard, Supplier<T> work) {
+        return ShardContext.onShard(shard, () -> shard == ShardContext.currentRoutingShard()
+                ? requiredTemplate.execute(status -> work.get())
+                : inShard(shard, false, work));
+    }
+
+    /**
+     * 지정한 샤드로 라우팅한 새 트랜잭션에서 실행합니다.
+     * 트랜잭션 밖이면 요청 범위(open-in-view) EntityManager가 이 샤드의 연결을 잡지 않도록 잠시 분리합니다.
+     */
+    <T> T inShard(int shard, boolean readOnly, Supplier<T> work) {
+        TransactionTemplate template = readOnly ? readOnlyTemplate : readWriteTemplate;
+        Object requestScoped = TransactionSynchronizationManager.isActualTransactionActive() ? null
+                : TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+        try {
+            return ShardContext.withRoutingShard(shard, () -> template.execute(status -> work.get()));
+        } finally {
+            if (requestScoped != null) {
+                TransactionSynchronizationManager.bindResource(entityManagerFactory, requestScoped);
+            }
+        }
+    }
+
+    /**
+     * 다른 샤드에서 실행할 트랜잭션 (호출자 트랜잭션이 읽기 전용이면 읽기 전용)
+     */
+    static boolean callerReadOnly() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    TransactionTemplate template(boolean readOnly) {
+        return readOnly ? readOnlyTemplate : readWriteTemplate;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.sharding;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드별 행 수를 보여주는 actuator 엔드포인트 (/actuator/shards)
+ * 모든 샤드를 병렬로 조회하며, 사용자 분포가 한쪽으로 몰렸는지 확인하는 데 사용합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "shards")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardsEndpoint {
+
+    private final ShardFanout shardFanout;
+    private final ShardRoutingDataSource shardRoutingDataSource;
+
+    @ReadOperation
+    public List<ShardReport> shards() {
+        return shardFanout.onEachShard(shard -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shardRoutingDataSource.getShard(shard));
+            Map<String, Long> rows = new LinkedHashMap<>();
+            for (String table : ShardSchemaInitializer.SHARDED_TABLES) {
+                rows.put(table, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class));
+            }
+            Long users = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(DISTINCT user_id) FROM " + ShardSchemaInitializer.SHARDED_TABLES.get(0), Long.class);
+            return new ShardReport(shard, users, rows);
+        });
+    }
+
+    /**
+     * 샤드 하나의 현황
+     *
+     * @param users 포지션을 가진 사용자 수
+     * @param rows  테이블별 행 수
+     */
+    public record ShardReport(int shard, Long users, Map<String, Long> rows) {
+    }
+}
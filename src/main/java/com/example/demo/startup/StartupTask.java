@@ -0,0 +1,42 @@
+package com.example.demo.startup;
+
+import java.util.Set;
+
+/**
+ * 애플리케이션 기동 시 실행되는 초기화 작업
+ *
+ * {@link StartupTaskOrchestrator}가 선언된 의존 관계에 따라 작업을 실행합니다.
+ * 서로 의존하지 않는 작업은 병렬로 실행되며, 필수(critical) 작업이 모두 끝나야
+ * readiness 프로브가 UP이 됩니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public interface StartupTask {
+
+    /**
+     * 작업 이름 (다른 작업의 의존 관계 선언과 actuator 보고에 사용)
+     */
+    String getName();
+
+    /**
+     * 먼저 완료되어야 하는 작업 이름 목록
+     */
+    default Set<String> getDependsOn() {
+        return Set.of();
+    }
+
+    /**
+     * 완료되기 전까지 트래픽을 받으면 안 되는 작업인지 여부
+     */
+    default boolean isCritical() {
+        return true;
+    }
+
+    /**
+     * 작업 실행
+     *
+     * @throws Exception 작업 실패 시 (이 작업에 의존하는 작업은 건너뜀)
+     */
+    void run() throws Exception;
+}
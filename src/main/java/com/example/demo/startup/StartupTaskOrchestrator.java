@@ -0,0 +1,149 @@
+package com.example.demo.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 작업 오케스트레이터
+ *
+ * 애플리케이션이 시작되면(ApplicationStartedEvent) 등록된 {@link StartupTask}를
+ * 의존 관계 그래프에 따라 비동기로 실행합니다. 기동 스레드는 작업 완료를 기다리지 않으며,
+ * 트래픽 수용 여부는 {@link StartupTasksHealthIndicator}가 readiness 그룹에서 판단합니다.
+ *
+ * - 의존 작업이 모두 완료된 작업부터 전용 스레드 풀에서 병렬 실행
+ * - 의존 작업이 실패하면 해당 작업은 SKIPPED 처리
+ * - 작업별 시작 시각과 소요 시간을 기록하여 actuator(startuptasks)로 노출
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class StartupTaskOrchestrator {
+
+    private final Map<String, StartupTask> tasks;
+    private final Map<String, StartupTaskStatus> statuses;
+
+    public StartupTaskOrchestrator(List<StartupTask> startupTasks) {
+        Map<String, StartupTask> byName = new LinkedHashMap<>();
+        Map<String, StartupTaskStatus> statusByName = new LinkedHashMap<>();
+        for (StartupTask task : startupTasks) {
+            if (byName.put(task.getName(), task) != null) {
+                throw new IllegalStateException("기동 작업 이름 중복: " + task.getName());
+            }
+            statusByName.put(task.getName(), new StartupTaskStatus(task));
+        }
+        for (StartupTask task : byName.values()) {
+            for (String dependency : task.getDependsOn()) {
+                if (!byName.containsKey(dependency)) {
+                    throw new IllegalStateException(
+                            "기동 작업 " + task.getName() + "의 의존 작업을 찾을 수 없음: " + dependency);
+                }
+            }
+        }
+        this.tasks = Collections.unmodifiableMap(byName);
+        this.statuses = Collections.unmodifiableMap(statusByName);
+    }
+
+    /**
+     * 모든 기동 작업의 상태 (등록 순서)
+     */
+    public Collection<StartupTaskStatus> getStatuses() {
+        return statuses.values();
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        int poolSize = Math.max(1, Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "startup-task-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long startNanos = System.nanoTime();
+        Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+        for (String name : tasks.keySet()) {
+            schedule(name, futures, new HashSet<>(), executor);
+        }
+
+        CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, failure) -> {
+                    executor.shutdown();
+                    log.info("=== 기동 작업 종료: {}ms ===", (System.nanoTime() - startNanos) / 1_000_000);
+                    statuses.values().forEach(status -> log.info("  - {} [{}{}] {}ms",
+                            status.getName(), status.getState(), status.isCritical() ? ", critical" : "",
+                            status.getDurationMs()));
+                });
+    }
+
+    private CompletableFuture<Void> schedule(String name,
+                                             Map<String, CompletableFuture<Void>> futures,
+                                             Set<String> visiting,
+                                             ExecutorService executor) {
+        CompletableFuture<Void> existing = futures.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        if (!visiting.add(name)) {
+            throw new IllegalStateException("기동 작업 의존 관계에 순환이 있음: " + visiting);
+        }
+
+        StartupTask task = tasks.get(name);
+        CompletableFuture<?>[] dependencies = task.getDependsOn().stream()
+                .map(dependency -> schedule(dependency, futures, visiting, executor))
+                .toArray(CompletableFuture<?>[]::new);
+
+        CompletableFuture<Void> future = CompletableFuture.allOf(dependencies)
+                .handleAsync((ignored, failure) -> {
+                    StartupTaskStatus status = statuses.get(name);
+                    if (failure != null) {
+                        status.markSkipped("의존 작업 실패");
+                        log.warn("기동 작업 건너뜀 (의존 작업 실패): {}", name);
+                        throw new CompletionException(failure);
+                    }
+                    execute(task, status);
+                    return null;
+                }, executor);
+
+        visiting.remove(name);
+        futures.put(name, future);
+        return future;
+    }
+
+    private void execute(StartupTask task, StartupTaskStatus status) {
+        log.info("기동 작업 시작: {}", task.getName());
+        status.markRunning();
+        long startNanos = System.nanoTime();
+        try {
+            task.run();
+            status.markCompleted((System.nanoTime() - startNanos) / 1_000_000);
+            log.info("기동 작업 완료: {} ({}ms)", task.getName(), status.getDurationMs());
+        } catch (Exception e) {
+            status.markFailed((System.nanoTime() - startNanos) / 1_000_000, e);
+            log.error("기동 작업 실패: {}", task.getName(), e);
+            throw new CompletionException(e);
+        }
+    }
+}
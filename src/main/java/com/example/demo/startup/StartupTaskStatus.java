@@ -0,0 +1,69 @@
+package com.example.demo.startup;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 기동 작업 하나의 실행 상태
+ *
+ * 오케스트레이터 스레드가 갱신하고 health/actuator 요청 스레드가 읽으므로 필드는 volatile입니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Getter
+public class StartupTaskStatus {
+
+    /**
+     * 실행 단계
+     */
+    public enum State {
+        PENDING, RUNNING, COMPLETED, FAILED, SKIPPED
+    }
+
+    private final String name;
+    private final boolean critical;
+    private final Set<String> dependsOn;
+
+    private volatile State state = State.PENDING;
+    private volatile LocalDateTime startedAt;
+    private volatile long durationMs = -1;
+    private volatile String error;
+
+    StartupTaskStatus(StartupTask task) {
+        this.name = task.getName();
+        this.critical = task.isCritical();
+        this.dependsOn = Set.copyOf(task.getDependsOn());
+    }
+
+    void markRunning() {
+        startedAt = LocalDateTime.now();
+        state = State.RUNNING;
+    }
+
+    void markCompleted(long durationMs) {
+        this.durationMs = durationMs;
+        state = State.COMPLETED;
+    }
+
+    void markFailed(long durationMs, Throwable cause) {
+        this.durationMs = durationMs;
+        this.error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        state = State.FAILED;
+    }
+
+    void markSkipped(String reason) {
+        this.error = reason;
+        state = State.SKIPPED;
+    }
+
+    /**
+     * 더 이상 진행되지 않는 상태인지 여부
+     */
+    public boolean isFinished() {
+        State current = state;
+        return current == State.COMPLETED || current == State.FAILED || current == State.SKIPPED;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.startup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기동 작업별 상태와 소요 시간을 보여주는 actuator 엔드포인트 (/actuator/startuptasks)
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "startuptasks")
+@RequiredArgsConstructor
+public class StartupTasksEndpoint {
+
+    private final StartupTaskOrchestrator orchestrator;
+
+    @ReadOperation
+    public List<TaskReport> tasks() {
+        return orchestrator.getStatuses().stream()
+                .map(status -> new TaskReport(status.getName(), status.isCritical(), status.getDependsOn(),
+                        status.getState(), status.getStartedAt(), status.getDurationMs(), status.getError()))
+                .toList();
+    }
+
+    /**
+     * 작업 하나의 보고 항목
+     */
+    public record TaskReport(String name,
+                             boolean critical,
+                             Set<String> dependsOn,
+                             StartupTaskStatus.State state,
+                             LocalDateTime startedAt,
+                             long durationMs,
+                             String error) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.startup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 필수 기동 작업 상태를 readiness에 반영하는 헬스 인디케이터
+ *
+ * - 필수 작업이 모두 완료: UP
+ * - 필수 작업이 아직 실행 중: OUT_OF_SERVICE
+ * - 필수 작업이 실패 또는 건너뜀: DOWN
+ *
+ * 선택 작업은 상태를 details에만 표시하고 결과 판정에는 사용하지 않습니다.
+ * application.properties에서 readiness 그룹에 포함됩니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component("startupTasks")
+@RequiredArgsConstructor
+public class StartupTasksHealthIndicator implements HealthIndicator {
+
+    private final StartupTaskOrchestrator orchestrator;
+
+    @Override
+    public Health health() {
+        boolean pending = false;
+        boolean failed = false;
+        Map<String, Object> details = new LinkedHashMap<>();
+
+        for (StartupTaskStatus status : orchestrator.getStatuses()) {
+            details.put(status.getName(), status.getState());
+            if (!status.isCritical()) {
+                continue;
+            }
+            switch (status.getState()) {
+                case FAILED, SKIPPED -> failed = true;
+                case PENDING, RUNNING -> pending = true;
+                default -> { }
+            }
+        }
+
+        Health.Builder builder = failed ? Health.down() : pending ? Health.outOfService() : Health.up();
+        return builder.withDetails(details).build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.stock;
+
+import com.example.demo.dto.StockSuggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 종목 자동완성용 불변 접두사 인덱스
+ *
+ * 종목코드, 정규화한 종목명(소문자, 공백 제거), 종목명의 초성 문자열 세 가지 키를
+ * 각각 정렬된 배열로 두고, 질의 접두사의 하한을 이진 탐색한 뒤 접두사가 일치하는 동안만
+ * 순차 조회합니다. 종목 수가 수천 개여도 한 번의 질의는 마이크로초 단위로 끝나며
+ * 데이터베이스를 조회하지 않습니다.
+ *
+ * 질의가 초성(ㄱ~ㅎ)으로만 이루어져 있으면 초성 키를, 그 밖에는 종목코드와 종목명 키를 검색합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public final class StockIndex {
+
+    public static final StockIndex EMPTY = new StockIndex(List.of());
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private final StockSuggestion[] stocks;
+    private final KeyArray byCode;
+    private final KeyArray byName;
+    private final KeyArray byChosung;
+
+    public StockIndex(List<StockSuggestion> entries) {
+        this.stocks = entries.toArray(new StockSuggestion[0]);
+        String[] codes = new String[stocks.length];
+        String[] names = new String[stocks.length];
+        String[] chosungs = new String[stocks.length];
+        for (int i = 0; i < stocks.length; i++) {
+            codes[i] = normalize(stocks[i].code());
+            names[i] = normalize(stocks[i].name());
+            chosungs[i] = toChosung(names[i]);
+        }
+        this.byCode = new KeyArray(codes);
+        this.byName = new KeyArray(names);
+        this.byChosung = new KeyArray(chosungs);
+    }
+
+    public int size() {
+        return stocks.length;
+    }
+
+    /**
+     * 접두사가 일치하는 종목을 최대 limit개 반환합니다 (종목코드 일치 → 종목명 일치 순).
+     */
+    public List<StockSuggestion> search(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<StockSuggestion> result = new ArrayList<>(Math.min(limit, 16));
+        if (isChosungOnly(prefix)) {
+            byChosung.collect(prefix, limit, stocks, result);
+        } else {
+            byCode.collect(prefix, limit, stocks, result);
+            byName.collect(prefix, limit, stocks, result);
+        }
+        return result;
+    }
+
+    /**
+     * 종목코드로 정확히 일치하는 종목을 찾습니다.
+     *
+     * @return 일치하는 종목 (없으면 null)
+     */
+    public StockSuggestion findByCode(String code) {
+        return byCode.exact(normalize(code), stocks);
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 한글 음절은 초성으로 바꾸고 나머지 문자는 그대로 둡니다. (예: "삼성전자" → "ㅅㅅㅈㅈ")
+     */
+    static String toChosung(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+                chars[i] = CHOSUNG[(c - HANGUL_FIRST) / SYLLABLES_PER_CHOSUNG];
+            }
+        }
+        return new String(chars);
+    }
+
+    private static boolean isChosungOnly(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Arrays.binarySearch(CHOSUNG, value.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 정렬된 키 배열과 각 키가 가리키는 종목 위치
+     */
+    private static final class KeyArray {
+
+        private final String[] keys;
+        private final int[] positions;
+
+        KeyArray(String[] unsortedKeys) {
+            Integer[] order = new Integer[unsortedKeys.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(i -> unsortedKeys[i]));
+
+            keys = new String[order.length];
+            positions = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                keys[i] = unsortedKeys[order[i]];
+                positions[i] = order[i];
+            }
+        }
+
+        void collect(String prefix, int limit, StockSuggestion[] stocks, List<StockSuggestion> result) {
+            for (int i = lowerBound(prefix); i < keys.length && result.size() < limit; i++) {
+                if (!keys[i].startsWith(prefix)) {
+                    break;
+                }
+                StockSuggestion stock = stocks[positions[i]];
+                if (!result.contains(stock)) {
+                    result.add(stock);
+                }
+            }
+        }
+
+        StockSuggestion exact(String key, StockSuggestion[] stocks) {
+            int i = lowerBound(key);
+            return i < keys.length && keys[i].equals(key) ? stocks[positions[i]] : null;
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
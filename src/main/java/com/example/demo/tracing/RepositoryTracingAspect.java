@@ -0,0 +1,54 @@
+package com.example.demo.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리포지토리 호출을 요청 추적 구간으로 기록하는 애스펙트
+ *
+ * 추적 중인 요청이 아니면 ThreadLocal 조회 한 번 후 바로 원래 메서드를 호출합니다.
+ * 구간 이름은 "repository:BoardRepository.findAllByOrderByCreatedAtDesc" 형식입니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Aspect
+@Component
+public class RepositoryTracingAspect {
+
+    /**
+     * 프록시 클래스 → 사용자 정의 리포지토리 인터페이스 이름
+     */
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(candidate)
+                        && !candidate.getName().startsWith("org.springframework.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        }
+    };
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return joinPoint.proceed();
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long durationNanos = System.nanoTime() - startNanos;
+            trace.addPhase("repository:" + REPOSITORY_NAMES.get(joinPoint.getThis().getClass())
+                    + "." + joinPoint.getSignature().getName(), startNanos, durationNanos);
+        }
+    }
+}
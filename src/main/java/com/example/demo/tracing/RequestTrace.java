@@ -0,0 +1,133 @@
+package com.example.demo.tracing;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 요청 하나의 구간별 소요 시간 기록
+ *
+ * 샘플링된 요청에 대해서만 생성되어 요청 스레드의 ThreadLocal에 보관됩니다.
+ * 구간(phase)은 시작 시점(요청 시작 기준 오프셋)과 소요 시간을 나노초 단위로 기록합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String method;
+    private final String uri;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private final int maxPhases;
+    private final List<Phase> phases = new ArrayList<>();
+
+    private String endpoint;
+    private int status;
+    private long totalNanos;
+    private int droppedPhases;
+    private long droppedPhaseNanos;
+
+    /**
+     * 진행 중인 구간의 시작 시각 (security → controller → view 순서로 이어짐)
+     */
+    private long markNanos;
+
+    RequestTrace(String method, String uri, int maxPhases) {
+        this.method = method;
+        this.uri = uri;
+        this.maxPhases = maxPhases;
+        this.markNanos = startNanos;
+    }
+
+    /**
+     * 현재 스레드에서 추적 중인 요청 (샘플링되지 않았거나 추적이 꺼져 있으면 null)
+     */
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    static void bind(RequestTrace trace) {
+        CURRENT.set(trace);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 직전 표시 시점부터 지금까지를 하나의 구간으로 기록하고 표시 시점을 옮깁니다.
+     */
+    void markPhase(String name) {
+        long now = System.nanoTime();
+        addPhase(name, markNanos, now - markNanos);
+        markNanos = now;
+    }
+
+    /**
+     * 독립 구간 (예: 리포지토리 호출)을 기록합니다. 최대 개수를 넘으면 합계만 남깁니다.
+     */
+    void addPhase(String name, long phaseStartNanos, long durationNanos) {
+        if (phases.size() >= maxPhases) {
+            droppedPhases++;
+            droppedPhaseNanos += durationNanos;
+            return;
+        }
+        phases.add(new Phase(name, phaseStartNanos - startNanos, durationNanos));
+    }
+
+    void finish(String endpoint, int status) {
+        this.totalNanos = System.nanoTime() - startNanos;
+        this.endpoint = endpoint;
+        this.status = status;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public List<Phase> getPhases() {
+        return Collections.unmodifiableList(phases);
+    }
+
+    public int getDroppedPhases() {
+        return droppedPhases;
+    }
+
+    public long getDroppedPhaseNanos() {
+        return droppedPhaseNanos;
+    }
+
+    /**
+     * 구간 하나
+     *
+     * @param name          구간 이름 (security, controller, view, repository:Repository.method)
+     * @param offsetNanos   요청 시작부터 구간 시작까지의 시간
+     * @param durationNanos 구간 소요 시간
+     */
+    public record Phase(String name, long offsetNanos, long durationNanos) {
+    }
+}
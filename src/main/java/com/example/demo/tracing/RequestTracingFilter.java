@@ -0,0 +1,71 @@
+package com.example.demo.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 추적 필터
+ *
+ * Spring Security 필터 체인보다 먼저 실행되어 요청 시작 시각을 기록합니다.
+ * 샘플링된 요청만 {@link RequestTrace}를 만들고, 임계값보다 오래 걸린 요청을
+ * {@link SlowRequestCollector}에 넘깁니다. 추적이 꺼져 있거나 샘플링되지 않은 요청은
+ * 설정값 비교 외에 아무 작업도 하지 않습니다.
+ *
+ * 등록 순서는 {@link com.example.demo.config.WebConfig}에서 지정합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    private final SlowRequestCollector collector;
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int maxPhases;
+
+    public RequestTracingFilter(SlowRequestCollector collector,
+                                @Value("${app.tracing.enabled:true}") boolean enabled,
+                                @Value("${app.tracing.sample-rate:1.0}") double sampleRate,
+                                @Value("${app.tracing.slow-threshold-ms:200}") long slowThresholdMs,
+                                @Value("${app.tracing.max-phases:50}") int maxPhases) {
+        this.collector = collector;
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.maxPhases = maxPhases;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTrace trace = new RequestTrace(request.getMethod(), request.getRequestURI(), maxPhases);
+        RequestTrace.bind(trace);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTrace.unbind();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            trace.finish(pattern != null ? pattern.toString() : "(no handler)", response.getStatus());
+            if (trace.getTotalNanos() >= slowThresholdNanos) {
+                collector.offer(trace);
+            }
+        }
+    }
+}
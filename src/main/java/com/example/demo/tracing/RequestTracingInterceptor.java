@@ -0,0 +1,53 @@
+package com.example.demo.tracing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 요청 처리 구간 경계를 표시하는 인터셉터
+ *
+ * - 요청 시작 ~ preHandle: security (보안 필터 체인과 핸들러 매핑)
+ * - preHandle ~ postHandle: controller (리포지토리 호출은 별도 구간으로도 기록)
+ * - postHandle ~ afterCompletion: view (Thymeleaf 렌더링)
+ *
+ * 컨트롤러에서 예외가 발생하면 postHandle이 호출되지 않으므로 남은 시간을 controller로 기록합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class RequestTracingInterceptor implements HandlerInterceptor {
+
+    private static final String CONTROLLER_DONE = RequestTracingInterceptor.class.getName() + ".controllerDone";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.markPhase("security");
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.markPhase("controller");
+            request.setAttribute(CONTROLLER_DONE, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.markPhase(request.getAttribute(CONTROLLER_DONE) != null ? "view" : "controller");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별로 가장 느린 요청 N개를 보관하는 저장소
+ *
+ * 엔드포인트마다 소요 시간 기준 최소 힙(크기 N)을 두어, 새 요청이 힙의 최솟값보다 느릴 때만
+ * 교체합니다. 엔드포인트 수도 상한을 두어 메모리 사용량이 요청 수와 무관하게 고정됩니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+public class SlowRequestCollector {
+
+    private static final Comparator<RequestTrace> BY_DURATION = Comparator.comparingLong(RequestTrace::getTotalNanos);
+
+    private final int topN;
+    private final int maxEndpoints;
+    private final Map<String, PriorityQueue<RequestTrace>> slowest = new ConcurrentHashMap<>();
+
+    public SlowRequestCollector(@Value("${app.tracing.top-n:10}") int topN,
+                                @Value("${app.tracing.max-endpoints:200}") int maxEndpoints) {
+        this.topN = topN;
+        this.maxEndpoints = maxEndpoints;
+    }
+
+    /**
+     * 완료된 요청을 반영합니다. 해당 엔드포인트의 상위 N개에 들지 못하면 버립니다.
+     */
+    public void offer(RequestTrace trace) {
+        String key = trace.getMethod() + " " + trace.getEndpoint();
+        PriorityQueue<RequestTrace> heap = slowest.get(key);
+        if (heap == null) {
+            if (slowest.size() >= maxEndpoints) {
+                return;
+            }
+            heap = slowest.computeIfAbsent(key, k -> new PriorityQueue<>(topN + 1, BY_DURATION));
+        }
+
+        synchronized (heap) {
+            if (heap.size() < topN) {
+                heap.add(trace);
+            } else if (heap.peek().getTotalNanos() < trace.getTotalNanos()) {
+                heap.poll();
+                heap.add(trace);
+            }
+        }
+    }
+
+    /**
+     * 엔드포인트별 느린 요청 목록 (느린 순)
+     */
+    public Map<String, List<RequestTrace>> snapshot() {
+        Map<String, List<RequestTrace>> result = new TreeMap<>();
+        slowest.forEach((key, heap) -> {
+            List<RequestTrace> traces;
+            synchronized (heap) {
+                traces = new ArrayList<>(heap);
+            }
+            traces.sort(BY_DURATION.reversed());
+            result.put(key, traces);
+        });
+        return result;
+    }
+
+    public void clear() {
+        slowest.clear();
+    }
+}
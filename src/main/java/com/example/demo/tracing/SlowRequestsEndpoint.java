@@ -0,0 +1,73 @@
+package com.example.demo.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 가장 느린 요청과 구간별 소요 시간을 보여주는 actuator 엔드포인트 (/actuator/slowrequests)
+ * DELETE 요청으로 수집된 기록을 초기화합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "slowrequests")
+@RequiredArgsConstructor
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestCollector collector;
+
+    @ReadOperation
+    public Map<String, List<TraceReport>> slowRequests() {
+        Map<String, List<TraceReport>> result = new LinkedHashMap<>();
+        collector.snapshot().forEach((endpoint, traces) ->
+                result.put(endpoint, traces.stream().map(SlowRequestsEndpoint::toReport).toList()));
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        collector.clear();
+    }
+
+    private static TraceReport toReport(RequestTrace trace) {
+        List<PhaseReport> phases = trace.getPhases().stream()
+                .map(phase -> new PhaseReport(phase.name(), toMillis(phase.offsetNanos()), toMillis(phase.durationNanos())))
+                .toList();
+        return new TraceReport(trace.getUri(), trace.getStatus(), trace.getStartedAt(),
+                toMillis(trace.getTotalNanos()), phases, trace.getDroppedPhases(), toMillis(trace.getDroppedPhaseNanos()));
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    /**
+     * 느린 요청 하나
+     *
+     * @param droppedPhases    최대 구간 수를 넘어 개별 기록하지 않은 구간 수
+     * @param droppedPhaseMs   기록하지 않은 구간들의 소요 시간 합계
+     */
+    public record TraceReport(String uri,
+                              int status,
+                              LocalDateTime startedAt,
+                              double totalMs,
+                              List<PhaseReport> phases,
+                              int droppedPhases,
+                              double droppedPhaseMs) {
+    }
+
+    /**
+     * 구간 하나 (offsetMs: 요청 시작 기준 구간 시작 시각)
+     */
+    public record PhaseReport(String name, double offsetMs, double durationMs) {
+    }
+}
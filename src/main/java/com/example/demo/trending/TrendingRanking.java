@@ -0,0 +1,383 @@
+package com.example.demo.trending;
+
+import com.example.demo.cache.CacheInvalidationListener;
+import com.example.demo.cache.InvalidationEvent;
+import com.example.demo.cache.InvalidationType;
+import com.example.demo.dto.TrendingPost;
+import com.example.demo.dto.TrendingSeed;
+import com.example.demo.repository.BoardRepository;
+import com.example.demo.startup.StartupTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 시간 감쇠 인기 게시글 순위
+ *
+ * 게시글 조회 이벤트마다 exp(λ·(t - 기준 시각)) 가중치를 게시글 점수에 더하는 전방 감쇠(forward decay)
+ * 방식을 사용합니다. 모든 점수가 같은 기준 시각을 공유하므로 시간이 지나도 점수 간 순서가 바뀌지 않고,
+ * 현재 시각의 실제 점수는 exp(-λ·(now - 기준 시각))을 곱해 구합니다 (반감기 half-life-hours).
+ *
+ * - 점수는 게시글별 AtomicLong(double 비트)에 CAS로 누적 (잠금 없음)
+ * - 점수는 증가만 하므로 상위 K개는 크기 K의 최소 힙으로 증분 유지.
+ *   힙 최소값보다 낮은 게시글의 조회는 힙 잠금 없이 끝남
+ * - 읽기는 힙을 정렬한 불변 스냅샷을 반환 (변경이 있을 때만 다시 만듦, O(K log K))
+ * - 주기적으로 기준 시각을 현재로 옮기며 점수를 축소하고, 거의 0이 된 게시글은 제거하여 메모리를 제한
+ *
+ * 삭제된 게시글은 게시글 삭제 이벤트(캐시 무효화 버스)를 받아 모든 노드의 순위에서 제거합니다.
+ * 이벤트는 삭제가 커밋된 뒤에만 전달되므로 롤백된 삭제는 순위에 영향을 주지 않습니다. 삭제 직전에 게시글을
+ * 읽은 조회 요청이 제거 뒤에 기록되어 다시 나타나지 않도록, 제거한 ID는 정규화 주기 동안 기억해 무시합니다.
+ *
+ * 기동 시에는 최근 rebuild-days 일 동안 작성된 게시글의 누적 조회수를 작성 시각의 조회로 간주해
+ * 순위를 다시 만듭니다 (조회 이벤트를 저장하지 않으므로 근사값).
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class TrendingRanking implements StartupTask, CacheInvalidationListener {
+
+    /**
+     * 이 점수(방금 조회 1회의 5%) 미만으로 감쇠한 게시글은 추적하지 않음
+     */
+    private static final double PRUNE_THRESHOLD = 0.05;
+
+    private final BoardRepository boardRepository;
+    private final double lambdaPerMs;
+    private final int topK;
+    private final int rebuildDays;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 삭제되어 제거한 게시글 ID → 제거 시각 (다음 정규화까지 조회 기록을 무시)
+     */
+    private final Map<Long, Long> removed = new ConcurrentHashMap<>();
+
+    /**
+     * 조회 기록은 읽기 잠금(동시 실행), 기준 시각 이동은 쓰기 잠금
+     */
+    private final ReentrantReadWriteLock landmarkLock = new ReentrantReadWriteLock();
+    private volatile long landmarkMillis = System.currentTimeMillis();
+
+    /**
+     * 상위 K개 최소 힙 (heapLock 으로 보호)
+     */
+    private final Object heapLock = new Object();
+    private final Entry[] heap;
+    private int heapSize;
+    private volatile double heapMin;
+    private volatile boolean dirty;
+    private volatile List<TrendingPost> snapshot = List.of();
+
+    public TrendingRanking(BoardRepository boardRepository,
+                           @Value("${app.trending.half-life-hours:6}") double halfLifeHours,
+                           @Value("${app.trending.top-k:10}") int topK,
+                           @Value("${app.trending.rebuild-days:3}") int rebuildDays) {
+        this.boardRepository = boardRepository;
+        this.lambdaPerMs = Math.log(2) / (halfLifeHours * 3_600_000);
+        this.topK = topK;
+        this.rebuildDays = rebuildDays;
+        this.heap = new Entry[topK];
+    }
+
+    @Override
+    public String getName() {
+        return "trendingRanking";
+    }
+
+    @Override
+    public boolean isCritical() {
+        return false;
+    }
+
+    @Override
+    public void run() {
+        List<TrendingSeed> seeds = boardRepository.findTrendingSeeds(LocalDateTime.now().minusDays(rebuildDays));
+        ZoneId zone = ZoneId.systemDefault();
+        for (TrendingSeed seed : seeds) {
+            if (seed.viewCount() == null || seed.viewCount() <= 0 || seed.createdAt() == null) {
+                continue;
+            }
+            long createdAt = seed.createdAt().atZone(zone).toInstant().toEpochMilli();
+            record(seed.id(), seed.title(), seed.authorName(), createdAt, seed.viewCount());
+        }
+        log.info("인기 게시글 순위 재구축: 최근 {}일 게시글 {}건", rebuildDays, seeds.size());
+    }
+
+    /**
+     * 게시글 조회 1회를 기록합니다.
+     */
+    public void recordView(Long id, String title, String authorName) {
+        record(id, title, authorName, System.currentTimeMillis(), 1);
+    }
+
+    /**
+     * 현재 인기 게시글 (점수 내림차순, 최대 limit개)
+     */
+    public List<TrendingPost> getTrending(int limit) {
+        if (dirty) {
+            synchronized (heapLock) {
+                if (dirty) {
+                    dirty = false;
+                    snapshot = buildSnapshot();
+                }
+            }
+        }
+        List<TrendingPost> current = snapshot;
+        return current.size() <= limit ? current : current.subList(0, limit);
+    }
+
+    @Override
+    public Set<InvalidationType> getInvalidationTypes() {
+        return Set.of(InvalidationType.BOARD);
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        if (!event.isAll()) {
+            remove(List.of(event.keyAsLong()));
+        }
+    }
+
+    /**
+     * 삭제된 게시글을 순위에서 제거합니다.
+     */
+    public void remove(Collection<Long> ids) {
+        long now = System.currentTimeMillis();
+        synchronized (heapLock) {
+            boolean removedFromHeap = false;
+            for (Long id : ids) {
+                removed.put(id, now);
+                Entry entry = entries.remove(id);
+                if (entry != null && entry.heapIndex >= 0) {
+                    removeFromHeap(entry);
+                    removedFromHeap = true;
+                }
+            }
+            if (removedFromHeap) {
+                refill();
+            }
+        }
+    }
+
+    /**
+     * 기준 시각을 현재로 옮기고 점수를 축소합니다. 축소 후 임계값 미만인 게시글은 제거합니다.
+     * 모든 점수에 같은 배율을 곱하므로 힙의 순서는 유지됩니다.
+     */
+    @Scheduled(fixedDelayString = "${app.trending.renormalize-interval-ms:3600000}")
+    public void renormalize() {
+        landmarkLock.writeLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            double factor = Math.exp(-lambdaPerMs * (now - landmarkMillis));
+            long removedBefore = landmarkMillis;
+            removed.values().removeIf(at -> at < removedBefore);
+            int pruned = 0;
+            synchronized (heapLock) {
+                boolean removedFromHeap = false;
+                for (Entry entry : entries.values()) {
+                    double score = entry.scale(factor);
+                    if (score < PRUNE_THRESHOLD) {
+                        entries.remove(entry.id);
+                        pruned++;
+                        if (entry.heapIndex >= 0) {
+                            removeFromHeap(entry);
+                            removedFromHeap = true;
+                        }
+                    }
+                }
+                landmarkMillis = now;
+                if (removedFromHeap) {
+                    refill();
+                }
+                updateHeapMin();
+                dirty = true;
+            }
+            log.debug("인기 게시글 점수 정규화: 배율 {}, 제거 {}건, 추적 {}건", factor, pruned, entries.size());
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+    }
+
+    private void record(Long id, String title, String authorName, long atMillis, int views) {
+        if (removed.containsKey(id)) {
+            return;
+        }
+        landmarkLock.readLock().lock();
+        try {
+            double weight = views * Math.exp(lambdaPerMs * (atMillis - landmarkMillis));
+            Entry entry = entries.computeIfAbsent(id, Entry::new);
+            if (removed.containsKey(id)) {
+                // 확인과 추가 사이에 삭제됨
+                entries.remove(id, entry);
+                return;
+            }
+            entry.title = title;
+            entry.authorName = authorName;
+            double score = entry.add(weight);
+
+            // 힙 밖에 있고 힙 최소값보다 낮으면 상위 K에 들 수 없음
+            if (entry.heapIndex < 0 && score <= heapMin) {
+                return;
+            }
+            synchronized (heapLock) {
+                offer(entry);
+            }
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+    }
+
+    // ===== 힙 연산 (heapLock 보유 상태에서 호출) =====
+
+    private void offer(Entry entry) {
+        if (!entries.containsKey(entry.id)) {
+            return; // 동시에 삭제됨
+        }
+        if (entry.heapIndex >= 0) {
+            siftDown(entry.heapIndex);
+        } else if (heapSize < topK) {
+            heap[heapSize] = entry;
+            entry.heapIndex = heapSize;
+            heapSize++;
+            siftUp(entry.heapIndex);
+        } else if (entry.score() > heap[0].score()) {
+            heap[0].heapIndex = -1;
+            heap[0] = entry;
+            entry.heapIndex = 0;
+            siftDown(0);
+        } else {
+            return;
+        }
+        updateHeapMin();
+        dirty = true;
+    }
+
+    private void removeFromHeap(Entry entry) {
+        int index = entry.heapIndex;
+        entry.heapIndex = -1;
+        heapSize--;
+        if (index != heapSize) {
+            Entry moved = heap[heapSize];
+            heap[index] = moved;
+            moved.heapIndex = index;
+            siftDown(index);
+            siftUp(moved.heapIndex);
+        }
+        heap[heapSize] = null;
+        updateHeapMin();
+        dirty = true;
+    }
+
+    /**
+     * 힙에 빈자리가 생기면 힙 밖의 게시글 중 점수가 높은 것으로 채웁니다 (삭제/정리 시에만 실행).
+     */
+    private void refill() {
+        for (Entry entry : entries.values()) {
+            if (entry.heapIndex < 0) {
+                offer(entry);
+            }
+        }
+    }
+
+    private void updateHeapMin() {
+        heapMin = heapSize < topK ? 0 : heap[0].score();
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap[index].score() >= heap[parent].score()) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= heapSize) {
+                return;
+            }
+            int smallest = left + 1 < heapSize && heap[left + 1].score() < heap[left].score() ? left + 1 : left;
+            if (heap[index].score() <= heap[smallest].score()) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        Entry entry = heap[a];
+        heap[a] = heap[b];
+        heap[b] = entry;
+        heap[a].heapIndex = a;
+        heap[b].heapIndex = b;
+    }
+
+    private List<TrendingPost> buildSnapshot() {
+        Entry[] top = Arrays.copyOf(heap, heapSize);
+        Arrays.sort(top, Comparator.comparingDouble(Entry::score).reversed());
+        double decay = Math.exp(-lambdaPerMs * (System.currentTimeMillis() - landmarkMillis));
+        List<TrendingPost> posts = new ArrayList<>(top.length);
+        for (Entry entry : top) {
+            posts.add(new TrendingPost(entry.id, entry.title, entry.authorName, entry.score() * decay));
+        }
+        return List.copyOf(posts);
+    }
+
+    /**
+     * 게시글별 점수 (기준 시각 기준 값)
+     */
+    private static final class Entry {
+
+        final Long id;
+        final AtomicLong scoreBits = new AtomicLong(Double.doubleToLongBits(0));
+        volatile String title;
+        volatile String authorName;
+        volatile int heapIndex = -1;
+
+        Entry(Long id) {
+            this.id = id;
+        }
+
+        double score() {
+            return Double.longBitsToDouble(scoreBits.get());
+        }
+
+        double add(double weight) {
+            while (true) {
+                long bits = scoreBits.get();
+                double updated = Double.longBitsToDouble(bits) + weight;
+                if (scoreBits.compareAndSet(bits, Double.doubleToLongBits(updated))) {
+                    return updated;
+                }
+            }
+        }
+
+        double scale(double factor) {
+            double scaled = score() * factor;
+            scoreBits.set(Double.doubleToLongBits(scaled));
+            return scaled;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.valuation;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Largest-Triangle-Three-Buckets 다운샘플링
+ *
+ * 첫/마지막 포인트는 유지하고, 나머지를 (threshold - 2)개 버킷으로 나눠 버킷마다
+ * 직전 선택 포인트와 다음 버킷 평균이 이루는 삼각형 넓이가 가장 큰 포인트 하나를 고릅니다.
+ * 차트의 모양(고점/저점)을 유지하면서 포인트 수를 threshold로 줄입니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * 선택된 포인트의 인덱스를 오름차순으로 반환합니다.
+     *
+     * @param x         x 좌표 (오름차순)
+     * @param y         y 좌표
+     * @param size      포인트 수
+     * @param threshold 목표 포인트 수 (size 이상이거나 3 미만이면 전체 반환)
+     */
+    public static int[] downsample(IntToDoubleFunction x, IntToDoubleFunction y, int size, int threshold) {
+        if (threshold >= size || threshold < 3) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        int count = 0;
+        selected[count++] = 0;
+
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int a = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // 다음 버킷의 평균 (마지막 버킷이면 마지막 포인트)
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x.applyAsDouble(i);
+                avgY += y.applyAsDouble(i);
+            }
+            int nextLength = nextEnd - nextStart;
+            if (nextLength > 0) {
+                avgX /= nextLength;
+                avgY /= nextLength;
+            } else {
+                avgX = x.applyAsDouble(size - 1);
+                avgY = y.applyAsDouble(size - 1);
+            }
+
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double ax = x.applyAsDouble(a);
+            double ay = y.applyAsDouble(a);
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((ax - avgX) * (y.applyAsDouble(i) - ay) - (ax - x.applyAsDouble(i)) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+            selected[count++] = maxIndex;
+            a = maxIndex;
+        }
+
+        selected[count] = size - 1;
+        return selected;
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.valuation;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * 평가금액 시계열 payload 인코더/디코더
+ *
+ * 포인트 하나는 (시각, 평가금액, 투자금액) 세 값의 직전 포인트 대비 차이를
+ * zigzag + varint(LEB128)로 차례대로 기록합니다. 행의 첫 포인트는 (버킷 시작 시각, 0, 0)을
+ * 기준으로 합니다. 하루 간격 스냅샷의 시각 차이는 3바이트, 금액 변동은 대개 3~5바이트라
+ * 포인트당 고정 길이(24바이트)보다 훨씬 작습니다.
+ *
+ * 금액은 1/100원 단위의 long으로 다룹니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+public final class ValuationSeriesCodec {
+
+    private ValuationSeriesCodec() {
+    }
+
+    /**
+     * 포인트 하나를 기존 payload 끝에 이어 붙인 새 배열을 반환합니다.
+     *
+     * @param payload 기존 payload (없으면 null)
+     * @param dt      직전 포인트 대비 시각 차이 (초)
+     * @param dEval   직전 포인트 대비 평가금액 차이
+     * @param dInv    직전 포인트 대비 투자금액 차이
+     */
+    public static byte[] append(byte[] payload, long dt, long dEval, long dInv) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(30);
+        writeVarLong(out, zigzag(dt));
+        writeVarLong(out, zigzag(dEval));
+        writeVarLong(out, zigzag(dInv));
+        byte[] encoded = out.toByteArray();
+
+        if (payload == null || payload.length == 0) {
+            return encoded;
+        }
+        byte[] merged = Arrays.copyOf(payload, payload.length + encoded.length);
+        System.arraycopy(encoded, 0, merged, payload.length, encoded.length);
+        return merged;
+    }
+
+    /**
+     * payload를 디코딩하여 절대값 배열에 이어 씁니다.
+     *
+     * @param payload   인코딩된 바이트
+     * @param count     포인트 수
+     * @param baseAt    첫 포인트 시각의 기준 (epoch seconds)
+     * @param target    디코딩 결과를 쓸 대상
+     */
+    public static void decode(byte[] payload, int count, long baseAt, Points target) {
+        int[] position = {0};
+        long at = baseAt;
+        long evaluation = 0;
+        long investment = 0;
+        for (int i = 0; i < count; i++) {
+            at += unzigzag(readVarLong(payload, position));
+            evaluation += unzigzag(readVarLong(payload, position));
+            investment += unzigzag(readVarLong(payload, position));
+            target.add(at, evaluation, investment);
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] payload, int[] position) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (position[0] >= payload.length) {
+                throw new IllegalStateException("평가금액 시계열 payload가 손상됨");
+            }
+            byte b = payload[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    /**
+     * 디코딩된 포인트를 담는 가변 길이 기본형 배열
+     */
+    public static final class Points {
+
+        private long[] at = new long[64];
+        private long[] evaluation = new long[64];
+        private long[] investment = new long[64];
+        private int size;
+
+        void add(long pointAt, long pointEvaluation, long pointInvestment) {
+            if (size == at.length) {
+                int capacity = size * 2;
+                at = Arrays.copyOf(at, capacity);
+                evaluation = Arrays.copyOf(evaluation, capacity);
+                investment = Arrays.copyOf(investment, capacity);
+            }
+            at[size] = pointAt;
+            evaluation[size] = pointEvaluation;
+            investment[size] = pointInvestment;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long at(int index) {
+            return at[index];
+        }
+
+        public long evaluation(int index) {
+            return evaluation[index];
+        }
+
+        public long investment(int index) {
+            return investment[index];
+        }
+    }
+}
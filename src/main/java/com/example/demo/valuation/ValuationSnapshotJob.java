@@ -0,0 +1,37 @@
+package com.example.demo.valuation;
+
+import com.example.demo.service.ValuationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 평가금액 스냅샷 스케줄 작업
+ *
+ * app.valuation.snapshot-cron 주기(기본: 평일 장 마감 후 16시)로 모든 사용자의
+ * 평가금액 포인트를 기록합니다. 장중 스냅샷이 필요하면 cron만 조정합니다.
+ *
+ * @author JAVA-WEB-PROTO
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.valuation.snapshot-enabled", havingValue = "true", matchIfMissing = true)
+public class ValuationSnapshotJob {
+
+    private final ValuationService valuationService;
+
+    @Scheduled(cron = "${app.valuation.snapshot-cron:0 0 16 * * MON-FRI}", zone = "Asia/Seoul")
+    public void snapshot() {
+        try {
+            valuationService.snapshotAll(Instant.now());
+        } catch (RuntimeException e) {
+            log.error("평가금액 스냅샷 실패", e);
+        }
+    }
+}
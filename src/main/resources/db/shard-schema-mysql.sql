@@ -0,0 +1,78 @@
+-- Sharded tables for shards 1..N-1 on MySQL (see shard-schema.sql for H2/PostgreSQL).
+-- No foreign keys: users and stocks live on shard 0 only.
+-- Column definitions must stay in sync with the Portfolio, CalculationHistory, HistoryArchiveSegment, Trade and
+-- PositionCheckpoint entities and with shard-schema.sql. MySQL shards were never created before the trade ledger,
+-- so there are no ADD COLUMN upgrades here; indexes are declared inline because MySQL has no CREATE INDEX IF NOT EXISTS.
+
+CREATE TABLE IF NOT EXISTS portfolios (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    stock_id BIGINT,
+    stock_name VARCHAR(100) NOT NULL,
+    stock_code VARCHAR(20) NOT NULL,
+    quantity INTEGER NOT NULL,
+    average_price DOUBLE NOT NULL,
+    total_investment DOUBLE NOT NULL,
+    current_price DOUBLE,
+    profit_loss DOUBLE,
+    profit_loss_rate DOUBLE,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    realized_profit_loss DOUBLE,
+    last_trade_seq BIGINT,
+    CONSTRAINT uk_portfolios_user_stock UNIQUE (user_id, stock_code)
+);
+
+CREATE TABLE IF NOT EXISTS calculation_history (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    stock_id BIGINT,
+    stock_code VARCHAR(20) NOT NULL,
+    stock_name VARCHAR(100) NOT NULL,
+    existing_quantity INTEGER NOT NULL,
+    existing_avg_price DOUBLE NOT NULL,
+    additional_quantity INTEGER NOT NULL,
+    additional_price DOUBLE NOT NULL,
+    new_average_price DOUBLE NOT NULL,
+    new_total_quantity INTEGER NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    INDEX idx_calculation_history_user (user_id, created_at)
+);
+
+CREATE TABLE IF NOT EXISTS calculation_history_archive (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    row_count INTEGER NOT NULL,
+    from_created_at DATETIME(6) NOT NULL,
+    to_created_at DATETIME(6) NOT NULL,
+    payload MEDIUMBLOB NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    INDEX idx_history_archive_user (user_id, to_created_at)
+);
+
+CREATE TABLE IF NOT EXISTS trades (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    stock_id BIGINT,
+    stock_code VARCHAR(20) NOT NULL,
+    stock_name VARCHAR(100) NOT NULL,
+    seq BIGINT NOT NULL,
+    side VARCHAR(4) NOT NULL,
+    quantity INTEGER NOT NULL,
+    price DOUBLE NOT NULL,
+    fee DOUBLE NOT NULL,
+    executed_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_trades_position_seq UNIQUE (user_id, stock_code, seq)
+);
+
+CREATE TABLE IF NOT EXISTS position_checkpoints (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    stock_code VARCHAR(20) NOT NULL,
+    trade_seq BIGINT NOT NULL,
+    quantity INTEGER NOT NULL,
+    total_cost DOUBLE NOT NULL,
+    realized_profit_loss DOUBLE NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_position_checkpoints_seq UNIQUE (user_id, stock_code, trade_seq)
+);
@@ -0,0 +1,84 @@
+-- Sharded tables for shards 1..N-1 on H2 and PostgreSQL (shard 0 is the primary database managed by JPA ddl-auto).
+-- MySQL shards use shard-schema-mysql.sql (no IDENTITY, BYTEA, ADD COLUMN IF NOT EXISTS or CREATE INDEX IF NOT EXISTS).
+-- No foreign keys: users and stocks live on shard 0 only.
+-- Column definitions must stay in sync with the Portfolio, CalculationHistory, HistoryArchiveSegment, Trade and
+-- PositionCheckpoint entities.
+
+CREATE TABLE IF NOT EXISTS portfolios (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    stock_id BIGINT,
+    stock_name VARCHAR(100) NOT NULL,
+    stock_code VARCHAR(20) NOT NULL,
+    quantity INTEGER NOT NULL,
+    average_price DOUBLE PRECISION NOT NULL,
+    total_investment DOUBLE PRECISION NOT NULL,
+    current_price DOUBLE PRECISION,
+    profit_loss DOUBLE PRECISION,
+    profit_loss_rate DOUBLE PRECISION,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    realized_profit_loss DOUBLE PRECISION,
+    last_trade_seq BIGINT,
+    CONSTRAINT uk_portfolios_user_stock UNIQUE (user_id, stock_code)
+);
+
+-- Shards created before the trade ledger
+ALTER TABLE portfolios ADD COLUMN IF NOT EXISTS realized_profit_loss DOUBLE PRECISION;
+ALTER TABLE portfolios ADD COLUMN IF NOT EXISTS last_trade_seq BIGINT;
+
+CREATE TABLE IF NOT EXISTS calculation_history (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    stock_id BIGINT,
+    stock_code VARCHAR(20) NOT NULL,
+    stock_name VARCHAR(100) NOT NULL,
+    existing_quantity INTEGER NOT NULL,
+    existing_avg_price DOUBLE PRECISION NOT NULL,
+    additional_quantity INTEGER NOT NULL,
+    additional_price DOUBLE PRECISION NOT NULL,
+    new_average_price DOUBLE PRECISION NOT NULL,
+    new_total_quantity INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_calculation_history_user ON calculation_history (user_id, created_at);
+
+CREATE TABLE IF NOT EXISTS calculation_history_archive (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    row_count INTEGER NOT NULL,
+    from_created_at TIMESTAMP NOT NULL,
+    to_created_at TIMESTAMP NOT NULL,
+    payload BYTEA NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_history_archive_user ON calculation_history_archive (user_id, to_created_at);
+
+CREATE TABLE IF NOT EXISTS trades (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    stock_id BIGINT,
+    stock_code VARCHAR(20) NOT NULL,
+    stock_name VARCHAR(100) NOT NULL,
+    seq BIGINT NOT NULL,
+    side VARCHAR(4) NOT NULL,
+    quantity INTEGER NOT NULL,
+    price DOUBLE PRECISION NOT NULL,
+    fee DOUBLE PRECISION NOT NULL,
+    executed_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_trades_position_seq UNIQUE (user_id, stock_code, seq)
+);
+
+CREATE TABLE IF NOT EXISTS position_checkpoints (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    stock_code VARCHAR(20) NOT NULL,
+    trade_seq BIGINT NOT NULL,
+    quantity INTEGER NOT NULL,
+    total_cost DOUBLE PRECISION NOT NULL,
+    realized_profit_loss DOUBLE PRECISION NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_position_checkpoints_seq UNIQUE (user_id, stock_code, trade_seq)
+);
@@ -0,0 +1,104 @@
+package com.example.demo.cache;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.entity.Menu;
+import com.example.demo.repository.MenuRepository;
+import com.example.demo.service.MenuService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 캐시 무효화 수렴 테스트 - 같은 DB를 쓰는 두 노드(컨텍스트) 중 한쪽에서 발행한 이벤트가
+ * 폴링 주기 안에 다른 쪽 캐시를 비우는지 확인
+ */
+class CacheInvalidationConvergenceTest {
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    /**
+     * 폴링 주기 + 조회 시간의 여유 (공용 스케줄러가 다른 작업 중이어도 지켜져야 함)
+     */
+    private static final long BOUND_MS = 2_000;
+
+    private static ConfigurableApplicationContext publisher;
+    private static ConfigurableApplicationContext receiver;
+
+    @BeforeAll
+    static void startNodes() {
+        publisher = startNode();
+        receiver = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (receiver != null) {
+            receiver.close();
+        }
+        if (publisher != null) {
+            publisher.close();
+        }
+    }
+
+    @Test
+    void eventPublishedOnOneNodeEvictsCacheOnTheOther() throws InterruptedException {
+        // 기동 중 발행된 이벤트(초기 데이터 등)를 먼저 받아 둠
+        receiver.getBean(DatabaseCacheInvalidationBus.class).poll();
+        MenuService receiverMenus = receiver.getBean(MenuService.class);
+        int cachedSize = receiverMenus.getAllMenus().size();
+
+        // 이벤트 없이 바꾼 행은 다른 노드의 캐시에 보이지 않음 (캐시가 실제로 쓰이는지 확인)
+        inTransaction(publisher, () -> saveMenu("무효화 전"));
+        assertEquals(cachedSize, receiverMenus.getAllMenus().size());
+
+        inTransaction(publisher, () -> {
+            saveMenu("무효화 후");
+            publisher.getBean(CacheInvalidationBus.class).publish(InvalidationEvent.all(InvalidationType.MENU));
+        });
+
+        assertTrue(within(BOUND_MS, () -> receiverMenus.getAllMenus().size() == cachedSize + 2),
+                "다른 노드의 메뉴 캐시가 " + BOUND_MS + "ms 안에 비워져야 함");
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:invalidation-convergence;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "app.cache.invalidation.transport=db",
+                        "app.cache.invalidation.poll-interval-ms=" + POLL_INTERVAL_MS)
+                .run();
+    }
+
+    private static void inTransaction(ConfigurableApplicationContext node, Runnable work) {
+        node.getBean(TransactionTemplate.class).executeWithoutResult(status -> work.run());
+    }
+
+    private static void saveMenu(String name) {
+        Menu menu = new Menu();
+        menu.setName(name);
+        menu.setPath("/convergence/" + System.nanoTime());
+        menu.setSortOrder(999);
+        publisher.getBean(MenuRepository.class).save(menu);
+    }
+
+    private static boolean within(long timeoutMs, BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return condition.getAsBoolean();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 복제본 라우팅 테스트 - 서로 다른 두 H2 DB를 주 DB/복제본으로 두고 어느 쪽에서 읽었는지 확인
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTemplate;
+    private TransactionTemplate readOnlyTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database(PRIMARY);
+        DataSource replica = database(REPLICA);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica),
+                60, TimeUnit.SECONDS, new SimpleMeterRegistry());
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        login("alice");
+        assertEquals(REPLICA, readOnlyTemplate.execute(status -> currentNode()));
+    }
+
+    @Test
+    void writeTransactionsAndNonTransactionalAccessGoToPrimary() {
+        login("alice");
+        assertEquals(PRIMARY, writeTemplate.execute(status -> currentNode()));
+        assertEquals(PRIMARY, currentNode());
+    }
+
+    @Test
+    void readsAfterCommittedWriteGoToPrimaryForSameUserOnly() {
+        login("alice");
+        writeTemplate.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+
+        assertEquals(PRIMARY, readOnlyTemplate.execute(status -> currentNode()));
+
+        login("bob");
+        assertEquals(REPLICA, readOnlyTemplate.execute(status -> currentNode()));
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinReadsToPrimary() {
+        login("alice");
+        writeTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET writes = writes + 1");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(REPLICA, readOnlyTemplate.execute(status -> currentNode()));
+    }
+
+    @Test
+    void writeIsRecordedWhenCommittedNotWhenConnectionIsAcquired() {
+        login("alice");
+        writeTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET writes = writes + 1");
+            // 같은 사용자의 다른 스레드 요청이 커밋 전에 읽으면 아직 복제본
+            assertEquals(REPLICA, readOnlyOnOtherThread("alice"));
+        });
+
+        assertEquals(PRIMARY, readOnlyOnOtherThread("alice"));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private String readOnlyOnOtherThread(String username) {
+        String[] node = new String[1];
+        Thread thread = new Thread(() -> {
+            login(username);
+            node[0] = readOnlyTemplate.execute(status -> currentNode());
+        });
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return node[0];
+    }
+
+    private static void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20), writes INT)");
+        jdbc.update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.security;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.entity.Role;
+import com.example.demo.repository.RoleRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * JSON API 인가 통합 테스트 - 포트폴리오 메뉴 역할을 뺀 사용자는 HTTP Basic으로도 포트폴리오 API에 접근할 수 없음
+ */
+class ApiAuthorizationIntegrationTest {
+
+    private static ConfigurableApplicationContext context;
+    private static final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void start() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:api-authorization-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false")
+                .run();
+
+        // 일반 사용자 역할에서 포트폴리오 메뉴를 빼고 규칙을 다시 컴파일
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            RoleRepository roleRepository = context.getBean(RoleRepository.class);
+            Role userRole = roleRepository.findByName("ROLE_USER").orElseThrow();
+            userRole.getMenus().removeIf(menu -> "/portfolio".equals(menu.getPath()));
+            roleRepository.save(userRole);
+        });
+        context.getBean(UrlAuthorizationEngine.class).rebuild();
+    }
+
+    @AfterAll
+    static void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void userWithoutMenuRoleIsForbiddenOnMappedApi() throws Exception {
+        assertEquals(403, get("/api/v1/portfolios", "user", "user123"));
+        assertEquals(403, get("/api/v1/portfolios/summary", "user", "user123"));
+    }
+
+    @Test
+    void userKeepsAccessToOtherMappedApis() throws Exception {
+        assertEquals(200, get("/api/v1/boards", "user", "user123"));
+    }
+
+    @Test
+    void adminIsAlwaysAllowed() throws Exception {
+        assertEquals(200, get("/api/v1/portfolios", "admin", "admin123"));
+    }
+
+    @Test
+    void unauthenticatedRequestGets401() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/boards")).GET().build();
+        assertEquals(401, client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+
+    private static int get(String path, String username, String password) throws IOException, InterruptedException {
+        String credentials = Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Basic " + credentials)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static URI uri(String path) {
+        return URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + path);
+    }
+}
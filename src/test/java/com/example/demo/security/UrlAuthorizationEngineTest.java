@@ -0,0 +1,99 @@
+package com.example.demo.security;
+
+import com.example.demo.repository.MenuRepository;
+import com.example.demo.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * URL 인가 엔진 테스트 - 규칙은 디코딩된 경로에 적용되고, 모호한 경로와 컴파일 전 요청은 거부
+ */
+class UrlAuthorizationEngineTest {
+
+    private final MenuRepository menuRepository = mock(MenuRepository.class);
+    private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private UrlAuthorizationEngine engine;
+
+    private final Authentication user = authentication("user", "ROLE_USER");
+    private final Authentication vip = authentication("vip", "ROLE_VIP");
+
+    @BeforeEach
+    void setUp() {
+        when(roleRepository.findAllNames()).thenReturn(List.of("ROLE_ADMIN", "ROLE_USER", "ROLE_VIP"));
+        when(menuRepository.findPathRoleNames()).thenReturn(List.<Object[]>of(new Object[]{"/portfolio", "ROLE_VIP"}));
+        engine = new UrlAuthorizationEngine(menuRepository, roleRepository);
+    }
+
+    @Test
+    void deniesEverythingBeforeFirstBuild() {
+        assertFalse(allowed("/board", user));
+        assertFalse(allowed("/portfolio", vip));
+    }
+
+    @Test
+    void appliesRoleRulesToMappedPrefixes() {
+        engine.rebuild();
+
+        assertTrue(allowed("/portfolio", vip));
+        assertTrue(allowed("/portfolio/sell/1", vip));
+        assertFalse(allowed("/portfolio", user));
+        assertFalse(allowed("/portfolio/", user));
+        assertTrue(allowed("/portfolios", user), "'/' 경계가 아닌 접두사는 규칙 대상이 아님");
+        assertTrue(allowed("/board", user), "메뉴에 없는 경로는 로그인만 요구");
+    }
+
+    @Test
+    void appliesMenuRulesToApiPaths() {
+        engine.rebuild();
+
+        assertFalse(allowed("/api/v1/portfolios", user), "포트폴리오 메뉴 역할이 없으면 API도 거부");
+        assertFalse(allowed("/api/v1/portfolios/summary", user));
+        assertTrue(allowed("/api/v1/portfolios", vip));
+        assertTrue(allowed("/api/v1/boards", user));
+        assertFalse(allowed("/api/v1/portfoliosx", vip), "등록되지 않은 API 경로는 거부");
+        assertFalse(allowed("/api/v2/portfolios", vip));
+    }
+
+    @Test
+    void matchesDecodedPath() {
+        engine.rebuild();
+
+        assertFalse(allowed("/portf%6Flio", user));
+        assertFalse(allowed("/%70ortfolio/trades", user));
+        assertTrue(allowed("/portf%6Flio", vip));
+    }
+
+    @Test
+    void rejectsAmbiguousPaths() {
+        engine.rebuild();
+
+        assertFalse(allowed("/portfolio%2Ftrades", vip));
+        assertFalse(allowed("/board%2F..%2Fportfolio", user));
+        assertFalse(allowed("/board/../portfolio", user));
+        assertFalse(allowed("/board/%2E%2E/portfolio", user));
+        assertFalse(allowed("/portfolio;jsessionid=1", user));
+        assertFalse(allowed("/board//portfolio", user));
+        assertFalse(allowed("/board%252Fx", user));
+    }
+
+    private boolean allowed(String requestUri, Authentication authentication) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+        return engine.check(() -> authentication, new RequestAuthorizationContext(request)).isGranted();
+    }
+
+    private static Authentication authentication(String username, String role) {
+        return new UsernamePasswordAuthenticationToken(username, null, List.of(new SimpleGrantedAuthority(role)));
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.sharding;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.StockAggregate;
+import com.example.demo.entity.Stock;
+import com.example.demo.entity.Trade;
+import com.example.demo.entity.User;
+import com.example.demo.migration.StockReferenceMigration;
+import com.example.demo.repository.PortfolioRepository;
+import com.example.demo.repository.StockRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.TradeService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 샤딩 통합 테스트 - H2 샤드 두 개로 사용자 라우팅, 전체 샤드 집계, 재배치 도구를 확인
+ */
+class ShardingIntegrationTest {
+
+    private static ConfigurableApplicationContext context;
+    private static ShardRouter shardRouter;
+    private static JdbcTemplate[] shards;
+
+    /**
+     * 샤드 0, 1에 배치되는 사용자 (인덱스 = 샤드 번호)
+     */
+    private static User[] users;
+
+    @BeforeAll
+    static void start() {
+        String name = "sharding-" + System.nanoTime();
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + name + "-shard0;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "app.sharding.enabled=true",
+                        "app.sharding.urls=jdbc:h2:mem:" + name + "-shard1;DB_CLOSE_DELAY=-1",
+                        "app.sharding.pool-size=2")
+                .run();
+        shardRouter = context.getBean(ShardRouter.class);
+        ShardRoutingDataSource routing = context.getBean(ShardRoutingDataSource.class);
+        shards = new JdbcTemplate[] {
+                new JdbcTemplate(routing.getShard(0)), new JdbcTemplate(routing.getShard(1))};
+        users = new User[2];
+        for (int i = 0; users[0] == null || users[1] == null; i++) {
+            User user = createUser("shard-user-" + i);
+            int shard = shardRouter.shardForUser(user.getId());
+            if (users[shard] == null) {
+                users[shard] = user;
+            }
+        }
+    }
+
+    @AfterAll
+    static void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void tradesAndPositionsAreStoredOnTheUsersShard() {
+        TradeService tradeService = context.getBean(TradeService.class);
+        for (int shard = 0; shard < 2; shard++) {
+            tradeService.record(users[shard], Trade.Side.BUY, "RT0001", "라우팅", 10, 1_000, 0);
+        }
+
+        for (int shard = 0; shard < 2; shard++) {
+            long userId = users[shard].getId();
+            int other = 1 - shard;
+            assertEquals(1L, countRows(shard, "trades", userId, "RT0001"));
+            assertEquals(1L, countRows(shard, "portfolios", userId, "RT0001"));
+            assertEquals(0L, countRows(other, "trades", userId, "RT0001"));
+            assertEquals(0L, countRows(other, "portfolios", userId, "RT0001"));
+        }
+    }
+
+    @Test
+    void crossShardQueriesCombineEveryShard() {
+        TradeService tradeService = context.getBean(TradeService.class);
+        tradeService.record(users[0], Trade.Side.BUY, "CS0001", "집계", 10, 1_000, 0);
+        tradeService.record(users[1], Trade.Side.BUY, "CS0001", "집계", 30, 2_000, 0);
+
+        PortfolioRepository portfolioRepository = context.getBean(PortfolioRepository.class);
+        long expectedCount = shards[0].queryForObject("SELECT COUNT(*) FROM portfolios", Long.class)
+                + shards[1].queryForObject("SELECT COUNT(*) FROM portfolios", Long.class);
+        assertEquals(expectedCount, portfolioRepository.count());
+
+        List<StockAggregate> aggregates = portfolioRepository.aggregateByStock().stream()
+                .filter(aggregate -> aggregate.stockCode().equals("CS0001"))
+                .toList();
+        assertEquals(2, aggregates.size(), "샤드마다 한 행씩");
+        assertEquals(2L, aggregates.stream().mapToLong(StockAggregate::holders).sum());
+        assertEquals(40L, aggregates.stream().mapToLong(StockAggregate::totalQuantity).sum());
+        assertEquals(70_000.0, aggregates.stream().mapToDouble(StockAggregate::totalInvestment).sum(), 0.001);
+    }
+
+    @Test
+    void rebalancerMovesRowsToTheUsersShard() {
+        // 샤드 1 사용자의 기록을 기본 샤드에 남겨 둠 (샤드 추가 전 단일 DB 데이터와 같은 상태)
+        long userId = users[1].getId();
+        shards[0].update("INSERT INTO calculation_history (user_id, stock_code, stock_name, existing_quantity, "
+                        + "existing_avg_price, additional_quantity, additional_price, new_average_price, "
+                        + "new_total_quantity, created_at) VALUES (?, 'RB0001', '재배치', 0, 0, 5, 100, 100, 5, ?)",
+                userId, LocalDateTime.now());
+
+        ShardRebalancer.RebalanceResult result = context.getBean(ShardRebalancer.class).rebalance();
+
+        assertEquals(0, result.failedUsers());
+        assertTrue(result.movedRows() >= 1);
+        assertEquals(0L, countRows(0, "calculation_history", userId, "RB0001"));
+        assertEquals(1L, countRows(1, "calculation_history", userId, "RB0001"));
+        Long movedId = shards[1].queryForObject(
+                "SELECT id FROM calculation_history WHERE user_id = ? AND stock_code = 'RB0001'", Long.class, userId);
+        assertEquals(1, shardRouter.shardForId(movedId), "옮긴 행은 대상 샤드의 ID 구간에서 새 ID를 받음");
+    }
+
+    @Test
+    void stockReferenceMigrationLinksRowsOnEveryShard() {
+        TradeService tradeService = context.getBean(TradeService.class);
+        for (int shard = 0; shard < 2; shard++) {
+            tradeService.record(users[shard], Trade.Side.BUY, "LK0001", "연결", 10, 1_000, 0);
+        }
+        // 기록 뒤에 마스터 종목을 추가해 두 샤드 모두 stock_id가 비어 있는 상태를 만듦
+        Stock stock = context.getBean(StockRepository.class).save(new Stock("LK0001", "연결", "KOSPI"));
+
+        StockReferenceMigration migration = context.getBean(StockReferenceMigration.class);
+        context.getBean(TransactionTemplate.class).execute(status -> migration.migrate());
+
+        for (int shard = 0; shard < 2; shard++) {
+            Long stockId = shards[shard].queryForObject(
+                    "SELECT stock_id FROM portfolios WHERE user_id = ? AND stock_code = 'LK0001'",
+                    Long.class, users[shard].getId());
+            assertEquals(stock.getId(), stockId, "샤드 " + shard + "의 행도 기본 샤드의 마스터 ID로 연결");
+        }
+    }
+
+    @Test
+    void callWithoutShardIsRejectedInsteadOfDefaultingToShardZero() {
+        PortfolioRepository portfolioRepository = context.getBean(PortfolioRepository.class);
+        RuntimeException thrown = assertThrows(RuntimeException.class,
+                () -> portfolioRepository.findHolderIdsAfter(0, PageRequest.of(0, 10)));
+        // 리포지토리 예외 변환을 거치면 원인으로 감싸질 수 있음
+        Throwable cause = thrown instanceof IllegalStateException ? thrown : thrown.getCause();
+        assertTrue(cause instanceof IllegalStateException, "기본 샤드로 보내지 않고 거부");
+
+        assertEquals(List.of(), ShardContext.onShard(1,
+                () -> portfolioRepository.findHolderIdsAfter(Long.MAX_VALUE, PageRequest.of(0, 10))));
+    }
+
+    private static long countRows(int shard, String table, long userId, String stockCode) {
+        return shards[shard].queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE user_id = ? AND stock_code = ?",
+                Long.class, userId, stockCode);
+    }
+
+    private static User createUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("{noop}password");
+        user.setName(username);
+        return context.getBean(UserRepository.class).save(user);
+    }
+}